@@ -5,13 +5,18 @@
 
 package io.opentelemetry.javaagent.benchmark.jfr;
 
-import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import jdk.jfr.consumer.RecordedEvent;
 import jdk.jfr.consumer.RecordedFrame;
@@ -20,55 +25,256 @@ import jdk.jfr.consumer.RecordedStackTrace;
 import jdk.jfr.consumer.RecordingFile;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+/**
+ * Attributes the execution samples of JFR recordings of an application running with the agent to
+ * the agent code, per instrumentation.
+ *
+ * <p>Usage: {@code Analyzer [--json] [--operations <count>] [--baseline <recording>]...
+ * [--baseline-operations <count>] <recording>...}
+ *
+ * <p>Recordings are streamed event by event, so they can be arbitrarily large. Baseline recordings
+ * of the same workload without the agent are only used to estimate the overhead. JFR samples
+ * running threads at a fixed period, so the sampling rate doesn't change with the cost of the
+ * work; the overhead compares the CPU samples per operation instead, which takes the number of
+ * operations the benchmark completed during the recordings and the baseline recordings. Without
+ * them no overhead is reported. The share of agent samples within the same run doesn't need a
+ * baseline and is the more robust number. With {@code --json} a machine readable summary is
+ * printed instead of the agent caller trees.
+ */
 @SuppressWarnings("SystemOut")
 public class Analyzer {
 
-  private static final Node syntheticRootNode = new Node("");
-  private static int totalSamples = 0;
+  private static final String AGENT_PACKAGE = "io.opentelemetry.javaagent.";
+  private static final String INSTRUMENTATION_PACKAGE = AGENT_PACKAGE + "instrumentation.";
+  // samples inside an instrumented method that aren't in agent code, e.g. calls to java.* made by
+  // inlined advice
+  private static final String INLINED_ADVICE = "inlined-advice";
+  private static final String AGENT_CORE = "agent-core";
 
-  public static void main(String[] args) throws Exception {
-    File jfrFile = new File(args[0]);
-    List<RecordedEvent> events =
-        RecordingFile.readAllEvents(jfrFile.toPath()).stream()
-            .filter(e -> e.getEventType().getName().equals("jdk.ExecutionSample"))
-            .collect(Collectors.toList());
+  public static void main(String[] args) throws IOException {
+    boolean json = false;
+    long operations = 0;
+    long baselineOperations = 0;
+    List<Path> baselineRecordings = new ArrayList<>();
+    List<Path> recordings = new ArrayList<>();
+    for (int i = 0; i < args.length; i++) {
+      if (args[i].equals("--json")) {
+        json = true;
+      } else if (args[i].equals("--operations") && i + 1 < args.length) {
+        operations = Long.parseLong(args[++i]);
+      } else if (args[i].equals("--baseline-operations") && i + 1 < args.length) {
+        baselineOperations = Long.parseLong(args[++i]);
+      } else if (args[i].equals("--baseline") && i + 1 < args.length) {
+        baselineRecordings.add(Paths.get(args[++i]));
+      } else {
+        recordings.add(Paths.get(args[i]));
+      }
+    }
+    if (recordings.isEmpty()) {
+      System.err.println(
+          "Usage: Analyzer [--json] [--operations <count>] [--baseline <recording>]..."
+              + " [--baseline-operations <count>] <recording>...");
+      System.exit(1);
+    }
 
-    Set<String> agentCallers = getAgentCallers(events);
+    // the agent callers have to be known before the stack traces can be attributed, which takes a
+    // first pass over the recordings
+    Set<String> agentCallers = new HashSet<>();
+    for (Path recording : recordings) {
+      forEachExecutionSample(
+          recording,
+          event -> {
+            String agentCaller = getAgentCaller(event.getStackTrace());
+            if (agentCaller != null) {
+              agentCallers.add(agentCaller);
+            }
+          });
+    }
 
-    for (RecordedEvent event : events) {
-      totalSamples++;
-      processStackTrace(event.getStackTrace(), agentCallers);
+    Analyzer analyzer = new Analyzer(agentCallers, operations);
+    for (Path recording : recordings) {
+      forEachExecutionSample(
+          recording,
+          event -> {
+            analyzer.run.samples++;
+            analyzer.processStackTrace(event.getStackTrace());
+          });
+    }
+    Run baseline = new Run(baselineOperations);
+    for (Path recording : baselineRecordings) {
+      forEachExecutionSample(recording, event -> baseline.samples++);
     }
 
-    int totalAgentSamples = 0;
-    for (Node rootNode : syntheticRootNode.getOrderedChildNodes()) {
-      totalAgentSamples += rootNode.count;
+    if (json) {
+      analyzer.printJson(recordings, baselineRecordings, baseline);
+    } else {
+      analyzer.printTrees(baselineRecordings.isEmpty() ? null : baseline);
     }
+  }
+
+  // only passes samples that have a stack trace
+  private static void forEachExecutionSample(Path recording, Consumer<RecordedEvent> consumer)
+      throws IOException {
+    try (RecordingFile recordingFile = new RecordingFile(recording)) {
+      while (recordingFile.hasMoreEvents()) {
+        RecordedEvent event = recordingFile.readEvent();
+        if (event.getEventType().getName().equals("jdk.ExecutionSample")
+            && event.getStackTrace() != null) {
+          consumer.accept(event);
+        }
+      }
+    }
+  }
+
+  private final Set<String> agentCallers;
+  private final Node syntheticRootNode = new Node("");
+  private final Map<String, Counter> instrumentationSamples = new HashMap<>();
+  private final Run run;
+  private long totalAgentSamples;
 
-    System.out.println("Total samples: " + totalSamples);
+  private Analyzer(Set<String> agentCallers, long operations) {
+    this.agentCallers = agentCallers;
+    this.run = new Run(operations);
+  }
+
+  private void printTrees(@Nullable Run baseline) {
+    System.out.println("Total samples: " + run.samples);
     System.out.print("Total agent samples: " + totalAgentSamples);
-    System.out.format(" (%.2f%%)%n", 100 * totalAgentSamples / (double) totalSamples);
+    System.out.format(" (%.2f%%)%n", percent(totalAgentSamples, run.samples));
+    if (run.operations > 0) {
+      System.out.format(
+          "Samples per operation: %.6f (%d operations)%n",
+          run.samplesPerOperation(), run.operations);
+    }
+    if (baseline != null) {
+      System.out.print("Baseline samples: " + baseline.samples);
+      Double overheadPercent = overheadPercent(baseline);
+      if (overheadPercent != null) {
+        System.out.format(
+            " (%.6f per operation, %+.2f%%)",
+            baseline.samplesPerOperation(), overheadPercent);
+      }
+      System.out.println();
+    }
+    System.out.println();
+    for (Map.Entry<String, Counter> entry : getOrderedInstrumentationSamples()) {
+      System.out.format(
+          "%6d %6.2f%% %s%n",
+          entry.getValue().count,
+          percent(entry.getValue().count, run.samples),
+          entry.getKey());
+    }
     System.out.println();
     for (Node rootNode : syntheticRootNode.getOrderedChildNodes()) {
       printNode(rootNode, 0);
     }
   }
 
-  // getting direct callers since those are likely the instrumented methods
-  private static Set<String> getAgentCallers(List<RecordedEvent> events) {
-    return events.stream()
-        .map(e -> getAgentCaller(e.getStackTrace()))
-        .filter(Objects::nonNull)
-        .collect(Collectors.toSet());
+  private void printJson(List<Path> recordings, List<Path> baselineRecordings, Run baseline) {
+    StringBuilder json = new StringBuilder();
+    json.append("{\n");
+    json.append("  \"recordings\": ").append(toJson(recordings)).append(",\n");
+    json.append("  \"baselineRecordings\": ").append(toJson(baselineRecordings)).append(",\n");
+    json.append("  \"totalSamples\": ").append(run.samples).append(",\n");
+    json.append("  \"agentSamples\": ").append(totalAgentSamples).append(",\n");
+    json.append("  \"agentPercent\": ")
+        .append(formatNumber(percent(totalAgentSamples, run.samples)))
+        .append(",\n");
+    json.append("  \"samplesPerOperation\": ")
+        .append(run.operations > 0 ? formatNumber(run.samplesPerOperation()) : "null")
+        .append(",\n");
+    Double overheadPercent = baselineRecordings.isEmpty() ? null : overheadPercent(baseline);
+    if (baselineRecordings.isEmpty()) {
+      json.append("  \"baselineSamples\": null,\n");
+    } else {
+      json.append("  \"baselineSamples\": ").append(baseline.samples).append(",\n");
+    }
+    if (overheadPercent == null) {
+      json.append("  \"baselineSamplesPerOperation\": null,\n");
+      json.append("  \"overheadPercent\": null,\n");
+    } else {
+      json.append("  \"baselineSamplesPerOperation\": ")
+          .append(formatNumber(baseline.samplesPerOperation()))
+          .append(",\n");
+      json.append("  \"overheadPercent\": ")
+          .append(formatNumber(overheadPercent))
+          .append(",\n");
+    }
+    json.append("  \"instrumentations\": [");
+    String separator = "\n";
+    for (Map.Entry<String, Counter> entry : getOrderedInstrumentationSamples()) {
+      json.append(separator)
+          .append("    {\"name\": \"")
+          .append(escape(entry.getKey()))
+          .append("\", \"samples\": ")
+          .append(entry.getValue().count)
+          .append(", \"percent\": ")
+          .append(formatNumber(percent(entry.getValue().count, run.samples)))
+          .append("}");
+      separator = ",\n";
+    }
+    json.append(instrumentationSamples.isEmpty() ? "]\n}" : "\n  ]\n}");
+    System.out.println(json);
+  }
+
+  private List<Map.Entry<String, Counter>> getOrderedInstrumentationSamples() {
+    return instrumentationSamples.entrySet().stream()
+        .sorted(
+            Comparator.comparingLong((Map.Entry<String, Counter> e) -> e.getValue().count)
+                .reversed())
+        .collect(Collectors.toList());
+  }
+
+  private static double percent(long count, long total) {
+    return total == 0 ? 0 : 100 * count / (double) total;
+  }
+
+  // compares the CPU samples per operation, which grow with the cost of an operation; returns null
+  // when the operation counts aren't known
+  @Nullable
+  private Double overheadPercent(Run baseline) {
+    if (run.operations <= 0 || baseline.operations <= 0 || baseline.samples == 0) {
+      return null;
+    }
+    double baselineSamplesPerOperation = baseline.samplesPerOperation();
+    return 100
+        * (run.samplesPerOperation() - baselineSamplesPerOperation)
+        / baselineSamplesPerOperation;
+  }
+
+  private static String formatNumber(double percent) {
+    return String.format(Locale.ROOT, "%.4f", percent);
   }
 
+  private static String toJson(List<Path> paths) {
+    return paths.stream()
+        .map(path -> "\"" + escape(path.toString()) + "\"")
+        .collect(Collectors.joining(", ", "[", "]"));
+  }
+
+  private static String escape(String value) {
+    StringBuilder escaped = new StringBuilder(value.length());
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == '"' || c == '\\') {
+        escaped.append('\\').append(c);
+      } else if (c < 0x20) {
+        escaped.append(String.format(Locale.ROOT, "\\u%04x", (int) c));
+      } else {
+        escaped.append(c);
+      }
+    }
+    return escaped.toString();
+  }
+
+  // getting direct callers since those are likely the instrumented methods
   @Nullable
   private static String getAgentCaller(RecordedStackTrace stackTrace) {
     List<RecordedFrame> frames = stackTrace.getFrames();
     for (int i = frames.size() - 1; i >= 0; i--) {
       RecordedFrame frame = frames.get(i);
       RecordedMethod method = frame.getMethod();
-      if (isAgentMethod(method)) {
+      if (isAgentMethod(method) && i + 1 < frames.size()) {
         RecordedFrame callerFrame = frames.get(i + 1);
         RecordedMethod callerMethod = callerFrame.getMethod();
         return getStackTraceElement(callerMethod, callerFrame);
@@ -87,9 +293,10 @@ public class Analyzer {
     }
   }
 
-  private static void processStackTrace(RecordedStackTrace stackTrace, Set<String> agentCallers) {
+  private void processStackTrace(RecordedStackTrace stackTrace) {
     boolean analyze = false;
     int analyzeFromIndex = 0;
+    String instrumentation = INLINED_ADVICE;
     List<RecordedFrame> frames = stackTrace.getFrames();
     for (int i = frames.size() - 1; i >= 0; i--) {
       RecordedFrame frame = frames.get(i);
@@ -108,18 +315,24 @@ public class Analyzer {
         if (nextClassName.startsWith("java.") || isAgentMethod(nextMethod)) {
           analyze = true;
           analyzeFromIndex = Math.min(i + 2, frames.size() - 1);
+          if (isAgentMethod(nextMethod)) {
+            instrumentation = getInstrumentationName(nextMethod);
+          }
           break;
         }
       }
       if (isAgentMethod(method)) {
         analyze = true;
         analyzeFromIndex = Math.min(i + 1, frames.size() - 1);
+        instrumentation = getInstrumentationName(method);
         break;
       }
     }
     if (!analyze) {
       return;
     }
+    totalAgentSamples++;
+    instrumentationSamples.computeIfAbsent(instrumentation, name -> new Counter()).count++;
     Node node = syntheticRootNode;
     for (int i = analyzeFromIndex; i >= 0; i--) {
       RecordedFrame frame = frames.get(i);
@@ -129,10 +342,21 @@ public class Analyzer {
     }
   }
 
+  // io.opentelemetry.javaagent.instrumentation.<name>.* belongs to the <name> instrumentation,
+  // the rest of the agent (tooling, bootstrap, shaded SDK) is attributed to the agent core
+  private static String getInstrumentationName(RecordedMethod method) {
+    String className = method.getType().getName();
+    if (!className.startsWith(INSTRUMENTATION_PACKAGE)) {
+      return AGENT_CORE;
+    }
+    int end = className.indexOf('.', INSTRUMENTATION_PACKAGE.length());
+    return end == -1 ? AGENT_CORE : className.substring(INSTRUMENTATION_PACKAGE.length(), end);
+  }
+
   private static boolean isAgentMethod(RecordedMethod method) {
     String className = method.getType().getName();
     String methodName = method.getName();
-    return className.startsWith("io.opentelemetry.javaagent.")
+    return className.startsWith(AGENT_PACKAGE)
         && !className.startsWith("io.opentelemetry.javaagent.benchmark.")
         // this shows up in stack traces because it's part of the filter chain
         && !(className.equals(
@@ -148,11 +372,29 @@ public class Analyzer {
         + frame.getLineNumber();
   }
 
+  private static class Counter {
+    private long count;
+  }
+
+  /** The number of samples of a set of recordings and the operations completed during them. */
+  private static class Run {
+    private final long operations;
+    private long samples;
+
+    private Run(long operations) {
+      this.operations = operations;
+    }
+
+    private double samplesPerOperation() {
+      return operations <= 0 ? 0 : samples / (double) operations;
+    }
+  }
+
   private static class Node {
 
     private final String frame;
     private final Map<String, Node> childNodes = new HashMap<>();
-    private int count;
+    private long count;
 
     private Node(String frame) {
       this.frame = frame;
@@ -170,14 +412,12 @@ public class Analyzer {
 
     private List<Node> getOrderedChildNodes() {
       return childNodes.values().stream()
-          .sorted(Comparator.comparingInt(Node::getCount).reversed())
+          .sorted(Comparator.comparingLong(Node::getCount).reversed())
           .collect(Collectors.toList());
     }
 
-    private int getCount() {
+    private long getCount() {
       return count;
     }
   }
-
-  private Analyzer() {}
 }
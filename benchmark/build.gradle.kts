@@ -32,7 +32,7 @@ dependencies {
 }
 
 jmh {
-  profilers.set(listOf("io.opentelemetry.benchmark.UsedMemoryProfiler", "gc"))
+  profilers.set(listOf("io.opentelemetry.benchmark.AllocationProfiler", "gc"))
 
   duplicateClassesStrategy.set(DuplicatesStrategy.EXCLUDE)
 
@@ -53,6 +53,14 @@ tasks {
     }
   }
 
+  // only AllocationProfiler needs Java 11, it reads the allocation samples with the JFR consumer
+  // API; the generated benchmark classes are compiled against it
+  withType<JavaCompile>().matching {
+    it.name == "compileJmhJava" || it.name == "jmhCompileGeneratedClasses"
+  }.configureEach {
+    options.release.set(11)
+  }
+
   named("jmh") {
     dependsOn(":javaagent:fullJavaagentJar")
   }
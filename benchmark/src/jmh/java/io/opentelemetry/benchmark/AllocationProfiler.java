@@ -0,0 +1,260 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.benchmark;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import jdk.jfr.EventType;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingFile;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.profile.InternalProfiler;
+import org.openjdk.jmh.results.AggregationPolicy;
+import org.openjdk.jmh.results.IterationResult;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.ScalarResult;
+
+/**
+ * Reports the bytes allocated per operation during the measurement, split between the agent (and
+ * instrumentation) code and the application code, and the classes that account for most of the
+ * allocated bytes. Allocations of every thread except JFR's own are included, so that work the
+ * benchmark hands off to other threads, e.g. the requests handled by the server threads of {@link
+ * HttpBenchmark}, is measured too; compare with a run without the agent to tell the agent's share
+ * of background allocations apart.
+ *
+ * <p>The total number of allocated bytes is exact and comes from {@link
+ * com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long[])}. JFR allocation samples ({@code
+ * jdk.ObjectAllocationSample}, or the TLAB events before Java 16) only provide the distribution of
+ * that total over allocating code and classes, so the per class numbers are estimates. The number
+ * of JFR events per class is reported as {@code .samples}; it is not a number of objects.
+ */
+public class AllocationProfiler implements InternalProfiler {
+
+  private static final String OBJECT_ALLOCATION_SAMPLE = "jdk.ObjectAllocationSample";
+  private static final String OBJECT_ALLOCATION_IN_NEW_TLAB = "jdk.ObjectAllocationInNewTLAB";
+  private static final String OBJECT_ALLOCATION_OUTSIDE_TLAB = "jdk.ObjectAllocationOutsideTLAB";
+
+  // the javaagent (including its bootstrap classes and instrumentations) and the instrumentation
+  // api and libraries; calls to the OpenTelemetry API made by application code are application
+  // allocations
+  private static final String JAVAAGENT_PACKAGE = "io.opentelemetry.javaagent.";
+  private static final String INSTRUMENTATION_PACKAGE = "io.opentelemetry.instrumentation.";
+
+  // "JFR Recorder Thread", "JFR Periodic Tasks", ...
+  private static final String JFR_THREAD_NAME_PREFIX = "JFR ";
+
+  private static final int TOP_CLASSES = 10;
+
+  private final com.sun.management.ThreadMXBean threadMxBean =
+      (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+  private final boolean hasObjectAllocationSample =
+      FlightRecorder.getFlightRecorder().getEventTypes().stream()
+          .map(EventType::getName)
+          .anyMatch(OBJECT_ALLOCATION_SAMPLE::equals);
+
+  private Recording recording;
+  private Map<Long, Long> allocatedBytesBefore;
+
+  @Override
+  public String getDescription() {
+    return "Allocated bytes per operation, attributed to agent and application code";
+  }
+
+  @Override
+  public void beforeIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams) {
+    recording = new Recording();
+    if (hasObjectAllocationSample) {
+      recording.enable(OBJECT_ALLOCATION_SAMPLE).with("throttle", "1000/s").withStackTrace();
+    } else {
+      recording.enable(OBJECT_ALLOCATION_IN_NEW_TLAB).withStackTrace();
+      recording.enable(OBJECT_ALLOCATION_OUTSIDE_TLAB).withStackTrace();
+    }
+    recording.start();
+    allocatedBytesBefore = allocatedBytes();
+  }
+
+  @Override
+  public Collection<? extends Result> afterIteration(
+      BenchmarkParams benchmarkParams, IterationParams iterationParams, IterationResult result) {
+    long allocatedBytes = allocatedBytesSince(allocatedBytesBefore);
+    recording.stop();
+
+    Map<String, Allocations> allocationsByClass;
+    try {
+      allocationsByClass = readAllocations(recording);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    } finally {
+      recording.close();
+    }
+
+    long ops = result.getMetadata().getMeasuredOps();
+    if (ops == 0) {
+      return new ArrayList<>();
+    }
+
+    long sampledBytes = 0;
+    long agentSampledBytes = 0;
+    for (Allocations allocations : allocationsByClass.values()) {
+      sampledBytes += allocations.bytes;
+      if (allocations.agent) {
+        agentSampledBytes += allocations.bytes;
+      }
+    }
+    // scales the sampled bytes to the exact total
+    double scale = sampledBytes == 0 ? 0 : allocatedBytes / (double) sampledBytes;
+
+    List<Result> results = new ArrayList<>();
+    results.add(perOp("alloc.bytes.norm", allocatedBytes, ops));
+    results.add(perOp("alloc.agent.bytes.norm", agentSampledBytes * scale, ops));
+    results.add(perOp("alloc.app.bytes.norm", (sampledBytes - agentSampledBytes) * scale, ops));
+
+    List<Map.Entry<String, Allocations>> topClasses =
+        allocationsByClass.entrySet().stream()
+            .sorted(
+                Comparator.comparingLong((Map.Entry<String, Allocations> e) -> e.getValue().bytes)
+                    .reversed())
+            .limit(TOP_CLASSES)
+            .collect(Collectors.toList());
+    for (Map.Entry<String, Allocations> entry : topClasses) {
+      String prefix = "alloc." + entry.getKey();
+      results.add(perOp(prefix + ".bytes.norm", entry.getValue().bytes * scale, ops));
+      results.add(
+          new ScalarResult(
+              prefix + ".samples", entry.getValue().samples, "samples", AggregationPolicy.SUM));
+    }
+    return results;
+  }
+
+  // keyed by thread id
+  private Map<Long, Long> allocatedBytes() {
+    long[] threadIds = measuredThreadIds();
+    long[] allocatedBytes = threadMxBean.getThreadAllocatedBytes(threadIds);
+    Map<Long, Long> allocatedBytesByThread = new HashMap<>();
+    for (int i = 0; i < threadIds.length; i++) {
+      // -1 for threads that terminated in the meantime
+      if (allocatedBytes[i] > 0) {
+        allocatedBytesByThread.put(threadIds[i], allocatedBytes[i]);
+      }
+    }
+    return allocatedBytesByThread;
+  }
+
+  private long allocatedBytesSince(Map<Long, Long> before) {
+    long total = 0;
+    for (Map.Entry<Long, Long> entry : allocatedBytes().entrySet()) {
+      // threads started during the iteration allocated all of their bytes in it
+      total += entry.getValue() - before.getOrDefault(entry.getKey(), 0L);
+    }
+    return total;
+  }
+
+  private static long[] measuredThreadIds() {
+    return Thread.getAllStackTraces().keySet().stream()
+        .filter(thread -> isMeasuredThread(thread.getName()))
+        .mapToLong(Thread::getId)
+        .toArray();
+  }
+
+  private static boolean isMeasuredThread(String threadName) {
+    return threadName == null || !threadName.startsWith(JFR_THREAD_NAME_PREFIX);
+  }
+
+  // keyed by "agent.<class name>" or "app.<class name>"
+  private static Map<String, Allocations> readAllocations(Recording recording)
+      throws IOException {
+    Map<String, Allocations> allocationsByClass = new HashMap<>();
+    Path file = Files.createTempFile("allocation-profiler", ".jfr");
+    try {
+      recording.dump(file);
+      try (RecordingFile recordingFile = new RecordingFile(file)) {
+        while (recordingFile.hasMoreEvents()) {
+          RecordedEvent event = recordingFile.readEvent();
+          long bytes = getAllocatedBytes(event);
+          if (bytes <= 0 || !isMeasuredThread(event.getThread("eventThread"))) {
+            continue;
+          }
+          boolean agent = isAgentAllocation(event.getStackTrace());
+          String key =
+              (agent ? "agent." : "app.") + event.getClass("objectClass").getName();
+          Allocations allocations =
+              allocationsByClass.computeIfAbsent(key, k -> new Allocations(agent));
+          allocations.bytes += bytes;
+          allocations.samples++;
+        }
+      }
+    } finally {
+      Files.deleteIfExists(file);
+    }
+    return allocationsByClass;
+  }
+
+  private static long getAllocatedBytes(RecordedEvent event) {
+    switch (event.getEventType().getName()) {
+      case OBJECT_ALLOCATION_SAMPLE:
+        // the bytes allocated by the thread since the previous sample
+        return event.getLong("weight");
+      case OBJECT_ALLOCATION_IN_NEW_TLAB:
+        return event.getLong("tlabSize");
+      case OBJECT_ALLOCATION_OUTSIDE_TLAB:
+        return event.getLong("allocationSize");
+      default:
+        return 0;
+    }
+  }
+
+  // allocations of native threads have no java thread
+  private static boolean isMeasuredThread(RecordedThread thread) {
+    return thread != null && isMeasuredThread(thread.getJavaName());
+  }
+
+  private static boolean isAgentAllocation(RecordedStackTrace stackTrace) {
+    if (stackTrace == null) {
+      return false;
+    }
+    for (RecordedFrame frame : stackTrace.getFrames()) {
+      if (!frame.isJavaFrame()) {
+        continue;
+      }
+      String className = frame.getMethod().getType().getName();
+      if (className.startsWith(JAVAAGENT_PACKAGE)
+          || className.startsWith(INSTRUMENTATION_PACKAGE)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static ScalarResult perOp(String label, double bytes, long ops) {
+    return new ScalarResult(label, bytes / ops, "B/op", AggregationPolicy.AVG);
+  }
+
+  private static class Allocations {
+    private final boolean agent;
+    private long bytes;
+    private long samples;
+
+    private Allocations(boolean agent) {
+      this.agent = agent;
+    }
+  }
+}
@@ -18,7 +18,13 @@ import java.util.function.Function;
 final class MethodCache<V> extends ClassValue<Map<Method, V>> implements Cache<Method, V> {
   @Override
   public V computeIfAbsent(Method key, Function<? super Method, ? extends V> mappingFunction) {
-    return this.get(key.getDeclaringClass()).computeIfAbsent(key, mappingFunction);
+    Map<Method, V> map = this.get(key.getDeclaringClass());
+    // ConcurrentHashMap#computeIfAbsent locks the bin even if the key is present on Java 8
+    V value = map.get(key);
+    if (value != null) {
+      return value;
+    }
+    return map.computeIfAbsent(key, mappingFunction);
   }
 
   @Override
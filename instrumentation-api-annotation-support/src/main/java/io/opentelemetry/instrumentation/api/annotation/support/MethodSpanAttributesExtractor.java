@@ -11,6 +11,7 @@ import io.opentelemetry.instrumentation.api.instrumenter.AttributesExtractor;
 import io.opentelemetry.instrumentation.api.tracer.AttributeSetter;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
+import java.util.function.Function;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 /** Extractor of {@link io.opentelemetry.api.common.Attributes} for a traced method. */
@@ -21,6 +22,8 @@ public final class MethodSpanAttributesExtractor<REQUEST, RESPONSE>
   private final MethodArgumentsExtractor<REQUEST> methodArgumentsExtractor;
   private final Cache<Method, AttributeBindings> cache;
   private final ParameterAttributeNamesExtractor parameterAttributeNamesExtractor;
+  // avoids allocating a method reference on every invocation of the traced method
+  private final Function<Method, AttributeBindings> bindFunction = this::bind;
 
   public static <REQUEST, RESPONSE> MethodSpanAttributesExtractor<REQUEST, RESPONSE> newInstance(
       MethodExtractor<REQUEST> methodExtractor,
@@ -48,7 +51,7 @@ public final class MethodSpanAttributesExtractor<REQUEST, RESPONSE>
   @Override
   protected void onStart(AttributesBuilder attributes, REQUEST request) {
     Method method = methodExtractor.extract(request);
-    AttributeBindings bindings = cache.computeIfAbsent(method, this::bind);
+    AttributeBindings bindings = cache.computeIfAbsent(method, bindFunction);
     if (!bindings.isEmpty()) {
       Object[] args = methodArgumentsExtractor.extract(request);
       bindings.apply(attributes::put, args);
@@ -63,24 +66,26 @@ public final class MethodSpanAttributesExtractor<REQUEST, RESPONSE>
       @Nullable Throwable error) {}
 
   /**
-   * Creates a binding of the parameters of the traced method to span attributes.
+   * Creates a binding of the parameters of the traced method to span attributes. The attribute key
+   * and the setter specialized for the parameter type are resolved once here, applying the bindings
+   * is a loop over the bound argument positions.
    *
    * @param method the traced method
    * @return the bindings of the parameters
    */
   private AttributeBindings bind(Method method) {
-    AttributeBindings bindings = EmptyAttributeBindings.INSTANCE;
-
     Parameter[] parameters = method.getParameters();
     if (parameters.length == 0) {
-      return bindings;
+      return EmptyAttributeBindings.INSTANCE;
     }
 
     String[] attributeNames = parameterAttributeNamesExtractor.extract(method, parameters);
     if (attributeNames.length != parameters.length) {
-      return bindings;
+      return EmptyAttributeBindings.INSTANCE;
     }
 
+    AttributeBinding[] bindings = new AttributeBinding[parameters.length];
+    boolean hasBindings = false;
     for (int i = 0; i < parameters.length; i++) {
       Parameter parameter = parameters[i];
       String attributeName = attributeNames[i];
@@ -88,15 +93,12 @@ public final class MethodSpanAttributesExtractor<REQUEST, RESPONSE>
         continue;
       }
 
-      bindings =
-          new CombinedAttributeBindings(
-              bindings,
-              i,
-              AttributeBindingFactory.createBinding(
-                  attributeName, parameter.getParameterizedType()));
+      bindings[i] =
+          AttributeBindingFactory.createBinding(attributeName, parameter.getParameterizedType());
+      hasBindings = true;
     }
 
-    return bindings;
+    return hasBindings ? new ArrayAttributeBindings(bindings) : EmptyAttributeBindings.INSTANCE;
   }
 
   protected enum EmptyAttributeBindings implements AttributeBindings {
@@ -111,16 +113,12 @@ public final class MethodSpanAttributesExtractor<REQUEST, RESPONSE>
     public void apply(AttributeSetter setter, Object[] args) {}
   }
 
-  private static final class CombinedAttributeBindings implements AttributeBindings {
-    private final AttributeBindings parent;
-    private final int index;
-    private final AttributeBinding binding;
+  /** Bindings indexed by argument position, {@code null} for parameters that aren't bound. */
+  private static final class ArrayAttributeBindings implements AttributeBindings {
+    private final AttributeBinding[] bindings;
 
-    public CombinedAttributeBindings(
-        AttributeBindings parent, int index, AttributeBinding binding) {
-      this.parent = parent;
-      this.index = index;
-      this.binding = binding;
+    ArrayAttributeBindings(AttributeBinding[] bindings) {
+      this.bindings = bindings;
     }
 
     @Override
@@ -130,10 +128,14 @@ public final class MethodSpanAttributesExtractor<REQUEST, RESPONSE>
 
     @Override
     public void apply(AttributeSetter setter, Object[] args) {
-      parent.apply(setter, args);
-      if (args != null && args.length > index) {
-        Object arg = args[index];
-        if (arg != null) {
+      if (args == null) {
+        return;
+      }
+      int length = Math.min(bindings.length, args.length);
+      for (int i = 0; i < length; i++) {
+        AttributeBinding binding = bindings[i];
+        Object arg = args[i];
+        if (binding != null && arg != null) {
           binding.apply(setter, arg);
         }
       }
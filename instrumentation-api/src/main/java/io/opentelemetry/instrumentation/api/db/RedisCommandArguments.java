@@ -0,0 +1,27 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.db;
+
+/**
+ * The arguments of a Redis command in the native representation of the client library, passed to
+ * {@link RedisCommandSanitizer}. Arguments are only decoded when they are appended, so that the
+ * values masked by the sanitizer are never decoded.
+ */
+public interface RedisCommandArguments {
+
+  /** Returns the number of arguments. */
+  int size();
+
+  /** Appends the decoded argument at {@code index} to {@code out}. */
+  void appendTo(StringBuilder out, int index);
+
+  /** Returns the decoded argument at {@code index}. */
+  default String get(int index) {
+    StringBuilder arg = new StringBuilder();
+    appendTo(arg, index);
+    return arg.toString();
+  }
+}
@@ -12,6 +12,7 @@ import io.opentelemetry.instrumentation.api.db.RedisCommandSanitizer.CommandSani
 import io.opentelemetry.instrumentation.api.db.RedisCommandSanitizer.CommandSanitizer.Eval;
 import io.opentelemetry.instrumentation.api.db.RedisCommandSanitizer.CommandSanitizer.KeepAllArgs;
 import io.opentelemetry.instrumentation.api.db.RedisCommandSanitizer.CommandSanitizer.MultiKeyValue;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
@@ -314,35 +315,86 @@ public final class RedisCommandSanitizer {
   }
 
   public static String sanitize(String command, List<?> args) {
-    if (!StatementSanitizationConfig.isStatementSanitizationEnabled()) {
-      return KeepAllArgs.INSTANCE.sanitize(command, args);
-    }
-    return SANITIZERS
-        .getOrDefault(command.toUpperCase(Locale.ROOT), DEFAULT)
-        .sanitize(command, args);
+    return sanitize(command, new ListArguments(args));
   }
 
-  public interface CommandSanitizer {
-    String sanitize(String command, List<?> args);
+  public static String sanitize(String command, RedisCommandArguments args) {
+    StringBuilder sanitized = new StringBuilder(command.length() + 2 * args.size());
+    CommandSanitizer sanitizer =
+        StatementSanitizationConfig.isStatementSanitizationEnabled()
+            ? SANITIZERS.getOrDefault(command.toUpperCase(Locale.ROOT), DEFAULT)
+            : KeepAllArgs.INSTANCE;
+    sanitizer.sanitize(sanitized, command, args);
+    return sanitized.toString();
+  }
 
-    static String argToString(Object arg) {
-      if (arg instanceof byte[]) {
-        return new String((byte[]) arg, StandardCharsets.UTF_8);
+  /**
+   * Appends {@code length} UTF-8 encoded bytes of {@code bytes} starting at {@code offset} to {@code
+   * out}. ASCII bytes, which make up most of the keys, are appended without creating a string.
+   */
+  public static void appendUtf8(StringBuilder out, byte[] bytes, int offset, int length) {
+    int end = offset + length;
+    for (int i = offset; i < end; i++) {
+      byte b = bytes[i];
+      if (b < 0) {
+        out.append(new String(bytes, i, end - i, StandardCharsets.UTF_8));
+        return;
+      }
+      out.append((char) b);
+    }
+  }
+
+  static void appendArg(StringBuilder out, Object arg) {
+    if (arg instanceof byte[]) {
+      byte[] bytes = (byte[]) arg;
+      appendUtf8(out, bytes, 0, bytes.length);
+    } else if (arg instanceof ByteBuffer) {
+      ByteBuffer buffer = (ByteBuffer) arg;
+      if (buffer.hasArray()) {
+        appendUtf8(
+            out, buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
       } else {
-        return arg.toString();
+        // don't move the position of the caller's buffer
+        out.append(StandardCharsets.UTF_8.decode(buffer.duplicate()));
       }
+    } else if (arg instanceof CharSequence) {
+      out.append((CharSequence) arg);
+    } else {
+      out.append(arg);
+    }
+  }
+
+  private static final class ListArguments implements RedisCommandArguments {
+    private final List<?> args;
+
+    private ListArguments(List<?> args) {
+      this.args = args;
     }
 
+    @Override
+    public int size() {
+      return args.size();
+    }
+
+    @Override
+    public void appendTo(StringBuilder out, int index) {
+      appendArg(out, args.get(index));
+    }
+  }
+
+  public interface CommandSanitizer {
+    void sanitize(StringBuilder out, String command, RedisCommandArguments args);
+
     enum KeepAllArgs implements CommandSanitizer {
       INSTANCE;
 
       @Override
-      public String sanitize(String command, List<?> args) {
-        StringBuilder sanitized = new StringBuilder(command);
-        for (Object arg : args) {
-          sanitized.append(" ").append(argToString(arg));
+      public void sanitize(StringBuilder out, String command, RedisCommandArguments args) {
+        out.append(command);
+        for (int i = 0; i < args.size(); ++i) {
+          out.append(' ');
+          args.appendTo(out, i);
         }
-        return sanitized.toString();
       }
     }
 
@@ -356,15 +408,16 @@ public final class RedisCommandSanitizer {
       }
 
       @Override
-      public String sanitize(String command, List<?> args) {
-        StringBuilder sanitized = new StringBuilder(command);
-        for (int i = 0; i < numOfArgsToKeep && i < args.size(); ++i) {
-          sanitized.append(" ").append(argToString(args.get(i)));
+      public void sanitize(StringBuilder out, String command, RedisCommandArguments args) {
+        out.append(command);
+        int size = args.size();
+        for (int i = 0; i < numOfArgsToKeep && i < size; ++i) {
+          out.append(' ');
+          args.appendTo(out, i);
         }
-        for (int i = numOfArgsToKeep; i < args.size(); ++i) {
-          sanitized.append(" ?");
+        for (int i = numOfArgsToKeep; i < size; ++i) {
+          out.append(" ?");
         }
-        return sanitized.toString();
       }
     }
 
@@ -378,18 +431,21 @@ public final class RedisCommandSanitizer {
       }
 
       @Override
-      public String sanitize(String command, List<?> args) {
-        StringBuilder sanitized = new StringBuilder(command);
+      public void sanitize(StringBuilder out, String command, RedisCommandArguments args) {
+        out.append(command);
+        int size = args.size();
         // append all "initial" arguments before key-value pairs start
-        for (int i = 0; i < numOfArgsBeforeKeyValue && i < args.size(); ++i) {
-          sanitized.append(" ").append(argToString(args.get(i)));
+        for (int i = 0; i < numOfArgsBeforeKeyValue && i < size; ++i) {
+          out.append(' ');
+          args.appendTo(out, i);
         }
 
         // loop over keys only
-        for (int i = numOfArgsBeforeKeyValue; i < args.size(); i += 2) {
-          sanitized.append(" ").append(argToString(args.get(i))).append(" ?");
+        for (int i = numOfArgsBeforeKeyValue; i < size; i += 2) {
+          out.append(' ');
+          args.appendTo(out, i);
+          out.append(" ?");
         }
-        return sanitized.toString();
       }
     }
 
@@ -397,14 +453,15 @@ public final class RedisCommandSanitizer {
       INSTANCE;
 
       @Override
-      public String sanitize(String command, List<?> args) {
-        StringBuilder sanitized = new StringBuilder(command);
+      public void sanitize(StringBuilder out, String command, RedisCommandArguments args) {
+        out.append(command);
+        int size = args.size();
 
         // get the number of keys passed from the command itself (second arg)
         int numberOfKeys = 0;
-        if (args.size() > 2) {
+        if (size > 2) {
           try {
-            numberOfKeys = Integer.parseInt(argToString(args.get(1)));
+            numberOfKeys = Integer.parseInt(args.get(1));
           } catch (NumberFormatException ignored) {
             // Ignore
           }
@@ -412,14 +469,14 @@ public final class RedisCommandSanitizer {
 
         int i = 0;
         // log the script, number of keys and all keys
-        for (; i < (numberOfKeys + 2) && i < args.size(); ++i) {
-          sanitized.append(" ").append(argToString(args.get(i)));
+        for (; i < (numberOfKeys + 2) && i < size; ++i) {
+          out.append(' ');
+          args.appendTo(out, i);
         }
         // mask the rest
-        for (; i < args.size(); ++i) {
-          sanitized.append(" ?");
+        for (; i < size; ++i) {
+          out.append(" ?");
         }
-        return sanitized.toString();
       }
     }
   }
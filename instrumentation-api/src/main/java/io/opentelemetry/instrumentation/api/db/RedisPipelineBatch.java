@@ -0,0 +1,91 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.db;
+
+import static io.opentelemetry.api.common.AttributeKey.longArrayKey;
+import static io.opentelemetry.api.common.AttributeKey.longKey;
+import static io.opentelemetry.api.common.AttributeKey.stringArrayKey;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.instrumentation.api.tracer.AttributeSetter;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Accumulates the commands of a Redis pipeline that are reported as a single span instead of a
+ * span per command: the number of commands, the number of commands per operation and, when the
+ * client library provides them cheaply, the number of bytes sent. Commands are neither sanitized
+ * nor retained.
+ */
+public final class RedisPipelineBatch {
+
+  public static final String OPERATION = "PIPELINE";
+
+  static final AttributeKey<Long> COMMAND_COUNT = longKey("db.redis.pipeline.command_count");
+  static final AttributeKey<List<String>> OPERATIONS =
+      stringArrayKey("db.redis.pipeline.operations");
+  static final AttributeKey<List<Long>> OPERATION_COUNTS =
+      longArrayKey("db.redis.pipeline.operation_counts");
+  static final AttributeKey<Long> BYTES = longKey("db.redis.pipeline.bytes");
+
+  // pipelines usually consist of a handful of distinct operations
+  private final Map<String, long[]> operationCounts = new LinkedHashMap<>();
+  private long commandCount;
+  private long bytes = -1;
+  @Nullable private Instant startTime;
+
+  /** Adds a command of which the number of bytes sent is unknown. */
+  public void add(String operation) {
+    add(operation, -1);
+  }
+
+  /** Adds a command, {@code commandBytes} is ignored when it's negative. */
+  public synchronized void add(String operation, long commandBytes) {
+    if (startTime == null) {
+      startTime = Instant.now();
+    }
+    commandCount++;
+    long[] count = operationCounts.get(operation);
+    if (count == null) {
+      operationCounts.put(operation, new long[] {1});
+    } else {
+      count[0]++;
+    }
+    if (commandBytes >= 0) {
+      bytes = bytes < 0 ? commandBytes : bytes + commandBytes;
+    }
+  }
+
+  /** Returns the number of commands added to this batch. */
+  public synchronized long commandCount() {
+    return commandCount;
+  }
+
+  /** Returns the time the first command was added, or now if there is none. */
+  public synchronized Instant startTime() {
+    return startTime != null ? startTime : Instant.now();
+  }
+
+  /** Sets the attributes describing the commands of this batch. */
+  public synchronized void addAttributes(AttributeSetter attributes) {
+    List<String> operations = new ArrayList<>(operationCounts.size());
+    List<Long> counts = new ArrayList<>(operationCounts.size());
+    for (Map.Entry<String, long[]> entry : operationCounts.entrySet()) {
+      operations.add(entry.getKey());
+      counts.add(entry.getValue()[0]);
+    }
+    attributes.setAttribute(COMMAND_COUNT, commandCount);
+    attributes.setAttribute(OPERATIONS, operations);
+    attributes.setAttribute(OPERATION_COUNTS, counts);
+    if (bytes >= 0) {
+      attributes.setAttribute(BYTES, bytes);
+    }
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.instrumenter;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.instrumentation.api.annotations.UnstableApi;
+import io.opentelemetry.instrumentation.api.config.Config;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounds the number of distinct attribute sets a {@link RequestListener} records an instrument
+ * with. The first attribute sets passed to {@link #apply(Attributes)} are admitted and returned
+ * as-is, once the configured number of attribute sets has been admitted any new attribute set is
+ * collapsed into a single overflow attribute set, so that e.g. a client sending random host headers
+ * can't create an unbounded number of metric streams.
+ *
+ * <p>Admitted attribute sets are never evicted, so a given attribute set is consistently either
+ * admitted or collapsed: it's safe to use the same limiter when incrementing and decrementing an
+ * up-down counter.
+ */
+@UnstableApi
+public final class CardinalityLimiter {
+
+  /** The attribute which marks measurements that were recorded with a collapsed attribute set. */
+  public static final AttributeKey<Boolean> OVERFLOW =
+      AttributeKey.booleanKey("otel.metric.overflow");
+
+  private static final Attributes OVERFLOW_ATTRIBUTES = Attributes.of(OVERFLOW, true);
+
+  private static final int MAX_CARDINALITY =
+      Config.get().getInt("otel.instrumentation.common.experimental.metrics-max-cardinality", 2000);
+
+  /**
+   * Returns a new {@link CardinalityLimiter} admitting the number of attribute sets configured by
+   * {@code otel.instrumentation.common.experimental.metrics-max-cardinality}, 2000 by default.
+   */
+  public static CardinalityLimiter create() {
+    return create(MAX_CARDINALITY);
+  }
+
+  /** Returns a new {@link CardinalityLimiter} admitting {@code maxCardinality} attribute sets. */
+  public static CardinalityLimiter create(int maxCardinality) {
+    return new CardinalityLimiter(maxCardinality);
+  }
+
+  private final Set<Attributes> admitted = ConcurrentHashMap.newKeySet();
+  private final AtomicInteger admittedCount = new AtomicInteger();
+  private final int maxCardinality;
+
+  private CardinalityLimiter(int maxCardinality) {
+    this.maxCardinality = maxCardinality;
+  }
+
+  /**
+   * Returns {@code attributes} if they were admitted, or the overflow attribute set if the limit of
+   * admitted attribute sets was reached. Admitted attributes are retained, so they must be
+   * immutable, e.g. the attributes built by a view rather than the attributes passed to a {@link
+   * RequestListener}.
+   */
+  public Attributes apply(Attributes attributes) {
+    if (admitted.contains(attributes)) {
+      return attributes;
+    }
+    // the count is checked and incremented without a lock: attribute sets seen for the first time
+    // concurrently can exceed the limit by at most the number of racing threads, which is cheaper
+    // than serializing every first occurrence
+    if (admittedCount.get() >= maxCardinality) {
+      return OVERFLOW_ATTRIBUTES;
+    }
+    if (admitted.add(attributes)) {
+      admittedCount.incrementAndGet();
+    }
+    return attributes;
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.instrumenter.db;
+
+import com.google.auto.value.AutoValue;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.ContextKey;
+import io.opentelemetry.instrumentation.api.annotations.UnstableApi;
+import io.opentelemetry.instrumentation.api.instrumenter.CardinalityLimiter;
+import io.opentelemetry.instrumentation.api.instrumenter.RequestListener;
+import io.opentelemetry.instrumentation.api.instrumenter.RequestMetrics;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link RequestListener} which records the duration of database client operations, with the
+ * system, operation and table set by a {@link DbAttributesExtractor} or {@link
+ * SqlAttributesExtractor}.
+ *
+ * <p>To use this class, you may need to add the {@code opentelemetry-api-metrics} artifact to your
+ * dependencies.
+ */
+@UnstableApi
+public final class DbClientMetrics implements RequestListener {
+
+  private static final double NANOS_PER_MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+  private static final ContextKey<State> DB_CLIENT_METRICS_STATE =
+      ContextKey.named("db-client-metrics-state");
+
+  private static final Logger logger = LoggerFactory.getLogger(DbClientMetrics.class);
+
+  /**
+   * Returns a {@link RequestMetrics} which can be used to enable recording of {@link
+   * DbClientMetrics} on an {@link
+   * io.opentelemetry.instrumentation.api.instrumenter.InstrumenterBuilder}.
+   */
+  @UnstableApi
+  public static RequestMetrics get() {
+    return DbClientMetrics::new;
+  }
+
+  private final DbMetricsView view = new DbMetricsView();
+  private final CardinalityLimiter limiter = CardinalityLimiter.create();
+  private final DoubleHistogram duration;
+
+  private DbClientMetrics(Meter meter) {
+    duration =
+        meter
+            .histogramBuilder("db.client.duration")
+            .setUnit("milliseconds")
+            .setDescription("The duration of database client operations")
+            .build();
+  }
+
+  @Override
+  public Context start(Context context, Attributes startAttributes) {
+    return context.with(
+        DB_CLIENT_METRICS_STATE,
+        new AutoValue_DbClientMetrics_State(
+            limiter.apply(view.apply(startAttributes)), System.nanoTime()));
+  }
+
+  @Override
+  public void end(Context context, Attributes endAttributes) {
+    State state = context.get(DB_CLIENT_METRICS_STATE);
+    if (state == null) {
+      logger.debug(
+          "No state present when ending context {}. Cannot record database client metrics.",
+          context);
+      return;
+    }
+    duration.record(
+        (System.nanoTime() - state.startTimeNanos()) / NANOS_PER_MS, state.attributes());
+  }
+
+  @AutoValue
+  abstract static class State {
+
+    abstract Attributes attributes();
+
+    abstract long startTimeNanos();
+  }
+}
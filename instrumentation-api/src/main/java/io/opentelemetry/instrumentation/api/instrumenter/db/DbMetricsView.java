@@ -0,0 +1,82 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.instrumenter.db;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.common.AttributesBuilder;
+import io.opentelemetry.instrumentation.api.config.Config;
+import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The attributes of database client metrics: the system, operation and table of a request. Tables
+ * are bounded: once a listener has seen the configured number of distinct tables, further tables
+ * are reported as {@link #OTHER_TABLE_NAME}, so that e.g. per-tenant tables can't blow up the
+ * number of metric streams.
+ */
+final class DbMetricsView {
+
+  static final String OTHER_TABLE_NAME = "(other)";
+
+  private static final int MAX_TABLES =
+      Config.get().getInt("otel.instrumentation.db.experimental.metrics-max-tables", 100);
+
+  private final Set<String> tables = ConcurrentHashMap.newKeySet();
+  private final AtomicInteger tableCount = new AtomicInteger();
+  private final int maxTables;
+
+  DbMetricsView() {
+    this(MAX_TABLES);
+  }
+
+  // visible for testing
+  DbMetricsView(int maxTables) {
+    this.maxTables = maxTables;
+  }
+
+  Attributes apply(Attributes attributes) {
+    AttributesBuilder filtered = Attributes.builder();
+    copy(attributes, filtered, SemanticAttributes.DB_SYSTEM);
+    copy(attributes, filtered, SemanticAttributes.DB_OPERATION);
+    copyTable(attributes, filtered, SemanticAttributes.DB_SQL_TABLE);
+    copyTable(attributes, filtered, SemanticAttributes.DB_CASSANDRA_TABLE);
+    return filtered.build();
+  }
+
+  private static void copy(
+      Attributes attributes, AttributesBuilder filtered, AttributeKey<String> key) {
+    String value = attributes.get(key);
+    if (value != null) {
+      filtered.put(key, value);
+    }
+  }
+
+  private void copyTable(
+      Attributes attributes, AttributesBuilder filtered, AttributeKey<String> key) {
+    String table = attributes.get(key);
+    if (table != null) {
+      filtered.put(key, limit(table));
+    }
+  }
+
+  private String limit(String table) {
+    if (tables.contains(table)) {
+      return table;
+    }
+    // the count is checked without a lock, as in CardinalityLimiter: tables seen for the first
+    // time concurrently can exceed the limit by at most the number of racing threads
+    if (tableCount.get() >= maxTables) {
+      return OTHER_TABLE_NAME;
+    }
+    if (tables.add(table)) {
+      tableCount.incrementAndGet();
+    }
+    return table;
+  }
+}
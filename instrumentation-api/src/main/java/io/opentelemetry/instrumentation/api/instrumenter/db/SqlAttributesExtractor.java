@@ -51,7 +51,12 @@ public abstract class SqlAttributesExtractor<REQUEST, RESPONSE>
     return sanitize(request).getTable();
   }
 
-  private SqlStatementInfo sanitize(REQUEST request) {
+  /**
+   * Returns the sanitized statement of the {@code request}. By default the {@link
+   * #rawStatement(Object)} is sanitized; clients that keep the sanitized statement (e.g. of a
+   * prepared statement) can return it directly to skip the lookup.
+   */
+  protected SqlStatementInfo sanitize(REQUEST request) {
     // sanitized statement is cached
     return SqlStatementSanitizer.sanitize(rawStatement(request));
   }
@@ -5,6 +5,7 @@
 
 package io.opentelemetry.instrumentation.api.instrumenter.http;
 
+import static io.opentelemetry.instrumentation.api.instrumenter.http.HttpMetricsExemplars.exemplarContext;
 import static io.opentelemetry.instrumentation.api.instrumenter.http.TemporaryMetricsView.applyDurationView;
 
 import com.google.auto.value.AutoValue;
@@ -14,6 +15,7 @@ import io.opentelemetry.api.metrics.Meter;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.ContextKey;
 import io.opentelemetry.instrumentation.api.annotations.UnstableApi;
+import io.opentelemetry.instrumentation.api.instrumenter.CardinalityLimiter;
 import io.opentelemetry.instrumentation.api.instrumenter.RequestListener;
 import io.opentelemetry.instrumentation.api.instrumenter.RequestMetrics;
 import java.util.concurrent.TimeUnit;
@@ -23,7 +25,8 @@ import org.slf4j.LoggerFactory;
 /**
  * {@link RequestListener} which keeps track of <a
  * href="https://github.com/open-telemetry/opentelemetry-specification/blob/main/specification/metrics/semantic_conventions/http-metrics.md#http-client">HTTP
- * client metrics</a>.
+ * client metrics</a>. Durations are recorded with the context of the request span, so that
+ * exemplars sampled by the SDK link to the trace of a request when its span is sampled.
  *
  * <p>To use this class, you may need to add the {@code opentelemetry-api-metrics} artifact to your
  * dependencies.
@@ -48,6 +51,7 @@ public final class HttpClientMetrics implements RequestListener {
     return HttpClientMetrics::new;
   }
 
+  private final CardinalityLimiter durationLimiter = CardinalityLimiter.create();
   private final DoubleHistogram duration;
 
   private HttpClientMetrics(Meter meter) {
@@ -78,7 +82,8 @@ public final class HttpClientMetrics implements RequestListener {
     }
     duration.record(
         (System.nanoTime() - state.startTimeNanos()) / NANOS_PER_MS,
-        applyDurationView(state.startAttributes()));
+        durationLimiter.apply(applyDurationView(state.startAttributes())),
+        exemplarContext(context));
   }
 
   @AutoValue
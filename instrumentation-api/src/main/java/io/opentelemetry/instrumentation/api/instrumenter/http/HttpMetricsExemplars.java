@@ -0,0 +1,29 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.instrumenter.http;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.instrumentation.api.instrumenter.RequestListener;
+
+/**
+ * Selects the {@link Context} HTTP duration histograms are recorded with. Exemplars are sampled by
+ * the SDK from the context passed when recording; {@link RequestListener#end} is usually called
+ * after the scope of the request span was closed, possibly on another thread, so the current
+ * context would attach exemplars to an unrelated trace, if any.
+ */
+final class HttpMetricsExemplars {
+
+  /**
+   * Returns {@code context} if its span is sampled, or the root context so that no exemplar links
+   * to a trace that was not recorded.
+   */
+  static Context exemplarContext(Context context) {
+    return Span.fromContext(context).getSpanContext().isSampled() ? context : Context.root();
+  }
+
+  private HttpMetricsExemplars() {}
+}
@@ -5,6 +5,7 @@
 
 package io.opentelemetry.instrumentation.api.instrumenter.http;
 
+import static io.opentelemetry.instrumentation.api.instrumenter.http.HttpMetricsExemplars.exemplarContext;
 import static io.opentelemetry.instrumentation.api.instrumenter.http.TemporaryMetricsView.applyActiveRequestsView;
 import static io.opentelemetry.instrumentation.api.instrumenter.http.TemporaryMetricsView.applyDurationView;
 
@@ -16,6 +17,7 @@ import io.opentelemetry.api.metrics.Meter;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.ContextKey;
 import io.opentelemetry.instrumentation.api.annotations.UnstableApi;
+import io.opentelemetry.instrumentation.api.instrumenter.CardinalityLimiter;
 import io.opentelemetry.instrumentation.api.instrumenter.RequestListener;
 import io.opentelemetry.instrumentation.api.instrumenter.RequestMetrics;
 import java.util.concurrent.TimeUnit;
@@ -25,7 +27,8 @@ import org.slf4j.LoggerFactory;
 /**
  * {@link RequestListener} which keeps track of <a
  * href="https://github.com/open-telemetry/opentelemetry-specification/blob/main/specification/metrics/semantic_conventions/http-metrics.md#http-server">HTTP
- * server metrics</a>.
+ * server metrics</a>. Durations are recorded with the context of the request span, so that
+ * exemplars sampled by the SDK link to the trace of a request when its span is sampled.
  *
  * <p>To use this class, you may need to add the {@code opentelemetry-api-metrics} artifact to your
  * dependencies.
@@ -50,6 +53,8 @@ public final class HttpServerMetrics implements RequestListener {
     return HttpServerMetrics::new;
   }
 
+  private final CardinalityLimiter activeRequestsLimiter = CardinalityLimiter.create();
+  private final CardinalityLimiter durationLimiter = CardinalityLimiter.create();
   private final LongUpDownCounter activeRequests;
   private final DoubleHistogram duration;
 
@@ -72,7 +77,7 @@ public final class HttpServerMetrics implements RequestListener {
   @Override
   public Context start(Context context, Attributes startAttributes) {
     long startTimeNanos = System.nanoTime();
-    activeRequests.add(1, applyActiveRequestsView(startAttributes));
+    activeRequests.add(1, activeRequestsLimiter.apply(applyActiveRequestsView(startAttributes)));
 
     return context.with(
         HTTP_SERVER_REQUEST_METRICS_STATE,
@@ -87,10 +92,12 @@ public final class HttpServerMetrics implements RequestListener {
           "No state present when ending context {}. Cannot reset HTTP request metrics.", context);
       return;
     }
-    activeRequests.add(-1, applyActiveRequestsView(state.startAttributes()));
+    activeRequests.add(
+        -1, activeRequestsLimiter.apply(applyActiveRequestsView(state.startAttributes())));
     duration.record(
         (System.nanoTime() - state.startTimeNanos()) / NANOS_PER_MS,
-        applyDurationView(state.startAttributes()));
+        durationLimiter.apply(applyDurationView(state.startAttributes())),
+        exemplarContext(context));
   }
 
   @AutoValue
@@ -0,0 +1,120 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.instrumenter.messaging;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.ContextKey;
+import io.opentelemetry.instrumentation.api.annotations.UnstableApi;
+import io.opentelemetry.instrumentation.api.instrumenter.CardinalityLimiter;
+import io.opentelemetry.instrumentation.api.instrumenter.RequestListener;
+import io.opentelemetry.instrumentation.api.instrumenter.RequestMetrics;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link RequestListener} which records the duration of processing messages and their end-to-end
+ * latency, the time from the message timestamp to the start of its processing, with the attributes
+ * set by a {@link MessagingAttributesExtractor}. It should be added to instrumenters of message
+ * processing, whose spans cover the processing of the message. The latency is only recorded when
+ * the instrumentation reports the message timestamp with {@link #recordMessageTimestamp(Context,
+ * long)}.
+ *
+ * <p>To use this class, you may need to add the {@code opentelemetry-api-metrics} artifact to your
+ * dependencies.
+ */
+@UnstableApi
+public final class MessagingConsumerMetrics implements RequestListener {
+
+  private static final double NANOS_PER_MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+  private static final ContextKey<State> MESSAGING_CONSUMER_METRICS_STATE =
+      ContextKey.named("messaging-consumer-metrics-state");
+
+  private static final Logger logger = LoggerFactory.getLogger(MessagingConsumerMetrics.class);
+
+  /**
+   * Returns a {@link RequestMetrics} which can be used to enable recording of {@link
+   * MessagingConsumerMetrics} on an {@link
+   * io.opentelemetry.instrumentation.api.instrumenter.InstrumenterBuilder}.
+   */
+  @UnstableApi
+  public static RequestMetrics get() {
+    return MessagingConsumerMetrics::new;
+  }
+
+  /**
+   * Records the end-to-end latency of a message whose processing was started with {@code context},
+   * from {@code timestampMillis}, the epoch millis at which the message was created or published.
+   * Messages processed in a batch can be recorded one by one with the context of the batch.
+   */
+  public static void recordMessageTimestamp(Context context, long timestampMillis) {
+    State state = context.get(MESSAGING_CONSUMER_METRICS_STATE);
+    if (state != null) {
+      state.recordLatency(timestampMillis);
+    }
+  }
+
+  private final MessagingMetricsView view = new MessagingMetricsView();
+  // the process duration and end to end latency are recorded with the same attributes
+  private final CardinalityLimiter limiter = CardinalityLimiter.create();
+  private final DoubleHistogram processDuration;
+  private final DoubleHistogram endToEndLatency;
+
+  private MessagingConsumerMetrics(Meter meter) {
+    processDuration =
+        meter
+            .histogramBuilder("messaging.process.duration")
+            .setUnit("milliseconds")
+            .setDescription("The duration of processing a message")
+            .build();
+    endToEndLatency =
+        meter
+            .histogramBuilder("messaging.process.end_to_end_latency")
+            .setUnit("milliseconds")
+            .setDescription(
+                "The time from the creation or publication of a message to the start of its"
+                    + " processing")
+            .build();
+  }
+
+  @Override
+  public Context start(Context context, Attributes startAttributes) {
+    return context.with(
+        MESSAGING_CONSUMER_METRICS_STATE, new State(limiter.apply(view.apply(startAttributes))));
+  }
+
+  @Override
+  public void end(Context context, Attributes endAttributes) {
+    State state = context.get(MESSAGING_CONSUMER_METRICS_STATE);
+    if (state == null) {
+      logger.debug(
+          "No state present when ending context {}. Cannot record messaging metrics.", context);
+      return;
+    }
+    processDuration.record(
+        (System.nanoTime() - state.startTimeNanos) / NANOS_PER_MS, state.attributes);
+  }
+
+  private final class State {
+
+    private final Attributes attributes;
+    private final long startTimeNanos = System.nanoTime();
+    private final long startTimeMillis = System.currentTimeMillis();
+
+    private State(Attributes attributes) {
+      this.attributes = attributes;
+    }
+
+    private void recordLatency(long timestampMillis) {
+      // clocks of producers and consumers may be skewed
+      endToEndLatency.record(Math.max(0L, startTimeMillis - timestampMillis), attributes);
+    }
+  }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.instrumenter.messaging;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.common.AttributesBuilder;
+import io.opentelemetry.instrumentation.api.config.Config;
+import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+/**
+ * The attributes of messaging metrics. Destinations are bounded: once a listener has seen the
+ * configured number of distinct destinations, further destinations are reported as {@link
+ * #OTHER_DESTINATION_NAME}, so that e.g. per-request reply queues can't blow up the number of
+ * metric streams.
+ */
+@SuppressWarnings("rawtypes")
+final class MessagingMetricsView {
+
+  static final String OTHER_DESTINATION_NAME = "(other)";
+
+  private static final int MAX_DESTINATIONS =
+      Config.get()
+          .getInt("otel.instrumentation.messaging.experimental.metrics-max-destinations", 100);
+
+  private static final Set<AttributeKey> view = buildView();
+
+  private static Set<AttributeKey> buildView() {
+    Set<AttributeKey> view = new HashSet<>();
+    view.add(SemanticAttributes.MESSAGING_SYSTEM);
+    view.add(SemanticAttributes.MESSAGING_DESTINATION_KIND);
+    view.add(SemanticAttributes.MESSAGING_TEMP_DESTINATION);
+    view.add(SemanticAttributes.MESSAGING_OPERATION);
+    return view;
+  }
+
+  private final Set<String> destinations = ConcurrentHashMap.newKeySet();
+  private final AtomicInteger destinationCount = new AtomicInteger();
+  private final int maxDestinations;
+
+  MessagingMetricsView() {
+    this(MAX_DESTINATIONS);
+  }
+
+  // visible for testing
+  MessagingMetricsView(int maxDestinations) {
+    this.maxDestinations = maxDestinations;
+  }
+
+  @SuppressWarnings("unchecked")
+  Attributes apply(Attributes attributes) {
+    AttributesBuilder filtered = Attributes.builder();
+    attributes.forEach(
+        (BiConsumer<AttributeKey, Object>)
+            (key, value) -> {
+              if (view.contains(key)) {
+                filtered.put(key, value);
+              }
+            });
+    String destination = attributes.get(SemanticAttributes.MESSAGING_DESTINATION);
+    if (destination != null) {
+      filtered.put(SemanticAttributes.MESSAGING_DESTINATION, limit(destination));
+    }
+    return filtered.build();
+  }
+
+  private String limit(String destination) {
+    if (destinations.contains(destination)) {
+      return destination;
+    }
+    // lock-free admission, same as CardinalityLimiter
+    if (destinationCount.get() >= maxDestinations) {
+      return OTHER_DESTINATION_NAME;
+    }
+    if (destinations.add(destination)) {
+      destinationCount.incrementAndGet();
+    }
+    return destination;
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.instrumenter.messaging;
+
+import com.google.auto.value.AutoValue;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.ContextKey;
+import io.opentelemetry.instrumentation.api.annotations.UnstableApi;
+import io.opentelemetry.instrumentation.api.instrumenter.CardinalityLimiter;
+import io.opentelemetry.instrumentation.api.instrumenter.RequestListener;
+import io.opentelemetry.instrumentation.api.instrumenter.RequestMetrics;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link RequestListener} which records the duration of publishing messages, with the attributes
+ * set by a {@link MessagingAttributesExtractor}.
+ *
+ * <p>To use this class, you may need to add the {@code opentelemetry-api-metrics} artifact to your
+ * dependencies.
+ */
+@UnstableApi
+public final class MessagingProducerMetrics implements RequestListener {
+
+  private static final double NANOS_PER_MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+  private static final ContextKey<State> MESSAGING_PRODUCER_METRICS_STATE =
+      ContextKey.named("messaging-producer-metrics-state");
+
+  private static final Logger logger = LoggerFactory.getLogger(MessagingProducerMetrics.class);
+
+  /**
+   * Returns a {@link RequestMetrics} which can be used to enable recording of {@link
+   * MessagingProducerMetrics} on an {@link
+   * io.opentelemetry.instrumentation.api.instrumenter.InstrumenterBuilder}.
+   */
+  @UnstableApi
+  public static RequestMetrics get() {
+    return MessagingProducerMetrics::new;
+  }
+
+  private final MessagingMetricsView view = new MessagingMetricsView();
+  private final CardinalityLimiter limiter = CardinalityLimiter.create();
+  private final DoubleHistogram publishDuration;
+
+  private MessagingProducerMetrics(Meter meter) {
+    publishDuration =
+        meter
+            .histogramBuilder("messaging.publish.duration")
+            .setUnit("milliseconds")
+            .setDescription("The duration of publishing a message")
+            .build();
+  }
+
+  @Override
+  public Context start(Context context, Attributes startAttributes) {
+    return context.with(
+        MESSAGING_PRODUCER_METRICS_STATE,
+        new AutoValue_MessagingProducerMetrics_State(
+            limiter.apply(view.apply(startAttributes)), System.nanoTime()));
+  }
+
+  @Override
+  public void end(Context context, Attributes endAttributes) {
+    State state = context.get(MESSAGING_PRODUCER_METRICS_STATE);
+    if (state == null) {
+      logger.debug(
+          "No state present when ending context {}. Cannot record messaging metrics.", context);
+      return;
+    }
+    publishDuration.record(
+        (System.nanoTime() - state.startTimeNanos()) / NANOS_PER_MS, state.attributes());
+  }
+
+  @AutoValue
+  abstract static class State {
+
+    abstract Attributes attributes();
+
+    abstract long startTimeNanos();
+  }
+}
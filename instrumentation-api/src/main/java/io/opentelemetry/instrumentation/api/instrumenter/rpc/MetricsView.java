@@ -0,0 +1,76 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.instrumenter.rpc;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.common.AttributesBuilder;
+import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+// this is temporary, see
+// https://github.com/open-telemetry/opentelemetry-java-instrumentation/issues/3962#issuecomment-906606325
+@SuppressWarnings("rawtypes")
+final class MetricsView {
+
+  private static final Set<AttributeKey> clientView = buildClientView();
+
+  private static final Set<AttributeKey> serverView = buildServerView();
+
+  private static Set<AttributeKey> buildClientView() {
+    // the list of included metrics is from
+    // https://github.com/open-telemetry/opentelemetry-specification/blob/main/specification/metrics/semantic_conventions/rpc.md#attributes
+    Set<AttributeKey> view = new HashSet<>();
+    view.add(SemanticAttributes.RPC_SYSTEM);
+    view.add(SemanticAttributes.RPC_SERVICE);
+    view.add(SemanticAttributes.RPC_METHOD);
+    view.add(SemanticAttributes.RPC_GRPC_STATUS_CODE);
+    view.add(SemanticAttributes.NET_PEER_NAME);
+    view.add(SemanticAttributes.NET_PEER_PORT);
+    view.add(SemanticAttributes.NET_PEER_IP);
+    view.add(SemanticAttributes.NET_TRANSPORT);
+    return view;
+  }
+
+  private static Set<AttributeKey> buildServerView() {
+    // the peer of a server is its client, its port (and usually its address) are not worth the
+    // cardinality they would add; net.host.* would fit but no RPC instrumentation extracts it yet
+    Set<AttributeKey> view = new HashSet<>();
+    view.add(SemanticAttributes.RPC_SYSTEM);
+    view.add(SemanticAttributes.RPC_SERVICE);
+    view.add(SemanticAttributes.RPC_METHOD);
+    view.add(SemanticAttributes.RPC_GRPC_STATUS_CODE);
+    view.add(SemanticAttributes.NET_TRANSPORT);
+    return view;
+  }
+
+  static Attributes applyClientView(Attributes startAttributes, Attributes endAttributes) {
+    return applyView(clientView, startAttributes, endAttributes);
+  }
+
+  static Attributes applyServerView(Attributes startAttributes, Attributes endAttributes) {
+    return applyView(serverView, startAttributes, endAttributes);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Attributes applyView(
+      Set<AttributeKey> view, Attributes startAttributes, Attributes endAttributes) {
+    AttributesBuilder filtered = Attributes.builder();
+    BiConsumer<AttributeKey, Object> filter =
+        (key, value) -> {
+          if (view.contains(key)) {
+            filtered.put(key, value);
+          }
+        };
+    startAttributes.forEach(filter);
+    endAttributes.forEach(filter);
+    return filtered.build();
+  }
+
+  private MetricsView() {}
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.instrumenter.rpc;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.LongHistogram;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.function.LongBinaryOperator;
+
+/**
+ * The state of a call recorded by {@link RpcClientMetrics} or {@link RpcServerMetrics}: its start
+ * and the total size of its request and response messages, which are reported by the
+ * instrumentation while the call is in progress. A size of {@code -1} means no size was reported.
+ */
+final class RpcMetricsState {
+
+  private static final double NANOS_PER_MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+  private static final AtomicLongFieldUpdater<RpcMetricsState> REQUEST_SIZE_UPDATER =
+      AtomicLongFieldUpdater.newUpdater(RpcMetricsState.class, "requestSize");
+  private static final AtomicLongFieldUpdater<RpcMetricsState> RESPONSE_SIZE_UPDATER =
+      AtomicLongFieldUpdater.newUpdater(RpcMetricsState.class, "responseSize");
+
+  private static final LongBinaryOperator ADD_SIZE =
+      (total, size) -> total < 0 ? size : total + size;
+
+  private final Attributes startAttributes;
+  private final long startTimeNanos;
+
+  // Used by REQUEST_SIZE_UPDATER and RESPONSE_SIZE_UPDATER
+  private volatile long requestSize = -1;
+  private volatile long responseSize = -1;
+
+  RpcMetricsState(Attributes startAttributes, long startTimeNanos) {
+    this.startAttributes = startAttributes;
+    this.startTimeNanos = startTimeNanos;
+  }
+
+  Attributes startAttributes() {
+    return startAttributes;
+  }
+
+  void addRequestSize(long size) {
+    if (size >= 0) {
+      REQUEST_SIZE_UPDATER.accumulateAndGet(this, size, ADD_SIZE);
+    }
+  }
+
+  void addResponseSize(long size) {
+    if (size >= 0) {
+      RESPONSE_SIZE_UPDATER.accumulateAndGet(this, size, ADD_SIZE);
+    }
+  }
+
+  void record(
+      DoubleHistogram duration,
+      LongHistogram requestSizes,
+      LongHistogram responseSizes,
+      Attributes attributes) {
+    duration.record((System.nanoTime() - startTimeNanos) / NANOS_PER_MS, attributes);
+    long requestBytes = requestSize;
+    if (requestBytes >= 0) {
+      requestSizes.record(requestBytes, attributes);
+    }
+    long responseBytes = responseSize;
+    if (responseBytes >= 0) {
+      responseSizes.record(responseBytes, attributes);
+    }
+  }
+}
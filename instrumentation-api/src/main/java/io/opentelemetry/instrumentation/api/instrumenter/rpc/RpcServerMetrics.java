@@ -0,0 +1,119 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.instrumenter.rpc;
+
+import static io.opentelemetry.instrumentation.api.instrumenter.rpc.MetricsView.applyServerView;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.LongHistogram;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.ContextKey;
+import io.opentelemetry.instrumentation.api.annotations.UnstableApi;
+import io.opentelemetry.instrumentation.api.instrumenter.CardinalityLimiter;
+import io.opentelemetry.instrumentation.api.instrumenter.RequestListener;
+import io.opentelemetry.instrumentation.api.instrumenter.RequestMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link RequestListener} which keeps track of <a
+ * href="https://github.com/open-telemetry/opentelemetry-specification/blob/main/specification/metrics/semantic_conventions/rpc.md#rpc-server">RPC
+ * server metrics</a>: the duration of calls and the total size of their request and response
+ * messages. Message sizes are only recorded when the instrumentation reports them with {@link
+ * #addRequestSize(Context, long)} and {@link #addResponseSize(Context, long)}.
+ *
+ * <p>To use this class, you may need to add the {@code opentelemetry-api-metrics} artifact to your
+ * dependencies.
+ */
+@UnstableApi
+public final class RpcServerMetrics implements RequestListener {
+
+  private static final ContextKey<RpcMetricsState> RPC_SERVER_REQUEST_METRICS_STATE =
+      ContextKey.named("rpc-server-request-metrics-state");
+
+  private static final Logger logger = LoggerFactory.getLogger(RpcServerMetrics.class);
+
+  /**
+   * Returns a {@link RequestMetrics} which can be used to enable recording of {@link
+   * RpcServerMetrics} on an {@link
+   * io.opentelemetry.instrumentation.api.instrumenter.InstrumenterBuilder}.
+   */
+  @UnstableApi
+  public static RequestMetrics get() {
+    return RpcServerMetrics::new;
+  }
+
+  /**
+   * Adds {@code bytes} to the size of the request messages of the call of {@code context}, which
+   * must be the {@link Context} returned when the call was started.
+   */
+  public static void addRequestSize(Context context, long bytes) {
+    RpcMetricsState state = context.get(RPC_SERVER_REQUEST_METRICS_STATE);
+    if (state != null) {
+      state.addRequestSize(bytes);
+    }
+  }
+
+  /**
+   * Adds {@code bytes} to the size of the response messages of the call of {@code context}, which
+   * must be the {@link Context} returned when the call was started.
+   */
+  public static void addResponseSize(Context context, long bytes) {
+    RpcMetricsState state = context.get(RPC_SERVER_REQUEST_METRICS_STATE);
+    if (state != null) {
+      state.addResponseSize(bytes);
+    }
+  }
+
+  // the duration and message sizes are recorded with the same attributes
+  private final CardinalityLimiter limiter = CardinalityLimiter.create();
+  private final DoubleHistogram duration;
+  private final LongHistogram requestSize;
+  private final LongHistogram responseSize;
+
+  private RpcServerMetrics(Meter meter) {
+    duration =
+        meter
+            .histogramBuilder("rpc.server.duration")
+            .setUnit("milliseconds")
+            .setDescription("The duration of an inbound RPC invocation")
+            .build();
+    requestSize =
+        meter
+            .histogramBuilder("rpc.server.request.size")
+            .ofLongs()
+            .setUnit("bytes")
+            .setDescription("The total size of the request messages of an inbound RPC invocation")
+            .build();
+    responseSize =
+        meter
+            .histogramBuilder("rpc.server.response.size")
+            .ofLongs()
+            .setUnit("bytes")
+            .setDescription("The total size of the response messages of an inbound RPC invocation")
+            .build();
+  }
+
+  @Override
+  public Context start(Context context, Attributes startAttributes) {
+    return context.with(
+        RPC_SERVER_REQUEST_METRICS_STATE, new RpcMetricsState(startAttributes, System.nanoTime()));
+  }
+
+  @Override
+  public void end(Context context, Attributes endAttributes) {
+    RpcMetricsState state = context.get(RPC_SERVER_REQUEST_METRICS_STATE);
+    if (state == null) {
+      logger.debug(
+          "No state present when ending context {}. Cannot record RPC request metrics.", context);
+      return;
+    }
+    Attributes attributes = limiter.apply(applyServerView(state.startAttributes(), endAttributes));
+    state.record(duration, requestSize, responseSize, attributes);
+  }
+}
@@ -5,6 +5,8 @@
 
 package io.opentelemetry.instrumentation.api.db
 
+import java.nio.ByteBuffer
+import java.nio.charset.StandardCharsets
 import spock.lang.Specification
 import spock.lang.Unroll
 
@@ -145,4 +147,46 @@ class RedisCommandSanitizerTest extends Specification {
     then:
     sanitized == "NEWAUTH ? ?"
   }
+
+  def "should decode binary arguments"() {
+    given:
+    def args = [
+      "key1".getBytes(StandardCharsets.UTF_8),
+      "value1".getBytes(StandardCharsets.UTF_8),
+      ByteBuffer.wrap("k\u00e9y2".getBytes(StandardCharsets.UTF_8)),
+      ByteBuffer.wrap("value2".getBytes(StandardCharsets.UTF_8)),
+      ByteBuffer.allocateDirect(4).put("key3".getBytes(StandardCharsets.UTF_8)).flip(),
+      "value3"
+    ]
+
+    when:
+    def sanitized = RedisCommandSanitizer.sanitize("MSET", args)
+
+    then:
+    sanitized == "MSET key1 ? k\u00e9y2 ? key3 ?"
+  }
+
+  def "should not decode masked arguments"() {
+    given:
+    def args = new RedisCommandArguments() {
+      @Override
+      int size() {
+        return 2
+      }
+
+      @Override
+      void appendTo(StringBuilder out, int index) {
+        if (index != 0) {
+          throw new AssertionError("masked argument was decoded")
+        }
+        out.append("key")
+      }
+    }
+
+    when:
+    def sanitized = RedisCommandSanitizer.sanitize("SET", args)
+
+    then:
+    sanitized == "SET key ?"
+  }
 }
@@ -0,0 +1,52 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.instrumenter;
+
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.assertThat;
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.attributeEntry;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
+import org.junit.jupiter.api.Test;
+
+class CardinalityLimiterTest {
+
+  @Test
+  void shouldCollapseAttributesOverLimit() {
+    CardinalityLimiter limiter = CardinalityLimiter.create(2);
+
+    assertThat(limiter.apply(host("a"))).containsOnly(attributeEntry("http.host", "a"));
+    assertThat(limiter.apply(host("b"))).containsOnly(attributeEntry("http.host", "b"));
+    assertThat(limiter.apply(host("c"))).containsOnly(attributeEntry("otel.metric.overflow", true));
+    // attributes admitted before the limit was reached are still reported
+    assertThat(limiter.apply(host("a"))).containsOnly(attributeEntry("http.host", "a"));
+    assertThat(limiter.apply(host("c"))).containsOnly(attributeEntry("otel.metric.overflow", true));
+  }
+
+  @Test
+  void shouldCompareAttributeSets() {
+    CardinalityLimiter limiter = CardinalityLimiter.create(1);
+
+    Attributes attributes =
+        Attributes.builder()
+            .put(SemanticAttributes.HTTP_METHOD, "GET")
+            .put(SemanticAttributes.HTTP_HOST, "a")
+            .build();
+    Attributes sameAttributes =
+        Attributes.builder()
+            .put(SemanticAttributes.HTTP_HOST, "a")
+            .put(SemanticAttributes.HTTP_METHOD, "GET")
+            .build();
+
+    assertThat(limiter.apply(attributes)).isEqualTo(attributes);
+    assertThat(limiter.apply(sameAttributes)).isEqualTo(attributes);
+    assertThat(limiter.apply(host("a"))).containsOnly(attributeEntry("otel.metric.overflow", true));
+  }
+
+  private static Attributes host(String host) {
+    return Attributes.of(SemanticAttributes.HTTP_HOST, host);
+  }
+}
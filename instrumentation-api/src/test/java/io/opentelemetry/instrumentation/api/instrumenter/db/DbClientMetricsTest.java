@@ -0,0 +1,66 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.instrumenter.db;
+
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.attributeEntry;
+import static io.opentelemetry.sdk.testing.assertj.metrics.MetricAssertions.assertThat;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.instrumentation.api.instrumenter.RequestListener;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import java.util.Collection;
+import org.junit.jupiter.api.Test;
+
+class DbClientMetricsTest {
+
+  @Test
+  void collectsMetrics() {
+    SdkMeterProvider meterProvider = SdkMeterProvider.builder().build();
+
+    RequestListener listener = DbClientMetrics.get().create(meterProvider.get("test"));
+
+    Attributes requestAttributes =
+        Attributes.builder()
+            .put("db.system", "cassandra")
+            .put("db.name", "users")
+            .put("db.statement", "SELECT * FROM users WHERE id=?")
+            .put("db.operation", "SELECT")
+            .put("db.cassandra.table", "users")
+            .build();
+
+    Attributes responseAttributes =
+        Attributes.builder().put("db.cassandra.coordinator.dc", "dc1").build();
+
+    Context context = listener.start(Context.current(), requestAttributes);
+
+    Collection<MetricData> metrics = meterProvider.collectAllMetrics();
+    assertThat(metrics).isEmpty();
+
+    listener.end(context, responseAttributes);
+
+    metrics = meterProvider.collectAllMetrics();
+    assertThat(metrics).hasSize(1);
+    assertThat(metrics)
+        .anySatisfy(
+            metric ->
+                assertThat(metric)
+                    .hasName("db.client.duration")
+                    .hasDoubleHistogram()
+                    .points()
+                    .satisfiesExactly(
+                        point -> {
+                          assertThat(point.getSum()).isPositive();
+                          assertThat(point)
+                              .attributes()
+                              .containsOnly(
+                                  attributeEntry("db.system", "cassandra"),
+                                  attributeEntry("db.operation", "SELECT"),
+                                  attributeEntry("db.cassandra.table", "users"));
+                        }));
+  }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.instrumenter.db;
+
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.assertThat;
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.attributeEntry;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
+import org.junit.jupiter.api.Test;
+
+class DbMetricsViewTest {
+
+  @Test
+  void shouldApplyView() {
+    Attributes attributes =
+        Attributes.builder()
+            .put(SemanticAttributes.DB_SYSTEM, "postgresql")
+            .put(SemanticAttributes.DB_NAME, "potatoes")
+            .put(SemanticAttributes.DB_STATEMENT, "SELECT * FROM potato WHERE id=?")
+            .put(SemanticAttributes.DB_OPERATION, "SELECT")
+            .put(SemanticAttributes.DB_SQL_TABLE, "potato")
+            .put(SemanticAttributes.DB_CONNECTION_STRING, "postgresql://localhost:5432")
+            .build();
+
+    assertThat(new DbMetricsView().apply(attributes))
+        .containsOnly(
+            attributeEntry("db.system", "postgresql"),
+            attributeEntry("db.operation", "SELECT"),
+            attributeEntry("db.sql.table", "potato"));
+  }
+
+  @Test
+  void shouldBoundTables() {
+    DbMetricsView view = new DbMetricsView(2);
+
+    assertThat(view.apply(table("a"))).containsOnly(attributeEntry("db.sql.table", "a"));
+    assertThat(view.apply(table("b"))).containsOnly(attributeEntry("db.sql.table", "b"));
+    assertThat(view.apply(table("c"))).containsOnly(attributeEntry("db.sql.table", "(other)"));
+    // tables seen before the limit was reached are still reported
+    assertThat(view.apply(table("a"))).containsOnly(attributeEntry("db.sql.table", "a"));
+  }
+
+  private static Attributes table(String table) {
+    return Attributes.of(SemanticAttributes.DB_SQL_TABLE, table);
+  }
+}
@@ -11,6 +11,7 @@ import static org.assertj.core.api.Assertions.entry;
 import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.common.AttributesBuilder;
+import io.opentelemetry.instrumentation.api.db.SqlStatementInfo;
 import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
 import java.util.Collections;
 import java.util.HashMap;
@@ -114,4 +115,59 @@ class SqlAttributesExtractorTest {
     // then
     assertThat(attributes.build().isEmpty()).isTrue();
   }
+
+  @Test
+  void shouldUseProvidedSanitizedStatement() {
+    // given
+    SqlStatementInfo statementInfo = SqlStatementInfo.create("SELECT * FROM t", "SELECT", "t");
+    SqlAttributesExtractor<Map<String, String>, Void> extractor =
+        new SqlAttributesExtractor<Map<String, String>, Void>() {
+
+          @Override
+          protected AttributeKey<String> dbTableAttribute() {
+            return SemanticAttributes.DB_SQL_TABLE;
+          }
+
+          @Override
+          protected String rawStatement(Map<String, String> map) {
+            throw new AssertionError("raw statement must not be sanitized");
+          }
+
+          @Override
+          protected SqlStatementInfo sanitize(Map<String, String> map) {
+            return statementInfo;
+          }
+
+          @Override
+          protected String system(Map<String, String> map) {
+            return null;
+          }
+
+          @Override
+          protected String user(Map<String, String> map) {
+            return null;
+          }
+
+          @Override
+          protected String name(Map<String, String> map) {
+            return null;
+          }
+
+          @Override
+          protected String connectionString(Map<String, String> map) {
+            return null;
+          }
+        };
+
+    // when
+    AttributesBuilder attributes = Attributes.builder();
+    extractor.onStart(attributes, Collections.emptyMap());
+
+    // then
+    assertThat(attributes.build())
+        .containsOnly(
+            entry(SemanticAttributes.DB_STATEMENT, "SELECT * FROM t"),
+            entry(SemanticAttributes.DB_OPERATION, "SELECT"),
+            entry(SemanticAttributes.DB_SQL_TABLE, "t"));
+  }
 }
@@ -0,0 +1,48 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.instrumenter.http;
+
+import static io.opentelemetry.instrumentation.api.instrumenter.http.HttpMetricsExemplars.exemplarContext;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.context.Context;
+import org.junit.jupiter.api.Test;
+
+class HttpMetricsExemplarsTest {
+
+  @Test
+  void sampledSpan() {
+    Context context = withSpan(TraceFlags.getSampled());
+
+    assertThat(exemplarContext(context)).isSameAs(context);
+  }
+
+  @Test
+  void notSampledSpan() {
+    Context context = withSpan(TraceFlags.getDefault());
+
+    assertThat(exemplarContext(context)).isSameAs(Context.root());
+  }
+
+  @Test
+  void noSpan() {
+    assertThat(exemplarContext(Context.root())).isSameAs(Context.root());
+  }
+
+  private static Context withSpan(TraceFlags traceFlags) {
+    SpanContext spanContext =
+        SpanContext.create(
+            "ff01020304050600ff0a0b0c0d0e0f00",
+            "090a0b0c0d0e0f00",
+            traceFlags,
+            TraceState.getDefault());
+    return Context.root().with(Span.wrap(spanContext));
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.instrumenter.messaging;
+
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.attributeEntry;
+import static io.opentelemetry.sdk.testing.assertj.metrics.MetricAssertions.assertThat;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.instrumentation.api.instrumenter.RequestListener;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import java.util.Collection;
+import org.junit.jupiter.api.Test;
+
+class MessagingConsumerMetricsTest {
+
+  @Test
+  void collectsMetrics() {
+    SdkMeterProvider meterProvider = SdkMeterProvider.builder().build();
+
+    RequestListener listener = MessagingConsumerMetrics.get().create(meterProvider.get("test"));
+
+    Attributes requestAttributes =
+        Attributes.builder()
+            .put("messaging.system", "kafka")
+            .put("messaging.destination", "orders")
+            .put("messaging.destination_kind", "topic")
+            .put("messaging.operation", "process")
+            .put("messaging.kafka.partition", 3)
+            .build();
+
+    Context context = listener.start(Context.current(), requestAttributes);
+    MessagingConsumerMetrics.recordMessageTimestamp(context, System.currentTimeMillis() - 1000);
+
+    Collection<MetricData> metrics = meterProvider.collectAllMetrics();
+    assertThat(metrics).hasSize(1);
+    assertThat(metrics)
+        .anySatisfy(
+            metric ->
+                assertThat(metric)
+                    .hasName("messaging.process.end_to_end_latency")
+                    .hasDoubleHistogram()
+                    .points()
+                    .satisfiesExactly(
+                        point -> {
+                          assertThat(point.getSum()).isGreaterThanOrEqualTo(1000);
+                          assertThat(point)
+                              .attributes()
+                              .containsOnly(
+                                  attributeEntry("messaging.system", "kafka"),
+                                  attributeEntry("messaging.destination", "orders"),
+                                  attributeEntry("messaging.destination_kind", "topic"),
+                                  attributeEntry("messaging.operation", "process"));
+                        }));
+
+    listener.end(context, Attributes.empty());
+
+    metrics = meterProvider.collectAllMetrics();
+    assertThat(metrics).hasSize(2);
+    assertThat(metrics)
+        .anySatisfy(
+            metric ->
+                assertThat(metric)
+                    .hasName("messaging.process.duration")
+                    .hasDoubleHistogram()
+                    .points()
+                    .satisfiesExactly(
+                        point -> {
+                          assertThat(point.getSum()).isPositive();
+                          assertThat(point)
+                              .attributes()
+                              .containsOnly(
+                                  attributeEntry("messaging.system", "kafka"),
+                                  attributeEntry("messaging.destination", "orders"),
+                                  attributeEntry("messaging.destination_kind", "topic"),
+                                  attributeEntry("messaging.operation", "process"));
+                        }));
+  }
+}
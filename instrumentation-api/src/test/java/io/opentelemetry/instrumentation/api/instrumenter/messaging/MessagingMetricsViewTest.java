@@ -0,0 +1,53 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.instrumenter.messaging;
+
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.attributeEntry;
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.assertThat;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
+import org.junit.jupiter.api.Test;
+
+class MessagingMetricsViewTest {
+
+  @Test
+  void shouldApplyView() {
+    Attributes attributes =
+        Attributes.builder()
+            .put(SemanticAttributes.MESSAGING_SYSTEM, "kafka")
+            .put(SemanticAttributes.MESSAGING_DESTINATION, "orders")
+            .put(SemanticAttributes.MESSAGING_DESTINATION_KIND, "topic")
+            .put(SemanticAttributes.MESSAGING_MESSAGE_ID, "high-cardinality-12345")
+            .put(SemanticAttributes.MESSAGING_MESSAGE_PAYLOAD_SIZE_BYTES, 42L)
+            .build();
+
+    assertThat(new MessagingMetricsView().apply(attributes))
+        .containsOnly(
+            attributeEntry("messaging.system", "kafka"),
+            attributeEntry("messaging.destination", "orders"),
+            attributeEntry("messaging.destination_kind", "topic"));
+  }
+
+  @Test
+  void shouldBoundDestinations() {
+    MessagingMetricsView view = new MessagingMetricsView(2);
+
+    assertThat(view.apply(destination("a")))
+        .containsOnly(attributeEntry("messaging.destination", "a"));
+    assertThat(view.apply(destination("b")))
+        .containsOnly(attributeEntry("messaging.destination", "b"));
+    assertThat(view.apply(destination("c")))
+        .containsOnly(attributeEntry("messaging.destination", "(other)"));
+    // destinations seen before the limit was reached are still reported
+    assertThat(view.apply(destination("a")))
+        .containsOnly(attributeEntry("messaging.destination", "a"));
+  }
+
+  private static Attributes destination(String destination) {
+    return Attributes.of(SemanticAttributes.MESSAGING_DESTINATION, destination);
+  }
+}
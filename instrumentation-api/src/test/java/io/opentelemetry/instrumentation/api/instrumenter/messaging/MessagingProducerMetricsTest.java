@@ -0,0 +1,66 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.instrumenter.messaging;
+
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.attributeEntry;
+import static io.opentelemetry.sdk.testing.assertj.metrics.MetricAssertions.assertThat;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.instrumentation.api.instrumenter.RequestListener;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import java.util.Collection;
+import org.junit.jupiter.api.Test;
+
+class MessagingProducerMetricsTest {
+
+  @Test
+  void collectsMetrics() {
+    SdkMeterProvider meterProvider = SdkMeterProvider.builder().build();
+
+    RequestListener listener = MessagingProducerMetrics.get().create(meterProvider.get("test"));
+
+    Attributes requestAttributes =
+        Attributes.builder()
+            .put("messaging.system", "jms")
+            .put("messaging.destination", "(temporary)")
+            .put("messaging.destination_kind", "queue")
+            .put("messaging.temp_destination", true)
+            .build();
+
+    Attributes responseAttributes =
+        Attributes.builder().put("messaging.message_id", "ID:1234").build();
+
+    Context context = listener.start(Context.current(), requestAttributes);
+
+    Collection<MetricData> metrics = meterProvider.collectAllMetrics();
+    assertThat(metrics).isEmpty();
+
+    listener.end(context, responseAttributes);
+
+    metrics = meterProvider.collectAllMetrics();
+    assertThat(metrics).hasSize(1);
+    assertThat(metrics)
+        .anySatisfy(
+            metric ->
+                assertThat(metric)
+                    .hasName("messaging.publish.duration")
+                    .hasDoubleHistogram()
+                    .points()
+                    .satisfiesExactly(
+                        point -> {
+                          assertThat(point.getSum()).isPositive();
+                          assertThat(point)
+                              .attributes()
+                              .containsOnly(
+                                  attributeEntry("messaging.system", "jms"),
+                                  attributeEntry("messaging.destination", "(temporary)"),
+                                  attributeEntry("messaging.destination_kind", "queue"),
+                                  attributeEntry("messaging.temp_destination", true));
+                        }));
+  }
+}
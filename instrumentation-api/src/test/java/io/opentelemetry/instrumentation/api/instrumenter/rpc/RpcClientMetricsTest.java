@@ -0,0 +1,113 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.instrumenter.rpc;
+
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.attributeEntry;
+import static io.opentelemetry.sdk.testing.assertj.metrics.MetricAssertions.assertThat;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.instrumentation.api.instrumenter.RequestListener;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import java.util.Collection;
+import org.junit.jupiter.api.Test;
+
+class RpcClientMetricsTest {
+
+  @Test
+  void collectsMetrics() {
+    SdkMeterProvider meterProvider = SdkMeterProvider.builder().build();
+
+    RequestListener listener = RpcClientMetrics.get().create(meterProvider.get("test"));
+
+    Attributes requestAttributes =
+        Attributes.builder()
+            .put("rpc.system", "grpc")
+            .put("rpc.service", "myservice.EchoService")
+            .put("rpc.method", "exampleMethod")
+            .put("net.peer.name", "example.com")
+            .put("net.peer.port", 8080)
+            .put("net.transport", "ip_tcp")
+            .put("http.user_agent", "ignored")
+            .build();
+
+    Attributes responseAttributes = Attributes.builder().put("rpc.grpc.status_code", 0).build();
+
+    Context context1 = listener.start(Context.current(), requestAttributes);
+    Context context2 = listener.start(Context.current(), requestAttributes);
+
+    RpcClientMetrics.addRequestSize(context1, 10);
+    RpcClientMetrics.addRequestSize(context1, 20);
+    RpcClientMetrics.addResponseSize(context1, 5);
+
+    Collection<MetricData> metrics = meterProvider.collectAllMetrics();
+    assertThat(metrics).isEmpty();
+
+    listener.end(context1, responseAttributes);
+
+    metrics = meterProvider.collectAllMetrics();
+    assertThat(metrics).hasSize(3);
+    assertThat(metrics)
+        .anySatisfy(
+            metric ->
+                assertThat(metric)
+                    .hasName("rpc.client.duration")
+                    .hasDoubleHistogram()
+                    .points()
+                    .satisfiesExactly(
+                        point -> {
+                          assertThat(point.getSum()).isPositive();
+                          assertThat(point)
+                              .attributes()
+                              .containsOnly(
+                                  attributeEntry("rpc.system", "grpc"),
+                                  attributeEntry("rpc.service", "myservice.EchoService"),
+                                  attributeEntry("rpc.method", "exampleMethod"),
+                                  attributeEntry("net.peer.name", "example.com"),
+                                  attributeEntry("net.peer.port", 8080L),
+                                  attributeEntry("net.transport", "ip_tcp"),
+                                  attributeEntry("rpc.grpc.status_code", 0L));
+                        }));
+    assertThat(metrics)
+        .anySatisfy(
+            metric ->
+                assertThat(metric)
+                    .hasName("rpc.client.request.size")
+                    .hasDoubleHistogram()
+                    .points()
+                    .satisfiesExactly(point -> assertThat(point.getSum()).isEqualTo(30)));
+    assertThat(metrics)
+        .anySatisfy(
+            metric ->
+                assertThat(metric)
+                    .hasName("rpc.client.response.size")
+                    .hasDoubleHistogram()
+                    .points()
+                    .satisfiesExactly(point -> assertThat(point.getSum()).isEqualTo(5)));
+
+    // no message sizes were reported for the second call
+    listener.end(context2, responseAttributes);
+
+    metrics = meterProvider.collectAllMetrics();
+    assertThat(metrics)
+        .anySatisfy(
+            metric ->
+                assertThat(metric)
+                    .hasName("rpc.client.duration")
+                    .hasDoubleHistogram()
+                    .points()
+                    .satisfiesExactly(point -> assertThat(point.getCount()).isEqualTo(2)));
+    assertThat(metrics)
+        .anySatisfy(
+            metric ->
+                assertThat(metric)
+                    .hasName("rpc.client.request.size")
+                    .hasDoubleHistogram()
+                    .points()
+                    .satisfiesExactly(point -> assertThat(point.getCount()).isEqualTo(1)));
+  }
+}
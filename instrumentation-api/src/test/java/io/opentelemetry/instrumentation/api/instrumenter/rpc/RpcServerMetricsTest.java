@@ -0,0 +1,80 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.instrumenter.rpc;
+
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.attributeEntry;
+import static io.opentelemetry.sdk.testing.assertj.metrics.MetricAssertions.assertThat;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.instrumentation.api.instrumenter.RequestListener;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import java.util.Collection;
+import org.junit.jupiter.api.Test;
+
+class RpcServerMetricsTest {
+
+  @Test
+  void collectsMetrics() {
+    SdkMeterProvider meterProvider = SdkMeterProvider.builder().build();
+
+    RequestListener listener = RpcServerMetrics.get().create(meterProvider.get("test"));
+
+    Attributes requestAttributes =
+        Attributes.builder()
+            .put("rpc.system", "grpc")
+            .put("rpc.service", "myservice.EchoService")
+            .put("rpc.method", "exampleMethod")
+            .put("net.peer.ip", "127.0.0.1")
+            .put("net.peer.port", 54321)
+            .put("net.transport", "ip_tcp")
+            .build();
+
+    Attributes responseAttributes = Attributes.builder().put("rpc.grpc.status_code", 0).build();
+
+    Context context = listener.start(Context.current(), requestAttributes);
+
+    RpcServerMetrics.addRequestSize(context, 10);
+    // sizes reported for a context without server metrics state are ignored
+    RpcServerMetrics.addRequestSize(Context.root(), 100);
+
+    Collection<MetricData> metrics = meterProvider.collectAllMetrics();
+    assertThat(metrics).isEmpty();
+
+    listener.end(context, responseAttributes);
+
+    metrics = meterProvider.collectAllMetrics();
+    assertThat(metrics).hasSize(2);
+    assertThat(metrics)
+        .anySatisfy(
+            metric ->
+                assertThat(metric)
+                    .hasName("rpc.server.duration")
+                    .hasDoubleHistogram()
+                    .points()
+                    .satisfiesExactly(
+                        point -> {
+                          assertThat(point.getSum()).isPositive();
+                          assertThat(point)
+                              .attributes()
+                              .containsOnly(
+                                  attributeEntry("rpc.system", "grpc"),
+                                  attributeEntry("rpc.service", "myservice.EchoService"),
+                                  attributeEntry("rpc.method", "exampleMethod"),
+                                  attributeEntry("net.transport", "ip_tcp"),
+                                  attributeEntry("rpc.grpc.status_code", 0L));
+                        }));
+    assertThat(metrics)
+        .anySatisfy(
+            metric ->
+                assertThat(metric)
+                    .hasName("rpc.server.request.size")
+                    .hasDoubleHistogram()
+                    .points()
+                    .satisfiesExactly(point -> assertThat(point.getSum()).isEqualTo(10)));
+  }
+}
@@ -0,0 +1,23 @@
+plugins {
+  id("otel.javaagent-instrumentation")
+}
+
+muzzle {
+  pass {
+    group.set("org.apache.commons")
+    module.set("commons-dbcp2")
+    versions.set("[2.0,)")
+  }
+}
+
+dependencies {
+  library("org.apache.commons:commons-dbcp2:2.0")
+
+  implementation(project(":instrumentation:jdbc:library"))
+
+  testImplementation("com.h2database:h2:1.3.169")
+}
+
+tasks.withType<Test>().configureEach {
+  jvmArgs("-Dotel.instrumentation.jdbc.experimental-connection-pool-metrics=true")
+}
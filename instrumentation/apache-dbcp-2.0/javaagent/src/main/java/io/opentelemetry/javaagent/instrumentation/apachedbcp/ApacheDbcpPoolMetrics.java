@@ -0,0 +1,85 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.apachedbcp;
+
+import io.opentelemetry.instrumentation.jdbc.internal.JdbcConnectionUrlParser;
+import io.opentelemetry.javaagent.instrumentation.api.db.DbConnectionPoolAccessor;
+import io.opentelemetry.javaagent.instrumentation.api.db.DbConnectionPoolMetrics;
+import java.util.NoSuchElementException;
+import java.util.Properties;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import org.apache.commons.dbcp2.BasicDataSource;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+public final class ApacheDbcpPoolMetrics implements DbConnectionPoolAccessor<BasicDataSource> {
+  private static final String INSTRUMENTATION_NAME = "io.opentelemetry.apache-dbcp-2.0";
+
+  @Nullable
+  private static final DbConnectionPoolMetrics<BasicDataSource> METRICS =
+      DbConnectionPoolMetrics.create(INSTRUMENTATION_NAME, new ApacheDbcpPoolMetrics());
+
+  /** Returns the pool metrics, or {@code null} if they are not enabled. */
+  @Nullable
+  public static DbConnectionPoolMetrics<BasicDataSource> get() {
+    return METRICS;
+  }
+
+  // data sources are only named when they are registered with JMX, the name key of the object name
+  // is used if it has one
+  @Override
+  @Nullable
+  public String configuredName(BasicDataSource dataSource) {
+    String jmxName = dataSource.getJmxName();
+    if (jmxName == null) {
+      return null;
+    }
+    try {
+      String name = new ObjectName(jmxName).getKeyProperty("name");
+      return name != null ? name : jmxName;
+    } catch (MalformedObjectNameException e) {
+      return jmxName;
+    }
+  }
+
+  @Override
+  @Nullable
+  public String jdbcUrl(BasicDataSource dataSource) {
+    return dataSource.getUrl();
+  }
+
+  @Override
+  @Nullable
+  public String dbSystem(BasicDataSource dataSource) {
+    return JdbcConnectionUrlParser.parse(dataSource.getUrl(), new Properties()).getSystem();
+  }
+
+  @Override
+  public long activeConnections(BasicDataSource dataSource) {
+    return dataSource.getNumActive();
+  }
+
+  @Override
+  public long idleConnections(BasicDataSource dataSource) {
+    return dataSource.getNumIdle();
+  }
+
+  @Override
+  public boolean isClosed(BasicDataSource dataSource) {
+    return dataSource.isClosed();
+  }
+
+  /**
+   * The exhausted object pool throws a {@link NoSuchElementException}, dbcp wraps it in a {@link
+   * java.sql.SQLException}.
+   */
+  @Override
+  public boolean isTimeout(Throwable error) {
+    return error.getCause() instanceof NoSuchElementException;
+  }
+
+  private ApacheDbcpPoolMetrics() {}
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.apachedbcp;
+
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static net.bytebuddy.matcher.ElementMatchers.takesArguments;
+
+import io.opentelemetry.javaagent.extension.instrumentation.TypeInstrumentation;
+import io.opentelemetry.javaagent.extension.instrumentation.TypeTransformer;
+import io.opentelemetry.javaagent.instrumentation.api.InstrumentationContext;
+import io.opentelemetry.javaagent.instrumentation.api.db.ConnectionAcquireRecorder;
+import io.opentelemetry.javaagent.instrumentation.api.db.DbConnectionPoolMetrics;
+import net.bytebuddy.asm.Advice;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.matcher.ElementMatcher;
+import org.apache.commons.dbcp2.BasicDataSource;
+
+public class BasicDataSourceInstrumentation implements TypeInstrumentation {
+
+  @Override
+  public ElementMatcher<TypeDescription> typeMatcher() {
+    return named("org.apache.commons.dbcp2.BasicDataSource");
+  }
+
+  @Override
+  public void transform(TypeTransformer transformer) {
+    // getConnection(String, String) is not supported by BasicDataSource
+    transformer.applyAdviceToMethod(
+        named("getConnection").and(takesArguments(0)),
+        this.getClass().getName() + "$GetConnectionAdvice");
+  }
+
+  @SuppressWarnings("unused")
+  public static class GetConnectionAdvice {
+
+    @Advice.OnMethodEnter(suppress = Throwable.class)
+    public static long onEnter(
+        @Advice.This BasicDataSource dataSource,
+        @Advice.Local("otelRecorder") ConnectionAcquireRecorder recorder) {
+      DbConnectionPoolMetrics<BasicDataSource> metrics = ApacheDbcpPoolMetrics.get();
+      if (metrics == null) {
+        return 0;
+      }
+
+      recorder =
+          metrics.recorder(
+              InstrumentationContext.get(BasicDataSource.class, ConnectionAcquireRecorder.class),
+              dataSource);
+      return recorder.start();
+    }
+
+    @Advice.OnMethodExit(onThrowable = Throwable.class, suppress = Throwable.class)
+    public static void onExit(
+        @Advice.Enter long startNanos,
+        @Advice.Thrown Throwable throwable,
+        @Advice.Local("otelRecorder") ConnectionAcquireRecorder recorder) {
+      if (recorder != null) {
+        recorder.end(startNanos, throwable);
+      }
+    }
+  }
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+import io.opentelemetry.instrumentation.test.base.AbstractDbConnectionPoolMetricsTest
+import org.apache.commons.dbcp2.BasicDataSource
+
+import javax.sql.DataSource
+
+class ApacheDbcpPoolMetricsTest extends AbstractDbConnectionPoolMetricsTest {
+
+  @Override
+  DataSource createDataSource(String poolName, String url, long acquireTimeoutMillis) {
+    def dataSource = new BasicDataSource()
+    dataSource.setDriverClassName("org.h2.Driver")
+    dataSource.setUrl(url)
+    dataSource.setMaxTotal(1)
+    dataSource.setMaxWaitMillis(acquireTimeoutMillis)
+    if (poolName != null) {
+      dataSource.setJmxName("org.apache.commons.dbcp2:name=" + poolName)
+    }
+    return dataSource
+  }
+
+  @Override
+  void closeDataSource(DataSource dataSource) {
+    ((BasicDataSource) dataSource).close()
+  }
+}
@@ -1,6 +1,9 @@
+import net.ltgt.gradle.errorprone.errorprone
+
 plugins {
   id("otel.library-instrumentation")
   id("otel.nullaway-conventions")
+  id("otel.jmh-conventions")
 }
 
 dependencies {
@@ -11,4 +14,18 @@ dependencies {
   testImplementation(project(":instrumentation:apache-httpclient:apache-httpclient-4.3:testing"))
 
   latestDepTestLibrary("org.apache.httpcomponents:httpclient:4.+")
+
+  jmhImplementation("org.apache.httpcomponents:httpclient:4.3")
+  jmhImplementation("io.opentelemetry:opentelemetry-sdk")
+}
+
+tasks {
+  // without disabling errorprone, jmh task fails with
+  // Task :jmhCompileGeneratedClasses FAILED
+  // error: plug-in not found: ErrorProne
+  named<JavaCompile>("jmhCompileGeneratedClasses") {
+    options.errorprone {
+      isEnabled.set(false)
+    }
+  }
 }
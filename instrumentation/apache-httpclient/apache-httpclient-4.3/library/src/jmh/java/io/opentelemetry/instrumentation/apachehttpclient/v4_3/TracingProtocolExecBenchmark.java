@@ -0,0 +1,107 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.apachehttpclient.v4_3;
+
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.apache.http.HttpException;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpVersion;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpExecutionAware;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpRequestWrapper;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.execchain.ClientExecChain;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.message.BasicStatusLine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the overhead of {@link TracingProtocolExec} on top of a stand-in exec chain that answers
+ * every request with a canned response, so no connection is ever made.
+ */
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Thread)
+public class TracingProtocolExecBenchmark {
+
+  private static final HttpHost HOST = new HttpHost("localhost", 8080, "http");
+  private static final HttpRoute ROUTE = new HttpRoute(HOST);
+
+  @Param({"false", "true"})
+  public boolean tracing;
+
+  private ClientExecChain exec;
+
+  @Setup
+  public void setup() {
+    ClientExecChain standIn = new StandInExecChain();
+    if (tracing) {
+      // without span processors spans are recorded but never exported
+      OpenTelemetrySdk openTelemetry =
+          OpenTelemetrySdk.builder()
+              .setTracerProvider(SdkTracerProvider.builder().build())
+              .setPropagators(ContextPropagators.create(W3CTraceContextPropagator.getInstance()))
+              .build();
+      TracingHttpClientBuilder builder =
+          (TracingHttpClientBuilder)
+              ApacheHttpClientTracing.create(openTelemetry).newHttpClientBuilder();
+      exec = builder.decorateProtocolExec(standIn);
+    } else {
+      exec = standIn;
+    }
+  }
+
+  @Benchmark
+  public CloseableHttpResponse execute() throws IOException, HttpException {
+    HttpRequestWrapper request =
+        HttpRequestWrapper.wrap(new HttpGet("http://localhost:8080/benchmark?q=1"));
+    return exec.execute(ROUTE, request, HttpClientContext.create(), null);
+  }
+
+  private static class StandInExecChain implements ClientExecChain {
+
+    private static final CloseableHttpResponse RESPONSE = new StandInResponse();
+
+    @Override
+    public CloseableHttpResponse execute(
+        HttpRoute route,
+        HttpRequestWrapper request,
+        HttpClientContext clientContext,
+        HttpExecutionAware execAware) {
+      return RESPONSE;
+    }
+  }
+
+  private static class StandInResponse extends BasicHttpResponse implements CloseableHttpResponse {
+
+    StandInResponse() {
+      super(new BasicStatusLine(HttpVersion.HTTP_1_1, 200, "OK"));
+    }
+
+    @Override
+    public void close() {}
+  }
+}
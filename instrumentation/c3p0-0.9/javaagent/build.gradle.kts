@@ -0,0 +1,23 @@
+plugins {
+  id("otel.javaagent-instrumentation")
+}
+
+muzzle {
+  pass {
+    group.set("com.mchange")
+    module.set("c3p0")
+    versions.set("[0.9.2,)")
+  }
+}
+
+dependencies {
+  library("com.mchange:c3p0:0.9.2")
+
+  implementation(project(":instrumentation:jdbc:library"))
+
+  testImplementation("com.h2database:h2:1.3.169")
+}
+
+tasks.withType<Test>().configureEach {
+  jvmArgs("-Dotel.instrumentation.jdbc.experimental-connection-pool-metrics=true")
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.c3p0;
+
+import static net.bytebuddy.matcher.ElementMatchers.isPublic;
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static net.bytebuddy.matcher.ElementMatchers.takesArguments;
+
+import com.mchange.v2.c3p0.impl.AbstractPoolBackedDataSource;
+import io.opentelemetry.javaagent.extension.instrumentation.TypeInstrumentation;
+import io.opentelemetry.javaagent.extension.instrumentation.TypeTransformer;
+import io.opentelemetry.javaagent.instrumentation.api.CallDepth;
+import io.opentelemetry.javaagent.instrumentation.api.InstrumentationContext;
+import io.opentelemetry.javaagent.instrumentation.api.db.ConnectionAcquireRecorder;
+import io.opentelemetry.javaagent.instrumentation.api.db.DbConnectionPoolMetrics;
+import net.bytebuddy.asm.Advice;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.matcher.ElementMatcher;
+
+public class AbstractPoolBackedDataSourceInstrumentation implements TypeInstrumentation {
+
+  @Override
+  public ElementMatcher<TypeDescription> typeMatcher() {
+    return named("com.mchange.v2.c3p0.impl.AbstractPoolBackedDataSource");
+  }
+
+  @Override
+  public void transform(TypeTransformer transformer) {
+    transformer.applyAdviceToMethod(
+        named("getConnection").and(isPublic()), this.getClass().getName() + "$GetConnectionAdvice");
+    // close(boolean) delegates to close()
+    transformer.applyAdviceToMethod(
+        named("close").and(takesArguments(0)), this.getClass().getName() + "$CloseAdvice");
+  }
+
+  @SuppressWarnings("unused")
+  public static class GetConnectionAdvice {
+
+    @Advice.OnMethodEnter(suppress = Throwable.class)
+    public static long onEnter(
+        @Advice.This AbstractPoolBackedDataSource dataSource,
+        @Advice.Local("otelCallDepth") CallDepth callDepth,
+        @Advice.Local("otelRecorder") ConnectionAcquireRecorder recorder) {
+      DbConnectionPoolMetrics<AbstractPoolBackedDataSource> metrics = C3p0PoolMetrics.get();
+      if (metrics == null) {
+        return 0;
+      }
+      callDepth = CallDepth.forClass(AbstractPoolBackedDataSource.class);
+      if (callDepth.getAndIncrement() > 0) {
+        return 0;
+      }
+
+      recorder =
+          metrics.recorder(
+              InstrumentationContext.get(
+                  AbstractPoolBackedDataSource.class, ConnectionAcquireRecorder.class),
+              dataSource);
+      return recorder.start();
+    }
+
+    @Advice.OnMethodExit(onThrowable = Throwable.class, suppress = Throwable.class)
+    public static void onExit(
+        @Advice.Enter long startNanos,
+        @Advice.Thrown Throwable throwable,
+        @Advice.Local("otelCallDepth") CallDepth callDepth,
+        @Advice.Local("otelRecorder") ConnectionAcquireRecorder recorder) {
+      if (callDepth == null || callDepth.decrementAndGet() > 0) {
+        return;
+      }
+
+      if (recorder != null) {
+        recorder.end(startNanos, throwable);
+      }
+    }
+  }
+
+  @SuppressWarnings("unused")
+  public static class CloseAdvice {
+
+    @Advice.OnMethodEnter(suppress = Throwable.class)
+    public static void onEnter(@Advice.This AbstractPoolBackedDataSource dataSource) {
+      DbConnectionPoolMetrics<AbstractPoolBackedDataSource> metrics = C3p0PoolMetrics.get();
+      if (metrics != null) {
+        metrics.poolClosed(
+            InstrumentationContext.get(
+                AbstractPoolBackedDataSource.class, ConnectionAcquireRecorder.class),
+            dataSource);
+      }
+    }
+  }
+}
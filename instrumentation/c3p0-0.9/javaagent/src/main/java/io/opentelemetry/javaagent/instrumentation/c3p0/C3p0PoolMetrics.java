@@ -0,0 +1,82 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.c3p0;
+
+import com.mchange.v2.c3p0.impl.AbstractComboPooledDataSource;
+import com.mchange.v2.c3p0.impl.AbstractPoolBackedDataSource;
+import com.mchange.v2.resourcepool.TimeoutException;
+import io.opentelemetry.instrumentation.jdbc.internal.JdbcConnectionUrlParser;
+import io.opentelemetry.javaagent.instrumentation.api.db.DbConnectionPoolAccessor;
+import io.opentelemetry.javaagent.instrumentation.api.db.DbConnectionPoolMetrics;
+import java.sql.SQLException;
+import java.util.Properties;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+public final class C3p0PoolMetrics
+    implements DbConnectionPoolAccessor<AbstractPoolBackedDataSource> {
+  private static final String INSTRUMENTATION_NAME = "io.opentelemetry.c3p0-0.9";
+
+  @Nullable
+  private static final DbConnectionPoolMetrics<AbstractPoolBackedDataSource> METRICS =
+      DbConnectionPoolMetrics.create(INSTRUMENTATION_NAME, new C3p0PoolMetrics());
+
+  /** Returns the pool metrics, or {@code null} if they are not enabled. */
+  @Nullable
+  public static DbConnectionPoolMetrics<AbstractPoolBackedDataSource> get() {
+    return METRICS;
+  }
+
+  // c3p0 names data sources that are not given a name after their random identity token
+  @Override
+  @Nullable
+  public String configuredName(AbstractPoolBackedDataSource dataSource) {
+    String dataSourceName = dataSource.getDataSourceName();
+    return dataSourceName == null || dataSourceName.equals(dataSource.getIdentityToken())
+        ? null
+        : dataSourceName;
+  }
+
+  // only the combo data source is configured with a jdbc url
+  @Override
+  @Nullable
+  public String jdbcUrl(AbstractPoolBackedDataSource dataSource) {
+    return dataSource instanceof AbstractComboPooledDataSource
+        ? ((AbstractComboPooledDataSource) dataSource).getJdbcUrl()
+        : null;
+  }
+
+  @Override
+  @Nullable
+  public String dbSystem(AbstractPoolBackedDataSource dataSource) {
+    return JdbcConnectionUrlParser.parse(jdbcUrl(dataSource), new Properties()).getSystem();
+  }
+
+  @Override
+  public long activeConnections(AbstractPoolBackedDataSource dataSource) {
+    try {
+      return dataSource.getNumBusyConnectionsDefaultUser();
+    } catch (SQLException e) {
+      return 0;
+    }
+  }
+
+  @Override
+  public long idleConnections(AbstractPoolBackedDataSource dataSource) {
+    try {
+      return dataSource.getNumIdleConnectionsDefaultUser();
+    } catch (SQLException e) {
+      return 0;
+    }
+  }
+
+  /** c3p0 wraps the resource pool checkout timeout in a {@link SQLException}. */
+  @Override
+  public boolean isTimeout(Throwable error) {
+    return error.getCause() instanceof TimeoutException;
+  }
+
+  private C3p0PoolMetrics() {}
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+import com.mchange.v2.c3p0.ComboPooledDataSource
+import io.opentelemetry.instrumentation.test.base.AbstractDbConnectionPoolMetricsTest
+
+import javax.sql.DataSource
+
+class C3p0PoolMetricsTest extends AbstractDbConnectionPoolMetricsTest {
+
+  @Override
+  DataSource createDataSource(String poolName, String url, long acquireTimeoutMillis) {
+    def dataSource = new ComboPooledDataSource()
+    if (poolName != null) {
+      dataSource.setDataSourceName(poolName)
+    }
+    dataSource.setDriverClass("org.h2.Driver")
+    dataSource.setJdbcUrl(url)
+    dataSource.setInitialPoolSize(1)
+    dataSource.setMinPoolSize(1)
+    dataSource.setMaxPoolSize(1)
+    dataSource.setCheckoutTimeout((int) acquireTimeoutMillis)
+    return dataSource
+  }
+
+  @Override
+  void closeDataSource(DataSource dataSource) {
+    ((ComboPooledDataSource) dataSource).close()
+  }
+}
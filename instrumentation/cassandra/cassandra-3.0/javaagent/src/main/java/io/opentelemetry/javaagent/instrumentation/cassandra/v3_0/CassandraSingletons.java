@@ -11,6 +11,7 @@ import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
 import io.opentelemetry.instrumentation.api.instrumenter.SpanKindExtractor;
 import io.opentelemetry.instrumentation.api.instrumenter.SpanNameExtractor;
 import io.opentelemetry.instrumentation.api.instrumenter.db.DbAttributesExtractor;
+import io.opentelemetry.instrumentation.api.instrumenter.db.DbClientMetrics;
 import io.opentelemetry.instrumentation.api.instrumenter.db.DbSpanNameExtractor;
 
 public final class CassandraSingletons {
@@ -31,6 +32,7 @@ public final class CassandraSingletons {
             .addAttributesExtractor(attributesExtractor)
             .addAttributesExtractor(new CassandraNetAttributesExtractor())
             .addAttributesExtractor(new CassandraKeyspaceExtractor())
+            .addRequestMetrics(DbClientMetrics.get())
             .newInstrumenter(SpanKindExtractor.alwaysClient());
   }
 
@@ -11,6 +11,7 @@ import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
 import io.opentelemetry.instrumentation.api.instrumenter.SpanKindExtractor;
 import io.opentelemetry.instrumentation.api.instrumenter.SpanNameExtractor;
 import io.opentelemetry.instrumentation.api.instrumenter.db.DbAttributesExtractor;
+import io.opentelemetry.instrumentation.api.instrumenter.db.DbClientMetrics;
 import io.opentelemetry.instrumentation.api.instrumenter.db.DbSpanNameExtractor;
 
 public final class CassandraSingletons {
@@ -30,6 +31,7 @@ public final class CassandraSingletons {
             .addAttributesExtractor(attributesExtractor)
             .addAttributesExtractor(new CassandraNetAttributesExtractor())
             .addAttributesExtractor(new CassandraAttributesExtractor())
+            .addRequestMetrics(DbClientMetrics.get())
             .newInstrumenter(SpanKindExtractor.alwaysClient());
   }
 
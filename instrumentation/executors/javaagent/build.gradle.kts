@@ -8,7 +8,26 @@ muzzle {
   }
 }
 
-tasks.withType<Test>().configureEach {
-  jvmArgs("-Dotel.instrumentation.executors.include=ExecutorInstrumentationTest\$CustomThreadPoolExecutor")
-  jvmArgs("-Djava.awt.headless=true")
+tasks {
+  val testQueueTimeMetrics by registering(Test::class) {
+    filter {
+      includeTestsMatching("ExecutorQueueTimeMetricsTest")
+      isFailOnNoMatchingTests = false
+    }
+    include("**/ExecutorQueueTimeMetricsTest.*")
+    jvmArgs("-Dotel.instrumentation.executors.experimental-queue-time-metrics=true")
+  }
+
+  named<Test>("test") {
+    dependsOn(testQueueTimeMetrics)
+    filter {
+      excludeTestsMatching("ExecutorQueueTimeMetricsTest")
+      isFailOnNoMatchingTests = false
+    }
+  }
+
+  withType<Test>().configureEach {
+    jvmArgs("-Dotel.instrumentation.executors.include=ExecutorInstrumentationTest\$CustomThreadPoolExecutor")
+    jvmArgs("-Djava.awt.headless=true")
+  }
 }
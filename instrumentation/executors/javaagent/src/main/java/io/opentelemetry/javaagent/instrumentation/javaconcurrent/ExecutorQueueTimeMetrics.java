@@ -0,0 +1,63 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.javaconcurrent;
+
+import io.opentelemetry.instrumentation.api.config.Config;
+import io.opentelemetry.javaagent.instrumentation.api.CallDepth;
+import io.opentelemetry.javaagent.instrumentation.api.concurrent.QueueTimeRecorder;
+import io.opentelemetry.javaagent.instrumentation.api.concurrent.ThreadPoolMetrics;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Opt-in recording of the time tasks spend queued in instrumented executors, reported per executor
+ * class.
+ */
+public final class ExecutorQueueTimeMetrics {
+  private static final String INSTRUMENTATION_NAME = "io.opentelemetry.executors";
+
+  private static final boolean ENABLED =
+      Config.get()
+          .getBoolean("otel.instrumentation.executors.experimental-queue-time-metrics", false);
+
+  // only used when the feature is enabled
+  @Nullable private static final ThreadPoolMetrics METRICS =
+      ENABLED ? ThreadPoolMetrics.create(INSTRUMENTATION_NAME) : null;
+
+  private static final ClassValue<QueueTimeRecorder> RECORDERS =
+      new ClassValue<QueueTimeRecorder>() {
+        @Override
+        protected QueueTimeRecorder computeValue(Class<?> executorClass) {
+          return METRICS.queueTimeRecorder(executorClass.getName());
+        }
+      };
+
+  /**
+   * Returns the {@link QueueTimeRecorder} that should be used for tasks passed to the submission
+   * method of {@code executor}, or {@code null} if queue time should not be recorded. Executors
+   * commonly delegate to other executors or to their own submission methods (e.g. {@code submit()}
+   * calls {@code execute()} with a {@code FutureTask}); only the outermost submission method
+   * records the queue time so that each task is counted once. Every call must be paired with a
+   * call to {@link #endSubmit()}.
+   */
+  @Nullable
+  public static QueueTimeRecorder startSubmit(Object executor) {
+    if (!ENABLED) {
+      return null;
+    }
+    if (CallDepth.forClass(ExecutorQueueTimeMetrics.class).getAndIncrement() > 0) {
+      return null;
+    }
+    return RECORDERS.get(executor.getClass());
+  }
+
+  public static void endSubmit() {
+    if (ENABLED) {
+      CallDepth.forClass(ExecutorQueueTimeMetrics.class).decrementAndGet();
+    }
+  }
+
+  private ExecutorQueueTimeMetrics() {}
+}
@@ -18,6 +18,7 @@ import io.opentelemetry.javaagent.instrumentation.api.Java8BytecodeBridge;
 import io.opentelemetry.javaagent.instrumentation.api.concurrent.CallableWrapper;
 import io.opentelemetry.javaagent.instrumentation.api.concurrent.ExecutorAdviceHelper;
 import io.opentelemetry.javaagent.instrumentation.api.concurrent.PropagatedContext;
+import io.opentelemetry.javaagent.instrumentation.api.concurrent.QueueTimeRecorder;
 import io.opentelemetry.javaagent.instrumentation.api.concurrent.RunnableWrapper;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -71,20 +72,35 @@ public class JavaExecutorInstrumentation extends AbstractExecutorInstrumentation
 
     @Advice.OnMethodEnter(suppress = Throwable.class)
     public static PropagatedContext enterJobSubmit(
+        @Advice.This Object executor,
         @Advice.Argument(value = 0, readOnly = false) Runnable task) {
       Context context = Java8BytecodeBridge.currentContext();
-      if (ExecutorAdviceHelper.shouldPropagateContext(context, task)) {
-        task = RunnableWrapper.wrapIfNeeded(task);
-        ContextStore<Runnable, PropagatedContext> contextStore =
-            InstrumentationContext.get(Runnable.class, PropagatedContext.class);
-        return ExecutorAdviceHelper.attachContextToTask(context, contextStore, task);
+      boolean propagateContext = ExecutorAdviceHelper.shouldPropagateContext(context, task);
+      QueueTimeRecorder recorder = ExecutorQueueTimeMetrics.startSubmit(executor);
+      boolean recordQueueTime =
+          recorder != null && ExecutorAdviceHelper.shouldRecordQueueTime(task);
+      if (!propagateContext && !recordQueueTime) {
+        return null;
       }
-      return null;
+
+      task = RunnableWrapper.wrapIfNeeded(task);
+      ContextStore<Runnable, PropagatedContext> contextStore =
+          InstrumentationContext.get(Runnable.class, PropagatedContext.class);
+      PropagatedContext propagatedContext = null;
+      if (propagateContext) {
+        propagatedContext = ExecutorAdviceHelper.attachContextToTask(context, contextStore, task);
+      }
+      if (recordQueueTime) {
+        propagatedContext =
+            ExecutorAdviceHelper.attachSubmitTimeToTask(contextStore, task, recorder);
+      }
+      return propagatedContext;
     }
 
     @Advice.OnMethodExit(onThrowable = Throwable.class, suppress = Throwable.class)
     public static void exitJobSubmit(
         @Advice.Enter PropagatedContext propagatedContext, @Advice.Thrown Throwable throwable) {
+      ExecutorQueueTimeMetrics.endSubmit();
       ExecutorAdviceHelper.cleanUpAfterSubmit(propagatedContext, throwable);
     }
   }
@@ -94,19 +110,34 @@ public class JavaExecutorInstrumentation extends AbstractExecutorInstrumentation
 
     @Advice.OnMethodEnter(suppress = Throwable.class)
     public static PropagatedContext enterJobSubmit(
+        @Advice.This Object executor,
         @Advice.Argument(value = 0, readOnly = false) ForkJoinTask<?> task) {
       Context context = Java8BytecodeBridge.currentContext();
-      if (ExecutorAdviceHelper.shouldPropagateContext(context, task)) {
-        ContextStore<ForkJoinTask<?>, PropagatedContext> contextStore =
-            InstrumentationContext.get(ForkJoinTask.class, PropagatedContext.class);
-        return ExecutorAdviceHelper.attachContextToTask(context, contextStore, task);
+      boolean propagateContext = ExecutorAdviceHelper.shouldPropagateContext(context, task);
+      QueueTimeRecorder recorder = ExecutorQueueTimeMetrics.startSubmit(executor);
+      boolean recordQueueTime =
+          recorder != null && ExecutorAdviceHelper.shouldRecordQueueTime(task);
+      if (!propagateContext && !recordQueueTime) {
+        return null;
       }
-      return null;
+
+      ContextStore<ForkJoinTask<?>, PropagatedContext> contextStore =
+          InstrumentationContext.get(ForkJoinTask.class, PropagatedContext.class);
+      PropagatedContext propagatedContext = null;
+      if (propagateContext) {
+        propagatedContext = ExecutorAdviceHelper.attachContextToTask(context, contextStore, task);
+      }
+      if (recordQueueTime) {
+        propagatedContext =
+            ExecutorAdviceHelper.attachSubmitTimeToTask(contextStore, task, recorder);
+      }
+      return propagatedContext;
     }
 
     @Advice.OnMethodExit(onThrowable = Throwable.class, suppress = Throwable.class)
     public static void exitJobSubmit(
         @Advice.Enter PropagatedContext propagatedContext, @Advice.Thrown Throwable throwable) {
+      ExecutorQueueTimeMetrics.endSubmit();
       ExecutorAdviceHelper.cleanUpAfterSubmit(propagatedContext, throwable);
     }
   }
@@ -116,15 +147,29 @@ public class JavaExecutorInstrumentation extends AbstractExecutorInstrumentation
 
     @Advice.OnMethodEnter(suppress = Throwable.class)
     public static PropagatedContext enterJobSubmit(
+        @Advice.This Object executor,
         @Advice.Argument(value = 0, readOnly = false) Runnable task) {
       Context context = Java8BytecodeBridge.currentContext();
-      if (ExecutorAdviceHelper.shouldPropagateContext(context, task)) {
-        task = RunnableWrapper.wrapIfNeeded(task);
-        ContextStore<Runnable, PropagatedContext> contextStore =
-            InstrumentationContext.get(Runnable.class, PropagatedContext.class);
-        return ExecutorAdviceHelper.attachContextToTask(context, contextStore, task);
+      boolean propagateContext = ExecutorAdviceHelper.shouldPropagateContext(context, task);
+      QueueTimeRecorder recorder = ExecutorQueueTimeMetrics.startSubmit(executor);
+      boolean recordQueueTime =
+          recorder != null && ExecutorAdviceHelper.shouldRecordQueueTime(task);
+      if (!propagateContext && !recordQueueTime) {
+        return null;
+      }
+
+      task = RunnableWrapper.wrapIfNeeded(task);
+      ContextStore<Runnable, PropagatedContext> contextStore =
+          InstrumentationContext.get(Runnable.class, PropagatedContext.class);
+      PropagatedContext propagatedContext = null;
+      if (propagateContext) {
+        propagatedContext = ExecutorAdviceHelper.attachContextToTask(context, contextStore, task);
+      }
+      if (recordQueueTime) {
+        propagatedContext =
+            ExecutorAdviceHelper.attachSubmitTimeToTask(contextStore, task, recorder);
       }
-      return null;
+      return propagatedContext;
     }
 
     @Advice.OnMethodExit(onThrowable = Throwable.class, suppress = Throwable.class)
@@ -132,6 +177,7 @@ public class JavaExecutorInstrumentation extends AbstractExecutorInstrumentation
         @Advice.Enter PropagatedContext propagatedContext,
         @Advice.Thrown Throwable throwable,
         @Advice.Return Future<?> future) {
+      ExecutorQueueTimeMetrics.endSubmit();
       if (propagatedContext != null && future != null) {
         ContextStore<Future<?>, PropagatedContext> contextStore =
             InstrumentationContext.get(Future.class, PropagatedContext.class);
@@ -146,15 +192,29 @@ public class JavaExecutorInstrumentation extends AbstractExecutorInstrumentation
 
     @Advice.OnMethodEnter(suppress = Throwable.class)
     public static PropagatedContext enterJobSubmit(
+        @Advice.This Object executor,
         @Advice.Argument(value = 0, readOnly = false) Callable<?> task) {
       Context context = Java8BytecodeBridge.currentContext();
-      if (ExecutorAdviceHelper.shouldPropagateContext(context, task)) {
-        task = CallableWrapper.wrapIfNeeded(task);
-        ContextStore<Callable<?>, PropagatedContext> contextStore =
-            InstrumentationContext.get(Callable.class, PropagatedContext.class);
-        return ExecutorAdviceHelper.attachContextToTask(context, contextStore, task);
+      boolean propagateContext = ExecutorAdviceHelper.shouldPropagateContext(context, task);
+      QueueTimeRecorder recorder = ExecutorQueueTimeMetrics.startSubmit(executor);
+      boolean recordQueueTime =
+          recorder != null && ExecutorAdviceHelper.shouldRecordQueueTime(task);
+      if (!propagateContext && !recordQueueTime) {
+        return null;
+      }
+
+      task = CallableWrapper.wrapIfNeeded(task);
+      ContextStore<Callable<?>, PropagatedContext> contextStore =
+          InstrumentationContext.get(Callable.class, PropagatedContext.class);
+      PropagatedContext propagatedContext = null;
+      if (propagateContext) {
+        propagatedContext = ExecutorAdviceHelper.attachContextToTask(context, contextStore, task);
       }
-      return null;
+      if (recordQueueTime) {
+        propagatedContext =
+            ExecutorAdviceHelper.attachSubmitTimeToTask(contextStore, task, recorder);
+      }
+      return propagatedContext;
     }
 
     @Advice.OnMethodExit(onThrowable = Throwable.class, suppress = Throwable.class)
@@ -162,6 +222,7 @@ public class JavaExecutorInstrumentation extends AbstractExecutorInstrumentation
         @Advice.Enter PropagatedContext propagatedContext,
         @Advice.Thrown Throwable throwable,
         @Advice.Return Future<?> future) {
+      ExecutorQueueTimeMetrics.endSubmit();
       if (propagatedContext != null && future != null) {
         ContextStore<Future<?>, PropagatedContext> contextStore =
             InstrumentationContext.get(Future.class, PropagatedContext.class);
@@ -176,7 +237,9 @@ public class JavaExecutorInstrumentation extends AbstractExecutorInstrumentation
 
     @Advice.OnMethodEnter(suppress = Throwable.class)
     public static Collection<?> submitEnter(
+        @Advice.This Object executor,
         @Advice.Argument(value = 0, readOnly = false) Collection<? extends Callable<?>> tasks) {
+      QueueTimeRecorder recorder = ExecutorQueueTimeMetrics.startSubmit(executor);
       if (tasks == null) {
         return Collections.emptyList();
       }
@@ -184,12 +247,20 @@ public class JavaExecutorInstrumentation extends AbstractExecutorInstrumentation
       Collection<Callable<?>> wrappedTasks = new ArrayList<>(tasks.size());
       Context context = Java8BytecodeBridge.currentContext();
       for (Callable<?> task : tasks) {
-        if (ExecutorAdviceHelper.shouldPropagateContext(context, task)) {
+        boolean propagateContext = ExecutorAdviceHelper.shouldPropagateContext(context, task);
+        boolean recordQueueTime =
+            recorder != null && ExecutorAdviceHelper.shouldRecordQueueTime(task);
+        if (propagateContext || recordQueueTime) {
           Callable<?> newTask = CallableWrapper.wrapIfNeeded(task);
           wrappedTasks.add(newTask);
           ContextStore<Callable<?>, PropagatedContext> contextStore =
               InstrumentationContext.get(Callable.class, PropagatedContext.class);
-          ExecutorAdviceHelper.attachContextToTask(context, contextStore, newTask);
+          if (propagateContext) {
+            ExecutorAdviceHelper.attachContextToTask(context, contextStore, newTask);
+          }
+          if (recordQueueTime) {
+            ExecutorAdviceHelper.attachSubmitTimeToTask(contextStore, newTask, recorder);
+          }
         } else {
           // note that task may be null here
           wrappedTasks.add(task);
@@ -205,6 +276,7 @@ public class JavaExecutorInstrumentation extends AbstractExecutorInstrumentation
     public static void submitExit(
         @Advice.Enter Collection<? extends Callable<?>> wrappedTasks,
         @Advice.Thrown Throwable throwable) {
+      ExecutorQueueTimeMetrics.endSubmit();
       /*
        Note1: invokeAny doesn't return any futures so all we need to do for it
        is to make sure we close all scopes in case of an exception.
@@ -0,0 +1,49 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+import io.opentelemetry.instrumentation.test.AgentInstrumentationSpecification
+import spock.util.concurrent.PollingConditions
+
+import java.util.concurrent.Callable
+import java.util.concurrent.ForkJoinPool
+import java.util.concurrent.LinkedBlockingQueue
+import java.util.concurrent.ThreadPoolExecutor
+import java.util.concurrent.TimeUnit
+
+class ExecutorQueueTimeMetricsTest extends AgentInstrumentationSpecification {
+
+  def "#poolImpl.class.simpleName records queue time"() {
+    setup:
+    def pool = poolImpl
+
+    when:
+    pool.submit(new Callable<String>() {
+      @Override
+      String call() {
+        return "done"
+      }
+    }).get(10, TimeUnit.SECONDS)
+    def conditions = new PollingConditions(timeout: 10, initialDelay: 1.5, factor: 1.25)
+
+    then:
+    conditions.eventually {
+      assert getMetrics().any {
+        it.name == "thread_pool.queue.duration" &&
+          it.doubleHistogramData.points.any {
+            it.attributes.asMap().values().contains(poolImpl.class.name) && it.count >= 1
+          }
+      }
+    }
+
+    cleanup:
+    pool.shutdown()
+
+    where:
+    poolImpl << [
+      new ThreadPoolExecutor(1, 1, 1000, TimeUnit.NANOSECONDS, new LinkedBlockingQueue<Runnable>(1)),
+      new ForkJoinPool()
+    ]
+  }
+}
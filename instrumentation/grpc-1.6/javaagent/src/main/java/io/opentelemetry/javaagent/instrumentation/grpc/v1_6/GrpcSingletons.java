@@ -29,12 +29,19 @@ public final class GrpcSingletons {
   static {
     boolean experimentalSpanAttributes =
         Config.get().getBoolean("otel.instrumentation.grpc.experimental-span-attributes", false);
+    int messageEventLimit =
+        Config.get().getInt("otel.instrumentation.grpc.experimental-message-event-limit", -1);
+    int messageEventSampleInterval =
+        Config.get()
+            .getInt("otel.instrumentation.grpc.experimental-message-event-sample-interval", 0);
     PeerServiceAttributesExtractor<GrpcRequest, Status> peerServiceAttributesExtractor =
         PeerServiceAttributesExtractor.create(new GrpcNetAttributesExtractor());
 
     GrpcTracing tracing =
         GrpcTracing.newBuilder(GlobalOpenTelemetry.get())
             .setCaptureExperimentalSpanAttributes(experimentalSpanAttributes)
+            .setMessageEventLimit(messageEventLimit)
+            .setMessageEventSampleInterval(messageEventSampleInterval)
             .addAttributeExtractor(peerServiceAttributesExtractor)
             .build();
 
@@ -0,0 +1,81 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.grpc.v1_6
+
+import example.GreeterGrpc
+import example.Helloworld
+import io.grpc.BindableService
+import io.grpc.ManagedChannel
+import io.grpc.ManagedChannelBuilder
+import io.grpc.Server
+import io.grpc.ServerBuilder
+import io.grpc.stub.StreamObserver
+import io.opentelemetry.instrumentation.test.AgentInstrumentationSpecification
+import io.opentelemetry.instrumentation.test.utils.PortUtils
+import spock.util.concurrent.PollingConditions
+
+import java.util.concurrent.TimeUnit
+
+class GrpcMetricsTest extends AgentInstrumentationSpecification {
+
+  def "records client and server duration and message sizes"() {
+    setup:
+    BindableService greeter = new GreeterGrpc.GreeterImplBase() {
+      @Override
+      void sayHello(
+        final Helloworld.Request req, final StreamObserver<Helloworld.Response> responseObserver) {
+        responseObserver.onNext(Helloworld.Response.newBuilder().setMessage("Hello $req.name").build())
+        responseObserver.onCompleted()
+      }
+    }
+    def port = PortUtils.findOpenPort()
+    Server server = ServerBuilder.forPort(port).addService(greeter).build().start()
+    ManagedChannelBuilder channelBuilder = ManagedChannelBuilder.forAddress("localhost", port)
+
+    // Depending on the version of gRPC usePlainText may or may not take an argument.
+    try {
+      channelBuilder.usePlaintext()
+    } catch (MissingMethodException e) {
+      channelBuilder.usePlaintext(true)
+    }
+    ManagedChannel channel = channelBuilder.build()
+    GreeterGrpc.GreeterBlockingStub client = GreeterGrpc.newBlockingStub(channel)
+    def conditions = new PollingConditions(timeout: 10, initialDelay: 1.5, factor: 1.25)
+
+    when:
+    def response = client.sayHello(Helloworld.Request.newBuilder().setName("world").build())
+
+    then:
+    response.message == "Hello world"
+    // histograms are cumulative and other tests of this module call the same method, so only
+    // the presence of the points is checked
+    conditions.eventually {
+      assert hasHistogram("rpc.client.duration")
+      assert hasHistogram("rpc.server.duration")
+      assert hasHistogram("rpc.client.request.size")
+      assert hasHistogram("rpc.client.response.size")
+      assert hasHistogram("rpc.server.request.size")
+      assert hasHistogram("rpc.server.response.size")
+    }
+
+    cleanup:
+    channel?.shutdownNow()?.awaitTermination(10, TimeUnit.SECONDS)
+    server?.shutdownNow()?.awaitTermination()
+  }
+
+  boolean hasHistogram(String name) {
+    getMetrics().any {
+      it.name == name && it.doubleHistogramData.points.any {
+        def attributes = it.attributes.asMap().collectEntries { key, value -> [key.key, value] }
+        attributes["rpc.system"] == "grpc" &&
+          attributes["rpc.service"] == "example.Greeter" &&
+          attributes["rpc.method"] == "SayHello" &&
+          it.count >= 1 &&
+          it.sum > 0
+      }
+    }
+  }
+}
@@ -1,5 +1,8 @@
+import net.ltgt.gradle.errorprone.errorprone
+
 plugins {
   id("otel.library-instrumentation")
+  id("otel.jmh-conventions")
 }
 
 val grpcVersion = "1.6.0"
@@ -14,4 +17,19 @@ dependencies {
 
   testImplementation("org.assertj:assertj-core")
   testImplementation(project(":instrumentation:grpc-1.6:testing"))
+
+  jmhImplementation("io.grpc:grpc-core:$grpcVersion")
+  jmhImplementation("io.grpc:grpc-stub:$grpcVersion")
+  jmhImplementation("io.opentelemetry:opentelemetry-sdk")
+}
+
+tasks {
+  // without disabling errorprone, jmh task fails with
+  // Task :jmhCompileGeneratedClasses FAILED
+  // error: plug-in not found: ErrorProne
+  named<JavaCompile>("jmhCompileGeneratedClasses") {
+    options.errorprone {
+      isEnabled.set(false)
+    }
+  }
 }
@@ -0,0 +1,69 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.grpc.v1_6;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Returns the serialized size of protobuf messages. Protobuf is looked up reflectively since gRPC
+ * doesn't depend on it; generated messages memoize their size once they have been serialized, so
+ * for sent messages this is usually a field read.
+ */
+final class GrpcMessageSizes {
+
+  private static final String PROTOBUF_MESSAGE = "com.google.protobuf.MessageLite";
+
+  private static final MethodType SERIALIZED_SIZE_TYPE =
+      MethodType.methodType(int.class, Object.class);
+
+  private static final ClassValue<MethodHandle> serializedSizes =
+      new ClassValue<MethodHandle>() {
+        @Override
+        @Nullable
+        protected MethodHandle computeValue(Class<?> type) {
+          if (!isProtobufMessage(type)) {
+            return null;
+          }
+          try {
+            return MethodHandles.publicLookup()
+                .unreflect(type.getMethod("getSerializedSize"))
+                .asType(SERIALIZED_SIZE_TYPE);
+          } catch (Throwable ignored) {
+            return null;
+          }
+        }
+      };
+
+  /** Returns the serialized size of {@code message}, or {@code -1} if it isn't known. */
+  static long of(Object message) {
+    MethodHandle serializedSize = serializedSizes.get(message.getClass());
+    if (serializedSize == null) {
+      return -1;
+    }
+    try {
+      return (int) serializedSize.invokeExact(message);
+    } catch (Throwable ignored) {
+      return -1;
+    }
+  }
+
+  private static boolean isProtobufMessage(@Nullable Class<?> type) {
+    if (type == null) {
+      return false;
+    }
+    for (Class<?> implemented : type.getInterfaces()) {
+      if (implemented.getName().equals(PROTOBUF_MESSAGE) || isProtobufMessage(implemented)) {
+        return true;
+      }
+    }
+    return isProtobufMessage(type.getSuperclass());
+  }
+
+  private GrpcMessageSizes() {}
+}
@@ -11,9 +11,12 @@ import io.opentelemetry.instrumentation.api.instrumenter.AttributesExtractor;
 import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
 import io.opentelemetry.instrumentation.api.instrumenter.InstrumenterBuilder;
 import io.opentelemetry.instrumentation.api.instrumenter.SpanKindExtractor;
+import io.opentelemetry.instrumentation.api.instrumenter.rpc.RpcClientMetrics;
+import io.opentelemetry.instrumentation.api.instrumenter.rpc.RpcServerMetrics;
 import io.opentelemetry.instrumentation.grpc.v1_6.internal.GrpcNetAttributesExtractor;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
 
 /** A builder of {@link GrpcTracing}. */
 public final class GrpcTracingBuilder {
@@ -26,6 +29,8 @@ public final class GrpcTracingBuilder {
       additionalExtractors = new ArrayList<>();
 
   private boolean captureExperimentalSpanAttributes;
+  private int messageEventLimit = -1;
+  private int messageEventSampleInterval;
 
   GrpcTracingBuilder(OpenTelemetry openTelemetry) {
     this.openTelemetry = openTelemetry;
@@ -52,23 +57,58 @@ public final class GrpcTracingBuilder {
     return this;
   }
 
+  /**
+   * Sets the maximum number of messages of a call that are recorded as span events, a negative
+   * value (the default) records every message. When a limit is set, the number of sent and received
+   * messages is recorded in the {@code rpc.grpc.sent_messages} and {@code
+   * rpc.grpc.received_messages} span attributes, and the total size of protobuf messages in the
+   * {@code rpc.grpc.sent_bytes} and {@code rpc.grpc.received_bytes} span attributes, so that
+   * long-lived streams don't accumulate an event per message.
+   */
+  public GrpcTracingBuilder setMessageEventLimit(int messageEventLimit) {
+    this.messageEventLimit = messageEventLimit;
+    return this;
+  }
+
+  /**
+   * Sets the interval at which messages beyond the {@linkplain #setMessageEventLimit(int) message
+   * event limit} are still recorded as span events: with an interval of {@code n} every {@code
+   * n}-th message after the limit is recorded. Zero (the default) records no message beyond the
+   * limit.
+   */
+  public GrpcTracingBuilder setMessageEventSampleInterval(int messageEventSampleInterval) {
+    this.messageEventSampleInterval = messageEventSampleInterval;
+    return this;
+  }
+
   /** Returns a new {@link GrpcTracing} with the settings of this {@link GrpcTracingBuilder}. */
   public GrpcTracing build() {
-    InstrumenterBuilder<GrpcRequest, Status> instrumenterBuilder =
+    InstrumenterBuilder<GrpcRequest, Status> clientInstrumenterBuilder =
+        Instrumenter.newBuilder(openTelemetry, INSTRUMENTATION_NAME, new GrpcSpanNameExtractor());
+    InstrumenterBuilder<GrpcRequest, Status> serverInstrumenterBuilder =
         Instrumenter.newBuilder(openTelemetry, INSTRUMENTATION_NAME, new GrpcSpanNameExtractor());
-    instrumenterBuilder
-        .setSpanStatusExtractor(new GrpcSpanStatusExtractor())
-        .addAttributesExtractors(
-            new GrpcNetAttributesExtractor(),
-            new GrpcRpcAttributesExtractor(),
-            new GrpcAttributesExtractor())
-        .addAttributesExtractors(additionalExtractors);
+
+    Stream.of(clientInstrumenterBuilder, serverInstrumenterBuilder)
+        .forEach(
+            instrumenter ->
+                instrumenter
+                    .setSpanStatusExtractor(new GrpcSpanStatusExtractor())
+                    .addAttributesExtractors(
+                        new GrpcNetAttributesExtractor(),
+                        new GrpcRpcAttributesExtractor(),
+                        new GrpcAttributesExtractor())
+                    .addAttributesExtractors(additionalExtractors));
+
+    clientInstrumenterBuilder.addRequestMetrics(RpcClientMetrics.get());
+    serverInstrumenterBuilder.addRequestMetrics(RpcServerMetrics.get());
+
     return new GrpcTracing(
-        instrumenterBuilder.newServerInstrumenter(GrpcExtractAdapter.GETTER),
+        serverInstrumenterBuilder.newServerInstrumenter(GrpcExtractAdapter.GETTER),
         // gRPC client interceptors require two phases, one to set up request and one to execute.
         // So we go ahead and inject manually in this instrumentation.
-        instrumenterBuilder.newInstrumenter(SpanKindExtractor.alwaysClient()),
+        clientInstrumenterBuilder.newInstrumenter(SpanKindExtractor.alwaysClient()),
         openTelemetry.getPropagators(),
-        captureExperimentalSpanAttributes);
+        captureExperimentalSpanAttributes,
+        MessageEventPolicy.create(messageEventLimit, messageEventSampleInterval));
   }
 }
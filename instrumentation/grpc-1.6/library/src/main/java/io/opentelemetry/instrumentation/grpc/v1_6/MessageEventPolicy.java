@@ -0,0 +1,71 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.grpc.v1_6;
+
+import static io.opentelemetry.api.common.AttributeKey.longKey;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+
+/**
+ * Decides which messages of a call are recorded as span events. By default every message is
+ * recorded; when a limit is set only the first messages, and optionally every n-th message after
+ * them, are recorded and the number of sent and received messages is set on the span instead,
+ * together with their total size in bytes if the messages are protobuf messages.
+ */
+final class MessageEventPolicy {
+
+  static final AttributeKey<Long> SENT_MESSAGES = longKey("rpc.grpc.sent_messages");
+  static final AttributeKey<Long> RECEIVED_MESSAGES = longKey("rpc.grpc.received_messages");
+  static final AttributeKey<Long> SENT_BYTES = longKey("rpc.grpc.sent_bytes");
+  static final AttributeKey<Long> RECEIVED_BYTES = longKey("rpc.grpc.received_bytes");
+
+  static final MessageEventPolicy ALL = new MessageEventPolicy(-1, 0);
+
+  static MessageEventPolicy create(int limit, int sampleInterval) {
+    return limit < 0 ? ALL : new MessageEventPolicy(limit, sampleInterval);
+  }
+
+  private final long limit;
+  private final long sampleInterval;
+
+  private MessageEventPolicy(long limit, long sampleInterval) {
+    this.limit = limit;
+    this.sampleInterval = sampleInterval;
+  }
+
+  /** Returns whether message counts are set on the span instead of relying on its events. */
+  boolean countsMessages() {
+    return limit >= 0;
+  }
+
+  /** Returns whether the message with the passed (1-based) id is recorded as a span event. */
+  boolean shouldRecord(long messageId) {
+    return limit < 0
+        || messageId <= limit
+        || (sampleInterval > 0 && (messageId - limit) % sampleInterval == 0);
+  }
+
+  /** Sets the message counts and sizes on the span, sizes are ignored when they're negative. */
+  void setMessageCounts(
+      Span span, long sentMessages, long receivedMessages, long sentBytes, long receivedBytes) {
+    if (countsMessages()) {
+      span.setAttribute(SENT_MESSAGES, sentMessages);
+      span.setAttribute(RECEIVED_MESSAGES, receivedMessages);
+      if (sentBytes >= 0) {
+        span.setAttribute(SENT_BYTES, sentBytes);
+      }
+      if (receivedBytes >= 0) {
+        span.setAttribute(RECEIVED_BYTES, receivedBytes);
+      }
+    }
+  }
+
+  /** Adds the size of a message to a total that is negative while no size is known. */
+  static long addBytes(long totalBytes, long messageBytes) {
+    return totalBytes < 0 ? messageBytes : totalBytes + messageBytes;
+  }
+}
@@ -23,8 +23,10 @@ import io.opentelemetry.context.Context;
 import io.opentelemetry.context.Scope;
 import io.opentelemetry.context.propagation.ContextPropagators;
 import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
+import io.opentelemetry.instrumentation.api.instrumenter.rpc.RpcClientMetrics;
 import java.net.SocketAddress;
 import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 final class TracingClientInterceptor implements ClientInterceptor {
 
@@ -32,13 +34,33 @@ final class TracingClientInterceptor implements ClientInterceptor {
   private static final AtomicLongFieldUpdater<TracingClientCall> MESSAGE_ID_UPDATER =
       AtomicLongFieldUpdater.newUpdater(TracingClientCall.class, "messageId");
 
+  @SuppressWarnings("rawtypes")
+  private static final AtomicLongFieldUpdater<TracingClientCall> SENT_MESSAGES_UPDATER =
+      AtomicLongFieldUpdater.newUpdater(TracingClientCall.class, "sentMessages");
+
+  @SuppressWarnings("rawtypes")
+  private static final AtomicLongFieldUpdater<TracingClientCall> RECEIVED_MESSAGES_UPDATER =
+      AtomicLongFieldUpdater.newUpdater(TracingClientCall.class, "receivedMessages");
+
+  @SuppressWarnings("rawtypes")
+  private static final AtomicLongFieldUpdater<TracingClientCall> SENT_BYTES_UPDATER =
+      AtomicLongFieldUpdater.newUpdater(TracingClientCall.class, "sentBytes");
+
+  @SuppressWarnings("rawtypes")
+  private static final AtomicLongFieldUpdater<TracingClientCall> RECEIVED_BYTES_UPDATER =
+      AtomicLongFieldUpdater.newUpdater(TracingClientCall.class, "receivedBytes");
+
   private final Instrumenter<GrpcRequest, Status> instrumenter;
   private final ContextPropagators propagators;
+  private final MessageEventPolicy messageEventPolicy;
 
   TracingClientInterceptor(
-      Instrumenter<GrpcRequest, Status> instrumenter, ContextPropagators propagators) {
+      Instrumenter<GrpcRequest, Status> instrumenter,
+      ContextPropagators propagators,
+      MessageEventPolicy messageEventPolicy) {
     this.instrumenter = instrumenter;
     this.propagators = propagators;
+    this.messageEventPolicy = messageEventPolicy;
   }
 
   @Override
@@ -75,6 +97,14 @@ final class TracingClientInterceptor implements ClientInterceptor {
     @SuppressWarnings("UnusedVariable")
     volatile long messageId;
 
+    // Used by SENT_MESSAGES_UPDATER and RECEIVED_MESSAGES_UPDATER
+    volatile long sentMessages;
+    volatile long receivedMessages;
+
+    // Used by SENT_BYTES_UPDATER and RECEIVED_BYTES_UPDATER, -1 while no message size is known
+    volatile long sentBytes = -1;
+    volatile long receivedBytes = -1;
+
     TracingClientCall(
         ClientCall<REQUEST, RESPONSE> delegate,
         Context parentContext,
@@ -91,10 +121,9 @@ final class TracingClientInterceptor implements ClientInterceptor {
       propagators.getTextMapPropagator().inject(context, headers, SETTER);
       try (Scope ignored = context.makeCurrent()) {
         super.start(
-            new TracingClientCallListener(responseListener, parentContext, context, request),
-            headers);
+            new TracingClientCallListener(responseListener, parentContext, context), headers);
       } catch (Throwable e) {
-        instrumenter.end(context, request, null, e);
+        end(null, e);
         throw e;
       }
     }
@@ -104,17 +133,33 @@ final class TracingClientInterceptor implements ClientInterceptor {
       try (Scope ignored = context.makeCurrent()) {
         super.sendMessage(message);
       } catch (Throwable e) {
-        instrumenter.end(context, request, null, e);
+        end(null, e);
         throw e;
       }
-      Span span = Span.fromContext(context);
-      Attributes attributes =
-          Attributes.of(
-              GrpcHelper.MESSAGE_TYPE,
-              "SENT",
-              GrpcHelper.MESSAGE_ID,
-              MESSAGE_ID_UPDATER.incrementAndGet(this));
-      span.addEvent("message", attributes);
+      long size = GrpcMessageSizes.of(message);
+      if (messageEventPolicy.countsMessages()) {
+        SENT_MESSAGES_UPDATER.incrementAndGet(this);
+        if (size >= 0) {
+          SENT_BYTES_UPDATER.accumulateAndGet(this, size, MessageEventPolicy::addBytes);
+        }
+      }
+      RpcClientMetrics.addRequestSize(context, size);
+      recordMessage("SENT");
+    }
+
+    private void recordMessage(String messageType) {
+      long messageId = MESSAGE_ID_UPDATER.incrementAndGet(this);
+      if (messageEventPolicy.shouldRecord(messageId)) {
+        Attributes attributes =
+            Attributes.of(GrpcHelper.MESSAGE_TYPE, messageType, GrpcHelper.MESSAGE_ID, messageId);
+        Span.fromContext(context).addEvent("message", attributes);
+      }
+    }
+
+    private void end(@Nullable Status status, @Nullable Throwable error) {
+      messageEventPolicy.setMessageCounts(
+          Span.fromContext(context), sentMessages, receivedMessages, sentBytes, receivedBytes);
+      instrumenter.end(context, request, status, error);
     }
 
     final class TracingClientCallListener
@@ -122,29 +167,26 @@ final class TracingClientInterceptor implements ClientInterceptor {
 
       private final Context parentContext;
       private final Context context;
-      private final GrpcRequest request;
 
       TracingClientCallListener(
-          Listener<RESPONSE> delegate,
-          Context parentContext,
-          Context context,
-          GrpcRequest request) {
+          Listener<RESPONSE> delegate, Context parentContext, Context context) {
         super(delegate);
         this.parentContext = parentContext;
         this.context = context;
-        this.request = request;
       }
 
       @Override
       public void onMessage(RESPONSE message) {
-        Span span = Span.fromContext(context);
-        Attributes attributes =
-            Attributes.of(
-                GrpcHelper.MESSAGE_TYPE,
-                "RECEIVED",
-                GrpcHelper.MESSAGE_ID,
-                MESSAGE_ID_UPDATER.incrementAndGet(TracingClientCall.this));
-        span.addEvent("message", attributes);
+        long size = GrpcMessageSizes.of(message);
+        if (messageEventPolicy.countsMessages()) {
+          RECEIVED_MESSAGES_UPDATER.incrementAndGet(TracingClientCall.this);
+          if (size >= 0) {
+            RECEIVED_BYTES_UPDATER.accumulateAndGet(
+                TracingClientCall.this, size, MessageEventPolicy::addBytes);
+          }
+        }
+        RpcClientMetrics.addResponseSize(context, size);
+        recordMessage("RECEIVED");
         try (Scope ignored = context.makeCurrent()) {
           delegate().onMessage(message);
         }
@@ -152,7 +194,7 @@ final class TracingClientInterceptor implements ClientInterceptor {
 
       @Override
       public void onClose(Status status, Metadata trailers) {
-        instrumenter.end(context, request, status, status.getCause());
+        end(status, status.getCause());
         try (Scope ignored = parentContext.makeCurrent()) {
           delegate().onClose(status, trailers);
         }
@@ -19,7 +19,9 @@ import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.Scope;
 import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
+import io.opentelemetry.instrumentation.api.instrumenter.rpc.RpcServerMetrics;
 import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 final class TracingServerInterceptor implements ServerInterceptor {
 
@@ -27,13 +29,33 @@ final class TracingServerInterceptor implements ServerInterceptor {
   private static final AtomicLongFieldUpdater<TracingServerCall> MESSAGE_ID_UPDATER =
       AtomicLongFieldUpdater.newUpdater(TracingServerCall.class, "messageId");
 
+  @SuppressWarnings("rawtypes")
+  private static final AtomicLongFieldUpdater<TracingServerCall> SENT_MESSAGES_UPDATER =
+      AtomicLongFieldUpdater.newUpdater(TracingServerCall.class, "sentMessages");
+
+  @SuppressWarnings("rawtypes")
+  private static final AtomicLongFieldUpdater<TracingServerCall> RECEIVED_MESSAGES_UPDATER =
+      AtomicLongFieldUpdater.newUpdater(TracingServerCall.class, "receivedMessages");
+
+  @SuppressWarnings("rawtypes")
+  private static final AtomicLongFieldUpdater<TracingServerCall> SENT_BYTES_UPDATER =
+      AtomicLongFieldUpdater.newUpdater(TracingServerCall.class, "sentBytes");
+
+  @SuppressWarnings("rawtypes")
+  private static final AtomicLongFieldUpdater<TracingServerCall> RECEIVED_BYTES_UPDATER =
+      AtomicLongFieldUpdater.newUpdater(TracingServerCall.class, "receivedBytes");
+
   private final Instrumenter<GrpcRequest, Status> instrumenter;
   private final boolean captureExperimentalSpanAttributes;
+  private final MessageEventPolicy messageEventPolicy;
 
   TracingServerInterceptor(
-      Instrumenter<GrpcRequest, Status> instrumenter, boolean captureExperimentalSpanAttributes) {
+      Instrumenter<GrpcRequest, Status> instrumenter,
+      boolean captureExperimentalSpanAttributes,
+      MessageEventPolicy messageEventPolicy) {
     this.instrumenter = instrumenter;
     this.captureExperimentalSpanAttributes = captureExperimentalSpanAttributes;
+    this.messageEventPolicy = messageEventPolicy;
   }
 
   @Override
@@ -65,6 +87,14 @@ final class TracingServerInterceptor implements ServerInterceptor {
     @SuppressWarnings("UnusedVariable")
     volatile long messageId;
 
+    // Used by SENT_MESSAGES_UPDATER and RECEIVED_MESSAGES_UPDATER
+    volatile long sentMessages;
+    volatile long receivedMessages;
+
+    // Used by SENT_BYTES_UPDATER and RECEIVED_BYTES_UPDATER, -1 while no message size is known
+    volatile long sentBytes = -1;
+    volatile long receivedBytes = -1;
+
     TracingServerCall(
         ServerCall<REQUEST, RESPONSE> delegate, Context context, GrpcRequest request) {
       super(delegate);
@@ -74,7 +104,7 @@ final class TracingServerInterceptor implements ServerInterceptor {
 
     TracingServerCallListener start(Metadata headers, ServerCallHandler<REQUEST, RESPONSE> next) {
       return new TracingServerCallListener(
-          Contexts.interceptCall(io.grpc.Context.current(), this, headers, next), context, request);
+          Contexts.interceptCall(io.grpc.Context.current(), this, headers, next), context);
     }
 
     @Override
@@ -82,14 +112,15 @@ final class TracingServerInterceptor implements ServerInterceptor {
       try (Scope ignored = context.makeCurrent()) {
         super.sendMessage(message);
       }
-      Span span = Span.fromContext(context);
-      Attributes attributes =
-          Attributes.of(
-              GrpcHelper.MESSAGE_TYPE,
-              "SENT",
-              GrpcHelper.MESSAGE_ID,
-              MESSAGE_ID_UPDATER.incrementAndGet(this));
-      span.addEvent("message", attributes);
+      long size = GrpcMessageSizes.of(message);
+      if (messageEventPolicy.countsMessages()) {
+        SENT_MESSAGES_UPDATER.incrementAndGet(this);
+        if (size >= 0) {
+          SENT_BYTES_UPDATER.accumulateAndGet(this, size, MessageEventPolicy::addBytes);
+        }
+      }
+      RpcServerMetrics.addResponseSize(context, size);
+      recordMessage("SENT");
     }
 
     @Override
@@ -97,33 +128,49 @@ final class TracingServerInterceptor implements ServerInterceptor {
       try {
         delegate().close(status, trailers);
       } catch (Throwable e) {
-        instrumenter.end(context, request, status, e);
+        end(status, e);
         throw e;
       }
-      instrumenter.end(context, request, status, status.getCause());
+      end(status, status.getCause());
+    }
+
+    private void recordMessage(String messageType) {
+      long messageId = MESSAGE_ID_UPDATER.incrementAndGet(this);
+      if (messageEventPolicy.shouldRecord(messageId)) {
+        Attributes attributes =
+            Attributes.of(GrpcHelper.MESSAGE_TYPE, messageType, GrpcHelper.MESSAGE_ID, messageId);
+        Span.fromContext(context).addEvent("message", attributes);
+      }
+    }
+
+    private void end(@Nullable Status status, @Nullable Throwable error) {
+      messageEventPolicy.setMessageCounts(
+          Span.fromContext(context), sentMessages, receivedMessages, sentBytes, receivedBytes);
+      instrumenter.end(context, request, status, error);
     }
 
     final class TracingServerCallListener
         extends ForwardingServerCallListener.SimpleForwardingServerCallListener<REQUEST> {
       private final Context context;
-      private final GrpcRequest request;
 
-      TracingServerCallListener(Listener<REQUEST> delegate, Context context, GrpcRequest request) {
+      TracingServerCallListener(Listener<REQUEST> delegate, Context context) {
         super(delegate);
         this.context = context;
-        this.request = request;
       }
 
       @Override
       public void onMessage(REQUEST message) {
         // TODO(anuraaga): Restore
-        Attributes attributes =
-            Attributes.of(
-                GrpcHelper.MESSAGE_TYPE,
-                "RECEIVED",
-                GrpcHelper.MESSAGE_ID,
-                MESSAGE_ID_UPDATER.incrementAndGet(TracingServerCall.this));
-        Span.fromContext(context).addEvent("message", attributes);
+        long size = GrpcMessageSizes.of(message);
+        if (messageEventPolicy.countsMessages()) {
+          RECEIVED_MESSAGES_UPDATER.incrementAndGet(TracingServerCall.this);
+          if (size >= 0) {
+            RECEIVED_BYTES_UPDATER.accumulateAndGet(
+                TracingServerCall.this, size, MessageEventPolicy::addBytes);
+          }
+        }
+        RpcServerMetrics.addRequestSize(context, size);
+        recordMessage("RECEIVED");
         delegate().onMessage(message);
       }
 
@@ -132,7 +179,7 @@ final class TracingServerInterceptor implements ServerInterceptor {
         try {
           delegate().onHalfClose();
         } catch (Throwable e) {
-          instrumenter.end(context, request, null, e);
+          end(null, e);
           throw e;
         }
       }
@@ -145,10 +192,10 @@ final class TracingServerInterceptor implements ServerInterceptor {
             Span.fromContext(context).setAttribute("grpc.canceled", true);
           }
         } catch (Throwable e) {
-          instrumenter.end(context, request, null, e);
+          end(null, e);
           throw e;
         }
-        instrumenter.end(context, request, null, null);
+        end(null, null);
       }
 
       @Override
@@ -156,7 +203,7 @@ final class TracingServerInterceptor implements ServerInterceptor {
         try {
           delegate().onComplete();
         } catch (Throwable e) {
-          instrumenter.end(context, request, null, e);
+          end(null, e);
           throw e;
         }
       }
@@ -166,7 +213,7 @@ final class TracingServerInterceptor implements ServerInterceptor {
         try {
           delegate().onReady();
         } catch (Throwable e) {
-          instrumenter.end(context, request, null, e);
+          end(null, e);
           throw e;
         }
       }
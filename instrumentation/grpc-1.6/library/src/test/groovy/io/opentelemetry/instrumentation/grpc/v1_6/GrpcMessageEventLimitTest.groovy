@@ -0,0 +1,165 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.grpc.v1_6
+
+import example.GreeterGrpc
+import example.Helloworld
+import io.grpc.BindableService
+import io.grpc.ManagedChannel
+import io.grpc.ManagedChannelBuilder
+import io.grpc.Server
+import io.grpc.ServerBuilder
+import io.grpc.Status
+import io.grpc.stub.StreamObserver
+import io.opentelemetry.instrumentation.test.InstrumentationSpecification
+import io.opentelemetry.instrumentation.test.LibraryTestTrait
+import io.opentelemetry.instrumentation.test.utils.PortUtils
+import io.opentelemetry.semconv.trace.attributes.SemanticAttributes
+
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+import static io.opentelemetry.api.trace.SpanKind.CLIENT
+import static io.opentelemetry.api.trace.SpanKind.SERVER
+
+class GrpcMessageEventLimitTest extends InstrumentationSpecification implements LibraryTestTrait {
+
+  def "only the first and sampled messages are recorded as events"() {
+    setup:
+    GrpcTracing tracing = GrpcTracing.newBuilder(getOpenTelemetry())
+      .setMessageEventLimit(2)
+      .setMessageEventSampleInterval(3)
+      .build()
+
+    BindableService greeter = new GreeterGrpc.GreeterImplBase() {
+      @Override
+      StreamObserver<Helloworld.Response> conversation(StreamObserver<Helloworld.Response> observer) {
+        return new StreamObserver<Helloworld.Response>() {
+          @Override
+          void onNext(Helloworld.Response value) {
+            observer.onNext(value)
+          }
+
+          @Override
+          void onError(Throwable t) {
+            observer.onError(t)
+          }
+
+          @Override
+          void onCompleted() {
+            observer.onCompleted()
+          }
+        }
+      }
+    }
+    def port = PortUtils.findOpenPort()
+    Server server = ServerBuilder.forPort(port)
+      .addService(greeter)
+      .intercept(tracing.newServerInterceptor())
+      .build()
+      .start()
+    ManagedChannelBuilder channelBuilder = ManagedChannelBuilder.forAddress("localhost", port)
+      .intercept(tracing.newClientInterceptor())
+
+    // Depending on the version of gRPC usePlainText may or may not take an argument.
+    try {
+      channelBuilder.usePlaintext()
+    } catch (MissingMethodException e) {
+      channelBuilder.usePlaintext(true)
+    }
+    ManagedChannel channel = channelBuilder.build()
+    GreeterGrpc.GreeterStub client = GreeterGrpc.newStub(channel).withWaitForReady()
+    def completed = new CountDownLatch(1)
+
+    when:
+    def observer = client.conversation(new StreamObserver<Helloworld.Response>() {
+      @Override
+      void onNext(Helloworld.Response value) {
+      }
+
+      @Override
+      void onError(Throwable t) {
+        completed.countDown()
+      }
+
+      @Override
+      void onCompleted() {
+        completed.countDown()
+      }
+    })
+    (1..5).each {
+      observer.onNext(Helloworld.Response.newBuilder().setMessage("call $it").build())
+    }
+    observer.onCompleted()
+    completed.await(10, TimeUnit.SECONDS)
+
+    then:
+    // 10 messages per call: the first 2 and every 3rd message after them are recorded
+    // every message "call n" is serialized as 8 bytes: a tag byte, a length byte and 6 characters
+    assertTraces(1) {
+      trace(0, 2) {
+        span(0) {
+          name "example.Greeter/Conversation"
+          kind CLIENT
+          hasNoParent()
+          attributes {
+            "${SemanticAttributes.RPC_SYSTEM.key}" "grpc"
+            "${SemanticAttributes.RPC_SERVICE.key}" "example.Greeter"
+            "${SemanticAttributes.RPC_METHOD.key}" "Conversation"
+            "${SemanticAttributes.NET_TRANSPORT.key}" SemanticAttributes.NetTransportValues.IP_TCP
+            "${SemanticAttributes.RPC_GRPC_STATUS_CODE.key}" Status.OK.code.value()
+            "rpc.grpc.sent_messages" 5
+            "rpc.grpc.received_messages" 5
+            "rpc.grpc.sent_bytes" 40
+            "rpc.grpc.received_bytes" 40
+          }
+          [1, 2, 5, 8].eachWithIndex { messageId, index ->
+            event(index) {
+              eventName "message"
+              attributes {
+                "message.type" { it == "SENT" || it == "RECEIVED" }
+                "message.id" messageId
+              }
+            }
+          }
+        }
+        span(1) {
+          name "example.Greeter/Conversation"
+          kind SERVER
+          childOf span(0)
+          attributes {
+            "${SemanticAttributes.RPC_SYSTEM.key}" "grpc"
+            "${SemanticAttributes.RPC_SERVICE.key}" "example.Greeter"
+            "${SemanticAttributes.RPC_METHOD.key}" "Conversation"
+            "${SemanticAttributes.NET_PEER_IP.key}" "127.0.0.1"
+            // "localhost" on linux, "127.0.0.1" on windows
+            "${SemanticAttributes.NET_PEER_NAME.key}" { it == "localhost" || it == "127.0.0.1" }
+            "${SemanticAttributes.NET_PEER_PORT.key}" Long
+            "${SemanticAttributes.NET_TRANSPORT.key}" SemanticAttributes.NetTransportValues.IP_TCP
+            "${SemanticAttributes.RPC_GRPC_STATUS_CODE.key}" Status.OK.code.value()
+            "rpc.grpc.sent_messages" 5
+            "rpc.grpc.received_messages" 5
+            "rpc.grpc.sent_bytes" 40
+            "rpc.grpc.received_bytes" 40
+          }
+          [1, 2, 5, 8].eachWithIndex { messageId, index ->
+            event(index) {
+              eventName "message"
+              attributes {
+                "message.type" { it == "RECEIVED" || it == "SENT" }
+                "message.id" messageId
+              }
+            }
+          }
+        }
+      }
+    }
+
+    cleanup:
+    channel?.shutdownNow()?.awaitTermination(10, TimeUnit.SECONDS)
+    server?.shutdownNow()?.awaitTermination()
+  }
+}
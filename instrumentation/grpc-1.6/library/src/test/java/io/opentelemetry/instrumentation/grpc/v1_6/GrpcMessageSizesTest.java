@@ -0,0 +1,28 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.grpc.v1_6;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import example.Helloworld;
+import org.junit.jupiter.api.Test;
+
+class GrpcMessageSizesTest {
+
+  @Test
+  void protobufMessage() {
+    Helloworld.Request request = Helloworld.Request.newBuilder().setName("world").build();
+
+    assertThat(GrpcMessageSizes.of(request))
+        .isEqualTo(request.getSerializedSize())
+        .isEqualTo(request.toByteArray().length);
+  }
+
+  @Test
+  void otherMessage() {
+    assertThat(GrpcMessageSizes.of("not a protobuf message")).isEqualTo(-1);
+  }
+}
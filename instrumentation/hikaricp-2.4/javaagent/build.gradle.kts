@@ -0,0 +1,23 @@
+plugins {
+  id("otel.javaagent-instrumentation")
+}
+
+muzzle {
+  pass {
+    group.set("com.zaxxer")
+    module.set("HikariCP")
+    versions.set("[2.4.0,)")
+  }
+}
+
+dependencies {
+  library("com.zaxxer:HikariCP:2.4.0")
+
+  implementation(project(":instrumentation:jdbc:library"))
+
+  testImplementation("com.h2database:h2:1.3.169")
+}
+
+tasks.withType<Test>().configureEach {
+  jvmArgs("-Dotel.instrumentation.jdbc.experimental-connection-pool-metrics=true")
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.hikaricp;
+
+import static net.bytebuddy.matcher.ElementMatchers.isConstructor;
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static net.bytebuddy.matcher.ElementMatchers.takesArgument;
+import static net.bytebuddy.matcher.ElementMatchers.takesArguments;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.pool.HikariPool;
+import io.opentelemetry.javaagent.extension.instrumentation.TypeInstrumentation;
+import io.opentelemetry.javaagent.extension.instrumentation.TypeTransformer;
+import io.opentelemetry.javaagent.instrumentation.api.InstrumentationContext;
+import io.opentelemetry.javaagent.instrumentation.api.db.ConnectionAcquireRecorder;
+import io.opentelemetry.javaagent.instrumentation.api.db.DbConnectionPoolMetrics;
+import net.bytebuddy.asm.Advice;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.matcher.ElementMatcher;
+
+public class HikariPoolInstrumentation implements TypeInstrumentation {
+
+  @Override
+  public ElementMatcher<TypeDescription> typeMatcher() {
+    return named("com.zaxxer.hikari.pool.HikariPool");
+  }
+
+  @Override
+  public void transform(TypeTransformer transformer) {
+    transformer.applyAdviceToMethod(
+        isConstructor().and(takesArgument(0, named("com.zaxxer.hikari.HikariConfig"))),
+        this.getClass().getName() + "$ConstructorAdvice");
+    // getConnection() delegates to getConnection(long) with the configured timeout
+    transformer.applyAdviceToMethod(
+        named("getConnection").and(takesArguments(long.class)),
+        this.getClass().getName() + "$GetConnectionAdvice");
+    // a pool that was shut down can't be restarted
+    transformer.applyAdviceToMethod(
+        named("shutdown").and(takesArguments(0)), this.getClass().getName() + "$ShutdownAdvice");
+  }
+
+  @SuppressWarnings("unused")
+  public static class ConstructorAdvice {
+
+    @Advice.OnMethodExit(suppress = Throwable.class)
+    public static void onExit(
+        @Advice.This HikariPool pool, @Advice.Argument(0) HikariConfig config) {
+      DbConnectionPoolMetrics<HikariPool> metrics = HikariPoolMetrics.get();
+      if (metrics != null) {
+        // the configuration is only known here, the pool is registered right away
+        HikariPoolMetrics.setConfig(pool, config);
+        metrics.recorder(
+            InstrumentationContext.get(HikariPool.class, ConnectionAcquireRecorder.class), pool);
+      }
+    }
+  }
+
+  @SuppressWarnings("unused")
+  public static class GetConnectionAdvice {
+
+    @Advice.OnMethodEnter(suppress = Throwable.class)
+    public static long onEnter(
+        @Advice.This HikariPool pool,
+        @Advice.Local("otelRecorder") ConnectionAcquireRecorder recorder) {
+      recorder =
+          InstrumentationContext.get(HikariPool.class, ConnectionAcquireRecorder.class).get(pool);
+      return recorder == null ? 0 : recorder.start();
+    }
+
+    @Advice.OnMethodExit(onThrowable = Throwable.class, suppress = Throwable.class)
+    public static void onExit(
+        @Advice.Enter long startNanos,
+        @Advice.Thrown Throwable throwable,
+        @Advice.Local("otelRecorder") ConnectionAcquireRecorder recorder) {
+      if (recorder != null) {
+        recorder.end(startNanos, throwable);
+      }
+    }
+  }
+
+  @SuppressWarnings("unused")
+  public static class ShutdownAdvice {
+
+    @Advice.OnMethodEnter(suppress = Throwable.class)
+    public static void onEnter(@Advice.This HikariPool pool) {
+      DbConnectionPoolMetrics<HikariPool> metrics = HikariPoolMetrics.get();
+      if (metrics != null) {
+        metrics.poolClosed(
+            InstrumentationContext.get(HikariPool.class, ConnectionAcquireRecorder.class), pool);
+      }
+    }
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.hikaricp;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.pool.HikariPool;
+import io.opentelemetry.instrumentation.api.caching.Cache;
+import io.opentelemetry.instrumentation.jdbc.internal.JdbcConnectionUrlParser;
+import io.opentelemetry.javaagent.instrumentation.api.db.DbConnectionPoolAccessor;
+import io.opentelemetry.javaagent.instrumentation.api.db.DbConnectionPoolMetrics;
+import java.sql.SQLTransientException;
+import java.util.Properties;
+import java.util.regex.Pattern;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+public final class HikariPoolMetrics implements DbConnectionPoolAccessor<HikariPool> {
+  private static final String INSTRUMENTATION_NAME = "io.opentelemetry.hikaricp-2.4";
+
+  // the name Hikari gives pools that are not named, numbered in creation order
+  private static final Pattern GENERATED_POOL_NAME = Pattern.compile("HikariPool-\\d+");
+
+  @Nullable
+  private static final DbConnectionPoolMetrics<HikariPool> METRICS =
+      DbConnectionPoolMetrics.create(INSTRUMENTATION_NAME, new HikariPoolMetrics());
+
+  // the pool doesn't expose its configuration, it is only read when the pool is registered
+  private static final Cache<HikariPool, HikariConfig> poolConfigs =
+      Cache.newBuilder().setWeakKeys().build();
+
+  /** Returns the pool metrics, or {@code null} if they are not enabled. */
+  @Nullable
+  public static DbConnectionPoolMetrics<HikariPool> get() {
+    return METRICS;
+  }
+
+  public static void setConfig(HikariPool pool, HikariConfig config) {
+    poolConfigs.put(pool, config);
+  }
+
+  @Override
+  @Nullable
+  public String configuredName(HikariPool pool) {
+    HikariConfig config = poolConfigs.get(pool);
+    String poolName = config != null ? config.getPoolName() : null;
+    return poolName == null || GENERATED_POOL_NAME.matcher(poolName).matches() ? null : poolName;
+  }
+
+  @Override
+  @Nullable
+  public String jdbcUrl(HikariPool pool) {
+    HikariConfig config = poolConfigs.get(pool);
+    return config != null ? config.getJdbcUrl() : null;
+  }
+
+  @Override
+  @Nullable
+  public String dbSystem(HikariPool pool) {
+    return JdbcConnectionUrlParser.parse(jdbcUrl(pool), new Properties()).getSystem();
+  }
+
+  @Override
+  public long activeConnections(HikariPool pool) {
+    return pool.getActiveConnections();
+  }
+
+  @Override
+  public long idleConnections(HikariPool pool) {
+    return pool.getIdleConnections();
+  }
+
+  /** Hikari reports connection timeouts with {@link java.sql.SQLTransientConnectionException}. */
+  @Override
+  public boolean isTimeout(Throwable error) {
+    return error instanceof SQLTransientException;
+  }
+
+  private HikariPoolMetrics() {}
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+import com.zaxxer.hikari.HikariConfig
+import com.zaxxer.hikari.HikariDataSource
+import io.opentelemetry.instrumentation.test.base.AbstractDbConnectionPoolMetricsTest
+
+import javax.sql.DataSource
+
+class HikariPoolMetricsTest extends AbstractDbConnectionPoolMetricsTest {
+
+  @Override
+  DataSource createDataSource(String poolName, String url, long acquireTimeoutMillis) {
+    def config = new HikariConfig()
+    if (poolName != null) {
+      config.setPoolName(poolName)
+    }
+    config.setJdbcUrl(url)
+    config.setMaximumPoolSize(1)
+    config.setConnectionTimeout(acquireTimeoutMillis)
+    return new HikariDataSource(config)
+  }
+
+  @Override
+  void closeDataSource(DataSource dataSource) {
+    ((HikariDataSource) dataSource).close()
+  }
+}
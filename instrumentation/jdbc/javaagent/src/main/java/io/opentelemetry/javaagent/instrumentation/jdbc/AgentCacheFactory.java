@@ -6,28 +6,35 @@
 package io.opentelemetry.javaagent.instrumentation.jdbc;
 
 import io.opentelemetry.instrumentation.api.caching.Cache;
+import io.opentelemetry.instrumentation.api.db.SqlStatementInfo;
 import io.opentelemetry.instrumentation.jdbc.internal.DbInfo;
 import io.opentelemetry.instrumentation.jdbc.internal.JdbcData;
+import io.opentelemetry.instrumentation.jdbc.internal.StatementBatch;
 import io.opentelemetry.javaagent.instrumentation.api.ContextStore;
 import io.opentelemetry.javaagent.instrumentation.api.InstrumentationContext;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.Statement;
 
 /**
- * Provides means to associate extra info with JDBC {@link Connection} and {@link PreparedStatement}
- * using {@link ContextStore} which is more efficient than using a weak map.
+ * Provides means to associate extra info with JDBC {@link Connection}, {@link PreparedStatement}
+ * and {@link Statement} using {@link ContextStore} which is more efficient than using a weak map.
  */
 public class AgentCacheFactory implements JdbcData.CacheFactory {
   private final Cache<Connection, DbInfo> connectionCache;
-  private final Cache<PreparedStatement, String> preparedStatementCache;
+  private final Cache<PreparedStatement, SqlStatementInfo> preparedStatementCache;
+  private final Cache<Statement, StatementBatch> statementBatchCache;
 
   public AgentCacheFactory() {
     ContextStore<Connection, DbInfo> connectionContextStore =
         InstrumentationContext.get(Connection.class, DbInfo.class);
     connectionCache = connectionContextStore.asCache();
-    ContextStore<PreparedStatement, String> preparedStatementContextStore =
-        InstrumentationContext.get(PreparedStatement.class, String.class);
+    ContextStore<PreparedStatement, SqlStatementInfo> preparedStatementContextStore =
+        InstrumentationContext.get(PreparedStatement.class, SqlStatementInfo.class);
     preparedStatementCache = preparedStatementContextStore.asCache();
+    ContextStore<Statement, StatementBatch> statementBatchContextStore =
+        InstrumentationContext.get(Statement.class, StatementBatch.class);
+    statementBatchCache = statementBatchContextStore.asCache();
   }
 
   @Override
@@ -36,7 +43,12 @@ public class AgentCacheFactory implements JdbcData.CacheFactory {
   }
 
   @Override
-  public Cache<PreparedStatement, String> preparedStatementCache() {
+  public Cache<PreparedStatement, SqlStatementInfo> preparedStatementCache() {
     return preparedStatementCache;
   }
+
+  @Override
+  public Cache<Statement, StatementBatch> statementBatchCache() {
+    return statementBatchCache;
+  }
 }
@@ -7,14 +7,20 @@ package io.opentelemetry.javaagent.instrumentation.jdbc;
 
 import static io.opentelemetry.javaagent.extension.matcher.AgentElementMatchers.hasClassesNamed;
 import static io.opentelemetry.javaagent.extension.matcher.AgentElementMatchers.implementsInterface;
+import static io.opentelemetry.javaagent.instrumentation.jdbc.JdbcSingletons.coalescer;
+import static net.bytebuddy.matcher.ElementMatchers.isPublic;
 import static net.bytebuddy.matcher.ElementMatchers.nameStartsWith;
 import static net.bytebuddy.matcher.ElementMatchers.named;
+import static net.bytebuddy.matcher.ElementMatchers.namedOneOf;
 import static net.bytebuddy.matcher.ElementMatchers.returns;
 import static net.bytebuddy.matcher.ElementMatchers.takesArgument;
 
+import io.opentelemetry.instrumentation.api.db.SqlStatementSanitizer;
 import io.opentelemetry.instrumentation.jdbc.internal.JdbcData;
+import io.opentelemetry.instrumentation.jdbc.internal.StatementCoalescer;
 import io.opentelemetry.javaagent.extension.instrumentation.TypeInstrumentation;
 import io.opentelemetry.javaagent.extension.instrumentation.TypeTransformer;
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import net.bytebuddy.asm.Advice;
 import net.bytebuddy.description.type.TypeDescription;
@@ -40,6 +46,9 @@ public class ConnectionInstrumentation implements TypeInstrumentation {
             // Also include CallableStatement, which is a sub type of PreparedStatement
             .and(returns(implementsInterface(named("java.sql.PreparedStatement")))),
         ConnectionInstrumentation.class.getName() + "$PrepareAdvice");
+    transformer.applyAdviceToMethod(
+        namedOneOf("commit", "rollback", "close").and(isPublic()),
+        ConnectionInstrumentation.class.getName() + "$FlushAdvice");
   }
 
   @SuppressWarnings("unused")
@@ -48,7 +57,21 @@ public class ConnectionInstrumentation implements TypeInstrumentation {
     @Advice.OnMethodExit(suppress = Throwable.class)
     public static void addDbInfo(
         @Advice.Argument(0) String sql, @Advice.Return PreparedStatement statement) {
-      JdbcData.preparedStatement.put(statement, sql);
+      // sanitized once here, so that executing the statement doesn't sanitize it again
+      JdbcData.preparedStatement.put(statement, SqlStatementSanitizer.sanitize(sql));
+    }
+  }
+
+  @SuppressWarnings("unused")
+  public static class FlushAdvice {
+
+    @Advice.OnMethodEnter(suppress = Throwable.class)
+    public static void flush(@Advice.This Connection connection) {
+      // coalesced statement spans must not outlive the transaction they ran in
+      StatementCoalescer coalescer = coalescer();
+      if (coalescer != null) {
+        coalescer.flush(connection);
+      }
     }
   }
 }
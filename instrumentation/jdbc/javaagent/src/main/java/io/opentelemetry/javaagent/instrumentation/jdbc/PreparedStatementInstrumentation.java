@@ -8,15 +8,20 @@ package io.opentelemetry.javaagent.instrumentation.jdbc;
 import static io.opentelemetry.javaagent.extension.matcher.AgentElementMatchers.hasClassesNamed;
 import static io.opentelemetry.javaagent.extension.matcher.AgentElementMatchers.implementsInterface;
 import static io.opentelemetry.javaagent.instrumentation.api.Java8BytecodeBridge.currentContext;
+import static io.opentelemetry.javaagent.instrumentation.jdbc.JdbcSingletons.coalescer;
 import static io.opentelemetry.javaagent.instrumentation.jdbc.JdbcSingletons.instrumenter;
 import static net.bytebuddy.matcher.ElementMatchers.isPublic;
 import static net.bytebuddy.matcher.ElementMatchers.nameStartsWith;
 import static net.bytebuddy.matcher.ElementMatchers.named;
+import static net.bytebuddy.matcher.ElementMatchers.namedOneOf;
+import static net.bytebuddy.matcher.ElementMatchers.not;
 import static net.bytebuddy.matcher.ElementMatchers.takesArguments;
 
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.Scope;
 import io.opentelemetry.instrumentation.jdbc.internal.DbRequest;
+import io.opentelemetry.instrumentation.jdbc.internal.JdbcData;
+import io.opentelemetry.instrumentation.jdbc.internal.StatementCoalescer;
 import io.opentelemetry.javaagent.extension.instrumentation.TypeInstrumentation;
 import io.opentelemetry.javaagent.extension.instrumentation.TypeTransformer;
 import io.opentelemetry.javaagent.instrumentation.api.CallDepth;
@@ -41,8 +46,15 @@ public class PreparedStatementInstrumentation implements TypeInstrumentation {
   @Override
   public void transform(TypeTransformer transformer) {
     transformer.applyAdviceToMethod(
-        nameStartsWith("execute").and(takesArguments(0)).and(isPublic()),
+        nameStartsWith("execute")
+            // batches are traced by StatementInstrumentation
+            .and(not(namedOneOf("executeBatch", "executeLargeBatch")))
+            .and(takesArguments(0))
+            .and(isPublic()),
         PreparedStatementInstrumentation.class.getName() + "$PreparedStatementAdvice");
+    transformer.applyAdviceToMethod(
+        named("addBatch").and(takesArguments(0)).and(isPublic()),
+        PreparedStatementInstrumentation.class.getName() + "$AddBatchAdvice");
   }
 
   @SuppressWarnings("unused")
@@ -53,6 +65,7 @@ public class PreparedStatementInstrumentation implements TypeInstrumentation {
         @Advice.This PreparedStatement statement,
         @Advice.Local("otelCallDepth") CallDepth callDepth,
         @Advice.Local("otelRequest") DbRequest request,
+        @Advice.Local("otelExecution") StatementCoalescer.Execution execution,
         @Advice.Local("otelContext") Context context,
         @Advice.Local("otelScope") Scope scope) {
       // Connection#getMetaData() may execute a Statement or PreparedStatement to retrieve DB info
@@ -69,8 +82,16 @@ public class PreparedStatementInstrumentation implements TypeInstrumentation {
 
       Context parentContext = currentContext();
       request = DbRequest.create(statement);
+      if (request == null) {
+        return;
+      }
 
-      if (request == null || !instrumenter().shouldStart(parentContext, request)) {
+      StatementCoalescer coalescer = coalescer();
+      if (coalescer != null) {
+        execution = coalescer.start(statement, parentContext, request);
+        return;
+      }
+      if (!instrumenter().shouldStart(parentContext, request)) {
         return;
       }
 
@@ -83,16 +104,32 @@ public class PreparedStatementInstrumentation implements TypeInstrumentation {
         @Advice.Thrown Throwable throwable,
         @Advice.Local("otelCallDepth") CallDepth callDepth,
         @Advice.Local("otelRequest") DbRequest request,
+        @Advice.Local("otelExecution") StatementCoalescer.Execution execution,
         @Advice.Local("otelContext") Context context,
         @Advice.Local("otelScope") Scope scope) {
       if (callDepth.decrementAndGet() > 0) {
         return;
       }
 
+      if (execution != null) {
+        execution.end(throwable);
+      }
       if (scope != null) {
         scope.close();
         instrumenter().end(context, request, null, throwable);
       }
     }
   }
+
+  @SuppressWarnings("unused")
+  public static class AddBatchAdvice {
+
+    @Advice.OnMethodExit(onThrowable = Throwable.class, suppress = Throwable.class)
+    public static void addBatch(
+        @Advice.This PreparedStatement statement, @Advice.Thrown Throwable throwable) {
+      if (throwable == null) {
+        JdbcData.addBatch(statement, null);
+      }
+    }
+  }
 }
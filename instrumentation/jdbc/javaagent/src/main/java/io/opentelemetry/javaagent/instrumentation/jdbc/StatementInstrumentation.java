@@ -8,15 +8,20 @@ package io.opentelemetry.javaagent.instrumentation.jdbc;
 import static io.opentelemetry.javaagent.extension.matcher.AgentElementMatchers.hasClassesNamed;
 import static io.opentelemetry.javaagent.extension.matcher.AgentElementMatchers.implementsInterface;
 import static io.opentelemetry.javaagent.instrumentation.api.Java8BytecodeBridge.currentContext;
+import static io.opentelemetry.javaagent.instrumentation.jdbc.JdbcSingletons.coalescer;
 import static io.opentelemetry.javaagent.instrumentation.jdbc.JdbcSingletons.instrumenter;
 import static net.bytebuddy.matcher.ElementMatchers.isPublic;
 import static net.bytebuddy.matcher.ElementMatchers.nameStartsWith;
 import static net.bytebuddy.matcher.ElementMatchers.named;
+import static net.bytebuddy.matcher.ElementMatchers.namedOneOf;
 import static net.bytebuddy.matcher.ElementMatchers.takesArgument;
+import static net.bytebuddy.matcher.ElementMatchers.takesArguments;
 
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.Scope;
 import io.opentelemetry.instrumentation.jdbc.internal.DbRequest;
+import io.opentelemetry.instrumentation.jdbc.internal.JdbcData;
+import io.opentelemetry.instrumentation.jdbc.internal.StatementCoalescer;
 import io.opentelemetry.javaagent.extension.instrumentation.TypeInstrumentation;
 import io.opentelemetry.javaagent.extension.instrumentation.TypeTransformer;
 import io.opentelemetry.javaagent.instrumentation.api.CallDepth;
@@ -42,6 +47,15 @@ public class StatementInstrumentation implements TypeInstrumentation {
     transformer.applyAdviceToMethod(
         nameStartsWith("execute").and(takesArgument(0, String.class)).and(isPublic()),
         StatementInstrumentation.class.getName() + "$StatementAdvice");
+    transformer.applyAdviceToMethod(
+        named("addBatch").and(takesArgument(0, String.class)).and(isPublic()),
+        StatementInstrumentation.class.getName() + "$AddBatchAdvice");
+    transformer.applyAdviceToMethod(
+        named("clearBatch").and(takesArguments(0)).and(isPublic()),
+        StatementInstrumentation.class.getName() + "$ClearBatchAdvice");
+    transformer.applyAdviceToMethod(
+        namedOneOf("executeBatch", "executeLargeBatch").and(takesArguments(0)).and(isPublic()),
+        StatementInstrumentation.class.getName() + "$ExecuteBatchAdvice");
   }
 
   @SuppressWarnings("unused")
@@ -53,6 +67,7 @@ public class StatementInstrumentation implements TypeInstrumentation {
         @Advice.This Statement statement,
         @Advice.Local("otelCallDepth") CallDepth callDepth,
         @Advice.Local("otelRequest") DbRequest request,
+        @Advice.Local("otelExecution") StatementCoalescer.Execution execution,
         @Advice.Local("otelContext") Context context,
         @Advice.Local("otelScope") Scope scope) {
       // Connection#getMetaData() may execute a Statement or PreparedStatement to retrieve DB info
@@ -69,8 +84,99 @@ public class StatementInstrumentation implements TypeInstrumentation {
 
       Context parentContext = currentContext();
       request = DbRequest.create(statement, sql);
+      if (request == null) {
+        return;
+      }
+
+      StatementCoalescer coalescer = coalescer();
+      if (coalescer != null) {
+        execution = coalescer.start(statement, parentContext, request);
+        return;
+      }
+      if (!instrumenter().shouldStart(parentContext, request)) {
+        return;
+      }
+
+      context = instrumenter().start(parentContext, request);
+      scope = context.makeCurrent();
+    }
+
+    @Advice.OnMethodExit(onThrowable = Throwable.class, suppress = Throwable.class)
+    public static void stopSpan(
+        @Advice.Thrown Throwable throwable,
+        @Advice.Local("otelCallDepth") CallDepth callDepth,
+        @Advice.Local("otelRequest") DbRequest request,
+        @Advice.Local("otelExecution") StatementCoalescer.Execution execution,
+        @Advice.Local("otelContext") Context context,
+        @Advice.Local("otelScope") Scope scope) {
+      if (callDepth.decrementAndGet() > 0) {
+        return;
+      }
+
+      if (execution != null) {
+        execution.end(throwable);
+      }
+      if (scope != null) {
+        scope.close();
+        instrumenter().end(context, request, null, throwable);
+      }
+    }
+  }
+
+  @SuppressWarnings("unused")
+  public static class AddBatchAdvice {
+
+    @Advice.OnMethodExit(onThrowable = Throwable.class, suppress = Throwable.class)
+    public static void addBatch(
+        @Advice.This Statement statement,
+        @Advice.Argument(0) String sql,
+        @Advice.Thrown Throwable throwable) {
+      if (throwable == null) {
+        JdbcData.addBatch(statement, sql);
+      }
+    }
+  }
+
+  @SuppressWarnings("unused")
+  public static class ClearBatchAdvice {
+
+    @Advice.OnMethodExit(suppress = Throwable.class)
+    public static void clearBatch(@Advice.This Statement statement) {
+      JdbcData.clearBatch(statement);
+    }
+  }
+
+  @SuppressWarnings("unused")
+  public static class ExecuteBatchAdvice {
+
+    @Advice.OnMethodEnter(suppress = Throwable.class)
+    public static void onEnter(
+        @Advice.This Statement statement,
+        @Advice.Local("otelCallDepth") CallDepth callDepth,
+        @Advice.Local("otelRequest") DbRequest request,
+        @Advice.Local("otelExecution") StatementCoalescer.Execution execution,
+        @Advice.Local("otelContext") Context context,
+        @Advice.Local("otelScope") Scope scope) {
+      callDepth = CallDepth.forClass(Statement.class);
+      if (callDepth.getAndIncrement() > 0) {
+        // the batch of a wrapped statement (e.g. by a connection pool) is executed, the wrapper
+        // already traces it
+        JdbcData.clearBatch(statement);
+        return;
+      }
+
+      Context parentContext = currentContext();
+      request = DbRequest.createBatch(statement);
+      if (request == null) {
+        return;
+      }
 
-      if (request == null || !instrumenter().shouldStart(parentContext, request)) {
+      StatementCoalescer coalescer = coalescer();
+      if (coalescer != null) {
+        execution = coalescer.start(statement, parentContext, request);
+        return;
+      }
+      if (!instrumenter().shouldStart(parentContext, request)) {
         return;
       }
 
@@ -83,12 +189,16 @@ public class StatementInstrumentation implements TypeInstrumentation {
         @Advice.Thrown Throwable throwable,
         @Advice.Local("otelCallDepth") CallDepth callDepth,
         @Advice.Local("otelRequest") DbRequest request,
+        @Advice.Local("otelExecution") StatementCoalescer.Execution execution,
         @Advice.Local("otelContext") Context context,
         @Advice.Local("otelScope") Scope scope) {
       if (callDepth.decrementAndGet() > 0) {
         return;
       }
 
+      if (execution != null) {
+        execution.end(throwable);
+      }
       if (scope != null) {
         scope.close();
         instrumenter().end(context, request, null, throwable);
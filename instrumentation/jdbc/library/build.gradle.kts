@@ -3,8 +3,11 @@
  * SPDX-License-Identifier: Apache-2.0
  */
 
+import net.ltgt.gradle.errorprone.errorprone
+
 plugins {
   id("otel.library-instrumentation")
+  id("otel.jmh-conventions")
 }
 
 dependencies {
@@ -14,4 +17,35 @@ dependencies {
   implementation("org.slf4j:slf4j-api")
 
   testImplementation(project(":instrumentation:jdbc:testing"))
+
+  jmhImplementation("io.opentelemetry:opentelemetry-sdk")
+}
+
+tasks {
+  val testStatementCoalescing by registering(Test::class) {
+    filter {
+      includeTestsMatching("StatementCoalescerTest")
+      isFailOnNoMatchingTests = false
+    }
+    include("**/StatementCoalescerTest.*")
+    jvmArgs("-Dotel.instrumentation.jdbc.experimental-statement-coalescing=true")
+    jvmArgs("-Dotel.instrumentation.jdbc.experimental-span-attributes=true")
+  }
+
+  named<Test>("test") {
+    dependsOn(testStatementCoalescing)
+    filter {
+      excludeTestsMatching("StatementCoalescerTest")
+      isFailOnNoMatchingTests = false
+    }
+  }
+
+  // without disabling errorprone, jmh task fails with
+  // Task :jmhCompileGeneratedClasses FAILED
+  // error: plug-in not found: ErrorProne
+  named<JavaCompile>("jmhCompileGeneratedClasses") {
+    options.errorprone {
+      isEnabled.set(false)
+    }
+  }
 }
@@ -0,0 +1,185 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.jdbc;
+
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.instrumentation.jdbc.internal.JdbcConnectionUrlParser;
+import io.opentelemetry.instrumentation.jdbc.internal.OpenTelemetryConnection;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the overhead of the JDBC wrappers over a stand-in connection that doesn't do any work,
+ * so that only the cost of the instrumentation is measured.
+ */
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Thread)
+public class JdbcBenchmark {
+
+  private static final String URL = "jdbc:h2:mem:benchmark";
+  private static final String QUERY = "SELECT name FROM users WHERE id = ?";
+  private static final String UPDATE = "UPDATE users SET name = 'benchmark' WHERE id = 1";
+
+  static {
+    // without span processors spans are recorded but never exported
+    GlobalOpenTelemetry.set(
+        OpenTelemetrySdk.builder()
+            .setTracerProvider(SdkTracerProvider.builder().build())
+            .build());
+  }
+
+  @Param({"false", "true"})
+  public boolean tracing;
+
+  private Connection connection;
+  private Statement statement;
+  private PreparedStatement preparedStatement;
+
+  @Setup
+  public void setup() throws SQLException {
+    Connection standIn = StandIns.connection();
+    connection =
+        tracing
+            ? new OpenTelemetryConnection(
+                standIn, JdbcConnectionUrlParser.parse(URL, new Properties()))
+            : standIn;
+    statement = connection.createStatement();
+    preparedStatement = connection.prepareStatement(QUERY);
+  }
+
+  @TearDown
+  public void tearDown() throws SQLException {
+    preparedStatement.close();
+    statement.close();
+    connection.close();
+  }
+
+  @Benchmark
+  public int statementExecuteUpdate() throws SQLException {
+    return statement.executeUpdate(UPDATE);
+  }
+
+  @Benchmark
+  public ResultSet preparedStatementExecuteQuery() throws SQLException {
+    preparedStatement.setLong(1, 1);
+    return preparedStatement.executeQuery();
+  }
+
+  @Benchmark
+  public int[] statementExecuteBatch() throws SQLException {
+    for (int i = 0; i < 10; i++) {
+      statement.addBatch(UPDATE);
+    }
+    return statement.executeBatch();
+  }
+
+  @Benchmark
+  public PreparedStatement prepareStatement() throws SQLException {
+    return connection.prepareStatement(QUERY);
+  }
+
+  /** Dynamic proxies that implement just enough of JDBC to be wrapped, without any I/O. */
+  private static class StandIns {
+
+    private static final int[] BATCH_RESULT = new int[10];
+
+    static Connection connection() {
+      Connection[] connection = new Connection[1];
+      connection[0] =
+          proxy(
+              Connection.class,
+              (methodName, returnType) -> {
+                switch (methodName) {
+                  case "createStatement":
+                    return statement(Statement.class, connection[0]);
+                  case "prepareStatement":
+                    return statement(PreparedStatement.class, connection[0]);
+                  default:
+                    return defaultValue(returnType);
+                }
+              });
+      return connection[0];
+    }
+
+    private static <T extends Statement> T statement(Class<T> type, Connection connection) {
+      ResultSet resultSet = proxy(ResultSet.class, (methodName, returnType) -> null);
+      return proxy(
+          type,
+          (methodName, returnType) -> {
+            switch (methodName) {
+              case "getConnection":
+                return connection;
+              case "executeQuery":
+                return resultSet;
+              case "executeBatch":
+                return BATCH_RESULT;
+              default:
+                return defaultValue(returnType);
+            }
+          });
+    }
+
+    private static Object defaultValue(Class<?> returnType) {
+      if (returnType == boolean.class) {
+        return false;
+      }
+      if (returnType == int.class) {
+        return 0;
+      }
+      if (returnType == long.class) {
+        return 0L;
+      }
+      return null;
+    }
+
+    private static <T> T proxy(Class<T> type, Answer answer) {
+      return type.cast(
+          Proxy.newProxyInstance(
+              StandIns.class.getClassLoader(),
+              new Class<?>[] {type},
+              (proxy, method, args) -> {
+                switch (method.getName()) {
+                  case "hashCode":
+                    return System.identityHashCode(proxy);
+                  case "equals":
+                    return proxy == args[0];
+                  case "toString":
+                    return type.getSimpleName();
+                  default:
+                    return answer.answer(method.getName(), method.getReturnType());
+                }
+              }));
+    }
+
+    private interface Answer {
+      Object answer(String methodName, Class<?> returnType);
+    }
+  }
+}
@@ -21,7 +21,7 @@
 package io.opentelemetry.instrumentation.jdbc.datasource;
 
 import static io.opentelemetry.instrumentation.jdbc.internal.DataSourceSingletons.instrumenter;
-import static io.opentelemetry.instrumentation.jdbc.internal.JdbcUtils.computeDbInfo;
+import static io.opentelemetry.instrumentation.jdbc.internal.JdbcUtils.extractPooledDbInfo;
 
 import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.context.Context;
@@ -54,7 +54,7 @@ public class OpenTelemetryDataSource implements DataSource, AutoCloseable {
   @Override
   public Connection getConnection() throws SQLException {
     Connection connection = wrapCall(delegate::getConnection);
-    DbInfo dbInfo = computeDbInfo(connection);
+    DbInfo dbInfo = extractPooledDbInfo(connection);
     return new OpenTelemetryConnection(connection, dbInfo);
   }
 
@@ -62,7 +62,7 @@ public class OpenTelemetryDataSource implements DataSource, AutoCloseable {
   public Connection getConnection(final String username, final String password)
       throws SQLException {
     Connection connection = wrapCall(() -> delegate.getConnection(username, password));
-    DbInfo dbInfo = computeDbInfo(connection);
+    DbInfo dbInfo = extractPooledDbInfo(connection);
     return new OpenTelemetryConnection(connection, dbInfo);
   }
 
@@ -9,6 +9,8 @@ import static io.opentelemetry.instrumentation.jdbc.internal.JdbcUtils.connectio
 import static io.opentelemetry.instrumentation.jdbc.internal.JdbcUtils.extractDbInfo;
 
 import com.google.auto.value.AutoValue;
+import io.opentelemetry.instrumentation.api.db.SqlStatementInfo;
+import io.opentelemetry.instrumentation.api.db.SqlStatementSanitizer;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.Statement;
@@ -17,9 +19,18 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 @AutoValue
 public abstract class DbRequest {
 
+  private static final SqlStatementInfo UNKNOWN_STATEMENT =
+      SqlStatementInfo.create(null, null, null);
+
   @Nullable
   public static DbRequest create(PreparedStatement statement) {
-    return create(statement, JdbcData.preparedStatement.get(statement));
+    Connection connection = connectionFromStatement(statement);
+    if (connection == null) {
+      return null;
+    }
+
+    // the statement was sanitized when it was prepared
+    return create(extractDbInfo(connection), JdbcData.preparedStatement.get(statement));
   }
 
   @Nullable
@@ -32,12 +43,57 @@ public abstract class DbRequest {
     return create(extractDbInfo(connection), dbStatementString);
   }
 
-  public static DbRequest create(DbInfo dbInfo, String statement) {
-    return new AutoValue_DbRequest(dbInfo, statement);
+  /**
+   * Creates the request for {@link Statement#executeBatch()}. The batch of the statement is
+   * consumed, as executing a batch resets it.
+   */
+  @Nullable
+  public static DbRequest createBatch(Statement statement) {
+    StatementBatch batch = JdbcData.statementBatch.get(statement);
+    long batchSize = 0;
+    String dbStatementString = null;
+    if (batch != null) {
+      batchSize = batch.size();
+      dbStatementString = batch.statement();
+      batch.clear();
+    }
+
+    Connection connection = connectionFromStatement(statement);
+    if (connection == null) {
+      return null;
+    }
+
+    SqlStatementInfo statementInfo =
+        statement instanceof PreparedStatement
+            ? JdbcData.preparedStatement.get((PreparedStatement) statement)
+            : SqlStatementSanitizer.sanitize(dbStatementString);
+    return create(extractDbInfo(connection), statementInfo, batchSize);
+  }
+
+  public static DbRequest create(DbInfo dbInfo, @Nullable String statement) {
+    // sanitized statement is cached
+    return create(dbInfo, SqlStatementSanitizer.sanitize(statement));
+  }
+
+  public static DbRequest create(DbInfo dbInfo, @Nullable SqlStatementInfo statementInfo) {
+    return new AutoValue_DbRequest(dbInfo, orUnknown(statementInfo), null);
+  }
+
+  public static DbRequest create(
+      DbInfo dbInfo, @Nullable SqlStatementInfo statementInfo, long batchSize) {
+    return new AutoValue_DbRequest(dbInfo, orUnknown(statementInfo), batchSize);
+  }
+
+  private static SqlStatementInfo orUnknown(@Nullable SqlStatementInfo statementInfo) {
+    return statementInfo != null ? statementInfo : UNKNOWN_STATEMENT;
   }
 
   public abstract DbInfo getDbInfo();
 
+  /** Returns the sanitized statement, so that it isn't sanitized again for every attribute. */
+  public abstract SqlStatementInfo getStatementInfo();
+
+  /** Returns the number of commands for batch executions, null otherwise. */
   @Nullable
-  public abstract String getStatement();
+  public abstract Long getBatchSize();
 }
@@ -6,6 +6,7 @@
 package io.opentelemetry.instrumentation.jdbc.internal;
 
 import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.instrumentation.api.db.SqlStatementInfo;
 import io.opentelemetry.instrumentation.api.instrumenter.db.SqlAttributesExtractor;
 import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -44,6 +45,11 @@ public final class JdbcAttributesExtractor extends SqlAttributesExtractor<DbRequ
   @Nullable
   @Override
   protected String rawStatement(DbRequest request) {
-    return request.getStatement();
+    return request.getStatementInfo().getFullStatement();
+  }
+
+  @Override
+  protected SqlStatementInfo sanitize(DbRequest request) {
+    return request.getStatementInfo();
   }
 }
@@ -8,6 +8,7 @@ package io.opentelemetry.instrumentation.jdbc.internal;
 import static io.opentelemetry.instrumentation.jdbc.internal.DbInfo.DEFAULT;
 import static java.util.regex.Pattern.CASE_INSENSITIVE;
 
+import io.opentelemetry.instrumentation.api.caching.Cache;
 import io.opentelemetry.semconv.trace.attributes.SemanticAttributes.DbSystemValues;
 import java.io.UnsupportedEncodingException;
 import java.net.URI;
@@ -22,6 +23,7 @@ import java.util.Map;
 import java.util.Properties;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -795,6 +797,27 @@ public enum JdbcConnectionUrlParser {
 
   private static final Map<String, JdbcConnectionUrlParser> typeParsers = new HashMap<>();
 
+  private static final List<String> STANDARD_PROPERTIES =
+      Arrays.asList(
+          "user",
+          "databasename",
+          "databaseName",
+          "servername",
+          "serverName",
+          "portnumber",
+          "portNumber");
+
+  // the parsed info doesn't contain passwords, so they are stripped from the cached urls
+  private static final Cache<List<Object>, DbInfo> parsedUrls =
+      Cache.newBuilder().setMaximumSize(100).build();
+
+  private static final Pattern PASSWORD_PROPERTY =
+      Pattern.compile("(password|pwd)=[^;&]*", CASE_INSENSITIVE);
+  // the password of user info, as in //user:secret@host
+  private static final Pattern USER_INFO_PASSWORD = Pattern.compile("//([^/:@]*):[^/@]*@");
+  // the password of oracle connect strings, as in oracle:thin:user/secret@host
+  private static final Pattern ORACLE_PASSWORD = Pattern.compile(":([^:/@]*)/[^:/@]*@");
+
   static {
     for (JdbcConnectionUrlParser parser : JdbcConnectionUrlParser.values()) {
       for (String key : parser.typeKeys) {
@@ -817,6 +840,38 @@ public enum JdbcConnectionUrlParser {
     if (connectionUrl == null) {
       return DEFAULT;
     }
+    // pools open many connections to the same few databases, parse every url (and user) only once
+    return parsedUrls.computeIfAbsent(
+        cacheKey(connectionUrl, props), k -> parseUncached(connectionUrl, props));
+  }
+
+  /**
+   * Returns the url without passwords and the values of the standard properties that are read by
+   * the parsers.
+   */
+  private static List<Object> cacheKey(String connectionUrl, @Nullable Properties props) {
+    String url = withoutPasswords(connectionUrl);
+    if (props == null || props.isEmpty()) {
+      return Collections.singletonList(url);
+    }
+    Object[] key = new Object[STANDARD_PROPERTIES.size() + 1];
+    key[0] = url;
+    for (int i = 0; i < STANDARD_PROPERTIES.size(); i++) {
+      key[i + 1] = props.get(STANDARD_PROPERTIES.get(i));
+    }
+    return Arrays.asList(key);
+  }
+
+  static String withoutPasswords(String connectionUrl) {
+    String url = PASSWORD_PROPERTY.matcher(connectionUrl).replaceAll("$1=");
+    url = USER_INFO_PASSWORD.matcher(url).replaceAll("//$1@");
+    if (url.regionMatches(true, 0, "jdbc:oracle:", 0, "jdbc:oracle:".length())) {
+      url = ORACLE_PASSWORD.matcher(url).replaceAll(":$1@");
+    }
+    return url;
+  }
+
+  private static DbInfo parseUncached(String connectionUrl, Properties props) {
     // Make this easier and ignore case.
     connectionUrl = connectionUrl.toLowerCase(Locale.ROOT);
 
@@ -6,8 +6,11 @@
 package io.opentelemetry.instrumentation.jdbc.internal;
 
 import io.opentelemetry.instrumentation.api.caching.Cache;
+import io.opentelemetry.instrumentation.api.db.SqlStatementInfo;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.Statement;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -18,11 +21,29 @@ public final class JdbcData {
   private static final CacheFactory cacheFactory = getCacheFactory();
 
   public static Cache<Connection, DbInfo> connectionInfo = cacheFactory.connectionInfoCache();
-  public static Cache<PreparedStatement, String> preparedStatement =
+  public static Cache<PreparedStatement, SqlStatementInfo> preparedStatement =
       cacheFactory.preparedStatementCache();
+  public static Cache<Statement, StatementBatch> statementBatch =
+      cacheFactory.statementBatchCache();
 
   private JdbcData() {}
 
+  public static void addBatch(Statement statement, @Nullable String sql) {
+    StatementBatch batch = statementBatch.get(statement);
+    if (batch == null) {
+      batch = new StatementBatch();
+      statementBatch.put(statement, batch);
+    }
+    batch.add(sql);
+  }
+
+  public static void clearBatch(Statement statement) {
+    StatementBatch batch = statementBatch.get(statement);
+    if (batch != null) {
+      batch.clear();
+    }
+  }
+
   private static CacheFactory getCacheFactory() {
     try {
       // this class is provided by jdbc javaagent instrumentation
@@ -41,7 +62,9 @@ public final class JdbcData {
   public interface CacheFactory {
     Cache<Connection, DbInfo> connectionInfoCache();
 
-    Cache<PreparedStatement, String> preparedStatementCache();
+    Cache<PreparedStatement, SqlStatementInfo> preparedStatementCache();
+
+    Cache<Statement, StatementBatch> statementBatchCache();
   }
 
   private static class DefaultCacheFactory implements CacheFactory {
@@ -52,7 +75,12 @@ public final class JdbcData {
     }
 
     @Override
-    public Cache<PreparedStatement, String> preparedStatementCache() {
+    public Cache<PreparedStatement, SqlStatementInfo> preparedStatementCache() {
+      return Cache.newBuilder().setWeakKeys().build();
+    }
+
+    @Override
+    public Cache<Statement, StatementBatch> statementBatchCache() {
       return Cache.newBuilder().setWeakKeys().build();
     }
   }
@@ -0,0 +1,39 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.jdbc.internal;
+
+import static io.opentelemetry.api.common.AttributeKey.longKey;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.AttributesBuilder;
+import io.opentelemetry.instrumentation.api.config.Config;
+import io.opentelemetry.instrumentation.api.instrumenter.AttributesExtractor;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+public final class JdbcExperimentalAttributesExtractor
+    extends AttributesExtractor<DbRequest, Void> {
+
+  private static final AttributeKey<Long> JDBC_BATCH_SIZE = longKey("jdbc.batch.size");
+
+  private static final boolean ENABLED =
+      Config.get().getBoolean("otel.instrumentation.jdbc.experimental-span-attributes", false);
+
+  public static boolean isEnabled() {
+    return ENABLED;
+  }
+
+  @Override
+  protected void onStart(AttributesBuilder attributes, DbRequest request) {
+    set(attributes, JDBC_BATCH_SIZE, request.getBatchSize());
+  }
+
+  @Override
+  protected void onEnd(
+      AttributesBuilder attributes,
+      DbRequest request,
+      @Nullable Void unused,
+      @Nullable Throwable error) {}
+}
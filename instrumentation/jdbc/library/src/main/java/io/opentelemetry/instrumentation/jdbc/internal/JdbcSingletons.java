@@ -7,32 +7,52 @@ package io.opentelemetry.instrumentation.jdbc.internal;
 
 import io.opentelemetry.api.GlobalOpenTelemetry;
 import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
+import io.opentelemetry.instrumentation.api.instrumenter.InstrumenterBuilder;
 import io.opentelemetry.instrumentation.api.instrumenter.SpanKindExtractor;
 import io.opentelemetry.instrumentation.api.instrumenter.SpanNameExtractor;
 import io.opentelemetry.instrumentation.api.instrumenter.db.DbAttributesExtractor;
+import io.opentelemetry.instrumentation.api.instrumenter.db.DbClientMetrics;
 import io.opentelemetry.instrumentation.api.instrumenter.db.DbSpanNameExtractor;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 public final class JdbcSingletons {
   private static final String INSTRUMENTATION_NAME = "io.opentelemetry.jdbc";
 
   private static final Instrumenter<DbRequest, Void> INSTRUMENTER;
+  @Nullable private static final StatementCoalescer COALESCER;
 
   static {
+    INSTRUMENTER = instrumenterBuilder().newInstrumenter(SpanKindExtractor.alwaysClient());
+    COALESCER =
+        StatementCoalescer.isEnabled() ? new StatementCoalescer(instrumenterBuilder()) : null;
+  }
+
+  static InstrumenterBuilder<DbRequest, Void> instrumenterBuilder() {
     DbAttributesExtractor<DbRequest, Void> dbAttributesExtractor = new JdbcAttributesExtractor();
     SpanNameExtractor<DbRequest> spanName = DbSpanNameExtractor.create(dbAttributesExtractor);
     JdbcNetAttributesExtractor netAttributesExtractor = new JdbcNetAttributesExtractor();
 
-    INSTRUMENTER =
+    InstrumenterBuilder<DbRequest, Void> builder =
         Instrumenter.<DbRequest, Void>newBuilder(
                 GlobalOpenTelemetry.get(), INSTRUMENTATION_NAME, spanName)
             .addAttributesExtractor(dbAttributesExtractor)
             .addAttributesExtractor(netAttributesExtractor)
-            .newInstrumenter(SpanKindExtractor.alwaysClient());
+            .addRequestMetrics(DbClientMetrics.get());
+    if (JdbcExperimentalAttributesExtractor.isEnabled()) {
+      builder.addAttributesExtractor(new JdbcExperimentalAttributesExtractor());
+    }
+    return builder;
   }
 
   public static Instrumenter<DbRequest, Void> instrumenter() {
     return INSTRUMENTER;
   }
 
+  /** Returns the statement coalescer, or {@code null} if coalescing isn't enabled. */
+  @Nullable
+  public static StatementCoalescer coalescer() {
+    return COALESCER;
+  }
+
   private JdbcSingletons() {}
 }
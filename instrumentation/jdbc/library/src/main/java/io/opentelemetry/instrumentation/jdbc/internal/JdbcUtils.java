@@ -21,11 +21,23 @@ public final class JdbcUtils {
   @Nullable private static Field c3poField = null;
 
   /** Returns the unwrapped connection or null if exception was thrown. */
+  @Nullable
   public static Connection connectionFromStatement(Statement statement) {
     Connection connection;
     try {
       connection = statement.getConnection();
+    } catch (Throwable e) {
+      // Had some problem getting the connection.
+      logger.debug("Could not get connection for StatementAdvice", e);
+      return null;
+    }
+    return unwrapConnection(connection);
+  }
 
+  /** Returns the unwrapped connection or null if exception was thrown. */
+  @Nullable
+  public static Connection unwrapConnection(Connection connection) {
+    try {
       if (c3poField != null) {
         if (connection.getClass().getName().equals("com.mchange.v2.c3p0.impl.NewProxyConnection")) {
           return (Connection) c3poField.get(connection);
@@ -58,7 +70,7 @@ public final class JdbcUtils {
       }
     } catch (Throwable e) {
       // Had some problem getting the connection.
-      logger.debug("Could not get connection for StatementAdvice", e);
+      logger.debug("Could not unwrap connection", e);
       return null;
     }
     return connection;
@@ -68,6 +80,26 @@ public final class JdbcUtils {
     return JdbcData.connectionInfo.computeIfAbsent(connection, JdbcUtils::computeDbInfo);
   }
 
+  /**
+   * Returns the {@link DbInfo} of the physical connection behind {@code connection}, which is
+   * computed once per physical connection, so that pooled connections don't query their metadata
+   * every time they are handed out. A lookup that fails is not cached and retried the next time.
+   */
+  public static DbInfo extractPooledDbInfo(Connection connection) {
+    Connection unwrapped = unwrapConnection(connection);
+    if (unwrapped == null) {
+      return computeDbInfo(connection);
+    }
+    DbInfo dbInfo = JdbcData.connectionInfo.get(unwrapped);
+    if (dbInfo == null) {
+      dbInfo = computeDbInfo(unwrapped);
+      if (dbInfo != DbInfo.DEFAULT) {
+        JdbcData.connectionInfo.put(unwrapped, dbInfo);
+      }
+    }
+    return dbInfo;
+  }
+
   public static DbInfo computeDbInfo(Connection connection) {
     /*
      * Logic to get the DBInfo from a JDBC Connection, if the connection was not created via
@@ -20,6 +20,8 @@
 
 package io.opentelemetry.instrumentation.jdbc.internal;
 
+import static io.opentelemetry.instrumentation.jdbc.internal.JdbcSingletons.coalescer;
+
 import java.sql.Array;
 import java.sql.Blob;
 import java.sql.CallableStatement;
@@ -136,11 +138,13 @@ public class OpenTelemetryConnection implements Connection {
 
   @Override
   public void commit() throws SQLException {
+    flushCoalescedStatements();
     delegate.commit();
   }
 
   @Override
   public void close() throws SQLException {
+    flushCoalescedStatements();
     delegate.close();
   }
 
@@ -242,12 +246,14 @@ public class OpenTelemetryConnection implements Connection {
   @SuppressWarnings("UngroupedOverloads")
   @Override
   public void rollback() throws SQLException {
+    flushCoalescedStatements();
     delegate.rollback();
   }
 
   @SuppressWarnings("UngroupedOverloads")
   @Override
   public void rollback(Savepoint savepoint) throws SQLException {
+    flushCoalescedStatements();
     delegate.rollback(savepoint);
   }
 
@@ -352,4 +358,11 @@ public class OpenTelemetryConnection implements Connection {
   public DbInfo getDbInfo() {
     return dbInfo;
   }
+
+  private void flushCoalescedStatements() {
+    StatementCoalescer coalescer = coalescer();
+    if (coalescer != null) {
+      coalescer.flush(delegate);
+    }
+  }
 }
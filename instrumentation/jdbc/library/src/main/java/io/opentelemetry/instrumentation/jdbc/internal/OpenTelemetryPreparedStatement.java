@@ -50,17 +50,17 @@ public class OpenTelemetryPreparedStatement<S extends PreparedStatement>
 
   @Override
   public ResultSet executeQuery() throws SQLException {
-    return wrapCall(query, delegate::executeQuery);
+    return wrapCall(DbRequest.create(dbInfo, queryInfo), delegate::executeQuery);
   }
 
   @Override
   public int executeUpdate() throws SQLException {
-    return wrapCall(query, delegate::executeUpdate);
+    return wrapCall(DbRequest.create(dbInfo, queryInfo), delegate::executeUpdate);
   }
 
   @Override
   public boolean execute() throws SQLException {
-    return wrapCall(query, delegate::execute);
+    return wrapCall(DbRequest.create(dbInfo, queryInfo), delegate::execute);
   }
 
   @SuppressWarnings("UngroupedOverloads")
@@ -223,6 +223,7 @@ public class OpenTelemetryPreparedStatement<S extends PreparedStatement>
   @Override
   public void addBatch() throws SQLException {
     delegate.addBatch();
+    batch.add(null);
   }
 
   @SuppressWarnings("UngroupedOverloads")
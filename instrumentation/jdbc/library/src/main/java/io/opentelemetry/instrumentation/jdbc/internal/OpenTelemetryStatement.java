@@ -20,33 +20,37 @@
 
 package io.opentelemetry.instrumentation.jdbc.internal;
 
+import static io.opentelemetry.instrumentation.jdbc.internal.JdbcSingletons.coalescer;
 import static io.opentelemetry.instrumentation.jdbc.internal.JdbcSingletons.instrumenter;
 
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.Scope;
+import io.opentelemetry.instrumentation.api.db.SqlStatementInfo;
+import io.opentelemetry.instrumentation.api.db.SqlStatementSanitizer;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.SQLWarning;
 import java.sql.Statement;
-import java.util.ArrayList;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 public class OpenTelemetryStatement<S extends Statement> implements Statement {
 
   protected final S delegate;
   protected final DbInfo dbInfo;
-  protected final String query;
+  // sanitized once, when the statement is prepared
+  @Nullable protected final SqlStatementInfo queryInfo;
 
-  private final ArrayList<String> batchCommands = new ArrayList<>();
+  protected final StatementBatch batch = new StatementBatch();
 
   OpenTelemetryStatement(S delegate, DbInfo dbInfo) {
     this(delegate, dbInfo, null);
   }
 
-  OpenTelemetryStatement(S delegate, DbInfo dbInfo, String query) {
+  OpenTelemetryStatement(S delegate, DbInfo dbInfo, @Nullable String query) {
     this.delegate = delegate;
     this.dbInfo = dbInfo;
-    this.query = query;
+    this.queryInfo = query != null ? SqlStatementSanitizer.sanitize(query) : null;
   }
 
   @Override
@@ -96,7 +100,14 @@ public class OpenTelemetryStatement<S extends Statement> implements Statement {
 
   @Override
   public int[] executeBatch() throws SQLException {
-    return wrapCall(buildSqlForBatch(), delegate::executeBatch);
+    // executing a batch resets it
+    DbRequest request =
+        DbRequest.create(
+            dbInfo,
+            queryInfo != null ? queryInfo : SqlStatementSanitizer.sanitize(batch.statement()),
+            batch.size());
+    batch.clear();
+    return wrapCall(request, delegate::executeBatch);
   }
 
   @Override
@@ -213,13 +224,13 @@ public class OpenTelemetryStatement<S extends Statement> implements Statement {
   @Override
   public void addBatch(String sql) throws SQLException {
     delegate.addBatch(sql);
-    batchCommands.add(sql);
+    batch.add(sql);
   }
 
   @Override
   public void clearBatch() throws SQLException {
     delegate.clearBatch();
-    batchCommands.clear();
+    batch.clear();
   }
 
   @Override
@@ -274,8 +285,29 @@ public class OpenTelemetryStatement<S extends Statement> implements Statement {
 
   protected <T, E extends Exception> T wrapCall(String sql, ThrowingSupplier<T, E> callable)
       throws E {
+    return wrapCall(DbRequest.create(dbInfo, sql), callable);
+  }
+
+  protected <T, E extends Exception> T wrapCall(
+      DbRequest request, ThrowingSupplier<T, E> callable) throws E {
     Context parentContext = Context.current();
-    DbRequest request = DbRequest.create(dbInfo, sql);
+
+    StatementCoalescer coalescer = coalescer();
+    if (coalescer != null) {
+      StatementCoalescer.Execution execution = coalescer.start(delegate, parentContext, request);
+      if (execution == null) {
+        return callable.call();
+      }
+      T result;
+      try {
+        result = callable.call();
+      } catch (Throwable t) {
+        execution.end(t);
+        throw t;
+      }
+      execution.end(null);
+      return result;
+    }
 
     if (!instrumenter().shouldStart(parentContext, request)) {
       return callable.call();
@@ -292,17 +324,4 @@ public class OpenTelemetryStatement<S extends Statement> implements Statement {
     instrumenter().end(context, request, null, null);
     return result;
   }
-
-  private String buildSqlForBatch() {
-    StringBuilder sqlBuilder = new StringBuilder();
-    if (query != null) {
-      sqlBuilder.append(query);
-    }
-
-    for (String batchCommand : batchCommands) {
-      sqlBuilder.append(batchCommand);
-    }
-
-    return sqlBuilder.toString();
-  }
 }
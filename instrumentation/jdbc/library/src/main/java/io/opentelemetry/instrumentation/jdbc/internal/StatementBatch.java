@@ -0,0 +1,68 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.jdbc.internal;
+
+import io.opentelemetry.instrumentation.api.db.SqlStatementSanitizer;
+import java.util.ArrayList;
+import java.util.List;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * The commands added to a JDBC statement batch. Only the number of commands and their distinct
+ * sanitized statements are kept, so that large batches, which typically repeat a few statements
+ * with different literals, don't retain their SQL.
+ */
+public final class StatementBatch {
+
+  // batches with more distinct statements than this don't report a statement
+  private static final int MAX_DISTINCT_STATEMENTS = 10;
+
+  private long size;
+  // null once the batch has too many distinct statements
+  @Nullable private List<String> statements = new ArrayList<>(1);
+
+  /** Adds a command to the batch; {@code sql} is {@code null} for prepared statements. */
+  public void add(@Nullable String sql) {
+    size++;
+    if (sql == null || statements == null) {
+      return;
+    }
+    String statement = SqlStatementSanitizer.sanitize(sql).getFullStatement();
+    if (statement == null || statements.contains(statement)) {
+      return;
+    }
+    if (statements.size() == MAX_DISTINCT_STATEMENTS) {
+      statements = null;
+      return;
+    }
+    statements.add(statement);
+  }
+
+  public long size() {
+    return size;
+  }
+
+  /**
+   * Returns the distinct sanitized statements of the batch joined by {@code ;}, in the order they
+   * were first added, or null if the batch has none or too many of them.
+   */
+  @Nullable
+  public String statement() {
+    if (statements == null || statements.isEmpty()) {
+      return null;
+    }
+    return statements.size() == 1 ? statements.get(0) : String.join("; ", statements);
+  }
+
+  public void clear() {
+    size = 0;
+    if (statements == null) {
+      statements = new ArrayList<>(1);
+    } else {
+      statements.clear();
+    }
+  }
+}
@@ -0,0 +1,337 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.jdbc.internal;
+
+import static io.opentelemetry.api.common.AttributeKey.longKey;
+import static io.opentelemetry.instrumentation.jdbc.internal.JdbcUtils.connectionFromStatement;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.instrumentation.api.caching.Cache;
+import io.opentelemetry.instrumentation.api.config.Config;
+import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
+import io.opentelemetry.instrumentation.api.instrumenter.InstrumenterBuilder;
+import io.opentelemetry.instrumentation.api.instrumenter.SpanKindExtractor;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.checkerframework.checker.lock.qual.GuardedBy;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Coalesces consecutive executions of the same sanitized statement on a connection, with the same
+ * parent, into a single span that records the number of executions and their total duration.
+ *
+ * <p>The span of such a run is started by its first execution and ended when the run is broken: by
+ * an execution of a different statement (or with a different parent) on the same connection, by a
+ * failed execution, or when the connection is committed, rolled back or closed. Since none of that
+ * may happen for a long time, e.g. for a pooled connection in autocommit mode, a run is also ended
+ * once it has 100 executions, and by a background sweep every 100ms once its first execution is
+ * older than a second or its parent span has ended. Batch executions are never coalesced.
+ *
+ * <p>Whatever ends a run, its span ends with the end of its last execution, not when the run is
+ * found to be over.
+ */
+public final class StatementCoalescer {
+
+  private static final AttributeKey<Long> JDBC_COALESCED_EXECUTIONS =
+      longKey("jdbc.coalesced.executions");
+  private static final AttributeKey<Long> JDBC_COALESCED_TOTAL_DURATION_NANOS =
+      longKey("jdbc.coalesced.total_duration_nanos");
+
+  private static final boolean ENABLED =
+      Config.get().getBoolean("otel.instrumentation.jdbc.experimental-statement-coalescing", false);
+
+  private static final long DEFAULT_MAX_EXECUTIONS = 100;
+  private static final Duration DEFAULT_MAX_RUN_DURATION = Duration.ofSeconds(1);
+  private static final long SWEEP_INTERVAL_MILLIS = 100;
+
+  public static boolean isEnabled() {
+    return ENABLED;
+  }
+
+  private final Instrumenter<DbRequest, Void> instrumenter;
+  private final long maxExecutions;
+  private final long maxRunDurationNanos;
+  private final Cache<Connection, Run> runs = Cache.newBuilder().setWeakKeys().build();
+  // the runs that haven't ended yet, for the sweep
+  private final Set<Run> openRuns = ConcurrentHashMap.newKeySet();
+  // the run of the request of its first execution, for the time extractors
+  private final Cache<DbRequest, Run> runsByRequest = Cache.newBuilder().setWeakKeys().build();
+
+  /**
+   * Creates a coalescer reporting the runs with an instrumenter built by {@code
+   * instrumenterBuilder}, which must not have time extractors set.
+   */
+  public StatementCoalescer(InstrumenterBuilder<DbRequest, Void> instrumenterBuilder) {
+    this(instrumenterBuilder, DEFAULT_MAX_EXECUTIONS, DEFAULT_MAX_RUN_DURATION);
+  }
+
+  StatementCoalescer(
+      InstrumenterBuilder<DbRequest, Void> instrumenterBuilder,
+      long maxExecutions,
+      Duration maxRunDuration) {
+    // the span of a run is started by its first execution and ends with its last one
+    this.instrumenter =
+        instrumenterBuilder
+            .setTimeExtractors(
+                request -> runOf(request).startTime,
+                (request, unused, error) -> runOf(request).endTime())
+            .newInstrumenter(SpanKindExtractor.alwaysClient());
+    this.maxExecutions = maxExecutions;
+    this.maxRunDurationNanos = maxRunDuration.toNanos();
+    Executors.newScheduledThreadPool(
+            1,
+            runnable -> {
+              Thread result = new Thread(runnable, "otel-jdbc-statement-coalescer");
+              result.setDaemon(true);
+              result.setContextClassLoader(null);
+              return result;
+            })
+        .scheduleWithFixedDelay(
+            this::sweep, SWEEP_INTERVAL_MILLIS, SWEEP_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Starts the execution of {@code request} on {@code statement}, returns {@code null} if the
+   * execution is not traced.
+   */
+  @Nullable
+  public Execution start(Statement statement, Context parentContext, DbRequest request) {
+    Connection connection = connectionFromStatement(statement);
+    if (connection == null || !instrumenter.shouldStart(parentContext, request)) {
+      return null;
+    }
+
+    boolean batch = request.getBatchSize() != null;
+    String sanitizedStatement = request.getStatementInfo().getFullStatement();
+    Run run = runs.get(connection);
+    if (run != null) {
+      if (!batch && run.canJoin(parentContext, sanitizedStatement) && run.join()) {
+        return new Execution(connection, run, null);
+      }
+      end(connection, run, null);
+    }
+
+    run = new Run(parentContext, sanitizedStatement, request, !batch);
+    runsByRequest.put(request, run);
+    Context context = run.start();
+    if (!batch) {
+      runs.put(connection, run);
+      openRuns.add(run);
+    }
+    return new Execution(connection, run, context.makeCurrent());
+  }
+
+  private Run runOf(DbRequest request) {
+    Run run = runsByRequest.get(request);
+    if (run == null) {
+      throw new IllegalStateException("Request of an unknown run, this is a programming error.");
+    }
+    return run;
+  }
+
+  /** Ends the pending run of {@code connection}, if there is one. */
+  public void flush(Connection connection) {
+    Run run = runs.get(connection);
+    if (run == null) {
+      // statements are keyed by the unwrapped connection, pools call this with their proxies
+      Connection unwrapped = unwrap(connection);
+      if (unwrapped == connection) {
+        return;
+      }
+      connection = unwrapped;
+      run = runs.get(connection);
+      if (run == null) {
+        return;
+      }
+    }
+    end(connection, run, null);
+  }
+
+  /**
+   * Ends the runs whose first execution is older than the maximum run duration, or whose parent
+   * span has ended. Runs with an execution in progress are left to that execution.
+   */
+  void sweep() {
+    long now = System.nanoTime();
+    for (Run run : openRuns) {
+      if (run.endIfStale(now)) {
+        openRuns.remove(run);
+      }
+    }
+  }
+
+  private void end(Connection connection, Run run, @Nullable Throwable error) {
+    if (runs.get(connection) == run) {
+      runs.remove(connection);
+    }
+    openRuns.remove(run);
+    run.end(error);
+  }
+
+  private static Connection unwrap(Connection connection) {
+    try {
+      if (connection.isWrapperFor(Connection.class)) {
+        return connection.unwrap(Connection.class);
+      }
+    } catch (Throwable ignored) {
+      // unwrapping isn't supported or the connection is closed
+    }
+    return connection;
+  }
+
+  /** A single execution of a statement, part of a run. */
+  public final class Execution {
+
+    private final Connection connection;
+    private final Run run;
+    @Nullable private final Scope scope;
+    private final long startNanos = System.nanoTime();
+
+    private Execution(Connection connection, Run run, @Nullable Scope scope) {
+      this.connection = connection;
+      this.run = run;
+      this.scope = scope;
+    }
+
+    public void end(@Nullable Throwable error) {
+      if (scope != null) {
+        scope.close();
+      }
+      boolean full = run.record(startNanos, System.nanoTime());
+      if (error != null || !run.joinable || full) {
+        end(connection, run, error);
+      }
+    }
+  }
+
+  private final class Run {
+
+    private final Context parentContext;
+    @Nullable private final String sanitizedStatement;
+    private final DbRequest request;
+    private final boolean joinable;
+
+    private final Span parentSpan;
+    private final boolean parentRecording;
+    private final Instant startTime = Instant.now();
+    private final long startNanos = System.nanoTime();
+
+    @GuardedBy("this")
+    @Nullable
+    private Context context;
+
+    // the end of the last recorded execution
+    @GuardedBy("this")
+    private long endNanos;
+
+    @GuardedBy("this")
+    private long executions;
+
+    @GuardedBy("this")
+    private long totalDurationNanos;
+
+    // executions that joined the run and haven't been recorded yet, the first one included
+    @GuardedBy("this")
+    private long inProgress = 1;
+
+    @GuardedBy("this")
+    private boolean ended;
+
+    private Run(
+        Context parentContext,
+        @Nullable String sanitizedStatement,
+        DbRequest request,
+        boolean joinable) {
+      this.parentContext = parentContext;
+      this.sanitizedStatement = sanitizedStatement;
+      this.request = request;
+      this.joinable = joinable;
+      parentSpan = Span.fromContext(parentContext);
+      parentRecording = parentSpan.isRecording();
+    }
+
+    private synchronized Context start() {
+      Context context = instrumenter.start(parentContext, request);
+      this.context = context;
+      return context;
+    }
+
+    private boolean canJoin(Context parentContext, @Nullable String sanitizedStatement) {
+      return joinable
+          && this.parentContext == parentContext
+          && Objects.equals(this.sanitizedStatement, sanitizedStatement);
+    }
+
+    /** Joins the run, unless it has ended or has the maximum number of executions. */
+    private synchronized boolean join() {
+      if (ended || executions + inProgress >= maxExecutions) {
+        return false;
+      }
+      inProgress++;
+      return true;
+    }
+
+    /** Records an execution, returns whether the run has the maximum number of executions. */
+    private synchronized boolean record(long executionStartNanos, long executionEndNanos) {
+      inProgress--;
+      executions++;
+      totalDurationNanos += executionEndNanos - executionStartNanos;
+      if (executions == 1 || executionEndNanos - endNanos > 0) {
+        endNanos = executionEndNanos;
+      }
+      return executions >= maxExecutions;
+    }
+
+    private synchronized boolean endIfStale(long now) {
+      if (ended) {
+        return true;
+      }
+      if (inProgress > 0) {
+        return false;
+      }
+      if (now - startNanos < maxRunDurationNanos
+          && (!parentRecording || parentSpan.isRecording())) {
+        return false;
+      }
+      end(null);
+      return true;
+    }
+
+    private synchronized Instant endTime() {
+      // a run ended without a recorded execution ends now
+      long lastEndNanos = executions > 0 ? endNanos : System.nanoTime();
+      return startTime.plusNanos(lastEndNanos - startNanos);
+    }
+
+    private synchronized void end(@Nullable Throwable error) {
+      if (ended) {
+        return;
+      }
+      ended = true;
+      Context context = this.context;
+      if (context == null) {
+        throw new IllegalStateException("Run ended before it started, this is a programming error.");
+      }
+      if (joinable) {
+        Span span = Span.fromContext(context);
+        span.setAttribute(JDBC_COALESCED_EXECUTIONS, executions);
+        span.setAttribute(JDBC_COALESCED_TOTAL_DURATION_NANOS, totalDurationNanos);
+      }
+      instrumenter.end(context, request, null, error);
+      runsByRequest.remove(request);
+    }
+  }
+}
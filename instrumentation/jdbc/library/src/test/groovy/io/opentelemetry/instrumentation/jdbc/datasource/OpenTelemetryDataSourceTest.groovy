@@ -5,9 +5,15 @@
 
 package io.opentelemetry.instrumentation.jdbc.datasource
 
+import io.opentelemetry.instrumentation.jdbc.TestConnection
+import io.opentelemetry.instrumentation.jdbc.internal.DbInfo
 import io.opentelemetry.instrumentation.jdbc.internal.OpenTelemetryConnection
 import spock.lang.Specification
 
+import java.sql.Connection
+import java.sql.DatabaseMetaData
+import java.sql.SQLException
+
 class OpenTelemetryDataSourceTest extends Specification {
 
   def "verify get connection"() {
@@ -56,4 +62,52 @@ class OpenTelemetryDataSourceTest extends Specification {
     dbInfo.port == 5432
   }
 
+  def "connections of a routing data source report the database they are connected to"() {
+    setup:
+    def first = new TestConnection()
+    first.setUrl("jdbc:postgresql://first.host:5432/first")
+    def second = new TestConnection()
+    second.setUrl("jdbc:postgresql://second.host:5432/second")
+    def connections = [first, second, first]
+    def dataSource = new OpenTelemetryDataSource(new TestDataSource() {
+      @Override
+      Connection getConnection() throws SQLException {
+        return connections.remove(0)
+      }
+    })
+
+    expect:
+    dbInfo(dataSource.getConnection()).host == "first.host"
+    dbInfo(dataSource.getConnection()).host == "second.host"
+    dbInfo(dataSource.getConnection()).host == "first.host"
+  }
+
+  def "a failed lookup is retried when the connection is handed out again"() {
+    setup:
+    def failLookup = true
+    def connection = new TestConnection() {
+      @Override
+      DatabaseMetaData getMetaData() throws SQLException {
+        if (failLookup) {
+          failLookup = false
+          throw new SQLException("lookup failed")
+        }
+        return super.getMetaData()
+      }
+    }
+    def dataSource = new OpenTelemetryDataSource(new TestDataSource() {
+      @Override
+      Connection getConnection() throws SQLException {
+        return connection
+      }
+    })
+
+    expect:
+    dbInfo(dataSource.getConnection()) == DbInfo.DEFAULT
+    dbInfo(dataSource.getConnection()).host == "127.0.0.1"
+  }
+
+  static DbInfo dbInfo(Connection connection) {
+    return ((OpenTelemetryConnection) connection).dbInfo
+  }
 }
@@ -0,0 +1,49 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.jdbc.internal
+
+import spock.lang.Specification
+
+class StatementBatchTest extends Specification {
+
+  def "batch of #commands"() {
+    setup:
+    def batch = new StatementBatch()
+
+    when:
+    commands.each { batch.add(it) }
+
+    then:
+    batch.size() == commands.size()
+    batch.statement() == statement
+
+    where:
+    commands                                                       | statement
+    []                                                             | null
+    ["INSERT INTO t VALUES (1)"]                                   | "INSERT INTO t VALUES (?)"
+    ["INSERT INTO t VALUES (1)", "INSERT INTO t VALUES (2)"]       | "INSERT INTO t VALUES (?)"
+    ["DELETE FROM t", "DELETE FROM t"]                             | "DELETE FROM t"
+    ["DELETE FROM t", "DELETE FROM u"]                             | "DELETE FROM t; DELETE FROM u"
+    ["DELETE FROM t", "DELETE FROM u", "DELETE FROM t"]            | "DELETE FROM t; DELETE FROM u"
+    [null, null]                                                   | null
+    (1..11).collect { "DELETE FROM t$it" }                         | null
+  }
+
+  def "clear resets the batch"() {
+    setup:
+    def batch = new StatementBatch()
+    batch.add("DELETE FROM t")
+    batch.add("DELETE FROM u")
+
+    when:
+    batch.clear()
+    batch.add("DELETE FROM v")
+
+    then:
+    batch.size() == 1
+    batch.statement() == "DELETE FROM v"
+  }
+}
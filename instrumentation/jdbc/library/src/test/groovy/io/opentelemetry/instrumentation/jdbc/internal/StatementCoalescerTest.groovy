@@ -0,0 +1,222 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.jdbc.internal
+
+import io.opentelemetry.api.common.AttributeKey
+import io.opentelemetry.context.Context
+import io.opentelemetry.instrumentation.jdbc.TestConnection
+import io.opentelemetry.instrumentation.jdbc.TestStatement
+import io.opentelemetry.instrumentation.test.InstrumentationSpecification
+import io.opentelemetry.instrumentation.test.LibraryTestTrait
+import io.opentelemetry.sdk.trace.data.SpanData
+import io.opentelemetry.semconv.trace.attributes.SemanticAttributes
+import java.time.Duration
+import java.time.Instant
+import java.util.concurrent.TimeUnit
+
+// runs with statement coalescing and the experimental span attributes enabled, see build.gradle.kts
+class StatementCoalescerTest extends InstrumentationSpecification implements LibraryTestTrait {
+
+  static final EXECUTIONS = AttributeKey.longKey("jdbc.coalesced.executions")
+  static final BATCH_SIZE = AttributeKey.longKey("jdbc.batch.size")
+
+  def testConnection = new TestConnection()
+  def connection = new OpenTelemetryConnection(testConnection, DbInfo.DEFAULT)
+
+  def "coalesces repeated executions of a statement"() {
+    when:
+    runWithSpan("parent") {
+      def statement = connection.createStatement()
+      statement.executeQuery("SELECT * FROM t WHERE id = 1")
+      statement.executeQuery("SELECT * FROM t WHERE id = 2")
+      statement.executeQuery("SELECT * FROM t WHERE id = 3")
+      connection.commit()
+    }
+
+    then:
+    def spans = dbSpans()
+    spans.size() == 1
+    spans[0].attributes.get(SemanticAttributes.DB_STATEMENT) == "SELECT * FROM t WHERE id = ?"
+    spans[0].attributes.get(EXECUTIONS) == 3
+  }
+
+  def "ends the run when a different statement runs"() {
+    when:
+    runWithSpan("parent") {
+      def statement = connection.createStatement()
+      statement.executeQuery("SELECT * FROM t WHERE id = 1")
+      statement.executeQuery("SELECT * FROM t WHERE id = 2")
+      statement.executeUpdate("DELETE FROM t")
+      connection.commit()
+    }
+
+    then:
+    def spans = dbSpans()
+    spans.size() == 2
+    executionsOf(spans, "SELECT * FROM t WHERE id = ?") == 2
+    executionsOf(spans, "DELETE FROM t") == 1
+  }
+
+  def "ends the run when the connection is #method"() {
+    when:
+    runWithSpan("parent") {
+      def statement = connection.createStatement()
+      statement.executeQuery("SELECT * FROM t")
+      statement.executeQuery("SELECT * FROM t")
+      connection."$method"()
+      // not part of the run any more
+      statement.executeQuery("SELECT * FROM t")
+      connection.commit()
+    }
+
+    then:
+    def spans = dbSpans()
+    spans.size() == 2
+    spans*.attributes*.get(EXECUTIONS).sort() == [1, 2]
+
+    where:
+    method << ["commit", "rollback", "close"]
+  }
+
+  def "ends the run after the maximum number of executions"() {
+    setup:
+    def coalescer =
+      new StatementCoalescer(JdbcSingletons.instrumenterBuilder(), 2, Duration.ofMinutes(1))
+
+    when:
+    runWithSpan("parent") {
+      3.times { execute(coalescer, "SELECT * FROM t") }
+      coalescer.flush(testConnection)
+    }
+
+    then:
+    def spans = dbSpans()
+    spans.size() == 2
+    spans*.attributes*.get(EXECUTIONS).sort() == [1, 2]
+  }
+
+  def "sweep ends runs older than the maximum run duration"() {
+    setup:
+    def coalescer =
+      new StatementCoalescer(JdbcSingletons.instrumenterBuilder(), 100, maxRunDuration)
+
+    when:
+    runWithSpan("parent") {
+      execute(coalescer, "SELECT * FROM t")
+      coalescer.sweep()
+      execute(coalescer, "SELECT * FROM t")
+      coalescer.flush(testConnection)
+    }
+
+    then:
+    dbSpans()*.attributes*.get(EXECUTIONS).sort() == executions
+
+    where:
+    maxRunDuration         | executions
+    Duration.ofMinutes(1)  | [2]
+    Duration.ZERO          | [1, 1]
+  }
+
+  def "sweep ends runs whose parent span ended"() {
+    setup:
+    def coalescer =
+      new StatementCoalescer(JdbcSingletons.instrumenterBuilder(), 100, Duration.ofMinutes(1))
+
+    when:
+    runWithSpan("parent") {
+      execute(coalescer, "SELECT * FROM t")
+    }
+    coalescer.sweep()
+
+    then:
+    def spans = dbSpans()
+    spans.size() == 1
+    spans[0].attributes.get(EXECUTIONS) == 1
+  }
+
+  def "ends the span of a run with its last execution"() {
+    setup:
+    def coalescer =
+      new StatementCoalescer(JdbcSingletons.instrumenterBuilder(), 100, Duration.ofMinutes(1))
+    Instant executed = null
+
+    when:
+    runWithSpan("parent") {
+      execute(coalescer, "SELECT * FROM t")
+      execute(coalescer, "SELECT * FROM t")
+      executed = Instant.now()
+    }
+    // the run is only found to be over well after its last execution, and after its parent ended
+    Thread.sleep(100)
+    coalescer.sweep()
+
+    then:
+    def trace = waitForTraces(1)[0]
+    def parent = trace.find { it.name == "parent" }
+    def spans = trace.findAll { it.name != "parent" }
+    spans.size() == 1
+    spans[0].attributes.get(EXECUTIONS) == 2
+    // Instant.now() is only millisecond precise on java 8
+    spans[0].endEpochNanos <= epochNanos(executed) + TimeUnit.MILLISECONDS.toNanos(1)
+    spans[0].endEpochNanos <= parent.endEpochNanos
+  }
+
+  def "reports the size and the statements of a batch"() {
+    when:
+    runWithSpan("parent") {
+      def statement = connection.createStatement()
+      statement.addBatch("INSERT INTO t VALUES (1)")
+      statement.addBatch("INSERT INTO t VALUES (2)")
+      statement.addBatch("DELETE FROM u")
+      statement.executeBatch()
+    }
+
+    then:
+    def spans = dbSpans()
+    spans.size() == 1
+    spans[0].attributes.get(SemanticAttributes.DB_STATEMENT) ==
+      "INSERT INTO t VALUES (?); DELETE FROM u"
+    spans[0].attributes.get(BATCH_SIZE) == 3
+    // batches are never coalesced
+    spans[0].attributes.get(EXECUTIONS) == null
+  }
+
+  def "reports the size of a prepared statement batch"() {
+    when:
+    runWithSpan("parent") {
+      def statement = connection.prepareStatement("INSERT INTO t VALUES (?)")
+      statement.addBatch()
+      statement.addBatch()
+      statement.executeBatch()
+    }
+
+    then:
+    def spans = dbSpans()
+    spans.size() == 1
+    spans[0].attributes.get(SemanticAttributes.DB_STATEMENT) == "INSERT INTO t VALUES (?)"
+    spans[0].attributes.get(BATCH_SIZE) == 2
+  }
+
+  def execute(StatementCoalescer coalescer, String sql) {
+    coalescer.start(
+      new TestStatement(testConnection), Context.current(), DbRequest.create(DbInfo.DEFAULT, sql))
+      .end(null)
+  }
+
+  List<SpanData> dbSpans() {
+    // every test ends its runs before it waits for the trace
+    waitForTraces(1)[0].findAll { it.name != "parent" }
+  }
+
+  static long epochNanos(Instant instant) {
+    TimeUnit.SECONDS.toNanos(instant.epochSecond) + instant.nano
+  }
+
+  static long executionsOf(List<SpanData> spans, String statement) {
+    spans.find { it.attributes.get(SemanticAttributes.DB_STATEMENT) == statement }
+      .attributes.get(EXECUTIONS)
+  }
+}
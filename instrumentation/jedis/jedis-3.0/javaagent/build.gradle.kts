@@ -33,6 +33,7 @@ dependencies {
 
 tasks {
   named<Test>("test") {
+    jvmArgs("-Dotel.instrumentation.jedis.experimental-pipeline-spans=true")
     usesService(gradle.sharedServices.registrations["testcontainersBuildService"].getService())
   }
 }
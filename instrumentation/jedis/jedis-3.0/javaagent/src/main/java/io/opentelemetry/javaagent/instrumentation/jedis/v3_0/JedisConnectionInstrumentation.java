@@ -7,6 +7,7 @@ package io.opentelemetry.javaagent.instrumentation.jedis.v3_0;
 
 import static io.opentelemetry.javaagent.instrumentation.api.Java8BytecodeBridge.currentContext;
 import static io.opentelemetry.javaagent.instrumentation.jedis.v3_0.JedisSingletons.instrumenter;
+import static io.opentelemetry.javaagent.instrumentation.jedis.v3_0.JedisSingletons.pipelineSpansEnabled;
 import static java.util.Arrays.asList;
 import static net.bytebuddy.matcher.ElementMatchers.is;
 import static net.bytebuddy.matcher.ElementMatchers.isMethod;
@@ -18,6 +19,8 @@ import io.opentelemetry.context.Context;
 import io.opentelemetry.context.Scope;
 import io.opentelemetry.javaagent.extension.instrumentation.TypeInstrumentation;
 import io.opentelemetry.javaagent.extension.instrumentation.TypeTransformer;
+import io.opentelemetry.javaagent.instrumentation.api.ContextStore;
+import io.opentelemetry.javaagent.instrumentation.api.InstrumentationContext;
 import net.bytebuddy.asm.Advice;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.matcher.ElementMatcher;
@@ -51,10 +54,20 @@ public class JedisConnectionInstrumentation implements TypeInstrumentation {
         @Advice.Argument(0) ProtocolCommand command,
         @Advice.Argument(1) byte[][] args,
         @Advice.Local("otelJedisRequest") JedisRequest request,
+        @Advice.Local("otelJedisPipeline") JedisPipeline pipeline,
         @Advice.Local("otelContext") Context context,
         @Advice.Local("otelScope") Scope scope) {
       Context parentContext = currentContext();
       request = JedisRequest.create(connection, command, asList(args));
+      if (pipelineSpansEnabled()) {
+        ContextStore<Connection, JedisPipeline> contextStore =
+            InstrumentationContext.get(Connection.class, JedisPipeline.class);
+        pipeline = contextStore.get(connection);
+        if (pipeline != null) {
+          pipeline.add(request);
+          return;
+        }
+      }
       if (!instrumenter().shouldStart(parentContext, request)) {
         return;
       }
@@ -67,8 +80,15 @@ public class JedisConnectionInstrumentation implements TypeInstrumentation {
     public static void stopSpan(
         @Advice.Thrown Throwable throwable,
         @Advice.Local("otelJedisRequest") JedisRequest request,
+        @Advice.Local("otelJedisPipeline") JedisPipeline pipeline,
         @Advice.Local("otelContext") Context context,
         @Advice.Local("otelScope") Scope scope) {
+      if (pipeline != null) {
+        if (throwable != null) {
+          pipeline.onCommandFailure(request, throwable);
+        }
+        return;
+      }
       if (scope == null) {
         return;
       }
@@ -0,0 +1,74 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.jedis.v3_0;
+
+import static io.opentelemetry.javaagent.instrumentation.jedis.v3_0.JedisSingletons.instrumenter;
+import static io.opentelemetry.javaagent.instrumentation.jedis.v3_0.JedisSingletons.pipelineInstrumenter;
+
+import io.opentelemetry.context.Context;
+import io.opentelemetry.instrumentation.api.db.RedisPipelineBatch;
+import java.time.Instant;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import redis.clients.jedis.Connection;
+
+/**
+ * The commands sent through a {@link redis.clients.jedis.Pipeline} until it is synced, which are
+ * reported as a single span when pipeline spans are enabled. Pipelined commands don't have their
+ * own latency, as their replies are read together, so only commands that fail to be sent get a span
+ * of their own.
+ */
+public final class JedisPipeline {
+
+  private final Connection connection;
+  private final Context parentContext;
+  private final RedisPipelineBatch batch = new RedisPipelineBatch();
+  @Nullable private Instant endTime;
+
+  public JedisPipeline(Connection connection, Context parentContext) {
+    this.connection = connection;
+    this.parentContext = parentContext;
+  }
+
+  public void add(JedisRequest request) {
+    long bytes = request.getCommand().getRaw().length;
+    for (byte[] arg : request.getArgs()) {
+      bytes += arg.length;
+    }
+    batch.add(request.getOperation(), bytes);
+  }
+
+  public void onCommandFailure(JedisRequest request, Throwable error) {
+    if (instrumenter().shouldStart(parentContext, request)) {
+      Context context = instrumenter().start(parentContext, request);
+      instrumenter().end(context, request, null, error);
+    }
+  }
+
+  public void end(@Nullable Throwable error) {
+    if (batch.commandCount() == 0 || !pipelineInstrumenter().shouldStart(parentContext, this)) {
+      return;
+    }
+    endTime = Instant.now();
+    Context context = pipelineInstrumenter().start(parentContext, this);
+    pipelineInstrumenter().end(context, this, null, error);
+  }
+
+  Connection getConnection() {
+    return connection;
+  }
+
+  RedisPipelineBatch getBatch() {
+    return batch;
+  }
+
+  Instant startTime() {
+    return batch.startTime();
+  }
+
+  Instant endTime() {
+    return endTime != null ? endTime : Instant.now();
+  }
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.jedis.v3_0;
+
+import io.opentelemetry.api.common.AttributesBuilder;
+import io.opentelemetry.instrumentation.api.db.RedisPipelineBatch;
+import io.opentelemetry.instrumentation.api.instrumenter.AttributesExtractor;
+import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+final class JedisPipelineAttributesExtractor extends AttributesExtractor<JedisPipeline, Void> {
+
+  @Override
+  protected void onStart(AttributesBuilder attributes, JedisPipeline pipeline) {
+    set(attributes, SemanticAttributes.DB_SYSTEM, SemanticAttributes.DbSystemValues.REDIS);
+    set(attributes, SemanticAttributes.DB_OPERATION, RedisPipelineBatch.OPERATION);
+    pipeline.getBatch().addAttributes(attributes::put);
+  }
+
+  @Override
+  protected void onEnd(
+      AttributesBuilder attributes,
+      JedisPipeline pipeline,
+      @Nullable Void unused,
+      @Nullable Throwable error) {}
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.jedis.v3_0;
+
+import static io.opentelemetry.javaagent.instrumentation.api.Java8BytecodeBridge.currentContext;
+import static io.opentelemetry.javaagent.instrumentation.jedis.v3_0.JedisSingletons.pipelineSpansEnabled;
+import static net.bytebuddy.matcher.ElementMatchers.isMethod;
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static net.bytebuddy.matcher.ElementMatchers.namedOneOf;
+import static net.bytebuddy.matcher.ElementMatchers.takesArguments;
+
+import io.opentelemetry.javaagent.extension.instrumentation.TypeInstrumentation;
+import io.opentelemetry.javaagent.extension.instrumentation.TypeTransformer;
+import io.opentelemetry.javaagent.instrumentation.api.ContextStore;
+import io.opentelemetry.javaagent.instrumentation.api.InstrumentationContext;
+import net.bytebuddy.asm.Advice;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.matcher.ElementMatcher;
+import redis.clients.jedis.Connection;
+
+/**
+ * Groups the commands sent through a {@link redis.clients.jedis.Pipeline} into a {@link
+ * JedisPipeline}, reported when the pipeline is synced. Every pipelined command looks up the client
+ * of the pipeline first, this marks the client as pipelining until the next sync.
+ */
+public class JedisPipelineInstrumentation implements TypeInstrumentation {
+  @Override
+  public ElementMatcher<TypeDescription> typeMatcher() {
+    return named("redis.clients.jedis.Pipeline");
+  }
+
+  @Override
+  public void transform(TypeTransformer transformer) {
+    transformer.applyAdviceToMethod(
+        isMethod().and(named("getClient")).and(takesArguments(1)),
+        this.getClass().getName() + "$GetClientAdvice");
+    transformer.applyAdviceToMethod(
+        isMethod().and(namedOneOf("sync", "syncAndReturnAll")).and(takesArguments(0)),
+        this.getClass().getName() + "$SyncAdvice");
+  }
+
+  @SuppressWarnings("unused")
+  public static class GetClientAdvice {
+
+    @Advice.OnMethodExit(suppress = Throwable.class)
+    public static void onExit(@Advice.Return Connection client) {
+      if (client == null || !pipelineSpansEnabled()) {
+        return;
+      }
+      ContextStore<Connection, JedisPipeline> contextStore =
+          InstrumentationContext.get(Connection.class, JedisPipeline.class);
+      if (contextStore.get(client) == null) {
+        contextStore.put(client, new JedisPipeline(client, currentContext()));
+      }
+    }
+  }
+
+  @SuppressWarnings("unused")
+  public static class SyncAdvice {
+
+    @Advice.OnMethodExit(onThrowable = Throwable.class, suppress = Throwable.class)
+    public static void onExit(
+        @Advice.FieldValue("client") Connection client, @Advice.Thrown Throwable throwable) {
+      if (client == null || !pipelineSpansEnabled()) {
+        return;
+      }
+      ContextStore<Connection, JedisPipeline> contextStore =
+          InstrumentationContext.get(Connection.class, JedisPipeline.class);
+      JedisPipeline pipeline = contextStore.get(client);
+      if (pipeline != null) {
+        contextStore.put(client, null);
+        pipeline.end(throwable);
+      }
+    }
+  }
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.jedis.v3_0;
+
+import io.opentelemetry.instrumentation.api.instrumenter.net.InetSocketAddressNetAttributesExtractor;
+import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+final class JedisPipelineNetAttributesExtractor
+    extends InetSocketAddressNetAttributesExtractor<JedisPipeline, Void> {
+
+  @Override
+  public @Nullable InetSocketAddress getAddress(JedisPipeline pipeline, @Nullable Void unused) {
+    Socket socket = pipeline.getConnection().getSocket();
+    if (socket != null && socket.getRemoteSocketAddress() instanceof InetSocketAddress) {
+      return (InetSocketAddress) socket.getRemoteSocketAddress();
+    }
+    return null;
+  }
+
+  @Override
+  public String transport(JedisPipeline pipeline) {
+    return SemanticAttributes.NetTransportValues.IP_TCP;
+  }
+}
@@ -6,17 +6,24 @@
 package io.opentelemetry.javaagent.instrumentation.jedis.v3_0;
 
 import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.instrumentation.api.config.Config;
+import io.opentelemetry.instrumentation.api.db.RedisPipelineBatch;
 import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
 import io.opentelemetry.instrumentation.api.instrumenter.SpanKindExtractor;
 import io.opentelemetry.instrumentation.api.instrumenter.SpanNameExtractor;
 import io.opentelemetry.instrumentation.api.instrumenter.db.DbAttributesExtractor;
+import io.opentelemetry.instrumentation.api.instrumenter.db.DbClientMetrics;
 import io.opentelemetry.instrumentation.api.instrumenter.db.DbSpanNameExtractor;
 import io.opentelemetry.javaagent.instrumentation.api.instrumenter.PeerServiceAttributesExtractor;
 
 public final class JedisSingletons {
   private static final String INSTRUMENTATION_NAME = "io.opentelemetry.jedis-3.0";
 
+  private static final boolean PIPELINE_SPANS_ENABLED =
+      Config.get().getBoolean("otel.instrumentation.jedis.experimental-pipeline-spans", false);
+
   private static final Instrumenter<JedisRequest, Void> INSTRUMENTER;
+  private static final Instrumenter<JedisPipeline, Void> PIPELINE_INSTRUMENTER;
 
   static {
     DbAttributesExtractor<JedisRequest, Void> attributesExtractor =
@@ -30,6 +37,23 @@ public final class JedisSingletons {
             .addAttributesExtractor(attributesExtractor)
             .addAttributesExtractor(netAttributesExtractor)
             .addAttributesExtractor(PeerServiceAttributesExtractor.create(netAttributesExtractor))
+            .addRequestMetrics(DbClientMetrics.get())
+            .newInstrumenter(SpanKindExtractor.alwaysClient());
+
+    JedisPipelineNetAttributesExtractor pipelineNetAttributesExtractor =
+        new JedisPipelineNetAttributesExtractor();
+    PIPELINE_INSTRUMENTER =
+        Instrumenter.<JedisPipeline, Void>newBuilder(
+                GlobalOpenTelemetry.get(),
+                INSTRUMENTATION_NAME,
+                pipeline -> RedisPipelineBatch.OPERATION)
+            .addAttributesExtractor(new JedisPipelineAttributesExtractor())
+            .addAttributesExtractor(pipelineNetAttributesExtractor)
+            .addAttributesExtractor(
+                PeerServiceAttributesExtractor.create(pipelineNetAttributesExtractor))
+            // the span is created when the pipeline is synced, but starts with its first command
+            .setTimeExtractors(
+                JedisPipeline::startTime, (pipeline, unused, error) -> pipeline.endTime())
             .newInstrumenter(SpanKindExtractor.alwaysClient());
   }
 
@@ -37,5 +61,17 @@ public final class JedisSingletons {
     return INSTRUMENTER;
   }
 
+  public static Instrumenter<JedisPipeline, Void> pipelineInstrumenter() {
+    return PIPELINE_INSTRUMENTER;
+  }
+
+  /**
+   * Returns whether the commands of a {@link redis.clients.jedis.Pipeline} are reported as a single
+   * span when the pipeline is synced, instead of a span per command.
+   */
+  public static boolean pipelineSpansEnabled() {
+    return PIPELINE_SPANS_ENABLED;
+  }
+
   private JedisSingletons() {}
 }
@@ -144,4 +144,37 @@ class Jedis30ClientTest extends AgentInstrumentationSpecification {
       }
     }
   }
+
+  def "pipelined commands"() {
+    when:
+    def pipeline = jedis.pipelined()
+    pipeline.set("foo", "bar")
+    pipeline.set("baz", "qux")
+    def value = pipeline.get("foo")
+    pipeline.sync()
+
+    then:
+    value.get() == "bar"
+
+    assertTraces(1) {
+      trace(0, 1) {
+        span(0) {
+          name "PIPELINE"
+          kind CLIENT
+          attributes {
+            "$SemanticAttributes.DB_SYSTEM.key" "redis"
+            "$SemanticAttributes.DB_OPERATION.key" "PIPELINE"
+            "db.redis.pipeline.command_count" 3
+            "db.redis.pipeline.operations" ["SET", "GET"]
+            "db.redis.pipeline.operation_counts" [2, 1]
+            "db.redis.pipeline.bytes" 24
+            "$SemanticAttributes.NET_PEER_NAME.key" "localhost"
+            "$SemanticAttributes.NET_PEER_PORT.key" port
+            "${SemanticAttributes.NET_PEER_IP.key}" "127.0.0.1"
+            "${SemanticAttributes.NET_TRANSPORT}" SemanticAttributes.NetTransportValues.IP_TCP
+          }
+        }
+      }
+    }
+  }
 }
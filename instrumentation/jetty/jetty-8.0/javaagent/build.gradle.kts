@@ -27,3 +27,7 @@ dependencies {
   latestDepTestLibrary("org.eclipse.jetty:jetty-servlet:9.+")
   latestDepTestLibrary("org.eclipse.jetty:jetty-continuation:9.+")
 }
+
+tasks.withType<Test>().configureEach {
+  jvmArgs("-Dotel.instrumentation.jetty.experimental-thread-pool-metrics=true")
+}
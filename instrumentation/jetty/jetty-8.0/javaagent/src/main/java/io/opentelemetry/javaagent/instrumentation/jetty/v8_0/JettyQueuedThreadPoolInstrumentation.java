@@ -17,10 +17,12 @@ import io.opentelemetry.javaagent.instrumentation.api.InstrumentationContext;
 import io.opentelemetry.javaagent.instrumentation.api.Java8BytecodeBridge;
 import io.opentelemetry.javaagent.instrumentation.api.concurrent.ExecutorAdviceHelper;
 import io.opentelemetry.javaagent.instrumentation.api.concurrent.PropagatedContext;
+import io.opentelemetry.javaagent.instrumentation.api.concurrent.QueueTimeRecorder;
 import io.opentelemetry.javaagent.instrumentation.api.concurrent.RunnableWrapper;
 import net.bytebuddy.asm.Advice;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.matcher.ElementMatcher;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
 
 public class JettyQueuedThreadPoolInstrumentation implements TypeInstrumentation {
 
@@ -34,6 +36,11 @@ public class JettyQueuedThreadPoolInstrumentation implements TypeInstrumentation
     transformer.applyAdviceToMethod(
         named("dispatch").and(takesArguments(1)).and(takesArgument(0, Runnable.class)),
         this.getClass().getName() + "$DispatchAdvice");
+    // dispatch() was removed in jetty 9.1, later versions only need their submit time recorded
+    // here: context propagation into execute() is handled by the executors instrumentation
+    transformer.applyAdviceToMethod(
+        named("execute").and(takesArguments(1)).and(takesArgument(0, Runnable.class)),
+        this.getClass().getName() + "$ExecuteAdvice");
   }
 
   @SuppressWarnings("unused")
@@ -41,15 +48,58 @@ public class JettyQueuedThreadPoolInstrumentation implements TypeInstrumentation
 
     @Advice.OnMethodEnter(suppress = Throwable.class)
     public static PropagatedContext enterJobSubmit(
+        @Advice.This QueuedThreadPool pool,
         @Advice.Argument(value = 0, readOnly = false) Runnable task) {
       Context context = Java8BytecodeBridge.currentContext();
-      if (ExecutorAdviceHelper.shouldPropagateContext(context, task)) {
-        task = RunnableWrapper.wrapIfNeeded(task);
-        ContextStore<Runnable, PropagatedContext> contextStore =
-            InstrumentationContext.get(Runnable.class, PropagatedContext.class);
-        return ExecutorAdviceHelper.attachContextToTask(context, contextStore, task);
+      boolean propagateContext = ExecutorAdviceHelper.shouldPropagateContext(context, task);
+      boolean recordQueueTime =
+          JettyThreadPoolMetrics.enabled() && ExecutorAdviceHelper.shouldRecordQueueTime(task);
+      if (!propagateContext && !recordQueueTime) {
+        return null;
+      }
+
+      task = RunnableWrapper.wrapIfNeeded(task);
+      ContextStore<Runnable, PropagatedContext> contextStore =
+          InstrumentationContext.get(Runnable.class, PropagatedContext.class);
+      PropagatedContext propagatedContext = null;
+      if (propagateContext) {
+        propagatedContext = ExecutorAdviceHelper.attachContextToTask(context, contextStore, task);
+      }
+      if (recordQueueTime) {
+        QueueTimeRecorder recorder =
+            JettyThreadPoolMetrics.queueTimeRecorder(
+                InstrumentationContext.get(QueuedThreadPool.class, QueueTimeRecorder.class), pool);
+        propagatedContext =
+            ExecutorAdviceHelper.attachSubmitTimeToTask(contextStore, task, recorder);
+      }
+      return propagatedContext;
+    }
+
+    @Advice.OnMethodExit(onThrowable = Throwable.class, suppress = Throwable.class)
+    public static void exitJobSubmit(
+        @Advice.Enter PropagatedContext propagatedContext, @Advice.Thrown Throwable throwable) {
+      ExecutorAdviceHelper.cleanUpAfterSubmit(propagatedContext, throwable);
+    }
+  }
+
+  @SuppressWarnings("unused")
+  public static class ExecuteAdvice {
+
+    @Advice.OnMethodEnter(suppress = Throwable.class)
+    public static PropagatedContext enterJobSubmit(
+        @Advice.This QueuedThreadPool pool,
+        @Advice.Argument(value = 0, readOnly = false) Runnable task) {
+      if (!JettyThreadPoolMetrics.enabled() || !ExecutorAdviceHelper.shouldRecordQueueTime(task)) {
+        return null;
       }
-      return null;
+
+      task = RunnableWrapper.wrapIfNeeded(task);
+      ContextStore<Runnable, PropagatedContext> contextStore =
+          InstrumentationContext.get(Runnable.class, PropagatedContext.class);
+      QueueTimeRecorder recorder =
+          JettyThreadPoolMetrics.queueTimeRecorder(
+              InstrumentationContext.get(QueuedThreadPool.class, QueueTimeRecorder.class), pool);
+      return ExecutorAdviceHelper.attachSubmitTimeToTask(contextStore, task, recorder);
     }
 
     @Advice.OnMethodExit(onThrowable = Throwable.class, suppress = Throwable.class)
@@ -0,0 +1,90 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.jetty.v8_0;
+
+import io.opentelemetry.instrumentation.api.config.Config;
+import io.opentelemetry.javaagent.instrumentation.api.ContextStore;
+import io.opentelemetry.javaagent.instrumentation.api.concurrent.QueueTimeRecorder;
+import io.opentelemetry.javaagent.instrumentation.api.concurrent.ThreadPoolMetrics;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.Collection;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
+
+public final class JettyThreadPoolMetrics {
+  private static final String INSTRUMENTATION_NAME = "io.opentelemetry.jetty-8.0";
+
+  private static final boolean ENABLED =
+      Config.get().getBoolean("otel.instrumentation.jetty.experimental-thread-pool-metrics", false);
+
+  // only used when the feature is enabled
+  @Nullable private static final ThreadPoolMetrics METRICS =
+      ENABLED ? ThreadPoolMetrics.create(INSTRUMENTATION_NAME) : null;
+
+  // (QueuedThreadPool)int, null if the size of the job queue can't be read
+  @Nullable private static final MethodHandle QUEUE_SIZE = ENABLED ? findQueueSize() : null;
+
+  public static boolean enabled() {
+    return ENABLED;
+  }
+
+  public static QueueTimeRecorder queueTimeRecorder(
+      ContextStore<QueuedThreadPool, QueueTimeRecorder> contextStore, QueuedThreadPool pool) {
+    QueueTimeRecorder recorder = contextStore.get(pool);
+    if (recorder == null) {
+      recorder = contextStore.putIfAbsent(pool, () -> registerPool(pool));
+    }
+    return recorder;
+  }
+
+  private static QueueTimeRecorder registerPool(QueuedThreadPool pool) {
+    String poolName = pool.getName();
+    METRICS.registerPool(
+        pool,
+        poolName,
+        p -> p.getThreads() - p.getIdleThreads(),
+        QueuedThreadPool::getIdleThreads,
+        QUEUE_SIZE != null ? JettyThreadPoolMetrics::queueSize : null);
+    return METRICS.queueTimeRecorder(poolName);
+  }
+
+  private static long queueSize(QueuedThreadPool pool) {
+    try {
+      return (int) QUEUE_SIZE.invokeExact(pool);
+    } catch (Throwable ignored) {
+      return 0;
+    }
+  }
+
+  @Nullable
+  private static MethodHandle findQueueSize() {
+    MethodHandles.Lookup lookup = MethodHandles.lookup();
+    try {
+      return lookup.findVirtual(
+          QueuedThreadPool.class, "getQueueSize", MethodType.methodType(int.class));
+    } catch (Throwable ignored) {
+      // getQueueSize() was added in jetty 9, jetty 8 keeps its job queue in a private field
+    }
+    try {
+      Field jobs = QueuedThreadPool.class.getDeclaredField("_jobs");
+      jobs.setAccessible(true);
+      MethodHandle size =
+          lookup.findVirtual(Collection.class, "size", MethodType.methodType(int.class));
+      return MethodHandles.filterReturnValue(
+          lookup
+              .unreflectGetter(jobs)
+              .asType(MethodType.methodType(Collection.class, QueuedThreadPool.class)),
+          size);
+    } catch (Throwable ignored) {
+      return null;
+    }
+  }
+
+  private JettyThreadPoolMetrics() {}
+}
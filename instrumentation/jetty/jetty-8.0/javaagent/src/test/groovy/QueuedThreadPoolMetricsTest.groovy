@@ -0,0 +1,89 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+import io.opentelemetry.api.common.AttributeKey
+import io.opentelemetry.instrumentation.test.AgentInstrumentationSpecification
+import org.eclipse.jetty.util.thread.QueuedThreadPool
+import spock.util.concurrent.PollingConditions
+
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+class QueuedThreadPoolMetricsTest extends AgentInstrumentationSpecification {
+
+  static final AttributeKey<String> THREAD_POOL_NAME = AttributeKey.stringKey("thread_pool.name")
+
+  def "QueuedThreadPool records queue time and queue size without active span"() {
+    setup:
+    def pool = new QueuedThreadPool()
+    pool.setName("test-pool")
+    pool.setMinThreads(1)
+    pool.setMaxThreads(1)
+    pool.start()
+    def blockerStarted = new CountDownLatch(1)
+    def releaseBlocker = new CountDownLatch(1)
+    def queuedTaskDone = new CountDownLatch(1)
+    def conditions = new PollingConditions(timeout: 10, initialDelay: 1.5, factor: 1.25)
+
+    when:
+    // occupies the only thread of the pool, so that the next task stays queued
+    pool.execute(new Runnable() {
+      @Override
+      void run() {
+        blockerStarted.countDown()
+        releaseBlocker.await(10, TimeUnit.SECONDS)
+      }
+    })
+    blockerStarted.await(10, TimeUnit.SECONDS)
+    pool.execute(new Runnable() {
+      @Override
+      void run() {
+        queuedTaskDone.countDown()
+      }
+    })
+
+    then:
+    conditions.eventually {
+      assert gaugeValue("thread_pool.queue.size") == 1
+      assert gaugeValue("thread_pool.threads.active") == 1
+    }
+
+    when:
+    Thread.sleep(100)
+    releaseBlocker.countDown()
+    queuedTaskDone.await(10, TimeUnit.SECONDS)
+
+    then:
+    conditions.eventually {
+      def point = queueDurationPoint()
+      assert point != null
+      assert point.count == 2
+      // the second task waited for the first one for at least 100ms
+      assert point.sum >= 100
+      assert gaugeValue("thread_pool.queue.size") == 0
+    }
+
+    cleanup:
+    releaseBlocker.countDown()
+    pool.stop()
+  }
+
+  def gaugeValue(String name) {
+    def points = getMetrics()
+      .findAll { it.name == name }
+      .collectMany { it.longGaugeData.points }
+      .findAll { it.attributes.get(THREAD_POOL_NAME) == "test-pool" }
+    // metrics are exported periodically, the last point is the most recent one
+    return points.empty ? null : points.last().value
+  }
+
+  def queueDurationPoint() {
+    def points = getMetrics()
+      .findAll { it.name == "thread_pool.queue.duration" }
+      .collectMany { it.doubleHistogramData.points }
+      .findAll { it.attributes.get(THREAD_POOL_NAME) == "test-pool" }
+    return points.empty ? null : points.last()
+  }
+}
@@ -14,6 +14,7 @@ import static net.bytebuddy.matcher.ElementMatchers.takesArgument;
 
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.Scope;
+import io.opentelemetry.instrumentation.api.instrumenter.messaging.MessagingConsumerMetrics;
 import io.opentelemetry.javaagent.extension.instrumentation.TypeInstrumentation;
 import io.opentelemetry.javaagent.extension.instrumentation.TypeTransformer;
 import io.opentelemetry.javaagent.instrumentation.api.Java8BytecodeBridge;
@@ -59,6 +60,10 @@ public class JmsMessageListenerInstrumentation implements TypeInstrumentation {
       }
 
       context = listenerInstrumenter().start(parentContext, request);
+      long messageTimestamp = request.messageTimestamp();
+      if (messageTimestamp > 0) {
+        MessagingConsumerMetrics.recordMessageTimestamp(context, messageTimestamp);
+      }
       scope = context.makeCurrent();
     }
 
@@ -10,6 +10,8 @@ import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
 import io.opentelemetry.instrumentation.api.instrumenter.SpanKindExtractor;
 import io.opentelemetry.instrumentation.api.instrumenter.SpanNameExtractor;
 import io.opentelemetry.instrumentation.api.instrumenter.messaging.MessageOperation;
+import io.opentelemetry.instrumentation.api.instrumenter.messaging.MessagingConsumerMetrics;
+import io.opentelemetry.instrumentation.api.instrumenter.messaging.MessagingProducerMetrics;
 import io.opentelemetry.instrumentation.api.instrumenter.messaging.MessagingSpanNameExtractor;
 
 public final class JmsSingletons {
@@ -31,6 +33,7 @@ public final class JmsSingletons {
     return Instrumenter.<MessageWithDestination, Void>newBuilder(
             GlobalOpenTelemetry.get(), INSTRUMENTATION_NAME, spanNameExtractor)
         .addAttributesExtractor(attributesExtractor)
+        .addRequestMetrics(MessagingProducerMetrics.get())
         .newProducerInstrumenter(new MessagePropertySetter());
   }
 
@@ -58,6 +61,7 @@ public final class JmsSingletons {
     return Instrumenter.<MessageWithDestination, Void>newBuilder(
             GlobalOpenTelemetry.get(), INSTRUMENTATION_NAME, spanNameExtractor)
         .addAttributesExtractor(attributesExtractor)
+        .addRequestMetrics(MessagingConsumerMetrics.get())
         .newConsumerInstrumenter(new MessagePropertyGetter());
   }
 
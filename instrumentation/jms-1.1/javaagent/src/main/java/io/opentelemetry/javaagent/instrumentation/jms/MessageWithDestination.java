@@ -39,6 +39,15 @@ public abstract class MessageWithDestination {
     return timer().endTime();
   }
 
+  /** Returns the epoch millis at which the message was sent, or 0 if it's unknown. */
+  public long messageTimestamp() {
+    try {
+      return message().getJMSTimestamp();
+    } catch (Exception ignored) {
+      return 0;
+    }
+  }
+
   public static MessageWithDestination create(Message message, Destination fallbackDestination) {
     return create(message, fallbackDestination, Timer.start());
   }
@@ -1,5 +1,8 @@
+import net.ltgt.gradle.errorprone.errorprone
+
 plugins {
   id("otel.javaagent-instrumentation")
+  id("otel.jmh-conventions")
 }
 
 muzzle {
@@ -34,9 +37,24 @@ dependencies {
   latestDepTestLibrary("org.springframework.kafka:spring-kafka-test:2.2.+")
   // assertj-core:3.20.0 is incompatible with spring-kafka-test:2.7.2
   latestDepTestLibrary("org.assertj:assertj-core:3.19.0")
+
+  // the instrumentation classes are benchmarked directly, without the agent
+  jmhImplementation(project(":instrumentation-api"))
+  jmhImplementation(project(":javaagent-instrumentation-api"))
+  jmhImplementation("org.apache.kafka:kafka-clients:0.11.0.0")
+  jmhImplementation("io.opentelemetry:opentelemetry-sdk")
 }
 
 tasks {
+  // without disabling errorprone, jmh task fails with
+  // Task :jmhCompileGeneratedClasses FAILED
+  // error: plug-in not found: ErrorProne
+  named<JavaCompile>("jmhCompileGeneratedClasses") {
+    options.errorprone {
+      isEnabled.set(false)
+    }
+  }
+
   withType<Test>().configureEach {
     // TODO run tests both with and without experimental span attributes
     jvmArgs("-Dotel.instrumentation.kafka.experimental-span-attributes=true")
@@ -0,0 +1,78 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.kafkaclients;
+
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the per record overhead of {@link TracingIterator} when iterating over records that
+ * were already fetched, i.e. one process span per record.
+ */
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Thread)
+public class TracingIteratorBenchmark {
+
+  private static final int RECORDS = 100;
+
+  static {
+    // KafkaSingletons reads the global instance when it's initialized; without span processors
+    // spans are recorded but never exported
+    GlobalOpenTelemetry.set(
+        OpenTelemetrySdk.builder()
+            .setTracerProvider(SdkTracerProvider.builder().build())
+            .setPropagators(ContextPropagators.create(W3CTraceContextPropagator.getInstance()))
+            .build());
+  }
+
+  @Param({"false", "true"})
+  public boolean tracing;
+
+  private final List<ConsumerRecord<String, String>> records = new ArrayList<>(RECORDS);
+
+  @Setup
+  public void setup() {
+    for (int i = 0; i < RECORDS; i++) {
+      records.add(new ConsumerRecord<>("benchmark-topic", 0, i, "key", "value"));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(RECORDS)
+  public long iterate() {
+    Iterator<ConsumerRecord<String, String>> iterator =
+        tracing ? new TracingIterator<>(records.iterator()) : records.iterator();
+    long offsets = 0;
+    while (iterator.hasNext()) {
+      offsets += iterator.next().offset();
+    }
+    return offsets;
+  }
+}
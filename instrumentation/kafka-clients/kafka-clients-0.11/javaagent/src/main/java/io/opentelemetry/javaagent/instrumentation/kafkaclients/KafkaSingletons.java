@@ -11,6 +11,8 @@ import io.opentelemetry.instrumentation.api.instrumenter.InstrumenterBuilder;
 import io.opentelemetry.instrumentation.api.instrumenter.SpanKindExtractor;
 import io.opentelemetry.instrumentation.api.instrumenter.SpanNameExtractor;
 import io.opentelemetry.instrumentation.api.instrumenter.messaging.MessageOperation;
+import io.opentelemetry.instrumentation.api.instrumenter.messaging.MessagingConsumerMetrics;
+import io.opentelemetry.instrumentation.api.instrumenter.messaging.MessagingProducerMetrics;
 import io.opentelemetry.instrumentation.api.instrumenter.messaging.MessagingSpanNameExtractor;
 import io.opentelemetry.javaagent.instrumentation.kafka.KafkaConsumerAdditionalAttributesExtractor;
 import io.opentelemetry.javaagent.instrumentation.kafka.KafkaConsumerAttributesExtractor;
@@ -38,6 +40,7 @@ public final class KafkaSingletons {
             GlobalOpenTelemetry.get(), INSTRUMENTATION_NAME, spanNameExtractor)
         .addAttributesExtractor(attributesExtractor)
         .addAttributesExtractor(new KafkaProducerAdditionalAttributesExtractor())
+        .addRequestMetrics(MessagingProducerMetrics.get())
         .newInstrumenter(SpanKindExtractor.alwaysProducer());
   }
 
@@ -63,7 +66,8 @@ public final class KafkaSingletons {
         Instrumenter.<ConsumerRecord<?, ?>, Void>newBuilder(
                 GlobalOpenTelemetry.get(), INSTRUMENTATION_NAME, spanNameExtractor)
             .addAttributesExtractor(attributesExtractor)
-            .addAttributesExtractor(new KafkaConsumerAdditionalAttributesExtractor());
+            .addAttributesExtractor(new KafkaConsumerAdditionalAttributesExtractor())
+            .addRequestMetrics(MessagingConsumerMetrics.get());
     if (KafkaConsumerExperimentalAttributesExtractor.isEnabled()) {
       builder.addAttributesExtractor(new KafkaConsumerExperimentalAttributesExtractor());
     }
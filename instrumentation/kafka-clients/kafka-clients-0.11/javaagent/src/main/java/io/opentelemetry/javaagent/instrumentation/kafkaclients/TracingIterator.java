@@ -9,9 +9,11 @@ import static io.opentelemetry.javaagent.instrumentation.kafkaclients.KafkaSingl
 
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.Scope;
+import io.opentelemetry.instrumentation.api.instrumenter.messaging.MessagingConsumerMetrics;
 import io.opentelemetry.javaagent.instrumentation.kafka.KafkaConsumerIteratorWrapper;
 import java.util.Iterator;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.record.TimestampType;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 public class TracingIterator<K, V>
@@ -52,6 +54,9 @@ public class TracingIterator<K, V>
     if (next != null && consumerProcessInstrumenter().shouldStart(parentContext, next)) {
       currentRequest = next;
       currentContext = consumerProcessInstrumenter().start(parentContext, currentRequest);
+      if (next.timestampType() != TimestampType.NO_TIMESTAMP_TYPE) {
+        MessagingConsumerMetrics.recordMessageTimestamp(currentContext, next.timestamp());
+      }
       currentScope = currentContext.makeCurrent();
     }
     return next;
@@ -8,10 +8,8 @@ package io.opentelemetry.javaagent.instrumentation.lettuce.v5_0;
 import io.lettuce.core.protocol.RedisCommand;
 import io.opentelemetry.instrumentation.api.db.RedisCommandSanitizer;
 import io.opentelemetry.instrumentation.api.instrumenter.db.DbAttributesExtractor;
-import io.opentelemetry.instrumentation.lettuce.common.LettuceArgSplitter;
+import io.opentelemetry.instrumentation.lettuce.common.LettuceCommandArguments;
 import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
-import java.util.Collections;
-import java.util.List;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 final class LettuceDbAttributesExtractor
@@ -42,11 +40,8 @@ final class LettuceDbAttributesExtractor
   @Override
   protected String statement(RedisCommand<?, ?, ?> request) {
     String command = LettuceInstrumentationUtil.getCommandName(request);
-    List<String> args =
-        request.getArgs() == null
-            ? Collections.emptyList()
-            : LettuceArgSplitter.splitArgs(request.getArgs().toCommandString());
-    return RedisCommandSanitizer.sanitize(command, args);
+    return RedisCommandSanitizer.sanitize(
+        command, LettuceCommandArguments.create(request.getArgs()));
   }
 
   @Override
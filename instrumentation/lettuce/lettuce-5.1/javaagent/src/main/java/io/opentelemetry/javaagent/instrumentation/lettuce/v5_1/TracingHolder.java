@@ -7,12 +7,24 @@ package io.opentelemetry.javaagent.instrumentation.lettuce.v5_1;
 
 import io.lettuce.core.tracing.Tracing;
 import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.instrumentation.api.config.Config;
 import io.opentelemetry.instrumentation.lettuce.v5_1.LettuceTracing;
+import java.time.Duration;
 
 public final class TracingHolder {
 
   public static final Tracing TRACING =
-      LettuceTracing.create(GlobalOpenTelemetry.get()).newTracing();
+      LettuceTracing.newBuilder(GlobalOpenTelemetry.get())
+          .setPipelineSpansEnabled(
+              Config.get()
+                  .getBoolean("otel.instrumentation.lettuce.experimental-pipeline-spans", false))
+          .setPipelineCommandThreshold(
+              Config.get()
+                  .getDuration(
+                      "otel.instrumentation.lettuce.experimental-pipeline-command-threshold",
+                      Duration.ofMillis(100)))
+          .build()
+          .newTracing();
 
   private TracingHolder() {}
 }
@@ -1,6 +1,9 @@
+import net.ltgt.gradle.errorprone.errorprone
+
 plugins {
   id("otel.library-instrumentation")
   id("otel.nullaway-conventions")
+  id("otel.jmh-conventions")
 }
 
 dependencies {
@@ -10,6 +13,9 @@ dependencies {
 
   testImplementation(project(":instrumentation:lettuce:lettuce-5.1:testing"))
   testImplementation(project(":instrumentation:reactor-3.1:library"))
+
+  jmhImplementation("io.lettuce:lettuce-core:5.1.0.RELEASE")
+  jmhImplementation("io.opentelemetry:opentelemetry-sdk")
 }
 
 tasks {
@@ -17,4 +23,13 @@ tasks {
     systemProperty("testLatestDeps", findProperty("testLatestDeps") as Boolean)
     usesService(gradle.sharedServices.registrations["testcontainersBuildService"].getService())
   }
+
+  // without disabling errorprone, jmh task fails with
+  // Task :jmhCompileGeneratedClasses FAILED
+  // error: plug-in not found: ErrorProne
+  named<JavaCompile>("jmhCompileGeneratedClasses") {
+    options.errorprone {
+      isEnabled.set(false)
+    }
+  }
 }
@@ -0,0 +1,85 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.lettuce.v5_1;
+
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.sync.RedisCommands;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.resource.DefaultClientResources;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import java.net.InetAddress;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of {@code GET} commands issued by many threads over a single connection,
+ * so that all tracing callbacks run on the same event loop, against a {@link RedisStandIn}.
+ */
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@BenchmarkMode(Mode.Throughput)
+@Threads(8)
+@State(Scope.Benchmark)
+public class LettuceGetBenchmark {
+
+  @Param({"false", "true"})
+  public boolean tracing;
+
+  private RedisStandIn server;
+  private ClientResources clientResources;
+  private RedisClient client;
+  private StatefulRedisConnection<String, String> connection;
+  private RedisCommands<String, String> commands;
+
+  @Setup
+  public void setup() throws InterruptedException {
+    server = new RedisStandIn();
+    DefaultClientResources.Builder resources = DefaultClientResources.builder();
+    if (tracing) {
+      // without span processors spans are recorded but never exported
+      OpenTelemetrySdk openTelemetry =
+          OpenTelemetrySdk.builder()
+              .setTracerProvider(SdkTracerProvider.builder().build())
+              .build();
+      resources.tracing(LettuceTracing.create(openTelemetry).newTracing());
+    }
+    clientResources = resources.build();
+    String host = InetAddress.getLoopbackAddress().getHostAddress();
+    client = RedisClient.create(clientResources, RedisURI.create(host, server.port()));
+    connection = client.connect();
+    commands = connection.sync();
+  }
+
+  @TearDown
+  public void tearDown() throws InterruptedException {
+    connection.close();
+    client.shutdown();
+    clientResources.shutdown().await();
+    server.close();
+  }
+
+  @Benchmark
+  public String get() {
+    return commands.get("key");
+  }
+}
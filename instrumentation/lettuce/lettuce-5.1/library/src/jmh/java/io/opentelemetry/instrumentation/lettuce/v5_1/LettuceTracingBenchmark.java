@@ -0,0 +1,96 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.lettuce.v5_1;
+
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.protocol.CommandArgs;
+import io.lettuce.core.tracing.TraceContext;
+import io.lettuce.core.tracing.Tracer;
+import io.lettuce.core.tracing.Tracing;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the overhead of {@link OpenTelemetryTracing} by replaying the tracing callbacks that
+ * lettuce's {@code CommandHandler} makes for each command, without a redis server.
+ */
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Thread)
+public class LettuceTracingBenchmark {
+
+  private Tracing tracing;
+  private Tracer tracer;
+  private TraceContext traceContext;
+  private Tracing.Endpoint endpoint;
+  private CommandArgs<String, String> args;
+  private CommandArgs<String, String> getArgs;
+
+  @Setup
+  public void setup() {
+    // without span processors spans are recorded but never exported
+    OpenTelemetrySdk openTelemetry =
+        OpenTelemetrySdk.builder().setTracerProvider(SdkTracerProvider.builder().build()).build();
+    tracing = LettuceTracing.create(openTelemetry).newTracing();
+    tracer = tracing.getTracerProvider().getTracer();
+    traceContext = tracing.initialTraceContextProvider().getTraceContext();
+    endpoint =
+        tracing.createEndpoint(new InetSocketAddress(InetAddress.getLoopbackAddress(), 6379));
+    args = new CommandArgs<>(StringCodec.UTF8).addKey("key").addValue("value");
+    getArgs = new CommandArgs<>(StringCodec.UTF8).addKey("key");
+  }
+
+  @Benchmark
+  public Tracer.Span get() {
+    Tracer.Span span = tracer.nextSpan(traceContext);
+    span.name("GET");
+    span.remoteEndpoint(endpoint);
+    span.tag("redis.args", getArgs.toCommandString());
+    span.annotate("redis.encode.start");
+    span.start();
+    span.annotate("redis.encode.end");
+    span.finish();
+    return span;
+  }
+
+  @Benchmark
+  public Tracer.Span command() {
+    Tracer.Span span = tracer.nextSpan(traceContext);
+    span.name("SET");
+    span.remoteEndpoint(endpoint);
+    span.tag("redis.args", args.toCommandString());
+    span.start();
+    span.finish();
+    return span;
+  }
+
+  @Benchmark
+  public Tracer.Span commandWithError() {
+    Tracer.Span span = tracer.nextSpan(traceContext);
+    span.name("SET");
+    span.remoteEndpoint(endpoint);
+    span.start();
+    span.tag("error", "ERR wrong number of arguments");
+    span.finish();
+    return span;
+  }
+}
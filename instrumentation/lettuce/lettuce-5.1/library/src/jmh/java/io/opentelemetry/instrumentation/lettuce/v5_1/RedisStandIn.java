@@ -0,0 +1,128 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.lettuce.v5_1;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import io.netty.util.ByteProcessor;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A stand-in for a redis server that answers every {@code GET} with the same value and every other
+ * command with {@code OK}, so that benchmarks measure the client and not the server.
+ */
+final class RedisStandIn implements AutoCloseable {
+
+  private static final ByteBuf VALUE =
+      Unpooled.unreleasableBuffer(
+          Unpooled.copiedBuffer("$5\r\nvalue\r\n", StandardCharsets.US_ASCII));
+  private static final ByteBuf OK =
+      Unpooled.unreleasableBuffer(Unpooled.copiedBuffer("+OK\r\n", StandardCharsets.US_ASCII));
+
+  private final EventLoopGroup group = new NioEventLoopGroup(1);
+  private final Channel channel;
+
+  RedisStandIn() throws InterruptedException {
+    channel =
+        new ServerBootstrap()
+            .group(group)
+            .channel(NioServerSocketChannel.class)
+            .childHandler(
+                new ChannelInitializer<SocketChannel>() {
+                  @Override
+                  protected void initChannel(SocketChannel ch) {
+                    ch.pipeline().addLast(new CommandDecoder());
+                  }
+                })
+            .bind(InetAddress.getLoopbackAddress(), 0)
+            .sync()
+            .channel();
+  }
+
+  int port() {
+    return ((InetSocketAddress) channel.localAddress()).getPort();
+  }
+
+  @Override
+  public void close() throws InterruptedException {
+    channel.close().sync();
+    group.shutdownGracefully().sync();
+  }
+
+  // decodes commands sent as RESP arrays of bulk strings: *<n>\r\n($<length>\r\n<bytes>\r\n){n}
+  private static final class CommandDecoder extends ByteToMessageDecoder {
+
+    @Override
+    protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) {
+      boolean replied = false;
+      while (true) {
+        int start = in.readerIndex();
+        Boolean get = readCommand(in);
+        if (get == null) {
+          in.readerIndex(start);
+          break;
+        }
+        ctx.write((get ? VALUE : OK).duplicate());
+        replied = true;
+      }
+      if (replied) {
+        ctx.flush();
+      }
+    }
+
+    // returns whether the command is a GET, null if it's incomplete
+    @Nullable
+    private static Boolean readCommand(ByteBuf in) {
+      long args = readNumber(in, '*');
+      if (args < 0) {
+        return null;
+      }
+      boolean get = false;
+      for (long i = 0; i < args; i++) {
+        long length = readNumber(in, '$');
+        if (length < 0 || in.readableBytes() < length + 2) {
+          return null;
+        }
+        if (i == 0) {
+          get = length == 3 && (in.getByte(in.readerIndex()) | 0x20) == 'g';
+        }
+        in.skipBytes((int) length + 2);
+      }
+      return get;
+    }
+
+    // reads <prefix><number>\r\n, returns -1 if it's incomplete
+    private static long readNumber(ByteBuf in, char prefix) {
+      int start = in.readerIndex();
+      if (!in.isReadable() || in.getByte(start) != prefix) {
+        return -1;
+      }
+      int end = in.forEachByte(start, in.readableBytes(), ByteProcessor.FIND_CR);
+      if (end < 0 || end + 1 >= in.writerIndex()) {
+        return -1;
+      }
+      long number = 0;
+      for (int i = start + 1; i < end; i++) {
+        number = 10 * number + (in.getByte(i) - '0');
+      }
+      in.readerIndex(end + 2);
+      return number;
+    }
+  }
+}
@@ -14,13 +14,27 @@ public final class LettuceTracing {
 
   /** Returns a new {@link LettuceTracing} configured with the given {@link OpenTelemetry}. */
   public static LettuceTracing create(OpenTelemetry openTelemetry) {
-    return new LettuceTracing(openTelemetry);
+    return newBuilder(openTelemetry).build();
+  }
+
+  /**
+   * Returns a new {@link LettuceTracingBuilder} configured with the given {@link OpenTelemetry}.
+   */
+  public static LettuceTracingBuilder newBuilder(OpenTelemetry openTelemetry) {
+    return new LettuceTracingBuilder(openTelemetry);
   }
 
   private final Tracer tracer;
+  private final boolean pipelineSpansEnabled;
+  private final long pipelineCommandThresholdNanos;
 
-  private LettuceTracing(OpenTelemetry openTelemetry) {
+  LettuceTracing(
+      OpenTelemetry openTelemetry,
+      boolean pipelineSpansEnabled,
+      long pipelineCommandThresholdNanos) {
     tracer = openTelemetry.getTracer("io.opentelemetry.lettuce-5.1");
+    this.pipelineSpansEnabled = pipelineSpansEnabled;
+    this.pipelineCommandThresholdNanos = pipelineCommandThresholdNanos;
   }
 
   /**
@@ -28,6 +42,8 @@ public final class LettuceTracing {
    * io.lettuce.core.resource.ClientResources.Builder#tracing(Tracing)}.
    */
   public Tracing newTracing() {
-    return new OpenTelemetryTracing(tracer);
+    PipelineBatches pipelineBatches =
+        pipelineSpansEnabled ? new PipelineBatches(tracer, pipelineCommandThresholdNanos) : null;
+    return new OpenTelemetryTracing(tracer, pipelineBatches);
   }
 }
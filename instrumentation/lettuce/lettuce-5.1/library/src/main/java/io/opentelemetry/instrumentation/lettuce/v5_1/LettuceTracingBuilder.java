@@ -0,0 +1,50 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.lettuce.v5_1;
+
+import io.opentelemetry.api.OpenTelemetry;
+import java.time.Duration;
+
+/** A builder of {@link LettuceTracing}. */
+public final class LettuceTracingBuilder {
+
+  private final OpenTelemetry openTelemetry;
+
+  private boolean pipelineSpansEnabled;
+  private Duration pipelineCommandThreshold = Duration.ofMillis(100);
+
+  LettuceTracingBuilder(OpenTelemetry openTelemetry) {
+    this.openTelemetry = openTelemetry;
+  }
+
+  /**
+   * Sets whether the commands written to a connection for the same parent before the first reply
+   * to them arrives, e.g. the commands of a connection with auto-flush disabled that are flushed
+   * together, are reported as a single pipeline span with the number of commands per operation
+   * instead of a span per command.
+   */
+  public LettuceTracingBuilder setPipelineSpansEnabled(boolean pipelineSpansEnabled) {
+    this.pipelineSpansEnabled = pipelineSpansEnabled;
+    return this;
+  }
+
+  /**
+   * Sets the latency above which the commands of a pipeline are also reported as a span of their
+   * own. Failed commands are always reported. Only used when pipeline spans are enabled.
+   */
+  public LettuceTracingBuilder setPipelineCommandThreshold(Duration pipelineCommandThreshold) {
+    this.pipelineCommandThreshold = pipelineCommandThreshold;
+    return this;
+  }
+
+  /**
+   * Returns a new {@link LettuceTracing} with the settings of this {@link LettuceTracingBuilder}.
+   */
+  public LettuceTracing build() {
+    return new LettuceTracing(
+        openTelemetry, pipelineSpansEnabled, pipelineCommandThreshold.toNanos());
+  }
+}
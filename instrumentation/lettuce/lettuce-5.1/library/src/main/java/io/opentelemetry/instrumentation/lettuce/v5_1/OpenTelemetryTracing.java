@@ -9,6 +9,7 @@ import static io.opentelemetry.instrumentation.lettuce.common.LettuceArgSplitter
 import static io.opentelemetry.semconv.trace.attributes.SemanticAttributes.NetTransportValues.IP_TCP;
 
 import io.lettuce.core.output.CommandOutput;
+import io.lettuce.core.protocol.CommandArgs;
 import io.lettuce.core.protocol.CompleteableCommand;
 import io.lettuce.core.protocol.RedisCommand;
 import io.lettuce.core.tracing.TraceContext;
@@ -24,6 +25,7 @@ import io.opentelemetry.context.Context;
 import io.opentelemetry.instrumentation.api.db.RedisCommandSanitizer;
 import io.opentelemetry.instrumentation.api.tracer.AttributeSetter;
 import io.opentelemetry.instrumentation.api.tracer.net.NetPeerAttributes;
+import io.opentelemetry.instrumentation.lettuce.common.LettuceCommandArguments;
 import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
 import io.opentelemetry.semconv.trace.attributes.SemanticAttributes.DbSystemValues;
 import java.net.InetSocketAddress;
@@ -31,14 +33,16 @@ import java.net.SocketAddress;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 final class OpenTelemetryTracing implements Tracing {
 
   private final TracerProvider tracerProvider;
 
-  OpenTelemetryTracing(io.opentelemetry.api.trace.Tracer tracer) {
-    this.tracerProvider = new OpenTelemetryTracerProvider(tracer);
+  OpenTelemetryTracing(
+      io.opentelemetry.api.trace.Tracer tracer, @Nullable PipelineBatches pipelineBatches) {
+    this.tracerProvider = new OpenTelemetryTracerProvider(tracer, pipelineBatches);
   }
 
   @Override
@@ -78,8 +82,9 @@ final class OpenTelemetryTracing implements Tracing {
 
     private final Tracer openTelemetryTracer;
 
-    OpenTelemetryTracerProvider(io.opentelemetry.api.trace.Tracer tracer) {
-      openTelemetryTracer = new OpenTelemetryTracer(tracer);
+    OpenTelemetryTracerProvider(
+        io.opentelemetry.api.trace.Tracer tracer, @Nullable PipelineBatches pipelineBatches) {
+      openTelemetryTracer = new OpenTelemetryTracer(tracer, pipelineBatches);
     }
 
     @Override
@@ -108,10 +113,12 @@ final class OpenTelemetryTracing implements Tracing {
     }
   }
 
-  private static class OpenTelemetryEndpoint implements Endpoint {
+  static class OpenTelemetryEndpoint implements Endpoint {
     @Nullable final String ip;
     final int port;
     @Nullable final String name;
+    // Lettuce creates an endpoint per connection, see PipelineBatches
+    @Nullable volatile PipelineBatches.Batch pipelineBatch;
 
     OpenTelemetryEndpoint(@Nullable String ip, int port, @Nullable String name) {
       this.ip = ip;
@@ -123,18 +130,21 @@ final class OpenTelemetryTracing implements Tracing {
   private static class OpenTelemetryTracer extends Tracer {
 
     private final io.opentelemetry.api.trace.Tracer tracer;
+    @Nullable private final PipelineBatches pipelineBatches;
 
-    OpenTelemetryTracer(io.opentelemetry.api.trace.Tracer tracer) {
+    OpenTelemetryTracer(
+        io.opentelemetry.api.trace.Tracer tracer, @Nullable PipelineBatches pipelineBatches) {
       this.tracer = tracer;
+      this.pipelineBatches = pipelineBatches;
     }
 
     @Override
-    public OpenTelemetrySpan nextSpan() {
+    public Tracer.Span nextSpan() {
       return nextSpan(Context.current());
     }
 
     @Override
-    public OpenTelemetrySpan nextSpan(TraceContext traceContext) {
+    public Tracer.Span nextSpan(TraceContext traceContext) {
       if (!(traceContext instanceof OpenTelemetryTraceContext)) {
         return nextSpan();
       }
@@ -143,7 +153,10 @@ final class OpenTelemetryTracing implements Tracing {
       return nextSpan(context);
     }
 
-    private OpenTelemetrySpan nextSpan(Context context) {
+    private Tracer.Span nextSpan(Context context) {
+      if (pipelineBatches != null) {
+        return new PipelinedCommandSpan(pipelineBatches, context);
+      }
       // Name will be updated later, we create with an arbitrary one here to store other data before
       // the span starts.
       SpanBuilder spanBuilder =
@@ -156,13 +169,24 @@ final class OpenTelemetryTracing implements Tracing {
     }
   }
 
-  // The order that callbacks will be called in or which thread they are called from is not well
-  // defined. We go ahead and buffer all data until we know we have a span. This implementation is
-  // particularly safe, synchronizing all accesses. Relying on implementation details would allow
-  // reducing synchronization but the impact should be minimal.
+  // Lettuce makes the callbacks of a command from the thread writing it until the span is started,
+  // only the completion of the command may be signaled from a different thread. Until the span is
+  // started all data is buffered in plain fields by that single writer, the volatile write of the
+  // state publishes them together with the span. Afterwards callbacks go to the span, which is
+  // thread safe, and a CAS on the state makes sure that the span is ended exactly once. No monitor
+  // is taken on the event loop.
   private static class OpenTelemetrySpan extends Tracer.Span {
+    private static final int NEW = 0;
+    private static final int STARTED = 1;
+    private static final int FINISHED = 2;
+
+    private static final AtomicIntegerFieldUpdater<OpenTelemetrySpan> stateUpdater =
+        AtomicIntegerFieldUpdater.newUpdater(OpenTelemetrySpan.class, "state");
+
     private final SpanBuilder spanBuilder;
 
+    private volatile int state = NEW;
+
     @Nullable private String name;
 
     @Nullable private List<Object> events;
@@ -173,24 +197,29 @@ final class OpenTelemetryTracing implements Tracing {
 
     @Nullable private String args;
 
+    // preferred over the args string, only the arguments kept by the sanitizer are decoded
+    @Nullable private CommandArgs<?, ?> commandArgs;
+
     OpenTelemetrySpan(SpanBuilder spanBuilder) {
       this.spanBuilder = spanBuilder;
     }
 
     @Override
-    public synchronized Tracer.Span name(String name) {
+    public Tracer.Span name(String name) {
+      this.name = name;
+
+      Span span = startedSpan();
       if (span != null) {
         span.updateName(name);
       }
 
-      this.name = name;
-
       return this;
     }
 
     @Override
-    public synchronized Tracer.Span remoteEndpoint(Endpoint endpoint) {
+    public Tracer.Span remoteEndpoint(Endpoint endpoint) {
       if (endpoint instanceof OpenTelemetryEndpoint) {
+        Span span = startedSpan();
         if (span != null) {
           fillEndpoint(span::setAttribute, (OpenTelemetryEndpoint) endpoint);
         } else {
@@ -202,19 +231,17 @@ final class OpenTelemetryTracing implements Tracing {
 
     // Added and called in 6.0+
     // @Override
-    public synchronized Tracer.Span start(RedisCommand<?, ?, ?> command) {
+    public Tracer.Span start(RedisCommand<?, ?, ?> command) {
+      commandArgs = command.getArgs();
+
       start();
 
-      Span span = this.span;
+      Span span = startedSpan();
       if (span == null) {
         throw new IllegalStateException("Span started but null, this is a programming error.");
       }
       span.updateName(command.getType().name());
 
-      if (command.getArgs() != null) {
-        args = command.getArgs().toCommandString();
-      }
-
       if (command instanceof CompleteableCommand) {
         CompleteableCommand<?> completeableCommand = (CompleteableCommand<?>) command;
         completeableCommand.onComplete(
@@ -231,7 +258,7 @@ final class OpenTelemetryTracing implements Tracing {
                 }
               }
 
-              finish(span);
+              finish();
             });
       }
 
@@ -240,8 +267,12 @@ final class OpenTelemetryTracing implements Tracing {
 
     // Not called by Lettuce in 6.0+ (though we call it ourselves above).
     @Override
-    public synchronized Tracer.Span start() {
-      span = spanBuilder.startSpan();
+    public Tracer.Span start() {
+      if (state != NEW) {
+        return this;
+      }
+
+      Span span = spanBuilder.startSpan();
       if (name != null) {
         span.updateName(name);
       }
@@ -259,11 +290,14 @@ final class OpenTelemetryTracing implements Tracing {
         error = null;
       }
 
+      this.span = span;
+      state = STARTED;
       return this;
     }
 
     @Override
-    public synchronized Tracer.Span annotate(String value) {
+    public Tracer.Span annotate(String value) {
+      Span span = startedSpan();
       if (span != null) {
         span.addEvent(value);
       } else {
@@ -277,11 +311,12 @@ final class OpenTelemetryTracing implements Tracing {
     }
 
     @Override
-    public synchronized Tracer.Span tag(String key, String value) {
+    public Tracer.Span tag(String key, String value) {
       if (key.equals("redis.args")) {
         args = value;
         return this;
       }
+      Span span = startedSpan();
       if (span != null) {
         span.setAttribute(key, value);
       } else {
@@ -291,7 +326,8 @@ final class OpenTelemetryTracing implements Tracing {
     }
 
     @Override
-    public synchronized Tracer.Span error(Throwable throwable) {
+    public Tracer.Span error(Throwable throwable) {
+      Span span = startedSpan();
       if (span != null) {
         span.recordException(throwable);
       } else {
@@ -301,22 +337,34 @@ final class OpenTelemetryTracing implements Tracing {
     }
 
     @Override
-    public synchronized void finish() {
-      if (span != null) {
-        finish(span);
+    public void finish() {
+      if (stateUpdater.compareAndSet(this, STARTED, FINISHED)) {
+        Span span = this.span;
+        if (span != null) {
+          finish(span);
+        }
       }
     }
 
+    // returns the span once it's started, null before
+    @Nullable
+    private Span startedSpan() {
+      return state != NEW ? span : null;
+    }
+
     private void finish(Span span) {
       if (name != null) {
-        String statement = RedisCommandSanitizer.sanitize(name, splitArgs(args));
+        String statement =
+            commandArgs != null
+                ? RedisCommandSanitizer.sanitize(name, LettuceCommandArguments.create(commandArgs))
+                : RedisCommandSanitizer.sanitize(name, splitArgs(args));
         span.setAttribute(SemanticAttributes.DB_STATEMENT, statement);
       }
       span.end();
     }
   }
 
-  private static void fillEndpoint(AttributeSetter span, OpenTelemetryEndpoint endpoint) {
+  static void fillEndpoint(AttributeSetter span, OpenTelemetryEndpoint endpoint) {
     span.setAttribute(SemanticAttributes.NET_TRANSPORT, IP_TCP);
     NetPeerAttributes.INSTANCE.setNetPeer(span, endpoint.name, endpoint.ip, endpoint.port);
   }
@@ -0,0 +1,155 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.lettuce.v5_1;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanBuilder;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.instrumentation.api.db.RedisPipelineBatch;
+import io.opentelemetry.instrumentation.lettuce.v5_1.OpenTelemetryTracing.OpenTelemetryEndpoint;
+import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
+import io.opentelemetry.semconv.trace.attributes.SemanticAttributes.DbSystemValues;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Groups the commands written to the same connection for the same parent into a batch that is
+ * reported as a single span once its last command completes. A batch takes new commands until the
+ * reply to one of its commands arrives: Lettuce writes the commands buffered with auto-flush
+ * disabled together when they are flushed, so the first reply marks the end of the flushed write
+ * and the commands written after it start a new batch. A batch of a single command is reported as
+ * a regular command span.
+ *
+ * <p>Lettuce creates an {@link OpenTelemetryEndpoint} per connection, which holds the batch that
+ * commands written to the connection join. Commands are started on the event loop of their
+ * connection, the only thread opening batches of that connection; joining and completing a batch
+ * are lock-free. Commands of connections without an endpoint, e.g. over a Unix domain socket, are
+ * not batched.
+ */
+final class PipelineBatches {
+
+  private static final AtomicReferenceFieldUpdater<OpenTelemetryEndpoint, Batch>
+      openBatchUpdater =
+          AtomicReferenceFieldUpdater.newUpdater(
+              OpenTelemetryEndpoint.class, Batch.class, "pipelineBatch");
+
+  private final Tracer tracer;
+  private final long commandThresholdNanos;
+
+  PipelineBatches(Tracer tracer, long commandThresholdNanos) {
+    this.tracer = tracer;
+    this.commandThresholdNanos = commandThresholdNanos;
+  }
+
+  Tracer tracer() {
+    return tracer;
+  }
+
+  /** Returns whether a pipelined command should also be reported as a span of its own. */
+  boolean shouldReportCommand(long durationNanos, boolean failed) {
+    return failed || durationNanos > commandThresholdNanos;
+  }
+
+  /** Adds a command that is written to the connection of {@code endpoint} to its open batch. */
+  Batch join(
+      Context parentContext,
+      @Nullable OpenTelemetryEndpoint endpoint,
+      PipelinedCommandSpan command,
+      String operation) {
+    if (endpoint == null) {
+      return new Batch(parentContext, null, command, operation);
+    }
+    Batch batch = endpoint.pipelineBatch;
+    if (batch != null && batch.tryJoin(parentContext, operation)) {
+      return batch;
+    }
+    batch = new Batch(parentContext, endpoint, command, operation);
+    endpoint.pipelineBatch = batch;
+    return batch;
+  }
+
+  void complete(Batch batch, boolean failed, Instant endTime) {
+    if (failed) {
+      batch.failed = true;
+    }
+    // a reply arrived, the commands of the batch were flushed
+    batch.open = false;
+    if (batch.inFlight.decrementAndGet() > 0) {
+      return;
+    }
+    if (batch.endpoint != null) {
+      openBatchUpdater.compareAndSet(batch.endpoint, batch, null);
+    }
+    batch.end(endTime);
+  }
+
+  final class Batch {
+    private final Context parentContext;
+    @Nullable private final OpenTelemetryEndpoint endpoint;
+    private final PipelinedCommandSpan first;
+    private final RedisPipelineBatch commands = new RedisPipelineBatch();
+    // drops to 0 exactly once, a batch can't be joined anymore afterwards
+    private final AtomicInteger inFlight = new AtomicInteger(1);
+    private volatile boolean open = true;
+    private volatile boolean failed;
+
+    private Batch(
+        Context parentContext,
+        @Nullable OpenTelemetryEndpoint endpoint,
+        PipelinedCommandSpan first,
+        String operation) {
+      this.parentContext = parentContext;
+      this.endpoint = endpoint;
+      this.first = first;
+      commands.add(operation);
+    }
+
+    private boolean tryJoin(Context parentContext, String operation) {
+      if (!open || parentContext != this.parentContext) {
+        return false;
+      }
+      int count;
+      do {
+        count = inFlight.get();
+        if (count == 0) {
+          return false;
+        }
+      } while (!inFlight.compareAndSet(count, count + 1));
+      commands.add(operation);
+      return true;
+    }
+
+    private void end(Instant endTime) {
+      if (commands.commandCount() == 1) {
+        first.report();
+        return;
+      }
+
+      SpanBuilder spanBuilder =
+          tracer
+              .spanBuilder(RedisPipelineBatch.OPERATION)
+              .setSpanKind(SpanKind.CLIENT)
+              .setParent(parentContext)
+              .setStartTimestamp(commands.startTime())
+              .setAttribute(SemanticAttributes.DB_SYSTEM, DbSystemValues.REDIS)
+              .setAttribute(SemanticAttributes.DB_OPERATION, RedisPipelineBatch.OPERATION);
+      if (endpoint != null) {
+        OpenTelemetryTracing.fillEndpoint(spanBuilder::setAttribute, endpoint);
+      }
+      commands.addAttributes(spanBuilder::setAttribute);
+      Span span = spanBuilder.startSpan();
+      if (failed) {
+        span.setStatus(StatusCode.ERROR);
+      }
+      span.end(endTime);
+    }
+  }
+}
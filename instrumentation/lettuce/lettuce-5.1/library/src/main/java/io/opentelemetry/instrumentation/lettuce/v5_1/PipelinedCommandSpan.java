@@ -0,0 +1,197 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.lettuce.v5_1;
+
+import static io.opentelemetry.instrumentation.lettuce.common.LettuceArgSplitter.splitArgs;
+
+import io.lettuce.core.output.CommandOutput;
+import io.lettuce.core.protocol.CommandArgs;
+import io.lettuce.core.protocol.CompleteableCommand;
+import io.lettuce.core.protocol.RedisCommand;
+import io.lettuce.core.tracing.Tracer;
+import io.lettuce.core.tracing.Tracing.Endpoint;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanBuilder;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.instrumentation.api.db.RedisCommandSanitizer;
+import io.opentelemetry.instrumentation.lettuce.common.LettuceCommandArguments;
+import io.opentelemetry.instrumentation.lettuce.v5_1.OpenTelemetryTracing.OpenTelemetryEndpoint;
+import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
+import io.opentelemetry.semconv.trace.attributes.SemanticAttributes.DbSystemValues;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A command that is reported as part of a {@link PipelineBatches.Batch}. Nothing is created for the
+ * command itself while it's in flight; when it completes, a span is created after the fact if it
+ * failed or took longer than the configured threshold. Events annotated by Lettuce are dropped.
+ */
+final class PipelinedCommandSpan extends Tracer.Span {
+  private static final int NEW = 0;
+  private static final int STARTED = 1;
+  private static final int FINISHED = 2;
+  private static final int REPORTED = 3;
+
+  private static final AtomicIntegerFieldUpdater<PipelinedCommandSpan> stateUpdater =
+      AtomicIntegerFieldUpdater.newUpdater(PipelinedCommandSpan.class, "state");
+
+  private final PipelineBatches batches;
+  private final Context parentContext;
+
+  // as for OpenTelemetryTracing.OpenTelemetrySpan, the plain fields are written by the thread
+  // writing the command before the span is started and published by the volatile write of the
+  // state; the completion fields are written by the completing thread before it finishes the span
+  private volatile int state = NEW;
+
+  @Nullable private String name;
+  @Nullable private OpenTelemetryEndpoint endpoint;
+  @Nullable private String args;
+  @Nullable private CommandArgs<?, ?> commandArgs;
+  @Nullable private volatile Throwable error;
+  @Nullable private String outputError;
+
+  @Nullable private PipelineBatches.Batch batch;
+  private Instant startTime = Instant.EPOCH;
+  private long startNanos;
+  private Instant endTime = Instant.EPOCH;
+
+  PipelinedCommandSpan(PipelineBatches batches, Context parentContext) {
+    this.batches = batches;
+    this.parentContext = parentContext;
+  }
+
+  @Override
+  public Tracer.Span name(String name) {
+    if (state == NEW) {
+      this.name = name;
+    }
+    return this;
+  }
+
+  @Override
+  public Tracer.Span remoteEndpoint(Endpoint endpoint) {
+    if (state == NEW && endpoint instanceof OpenTelemetryEndpoint) {
+      this.endpoint = (OpenTelemetryEndpoint) endpoint;
+    }
+    return this;
+  }
+
+  // Added and called in 6.0+
+  // @Override
+  public Tracer.Span start(RedisCommand<?, ?, ?> command) {
+    if (state != NEW) {
+      return this;
+    }
+    name = command.getType().name();
+    commandArgs = command.getArgs();
+    start();
+
+    if (command instanceof CompleteableCommand) {
+      CompleteableCommand<?> completeableCommand = (CompleteableCommand<?>) command;
+      completeableCommand.onComplete(
+          (o, throwable) -> {
+            if (throwable != null) {
+              error = throwable;
+            }
+            CommandOutput<?, ?, ?> output = command.getOutput();
+            if (output != null) {
+              outputError = output.getError();
+            }
+            finish();
+          });
+    }
+
+    return this;
+  }
+
+  // Not called by Lettuce in 6.0+ (though we call it ourselves above).
+  @Override
+  public Tracer.Span start() {
+    if (state != NEW) {
+      return this;
+    }
+    startTime = Instant.now();
+    startNanos = System.nanoTime();
+    batch = batches.join(parentContext, endpoint, this, name != null ? name : "UNKNOWN");
+    state = STARTED;
+    return this;
+  }
+
+  @Override
+  public Tracer.Span annotate(String value) {
+    return this;
+  }
+
+  @Override
+  public Tracer.Span tag(String key, String value) {
+    if (state == NEW && key.equals("redis.args")) {
+      args = value;
+    }
+    return this;
+  }
+
+  @Override
+  public Tracer.Span error(Throwable throwable) {
+    error = throwable;
+    return this;
+  }
+
+  @Override
+  public void finish() {
+    if (!stateUpdater.compareAndSet(this, STARTED, FINISHED)) {
+      return;
+    }
+    PipelineBatches.Batch batch = this.batch;
+    if (batch == null) {
+      return;
+    }
+    long durationNanos = System.nanoTime() - startNanos;
+    endTime = startTime.plusNanos(durationNanos);
+    boolean failed = error != null || outputError != null;
+    if (batches.shouldReportCommand(durationNanos, failed)) {
+      report();
+    }
+    batches.complete(batch, failed, endTime);
+  }
+
+  /** Creates the span of this command, unless it was already created. */
+  void report() {
+    if (!stateUpdater.compareAndSet(this, FINISHED, REPORTED)) {
+      return;
+    }
+
+    String name = this.name != null ? this.name : "redis";
+    SpanBuilder spanBuilder =
+        batches
+            .tracer()
+            .spanBuilder(name)
+            .setSpanKind(SpanKind.CLIENT)
+            .setParent(parentContext)
+            .setStartTimestamp(startTime)
+            .setAttribute(SemanticAttributes.DB_SYSTEM, DbSystemValues.REDIS);
+    if (endpoint != null) {
+      OpenTelemetryTracing.fillEndpoint(spanBuilder::setAttribute, endpoint);
+    }
+    String statement =
+        commandArgs != null
+            ? RedisCommandSanitizer.sanitize(name, LettuceCommandArguments.create(commandArgs))
+            : RedisCommandSanitizer.sanitize(name, splitArgs(args));
+    spanBuilder.setAttribute(SemanticAttributes.DB_STATEMENT, statement);
+    Span span = spanBuilder.startSpan();
+    Throwable error = this.error;
+    if (error != null) {
+      span.setStatus(StatusCode.ERROR);
+      span.recordException(error);
+    }
+    if (outputError != null) {
+      span.setStatus(StatusCode.ERROR, outputError);
+    }
+    span.end(endTime);
+  }
+}
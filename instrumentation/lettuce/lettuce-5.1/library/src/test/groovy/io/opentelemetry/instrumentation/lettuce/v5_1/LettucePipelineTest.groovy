@@ -0,0 +1,184 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.lettuce.v5_1
+
+import io.lettuce.core.LettuceFutures
+import io.lettuce.core.RedisClient
+import io.lettuce.core.api.StatefulRedisConnection
+import io.lettuce.core.resource.ClientResources
+import io.opentelemetry.instrumentation.test.InstrumentationSpecification
+import io.opentelemetry.instrumentation.test.LibraryTestTrait
+import io.opentelemetry.instrumentation.test.utils.PortUtils
+import io.opentelemetry.semconv.trace.attributes.SemanticAttributes
+import org.testcontainers.containers.FixedHostPortGenericContainer
+import spock.lang.Shared
+
+import java.util.concurrent.TimeUnit
+
+import static io.opentelemetry.api.trace.SpanKind.CLIENT
+import static io.opentelemetry.semconv.trace.attributes.SemanticAttributes.NetTransportValues.IP_TCP
+
+class LettucePipelineTest extends InstrumentationSpecification implements LibraryTestTrait {
+
+  private static FixedHostPortGenericContainer redisServer = new FixedHostPortGenericContainer<>("redis:6.2.3-alpine")
+
+  @Shared
+  int port
+
+  RedisClient redisClient
+  StatefulRedisConnection<String, String> connection
+
+  def setupSpec() {
+    port = PortUtils.findOpenPort()
+    redisServer = redisServer.withFixedExposedPort(port, 6379)
+  }
+
+  def setup() {
+    redisClient = RedisClient.create(
+      ClientResources.builder()
+        .tracing(LettuceTracing.newBuilder(getOpenTelemetry())
+          .setPipelineSpansEnabled(true)
+          .build()
+          .newTracing())
+        .build(),
+      "redis://127.0.0.1:" + port + "/0")
+    redisClient.setOptions(LettuceTestUtil.CLIENT_OPTIONS)
+
+    redisServer.start()
+    connection = redisClient.connect()
+  }
+
+  def cleanup() {
+    connection.close()
+    redisServer.stop()
+  }
+
+  def "flushed commands are reported as a single span"() {
+    setup:
+    def commands = connection.async()
+    connection.setAutoFlushCommands(false)
+
+    when:
+    def futures = [
+      commands.set("key1", "value1"),
+      commands.set("key2", "value2"),
+      commands.get("key1")
+    ]
+    connection.flushCommands()
+    LettuceFutures.awaitAll(10, TimeUnit.SECONDS, *futures)
+
+    then:
+    futures[2].get() == "value1"
+    assertTraces(1) {
+      trace(0, 1) {
+        span(0) {
+          name "PIPELINE"
+          kind CLIENT
+          attributes {
+            "${SemanticAttributes.NET_TRANSPORT.key}" IP_TCP
+            "${SemanticAttributes.NET_PEER_IP.key}" "127.0.0.1"
+            "${SemanticAttributes.NET_PEER_PORT.key}" port
+            "${SemanticAttributes.DB_SYSTEM.key}" "redis"
+            "${SemanticAttributes.DB_OPERATION.key}" "PIPELINE"
+            "db.redis.pipeline.command_count" 3
+            "db.redis.pipeline.operations" ["SET", "GET"]
+            "db.redis.pipeline.operation_counts" [2, 1]
+          }
+        }
+      }
+    }
+  }
+
+  def "commands of different connections are reported as separate pipelines"() {
+    setup:
+    def otherConnection = redisClient.connect()
+    connection.setAutoFlushCommands(false)
+    otherConnection.setAutoFlushCommands(false)
+
+    when:
+    def futures = [
+      connection.async().set("key1", "value1"),
+      otherConnection.async().set("key2", "value2"),
+      connection.async().get("key1"),
+      otherConnection.async().get("key2")
+    ]
+    connection.flushCommands()
+    otherConnection.flushCommands()
+    LettuceFutures.awaitAll(10, TimeUnit.SECONDS, *futures)
+
+    then:
+    assertTraces(2) {
+      2.times { index ->
+        trace(index, 1) {
+          span(0) {
+            name "PIPELINE"
+            kind CLIENT
+            attributes {
+              "${SemanticAttributes.NET_TRANSPORT.key}" IP_TCP
+              "${SemanticAttributes.NET_PEER_IP.key}" "127.0.0.1"
+              "${SemanticAttributes.NET_PEER_PORT.key}" port
+              "${SemanticAttributes.DB_SYSTEM.key}" "redis"
+              "${SemanticAttributes.DB_OPERATION.key}" "PIPELINE"
+              "db.redis.pipeline.command_count" 2
+              "db.redis.pipeline.operations" ["SET", "GET"]
+              "db.redis.pipeline.operation_counts" [1, 1]
+            }
+          }
+        }
+      }
+    }
+
+    cleanup:
+    otherConnection.close()
+  }
+
+  def "commands written after a reply are not added to the previous pipeline"() {
+    setup:
+    def commands = connection.sync()
+
+    when:
+    commands.set("key", "value")
+    commands.get("key")
+
+    then:
+    assertTraces(2) {
+      trace(0, 1) {
+        span(0) {
+          name "SET"
+          kind CLIENT
+        }
+      }
+      trace(1, 1) {
+        span(0) {
+          name "GET"
+          kind CLIENT
+        }
+      }
+    }
+  }
+
+  def "single command is reported as a command span"() {
+    when:
+    connection.sync().set("key", "value")
+
+    then:
+    assertTraces(1) {
+      trace(0, 1) {
+        span(0) {
+          name "SET"
+          kind CLIENT
+          attributes {
+            "${SemanticAttributes.NET_TRANSPORT.key}" IP_TCP
+            "${SemanticAttributes.NET_PEER_IP.key}" "127.0.0.1"
+            "${SemanticAttributes.NET_PEER_PORT.key}" port
+            "${SemanticAttributes.DB_SYSTEM.key}" "redis"
+            "${SemanticAttributes.DB_STATEMENT.key}" "SET key ?"
+          }
+        }
+      }
+    }
+  }
+}
@@ -1,3 +1,9 @@
 plugins {
   id("otel.library-instrumentation")
 }
+
+dependencies {
+  compileOnly("io.lettuce:lettuce-core:5.0.0.RELEASE")
+
+  testImplementation("io.lettuce:lettuce-core:5.0.0.RELEASE")
+}
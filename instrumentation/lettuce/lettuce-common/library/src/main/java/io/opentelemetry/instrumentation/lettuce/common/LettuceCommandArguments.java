@@ -0,0 +1,85 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.lettuce.common;
+
+import io.lettuce.core.protocol.CommandArgs;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.opentelemetry.instrumentation.api.db.RedisCommandArguments;
+import io.opentelemetry.instrumentation.api.db.RedisCommandSanitizer;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * {@link RedisCommandArguments} backed by the RESP encoding of Lettuce {@link CommandArgs}, which
+ * is what the command sends on the wire. Unlike {@link CommandArgs#toCommandString()}, which
+ * decodes every key and value, arguments are only decoded when the sanitizer keeps them.
+ */
+public final class LettuceCommandArguments implements RedisCommandArguments {
+
+  private static final LettuceCommandArguments EMPTY =
+      new LettuceCommandArguments(new byte[0], new int[0], 0);
+
+  public static RedisCommandArguments create(@Nullable CommandArgs<?, ?> args) {
+    if (args == null || args.count() == 0) {
+      return EMPTY;
+    }
+    ByteBuf buf = Unpooled.buffer();
+    byte[] resp;
+    try {
+      args.encode(buf);
+      resp = ByteBufUtil.getBytes(buf);
+    } finally {
+      buf.release();
+    }
+    return parse(resp, args.count());
+  }
+
+  // every argument is encoded as a bulk string: $<length>\r\n<bytes>\r\n
+  static LettuceCommandArguments parse(byte[] resp, int expectedCount) {
+    // offset and length of each argument
+    int[] positions = new int[2 * expectedCount];
+    int count = 0;
+    int pos = 0;
+    while (count < expectedCount && pos < resp.length && resp[pos] == '$') {
+      int length = 0;
+      pos++;
+      while (pos < resp.length && resp[pos] != '\r') {
+        length = 10 * length + (resp[pos++] - '0');
+      }
+      // skip \r\n
+      pos += 2;
+      if (length < 0 || pos + length > resp.length) {
+        break;
+      }
+      positions[2 * count] = pos;
+      positions[2 * count + 1] = length;
+      count++;
+      pos += length + 2;
+    }
+    return new LettuceCommandArguments(resp, positions, count);
+  }
+
+  private final byte[] resp;
+  private final int[] positions;
+  private final int count;
+
+  private LettuceCommandArguments(byte[] resp, int[] positions, int count) {
+    this.resp = resp;
+    this.positions = positions;
+    this.count = count;
+  }
+
+  @Override
+  public int size() {
+    return count;
+  }
+
+  @Override
+  public void appendTo(StringBuilder out, int index) {
+    RedisCommandSanitizer.appendUtf8(out, resp, positions[2 * index], positions[2 * index + 1]);
+  }
+}
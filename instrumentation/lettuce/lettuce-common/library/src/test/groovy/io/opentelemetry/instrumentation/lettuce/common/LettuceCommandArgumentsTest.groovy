@@ -0,0 +1,38 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.lettuce.common
+
+import io.lettuce.core.codec.StringCodec
+import io.lettuce.core.protocol.CommandArgs
+import io.opentelemetry.instrumentation.api.db.RedisCommandSanitizer
+import spock.lang.Specification
+
+class LettuceCommandArgumentsTest extends Specification {
+
+  def "should read encoded arguments"() {
+    given:
+    def args = new CommandArgs<>(StringCodec.UTF8)
+      .addKey("key1").addValue("value1")
+      .addKey("kéy2").addValue("value2")
+      .add(42)
+
+    when:
+    def arguments = LettuceCommandArguments.create(args)
+
+    then:
+    arguments.size() == 5
+    arguments.get(0) == "key1"
+    arguments.get(2) == "kéy2"
+    arguments.get(4) == "42"
+    RedisCommandSanitizer.sanitize("MSET", arguments) == "MSET key1 ? kéy2 ? 42 ?"
+  }
+
+  def "should handle missing arguments"() {
+    expect:
+    LettuceCommandArguments.create(null).size() == 0
+    LettuceCommandArguments.create(new CommandArgs<>(StringCodec.UTF8)).size() == 0
+  }
+}
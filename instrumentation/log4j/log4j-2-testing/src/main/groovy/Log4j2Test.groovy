@@ -7,6 +7,7 @@ import io.opentelemetry.api.trace.Span
 import io.opentelemetry.instrumentation.log4j.v2_13_2.ListAppender
 import io.opentelemetry.instrumentation.test.InstrumentationSpecification
 import org.apache.logging.log4j.LogManager
+import org.apache.logging.log4j.ThreadContext
 
 abstract class Log4j2Test extends InstrumentationSpecification {
   def cleanup() {
@@ -72,4 +73,32 @@ abstract class Log4j2Test extends InstrumentationSpecification {
     events[2].contextData["span_id"] == span2.spanContext.spanId
     events[2].contextData["trace_flags"] == "01"
   }
+
+  def "ids when span with thread context"() {
+    given:
+    def logger = LogManager.getLogger("TestLogger")
+
+    when:
+    Span span = runWithSpan("test") {
+      ThreadContext.put("key", "value")
+      try {
+        logger.info("log message 1")
+        logger.info("log message 2")
+      } finally {
+        ThreadContext.remove("key")
+      }
+      Span.current()
+    }
+
+    def events = ListAppender.get().getEvents()
+
+    then:
+    events.size() == 2
+    events.each {
+      assert it.contextData["key"] == "value"
+      assert it.contextData["trace_id"] == span.spanContext.traceId
+      assert it.contextData["span_id"] == span.spanContext.spanId
+      assert it.contextData["trace_flags"] == "01"
+    }
+  }
 }
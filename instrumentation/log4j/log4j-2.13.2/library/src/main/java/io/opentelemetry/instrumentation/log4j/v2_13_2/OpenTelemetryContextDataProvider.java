@@ -5,16 +5,13 @@
 
 package io.opentelemetry.instrumentation.log4j.v2_13_2;
 
-import static io.opentelemetry.instrumentation.api.log.LoggingContextConstants.SPAN_ID;
-import static io.opentelemetry.instrumentation.api.log.LoggingContextConstants.TRACE_FLAGS;
-import static io.opentelemetry.instrumentation.api.log.LoggingContextConstants.TRACE_ID;
-
 import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.api.trace.SpanContext;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
+import org.apache.logging.log4j.core.impl.ContextDataFactory;
 import org.apache.logging.log4j.core.util.ContextDataProvider;
+import org.apache.logging.log4j.util.StringMap;
 
 /**
  * Implementation of Log4j 2's {@link ContextDataProvider} which is loaded via SPI. {@link
@@ -30,16 +27,24 @@ public class OpenTelemetryContextDataProvider implements ContextDataProvider {
    */
   @Override
   public Map<String, String> supplyContextData() {
-    Span currentSpan = Span.current();
-    if (!currentSpan.getSpanContext().isValid()) {
+    SpanContext spanContext = Span.current().getSpanContext();
+    if (!spanContext.isValid()) {
       return Collections.emptyMap();
     }
+    return SpanContextData.get(spanContext).map();
+  }
 
-    Map<String, String> contextData = new HashMap<>();
-    SpanContext spanContext = currentSpan.getSpanContext();
-    contextData.put(TRACE_ID, spanContext.getTraceId());
-    contextData.put(SPAN_ID, spanContext.getSpanId());
-    contextData.put(TRACE_FLAGS, spanContext.getTraceFlags().asHex());
-    return contextData;
+  /**
+   * Returns the same context data as {@link #supplyContextData()} as a frozen {@link StringMap},
+   * which garbage-free log4j configurations merge into their reusable context data without
+   * wrapping or copying it.
+   */
+  @Override
+  public StringMap supplyStringMap() {
+    SpanContext spanContext = Span.current().getSpanContext();
+    if (!spanContext.isValid()) {
+      return ContextDataFactory.emptyFrozenContextData();
+    }
+    return SpanContextData.get(spanContext).stringMap();
   }
 }
@@ -0,0 +1,63 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.log4j.v2_13_2;
+
+import static io.opentelemetry.instrumentation.api.log.LoggingContextConstants.SPAN_ID;
+import static io.opentelemetry.instrumentation.api.log.LoggingContextConstants.TRACE_FLAGS;
+import static io.opentelemetry.instrumentation.api.log.LoggingContextConstants.TRACE_ID;
+
+import io.opentelemetry.api.trace.SpanContext;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.logging.log4j.util.SortedArrayStringMap;
+import org.apache.logging.log4j.util.StringMap;
+
+/**
+ * Caches the rendered trace context data of the last span that logged on each thread, so that all
+ * log events of a span share the same immutable maps and logging doesn't create garbage.
+ */
+final class SpanContextData {
+
+  private static final ThreadLocal<SpanContextData> lastSpanContextData = new ThreadLocal<>();
+
+  static SpanContextData get(SpanContext spanContext) {
+    SpanContextData spanContextData = lastSpanContextData.get();
+    if (spanContextData == null || spanContextData.spanContext != spanContext) {
+      spanContextData = new SpanContextData(spanContext);
+      lastSpanContextData.set(spanContextData);
+    }
+    return spanContextData;
+  }
+
+  private final SpanContext spanContext;
+  private final Map<String, String> map;
+  private final StringMap stringMap;
+
+  private SpanContextData(SpanContext spanContext) {
+    this.spanContext = spanContext;
+
+    Map<String, String> map = new HashMap<>();
+    map.put(TRACE_ID, spanContext.getTraceId());
+    map.put(SPAN_ID, spanContext.getSpanId());
+    map.put(TRACE_FLAGS, spanContext.getTraceFlags().asHex());
+    this.map = Collections.unmodifiableMap(map);
+
+    StringMap stringMap = new SortedArrayStringMap(map);
+    stringMap.freeze();
+    this.stringMap = stringMap;
+  }
+
+  /** Returns the context data as an unmodifiable {@link Map}. */
+  Map<String, String> map() {
+    return map;
+  }
+
+  /** Returns the context data as a frozen {@link StringMap}. */
+  StringMap stringMap() {
+    return stringMap;
+  }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.log4j.v2_7;
+
+import static io.opentelemetry.instrumentation.api.log.LoggingContextConstants.SPAN_ID;
+import static io.opentelemetry.instrumentation.api.log.LoggingContextConstants.TRACE_FLAGS;
+import static io.opentelemetry.instrumentation.api.log.LoggingContextConstants.TRACE_ID;
+
+import io.opentelemetry.api.trace.SpanContext;
+import org.apache.logging.log4j.util.SortedArrayStringMap;
+import org.apache.logging.log4j.util.StringMap;
+
+/**
+ * Caches the rendered trace context data of the last span that logged on each thread, so that all
+ * log events of a span share one immutable {@link StringMap} and logging doesn't create garbage.
+ */
+final class SpanContextData {
+
+  private static final ThreadLocal<SpanContextData> lastSpanContextData = new ThreadLocal<>();
+
+  /** Returns the frozen context data map of the passed span context. */
+  static StringMap get(SpanContext spanContext) {
+    SpanContextData spanContextData = lastSpanContextData.get();
+    if (spanContextData == null || spanContextData.spanContext != spanContext) {
+      spanContextData = new SpanContextData(spanContext);
+      lastSpanContextData.set(spanContextData);
+    }
+    return spanContextData.contextData;
+  }
+
+  private final SpanContext spanContext;
+  private final StringMap contextData;
+
+  private SpanContextData(SpanContext spanContext) {
+    this.spanContext = spanContext;
+
+    StringMap contextData = new SortedArrayStringMap(3);
+    contextData.putValue(TRACE_ID, spanContext.getTraceId());
+    contextData.putValue(SPAN_ID, spanContext.getSpanId());
+    contextData.putValue(TRACE_FLAGS, spanContext.getTraceFlags().asHex());
+    contextData.freeze();
+    this.contextData = contextData;
+  }
+}
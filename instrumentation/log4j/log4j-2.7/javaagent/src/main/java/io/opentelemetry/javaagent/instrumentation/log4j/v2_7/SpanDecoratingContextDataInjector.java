@@ -5,8 +5,6 @@
 
 package io.opentelemetry.javaagent.instrumentation.log4j.v2_7;
 
-import static io.opentelemetry.instrumentation.api.log.LoggingContextConstants.SPAN_ID;
-import static io.opentelemetry.instrumentation.api.log.LoggingContextConstants.TRACE_FLAGS;
 import static io.opentelemetry.instrumentation.api.log.LoggingContextConstants.TRACE_ID;
 
 import io.opentelemetry.api.trace.SpanContext;
@@ -39,10 +37,20 @@ public final class SpanDecoratingContextDataInjector implements ContextDataInjec
       return contextData;
     }
 
-    StringMap newContextData = new SortedArrayStringMap(contextData);
-    newContextData.putValue(TRACE_ID, currentContext.getTraceId());
-    newContextData.putValue(SPAN_ID, currentContext.getSpanId());
-    newContextData.putValue(TRACE_FLAGS, currentContext.getTraceFlags().asHex());
+    StringMap spanContextData = SpanContextData.get(currentContext);
+    if (!contextData.isFrozen()) {
+      // garbage-free configurations pass a reusable map that the delegate fills and returns
+      contextData.putAll(spanContextData);
+      return contextData;
+    }
+    if (contextData.isEmpty()) {
+      return spanContextData;
+    }
+
+    StringMap newContextData =
+        new SortedArrayStringMap(contextData.size() + spanContextData.size());
+    newContextData.putAll(contextData);
+    newContextData.putAll(spanContextData);
     return newContextData;
   }
 
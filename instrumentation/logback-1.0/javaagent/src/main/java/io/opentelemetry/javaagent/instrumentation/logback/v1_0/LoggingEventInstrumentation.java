@@ -5,8 +5,6 @@
 
 package io.opentelemetry.javaagent.instrumentation.logback.v1_0;
 
-import static io.opentelemetry.instrumentation.api.log.LoggingContextConstants.SPAN_ID;
-import static io.opentelemetry.instrumentation.api.log.LoggingContextConstants.TRACE_FLAGS;
 import static io.opentelemetry.instrumentation.api.log.LoggingContextConstants.TRACE_ID;
 import static io.opentelemetry.javaagent.extension.matcher.AgentElementMatchers.hasClassesNamed;
 import static io.opentelemetry.javaagent.extension.matcher.AgentElementMatchers.implementsInterface;
@@ -18,12 +16,11 @@ import static net.bytebuddy.matcher.ElementMatchers.takesArguments;
 
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import io.opentelemetry.api.trace.Span;
-import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.instrumentation.logback.v1_0.internal.SpanContextDataMap;
 import io.opentelemetry.instrumentation.logback.v1_0.internal.UnionMap;
 import io.opentelemetry.javaagent.extension.instrumentation.TypeInstrumentation;
 import io.opentelemetry.javaagent.extension.instrumentation.TypeTransformer;
 import io.opentelemetry.javaagent.instrumentation.api.InstrumentationContext;
-import java.util.HashMap;
 import java.util.Map;
 import net.bytebuddy.asm.Advice;
 import net.bytebuddy.description.type.TypeDescription;
@@ -68,13 +65,10 @@ public class LoggingEventInstrumentation implements TypeInstrumentation {
         return;
       }
 
-      Map<String, String> spanContextData = new HashMap<>();
-      SpanContext spanContext = currentSpan.getSpanContext();
-      spanContextData.put(TRACE_ID, spanContext.getTraceId());
-      spanContextData.put(SPAN_ID, spanContext.getSpanId());
-      spanContextData.put(TRACE_FLAGS, spanContext.getTraceFlags().asHex());
+      Map<String, String> spanContextData =
+          SpanContextDataMap.forSpanContext(currentSpan.getSpanContext());
 
-      if (contextData == null) {
+      if (contextData == null || contextData.isEmpty()) {
         contextData = spanContextData;
       } else {
         contextData = new UnionMap<>(contextData, spanContextData);
@@ -0,0 +1,138 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.logback.v1_0;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Queues log records emitted by logging threads and exports them in batches from a background
+ * thread. Emitting never blocks: records that don't fit in the queue are dropped and counted.
+ */
+final class BatchLogRecordProcessor implements Runnable {
+
+  private static final String WORKER_THREAD_NAME = "otel-logback-batch-exporter";
+
+  // a producer that claimed a slot publishes its record right after, the worker yields a few times
+  // before it parks while it waits for such a record
+  private static final int MAX_SPINS = 16;
+  private static final long UNPUBLISHED_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+  private final LogRecordExporter exporter;
+  private final LogRecordQueue queue;
+  private final int maxExportBatchSize;
+  private final long scheduleDelayNanos;
+  private final LongAdder droppedLogRecords = new LongAdder();
+  private final LongAdder failedLogRecords = new LongAdder();
+  private final Thread worker;
+  private volatile boolean running = true;
+
+  BatchLogRecordProcessor(
+      LogRecordExporter exporter,
+      int maxQueueSize,
+      int maxExportBatchSize,
+      long scheduleDelayMillis) {
+    this.exporter = exporter;
+    this.queue = new LogRecordQueue(maxQueueSize);
+    this.maxExportBatchSize = maxExportBatchSize;
+    this.scheduleDelayNanos = TimeUnit.MILLISECONDS.toNanos(scheduleDelayMillis);
+
+    worker = new Thread(this, WORKER_THREAD_NAME);
+    worker.setDaemon(true);
+    worker.start();
+  }
+
+  void emit(LogRecord logRecord) {
+    long sequence = queue.offer(logRecord);
+    if (sequence < 0) {
+      droppedLogRecords.increment();
+    } else if ((sequence + 1) % maxExportBatchSize == 0) {
+      // exactly one producer fills each batch, wake the worker up early to export it
+      LockSupport.unpark(worker);
+    }
+  }
+
+  long getDroppedLogRecords() {
+    return droppedLogRecords.sum();
+  }
+
+  long getFailedLogRecords() {
+    return failedLogRecords.sum();
+  }
+
+  @Override
+  public void run() {
+    List<LogRecord> batch = new ArrayList<>(maxExportBatchSize);
+    long nextExportNanos = System.nanoTime() + scheduleDelayNanos;
+    int spins = 0;
+    while (running) {
+      int drained = queue.drainTo(batch, maxExportBatchSize - batch.size());
+      long now = System.nanoTime();
+      if (batch.size() >= maxExportBatchSize || now - nextExportNanos >= 0) {
+        export(batch);
+        nextExportNanos = now + scheduleDelayNanos;
+        spins = 0;
+      } else if (queue.isEmpty()) {
+        LockSupport.parkNanos(this, nextExportNanos - now);
+        spins = 0;
+      } else if (drained > 0) {
+        spins = 0;
+      } else if (spins < MAX_SPINS) {
+        // the next slot was claimed but its record is not published yet
+        spins++;
+        Thread.yield();
+      } else {
+        LockSupport.parkNanos(this, Math.min(UNPUBLISHED_PARK_NANOS, nextExportNanos - now));
+      }
+    }
+
+    try {
+      // export everything that was queued before shutdown, unless shutdown gave up waiting
+      do {
+        queue.drainTo(batch, maxExportBatchSize - batch.size());
+        export(batch);
+      } while (!queue.isEmpty() && !Thread.currentThread().isInterrupted());
+    } finally {
+      // the exporter isn't required to be thread safe, it's only ever called from this thread
+      exporter.shutdown();
+    }
+  }
+
+  private void export(List<LogRecord> batch) {
+    if (batch.isEmpty()) {
+      return;
+    }
+    try {
+      exporter.export(batch);
+    } catch (RuntimeException e) {
+      // can't log from inside a logging appender, the failure is reported through the counter
+      failedLogRecords.add(batch.size());
+    } finally {
+      batch.clear();
+    }
+  }
+
+  /**
+   * Stops the worker, which exports the queued records and then shuts the exporter down. If that
+   * takes longer than {@code timeoutMillis} the worker is interrupted and the remaining records are
+   * dropped; the exporter is still shut down by the worker once its current export returns.
+   */
+  void shutdown(long timeoutMillis) {
+    running = false;
+    LockSupport.unpark(worker);
+    try {
+      worker.join(timeoutMillis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    if (worker.isAlive()) {
+      worker.interrupt();
+    }
+  }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.logback.v1_0;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import io.opentelemetry.api.trace.SpanContext;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A log record captured from an {@link ILoggingEvent}, with the fields of the OpenTelemetry log
+ * data model. Records are created on the logging thread and exported asynchronously by a {@link
+ * LogRecordExporter}; they only reference data that logback already materialized for the event,
+ * nothing is copied or rendered eagerly.
+ */
+public final class LogRecord {
+
+  // https://github.com/open-telemetry/opentelemetry-specification/blob/main/specification/logs/data-model.md#field-severitynumber
+  private static final int SEVERITY_TRACE = 1;
+  private static final int SEVERITY_DEBUG = 5;
+  private static final int SEVERITY_INFO = 9;
+  private static final int SEVERITY_WARN = 13;
+  private static final int SEVERITY_ERROR = 17;
+  private static final int SEVERITY_UNDEFINED = 0;
+
+  static LogRecord create(ILoggingEvent event, SpanContext spanContext) {
+    Map<String, String> mdc = event.getMDCPropertyMap();
+    return new LogRecord(
+        TimeUnit.MILLISECONDS.toNanos(event.getTimeStamp()),
+        event.getLevel(),
+        event.getLoggerName(),
+        event.getThreadName(),
+        event.getFormattedMessage(),
+        spanContext,
+        mdc != null ? mdc : Collections.emptyMap(),
+        event.getThrowableProxy());
+  }
+
+  private final long epochNanos;
+  private final Level level;
+  private final String loggerName;
+  private final String threadName;
+  @Nullable private final String body;
+  private final SpanContext spanContext;
+  private final Map<String, String> mdc;
+  @Nullable private final IThrowableProxy throwable;
+
+  private LogRecord(
+      long epochNanos,
+      Level level,
+      String loggerName,
+      String threadName,
+      @Nullable String body,
+      SpanContext spanContext,
+      Map<String, String> mdc,
+      @Nullable IThrowableProxy throwable) {
+    this.epochNanos = epochNanos;
+    this.level = level;
+    this.loggerName = loggerName;
+    this.threadName = threadName;
+    this.body = body;
+    this.spanContext = spanContext;
+    this.mdc = mdc;
+    this.throwable = throwable;
+  }
+
+  /** Returns the time of the logging event, in nanoseconds since the epoch. */
+  public long getEpochNanos() {
+    return epochNanos;
+  }
+
+  /** Returns the OpenTelemetry severity number corresponding to the logback level. */
+  public int getSeverityNumber() {
+    switch (level.toInt()) {
+      case Level.TRACE_INT:
+        return SEVERITY_TRACE;
+      case Level.DEBUG_INT:
+        return SEVERITY_DEBUG;
+      case Level.INFO_INT:
+        return SEVERITY_INFO;
+      case Level.WARN_INT:
+        return SEVERITY_WARN;
+      case Level.ERROR_INT:
+        return SEVERITY_ERROR;
+      default:
+        return SEVERITY_UNDEFINED;
+    }
+  }
+
+  /** Returns the logback level name. */
+  public String getSeverityText() {
+    return level.toString();
+  }
+
+  public String getLoggerName() {
+    return loggerName;
+  }
+
+  public String getThreadName() {
+    return threadName;
+  }
+
+  /** Returns the formatted log message. */
+  @Nullable
+  public String getBody() {
+    return body;
+  }
+
+  /**
+   * Returns the context of the span that was current when the event was logged, or {@link
+   * SpanContext#getInvalid()} if there was none.
+   */
+  public SpanContext getSpanContext() {
+    return spanContext;
+  }
+
+  /** Returns the (immutable) MDC of the logging event. */
+  public Map<String, String> getMdc() {
+    return mdc;
+  }
+
+  @Nullable
+  public IThrowableProxy getThrowable() {
+    return throwable;
+  }
+}
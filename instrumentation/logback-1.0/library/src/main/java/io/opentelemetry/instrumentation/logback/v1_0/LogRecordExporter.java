@@ -0,0 +1,28 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.logback.v1_0;
+
+import java.util.List;
+
+/**
+ * Exports batches of {@link LogRecord}s captured by the {@link OpenTelemetryAppender}, e.g. by
+ * converting them to OTLP and sending them to a collector.
+ *
+ * <p>Batches are exported from a single background thread, an exporter does not need to be thread
+ * safe. Implementations must not block indefinitely: logging events that arrive while the queue is
+ * full are dropped.
+ */
+public interface LogRecordExporter {
+
+  /**
+   * Exports a batch of log records. The list is reused after this method returns, implementations
+   * that export asynchronously must copy it.
+   */
+  void export(List<LogRecord> logRecords);
+
+  /** Called once when the appender stops, after the last batch was exported. */
+  default void shutdown() {}
+}
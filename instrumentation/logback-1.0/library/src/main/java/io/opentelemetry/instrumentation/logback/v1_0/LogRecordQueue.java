@@ -0,0 +1,81 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.logback.v1_0;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded, lock-free, multi producer single consumer ring buffer. Producers claim a sequence with
+ * a CAS and publish the record into the claimed slot; the consumer frees slots before advancing its
+ * index, so a producer never overwrites a record that was not consumed yet.
+ */
+final class LogRecordQueue {
+
+  private final AtomicReferenceArray<LogRecord> buffer;
+  private final int capacity;
+  private final int mask;
+  private final AtomicLong producerIndex = new AtomicLong();
+  // only written by the consumer thread
+  private final AtomicLong consumerIndex = new AtomicLong();
+
+  LogRecordQueue(int requestedCapacity) {
+    capacity = roundToPowerOfTwo(requestedCapacity);
+    mask = capacity - 1;
+    buffer = new AtomicReferenceArray<>(capacity);
+  }
+
+  /**
+   * Adds the record to the queue and returns its (zero based) sequence number, or {@code -1} if the
+   * queue is full.
+   */
+  long offer(LogRecord logRecord) {
+    while (true) {
+      long producer = producerIndex.get();
+      if (producer - consumerIndex.get() >= capacity) {
+        return -1;
+      }
+      if (producerIndex.compareAndSet(producer, producer + 1)) {
+        buffer.lazySet((int) producer & mask, logRecord);
+        return producer;
+      }
+    }
+  }
+
+  /**
+   * Moves up to {@code limit} records to {@code batch}. Must only be called by the consumer thread.
+   */
+  int drainTo(List<LogRecord> batch, int limit) {
+    long consumer = consumerIndex.get();
+    int drained = 0;
+    while (drained < limit) {
+      int index = (int) consumer & mask;
+      LogRecord logRecord = buffer.get(index);
+      // either empty, or a producer claimed the slot but didn't publish its record yet
+      if (logRecord == null) {
+        break;
+      }
+      buffer.lazySet(index, null);
+      batch.add(logRecord);
+      consumer++;
+      drained++;
+    }
+    consumerIndex.lazySet(consumer);
+    return drained;
+  }
+
+  boolean isEmpty() {
+    return producerIndex.get() == consumerIndex.get();
+  }
+
+  private static int roundToPowerOfTwo(int value) {
+    if (value <= 1) {
+      return 1;
+    }
+    return Integer.highestOneBit(value - 1) << 1;
+  }
+}
@@ -5,8 +5,6 @@
 
 package io.opentelemetry.instrumentation.logback.v1_0;
 
-import static io.opentelemetry.instrumentation.api.log.LoggingContextConstants.SPAN_ID;
-import static io.opentelemetry.instrumentation.api.log.LoggingContextConstants.TRACE_FLAGS;
 import static io.opentelemetry.instrumentation.api.log.LoggingContextConstants.TRACE_ID;
 
 import ch.qos.logback.classic.spi.ILoggingEvent;
@@ -15,17 +13,40 @@ import ch.qos.logback.core.UnsynchronizedAppenderBase;
 import ch.qos.logback.core.spi.AppenderAttachable;
 import ch.qos.logback.core.spi.AppenderAttachableImpl;
 import io.opentelemetry.api.trace.Span;
-import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.instrumentation.logback.v1_0.internal.SpanContextDataMap;
 import io.opentelemetry.instrumentation.logback.v1_0.internal.UnionMap;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
-
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A logback appender that injects the trace context of the current span into logging events and
+ * forwards them to the attached appenders.
+ *
+ * <p>If a {@link LogRecordExporter} is configured the appender also exports every event as a
+ * {@link LogRecord}. Records are created on the logging thread and handed to a bounded lock-free
+ * queue that is drained by a background thread in batches; when the queue is full records are
+ * dropped, logging never blocks. See {@link #getDroppedLogRecords()}.
+ */
 public class OpenTelemetryAppender extends UnsynchronizedAppenderBase<ILoggingEvent>
     implements AppenderAttachable<ILoggingEvent> {
 
+  private static final int DEFAULT_MAX_QUEUE_SIZE = 2048;
+  private static final int DEFAULT_MAX_EXPORT_BATCH_SIZE = 512;
+  private static final long DEFAULT_SCHEDULE_DELAY_MILLIS = 1000;
+  private static final long DEFAULT_SHUTDOWN_TIMEOUT_MILLIS = 10_000;
+
   private final AppenderAttachableImpl<ILoggingEvent> aai = new AppenderAttachableImpl<>();
 
+  @Nullable private LogRecordExporter logRecordExporter;
+  private int maxQueueSize = DEFAULT_MAX_QUEUE_SIZE;
+  private int maxExportBatchSize = DEFAULT_MAX_EXPORT_BATCH_SIZE;
+  private long scheduleDelayMillis = DEFAULT_SCHEDULE_DELAY_MILLIS;
+  private long shutdownTimeoutMillis = DEFAULT_SHUTDOWN_TIMEOUT_MILLIS;
+  @Nullable private volatile BatchLogRecordProcessor processor;
+  // lets append() skip wrapping the event when only exporting
+  private volatile boolean hasAppenders;
+
   public static ILoggingEvent wrapEvent(ILoggingEvent event) {
     Span currentSpan = Span.current();
     if (!currentSpan.getSpanContext().isValid()) {
@@ -38,13 +59,10 @@ public class OpenTelemetryAppender extends UnsynchronizedAppenderBase<ILoggingEv
       return event;
     }
 
-    Map<String, String> contextData = new HashMap<>();
-    SpanContext spanContext = currentSpan.getSpanContext();
-    contextData.put(TRACE_ID, spanContext.getTraceId());
-    contextData.put(SPAN_ID, spanContext.getSpanId());
-    contextData.put(TRACE_FLAGS, spanContext.getTraceFlags().asHex());
+    Map<String, String> contextData =
+        SpanContextDataMap.forSpanContext(currentSpan.getSpanContext());
 
-    if (eventContext == null) {
+    if (eventContext == null || eventContext.isEmpty()) {
       eventContext = contextData;
     } else {
       eventContext = new UnionMap<>(eventContext, contextData);
@@ -53,14 +71,90 @@ public class OpenTelemetryAppender extends UnsynchronizedAppenderBase<ILoggingEv
     return new LoggingEventWrapper(event, eventContext);
   }
 
+  /**
+   * Sets the exporter of the log records, enabling log export. Must be called before the appender
+   * is started; in {@code logback.xml} use a nested {@code <logRecordExporter class="...">}
+   * element.
+   */
+  public void setLogRecordExporter(LogRecordExporter logRecordExporter) {
+    this.logRecordExporter = logRecordExporter;
+  }
+
+  /** Sets the maximum number of queued log records, rounded up to a power of two. */
+  public void setMaxQueueSize(int maxQueueSize) {
+    this.maxQueueSize = maxQueueSize;
+  }
+
+  /** Sets the maximum number of log records exported in one batch. */
+  public void setMaxExportBatchSize(int maxExportBatchSize) {
+    this.maxExportBatchSize = maxExportBatchSize;
+  }
+
+  /** Sets the maximum delay between two exports of queued log records. */
+  public void setScheduleDelayMillis(long scheduleDelayMillis) {
+    this.scheduleDelayMillis = scheduleDelayMillis;
+  }
+
+  /** Sets how long stopping the appender waits for the queued log records to be exported. */
+  public void setShutdownTimeoutMillis(long shutdownTimeoutMillis) {
+    this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+  }
+
+  /** Returns the number of log records that were dropped because the export queue was full. */
+  public long getDroppedLogRecords() {
+    BatchLogRecordProcessor processor = this.processor;
+    return processor != null ? processor.getDroppedLogRecords() : 0;
+  }
+
+  /** Returns the number of log records that were dropped because the exporter failed. */
+  public long getFailedLogRecords() {
+    BatchLogRecordProcessor processor = this.processor;
+    return processor != null ? processor.getFailedLogRecords() : 0;
+  }
+
+  @Override
+  public void start() {
+    if (maxQueueSize <= 0 || maxExportBatchSize <= 0 || scheduleDelayMillis <= 0) {
+      addError("maxQueueSize, maxExportBatchSize and scheduleDelayMillis must be positive");
+      return;
+    }
+    LogRecordExporter logRecordExporter = this.logRecordExporter;
+    if (logRecordExporter != null) {
+      processor =
+          new BatchLogRecordProcessor(
+              logRecordExporter,
+              maxQueueSize,
+              Math.min(maxExportBatchSize, maxQueueSize),
+              scheduleDelayMillis);
+    }
+    super.start();
+  }
+
+  @Override
+  public void stop() {
+    super.stop();
+    BatchLogRecordProcessor processor = this.processor;
+    if (processor != null) {
+      processor.shutdown(shutdownTimeoutMillis);
+      this.processor = null;
+    }
+  }
+
   @Override
   protected void append(ILoggingEvent event) {
-    aai.appendLoopOnAppenders(wrapEvent(event));
+    BatchLogRecordProcessor processor = this.processor;
+    if (processor != null) {
+      processor.emit(LogRecord.create(event, Span.current().getSpanContext()));
+    }
+    if (hasAppenders) {
+      aai.appendLoopOnAppenders(wrapEvent(event));
+    }
   }
 
   @Override
   public void addAppender(Appender<ILoggingEvent> appender) {
     aai.addAppender(appender);
+    hasAppenders = true;
   }
 
   @Override
@@ -81,15 +175,24 @@ public class OpenTelemetryAppender extends UnsynchronizedAppenderBase<ILoggingEv
   @Override
   public void detachAndStopAllAppenders() {
     aai.detachAndStopAllAppenders();
+    hasAppenders = false;
   }
 
   @Override
   public boolean detachAppender(Appender<ILoggingEvent> appender) {
-    return aai.detachAppender(appender);
+    boolean detached = aai.detachAppender(appender);
+    updateHasAppenders();
+    return detached;
   }
 
   @Override
   public boolean detachAppender(String name) {
-    return aai.detachAppender(name);
+    boolean detached = aai.detachAppender(name);
+    updateHasAppenders();
+    return detached;
+  }
+
+  private void updateHasAppenders() {
+    hasAppenders = aai.iteratorForAppenders().hasNext();
   }
 }
@@ -0,0 +1,160 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.logback.v1_0.internal;
+
+import static io.opentelemetry.instrumentation.api.log.LoggingContextConstants.SPAN_ID;
+import static io.opentelemetry.instrumentation.api.log.LoggingContextConstants.TRACE_FLAGS;
+import static io.opentelemetry.instrumentation.api.log.LoggingContextConstants.TRACE_ID;
+
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.instrumentation.api.caching.Cache;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * An immutable map view of the trace id, span id and trace flags of a {@link SpanContext}, keyed
+ * by the {@code LoggingContextConstants} names. Values are rendered only when they are read and
+ * are then remembered, and a single view is shared by all log events of a span, so logging many
+ * lines in one span renders the ids once.
+ */
+public final class SpanContextDataMap extends AbstractMap<String, String> {
+
+  private static final String[] KEYS = {TRACE_ID, SPAN_ID, TRACE_FLAGS};
+
+  private static final Cache<SpanContext, SpanContextDataMap> cache =
+      Cache.newBuilder().setWeakKeys().build();
+
+  /** Returns the (possibly shared) map view of the passed {@link SpanContext}. */
+  public static SpanContextDataMap forSpanContext(SpanContext spanContext) {
+    return cache.computeIfAbsent(spanContext, SpanContextDataMap::new);
+  }
+
+  private final SpanContext spanContext;
+  // rendered lazily, racing threads may render the same immutable value more than once
+  @Nullable private String traceId;
+  @Nullable private String spanId;
+  @Nullable private String traceFlags;
+  @Nullable private Set<Entry<String, String>> entrySet;
+
+  private SpanContextDataMap(SpanContext spanContext) {
+    this.spanContext = spanContext;
+  }
+
+  @Override
+  public int size() {
+    return KEYS.length;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return false;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return TRACE_ID.equals(key) || SPAN_ID.equals(key) || TRACE_FLAGS.equals(key);
+  }
+
+  @Override
+  @Nullable
+  public String get(Object key) {
+    if (TRACE_ID.equals(key)) {
+      return traceId();
+    }
+    if (SPAN_ID.equals(key)) {
+      return spanId();
+    }
+    if (TRACE_FLAGS.equals(key)) {
+      return traceFlags();
+    }
+    return null;
+  }
+
+  @Override
+  public String put(String key, String value) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public String remove(Object key) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void clear() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public Set<Entry<String, String>> entrySet() {
+    Set<Entry<String, String>> entrySet = this.entrySet;
+    if (entrySet == null) {
+      entrySet = new EntrySet();
+      this.entrySet = entrySet;
+    }
+    return entrySet;
+  }
+
+  private String traceId() {
+    String traceId = this.traceId;
+    if (traceId == null) {
+      traceId = spanContext.getTraceId();
+      this.traceId = traceId;
+    }
+    return traceId;
+  }
+
+  private String spanId() {
+    String spanId = this.spanId;
+    if (spanId == null) {
+      spanId = spanContext.getSpanId();
+      this.spanId = spanId;
+    }
+    return spanId;
+  }
+
+  private String traceFlags() {
+    String traceFlags = this.traceFlags;
+    if (traceFlags == null) {
+      traceFlags = spanContext.getTraceFlags().asHex();
+      this.traceFlags = traceFlags;
+    }
+    return traceFlags;
+  }
+
+  private final class EntrySet extends AbstractSet<Entry<String, String>> {
+
+    @Override
+    public int size() {
+      return KEYS.length;
+    }
+
+    @Override
+    public Iterator<Entry<String, String>> iterator() {
+      return new Iterator<Entry<String, String>>() {
+        private int index;
+
+        @Override
+        public boolean hasNext() {
+          return index < KEYS.length;
+        }
+
+        @Override
+        public Entry<String, String> next() {
+          if (index >= KEYS.length) {
+            throw new NoSuchElementException();
+          }
+          String key = KEYS[index++];
+          return new SimpleImmutableEntry<>(key, get(key));
+        }
+      };
+    }
+  }
+}
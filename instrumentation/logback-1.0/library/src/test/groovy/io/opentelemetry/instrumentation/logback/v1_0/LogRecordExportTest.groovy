@@ -0,0 +1,194 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.logback.v1_0
+
+import ch.qos.logback.classic.Logger
+import ch.qos.logback.classic.LoggerContext
+import io.opentelemetry.api.trace.Span
+import io.opentelemetry.api.trace.SpanContext
+import io.opentelemetry.instrumentation.test.InstrumentationSpecification
+import io.opentelemetry.instrumentation.test.LibraryTestTrait
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+import org.slf4j.MDC
+import spock.util.concurrent.PollingConditions
+
+class LogRecordExportTest extends InstrumentationSpecification implements LibraryTestTrait {
+
+  def "exports log records"() {
+    setup:
+    def exporter = new CollectingExporter()
+    def appender = startAppender(exporter, 16, 4)
+    def logger = logger(appender)
+
+    when:
+    logger.info("log message 1")
+    Span span = runWithSpan("test") {
+      MDC.put("key", "value")
+      try {
+        logger.warn("log message 2")
+      } finally {
+        MDC.remove("key")
+      }
+      Span.current()
+    }
+    appender.stop()
+
+    then:
+    exporter.logRecords.size() == 2
+    with(exporter.logRecords[0]) {
+      body == "log message 1"
+      severityNumber == 9
+      severityText == "INFO"
+      loggerName == "export-test"
+      threadName == Thread.currentThread().name
+      spanContext == SpanContext.getInvalid()
+      epochNanos > 0
+    }
+    with(exporter.logRecords[1]) {
+      body == "log message 2"
+      severityNumber == 13
+      severityText == "WARN"
+      spanContext == span.spanContext
+      mdc == [key: "value"]
+    }
+    exporter.shutdown
+    appender.droppedLogRecords == 0
+    appender.failedLogRecords == 0
+  }
+
+  def "exports log records in batches"() {
+    setup:
+    def exporter = new CollectingExporter()
+    def appender = startAppender(exporter, 16, 4)
+    def logger = logger(appender)
+    def conditions = new PollingConditions(timeout: 10)
+
+    when:
+    8.times { logger.info("log message {}", it) }
+
+    then:
+    conditions.eventually {
+      assert exporter.batchSizes == [4, 4]
+    }
+    exporter.logRecords*.body == (0..7).collect { "log message " + it }
+
+    cleanup:
+    appender.stop()
+  }
+
+  def "drops log records when the queue is full"() {
+    setup:
+    def exporter = new BlockingExporter()
+    def appender = startAppender(exporter, 2, 1)
+    def logger = logger(appender)
+
+    when:
+    logger.info("log message")
+    // the worker is now blocked exporting the first record, the queue fills up
+    exporter.exportStarted.await(10, TimeUnit.SECONDS)
+    4.times { logger.info("log message") }
+
+    then:
+    appender.droppedLogRecords == 2
+
+    cleanup:
+    exporter.release.countDown()
+    appender.stop()
+  }
+
+  def "shuts the exporter down after the export that outlived the shutdown timeout"() {
+    setup:
+    def exporter = new BlockingExporter()
+    def appender = startAppender(exporter, 16, 1)
+    appender.shutdownTimeoutMillis = 100
+    def logger = logger(appender)
+    def conditions = new PollingConditions(timeout: 10)
+
+    when:
+    logger.info("log message")
+    exporter.exportStarted.await(10, TimeUnit.SECONDS)
+    appender.stop()
+
+    then:
+    // the worker is still exporting, shutting the exporter down now would race with the export
+    !exporter.shutdown
+
+    when:
+    exporter.release.countDown()
+
+    then:
+    conditions.eventually {
+      assert exporter.shutdown
+    }
+    !exporter.shutdownWhileExporting
+  }
+
+  static OpenTelemetryAppender startAppender(LogRecordExporter exporter, int maxQueueSize, int maxExportBatchSize) {
+    def appender = new OpenTelemetryAppender()
+    appender.context = new LoggerContext()
+    appender.logRecordExporter = exporter
+    appender.maxQueueSize = maxQueueSize
+    appender.maxExportBatchSize = maxExportBatchSize
+    appender.scheduleDelayMillis = 60_000
+    appender.start()
+    return appender
+  }
+
+  static Logger logger(OpenTelemetryAppender appender) {
+    def logger = (appender.context as LoggerContext).getLogger("export-test")
+    logger.additive = false
+    logger.addAppender(appender)
+    return logger
+  }
+
+  static class CollectingExporter implements LogRecordExporter {
+    final List<LogRecord> logRecords = new CopyOnWriteArrayList<>()
+    final List<Integer> batchSizes = new CopyOnWriteArrayList<>()
+    volatile boolean shutdown
+
+    @Override
+    void export(List<LogRecord> logRecords) {
+      batchSizes.add(logRecords.size())
+      this.logRecords.addAll(logRecords)
+    }
+
+    @Override
+    void shutdown() {
+      shutdown = true
+    }
+  }
+
+  static class BlockingExporter implements LogRecordExporter {
+    final CountDownLatch exportStarted = new CountDownLatch(1)
+    final CountDownLatch release = new CountDownLatch(1)
+    volatile boolean exporting
+    volatile boolean shutdown
+    volatile boolean shutdownWhileExporting
+
+    @Override
+    void export(List<LogRecord> logRecords) {
+      exporting = true
+      exportStarted.countDown()
+      // like a blocking network call that doesn't react to interrupts
+      while (release.count > 0) {
+        try {
+          release.await()
+        } catch (InterruptedException ignored) {
+          // keep blocking
+        }
+      }
+      exporting = false
+    }
+
+    @Override
+    void shutdown() {
+      shutdownWhileExporting |= exporting
+      shutdown = true
+    }
+  }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.logback.v1_0.internal
+
+import io.opentelemetry.api.trace.SpanContext
+import io.opentelemetry.api.trace.TraceFlags
+import io.opentelemetry.api.trace.TraceState
+import spock.lang.Specification
+
+class SpanContextDataMapTest extends Specification {
+
+  def spanContext = SpanContext.create(
+    "ff01020304050600ff0a0b0c0d0e0f00",
+    "090a0b0c0d0e0f00",
+    TraceFlags.getSampled(),
+    TraceState.getDefault())
+
+  def "map"() {
+    when:
+    def map = SpanContextDataMap.forSpanContext(spanContext)
+
+    then:
+    map['trace_id'] == "ff01020304050600ff0a0b0c0d0e0f00"
+    map['span_id'] == "090a0b0c0d0e0f00"
+    map['trace_flags'] == "01"
+    map['cat'] == null
+
+    !map.isEmpty()
+    map.size() == 3
+    map.containsKey('trace_id')
+    map.containsKey('span_id')
+    map.containsKey('trace_flags')
+    !map.containsKey('cat')
+
+    map == [trace_id: "ff01020304050600ff0a0b0c0d0e0f00", span_id: "090a0b0c0d0e0f00", trace_flags: "01"]
+  }
+
+  def "shared per span context"() {
+    expect:
+    SpanContextDataMap.forSpanContext(spanContext).is(SpanContextDataMap.forSpanContext(spanContext))
+  }
+
+  def "union with mdc"() {
+    when:
+    def union = new UnionMap([cat: 'meow'], SpanContextDataMap.forSpanContext(spanContext))
+
+    then:
+    union.size() == 4
+    union['cat'] == 'meow'
+    union['span_id'] == "090a0b0c0d0e0f00"
+    new ArrayList(union.entrySet()).size() == 4
+  }
+
+  def "immutable"() {
+    when:
+    SpanContextDataMap.forSpanContext(spanContext).put('cat', 'meow')
+
+    then:
+    thrown(UnsupportedOperationException)
+  }
+}
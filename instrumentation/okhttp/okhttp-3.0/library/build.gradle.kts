@@ -1,10 +1,27 @@
+import net.ltgt.gradle.errorprone.errorprone
+
 plugins {
   id("otel.library-instrumentation")
   id("otel.nullaway-conventions")
+  id("otel.jmh-conventions")
 }
 
 dependencies {
   library("com.squareup.okhttp3:okhttp:3.0.0")
 
   testImplementation(project(":instrumentation:okhttp:okhttp-3.0:testing"))
+
+  jmhImplementation("com.squareup.okhttp3:okhttp:3.0.0")
+  jmhImplementation("io.opentelemetry:opentelemetry-sdk")
+}
+
+tasks {
+  // without disabling errorprone, jmh task fails with
+  // Task :jmhCompileGeneratedClasses FAILED
+  // error: plug-in not found: ErrorProne
+  named<JavaCompile>("jmhCompileGeneratedClasses") {
+    options.errorprone {
+      isEnabled.set(false)
+    }
+  }
 }
@@ -0,0 +1,87 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.okhttp.v3_0;
+
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the overhead of {@link TracingInterceptor}. The last interceptor in the chain answers
+ * every call with a canned response, so no connection is ever made.
+ */
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Thread)
+public class TracingInterceptorBenchmark {
+
+  @Param({"false", "true"})
+  public boolean tracing;
+
+  private OkHttpClient client;
+  private Request request;
+
+  @Setup
+  @SuppressWarnings("deprecation") // the interceptor has to run before the stand-in server
+  public void setup() {
+    OkHttpClient.Builder builder = new OkHttpClient.Builder();
+    if (tracing) {
+      // without span processors spans are recorded but never exported
+      OpenTelemetrySdk openTelemetry =
+          OpenTelemetrySdk.builder()
+              .setTracerProvider(SdkTracerProvider.builder().build())
+              .setPropagators(ContextPropagators.create(W3CTraceContextPropagator.getInstance()))
+              .build();
+      builder.addInterceptor(OkHttpTracing.create(openTelemetry).newInterceptor());
+    }
+    client = builder.addInterceptor(new StandInServer()).build();
+    request = new Request.Builder().url("http://localhost:8080/benchmark?q=1").build();
+  }
+
+  @Benchmark
+  public Response execute() throws IOException {
+    Response response = client.newCall(request).execute();
+    response.body().close();
+    return response;
+  }
+
+  private static class StandInServer implements Interceptor {
+
+    @Override
+    public Response intercept(Chain chain) {
+      return new Response.Builder()
+          .request(chain.request())
+          .protocol(Protocol.HTTP_1_1)
+          .code(200)
+          .message("OK")
+          .body(ResponseBody.create(null, new byte[0]))
+          .build();
+    }
+  }
+}
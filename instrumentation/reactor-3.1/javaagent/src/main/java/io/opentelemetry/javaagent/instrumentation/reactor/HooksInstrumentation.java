@@ -38,6 +38,11 @@ public class HooksInstrumentation implements TypeInstrumentation {
           .setCaptureExperimentalSpanAttributes(
               Config.get()
                   .getBoolean("otel.instrumentation.reactor.experimental-span-attributes", false))
+          .setWrapOnlyOnContextChange(
+              Config.get()
+                  .getBoolean(
+                      "otel.instrumentation.reactor.experimental-wrap-only-on-context-change",
+                      false))
           .build()
           .registerOnEachOperator();
     }
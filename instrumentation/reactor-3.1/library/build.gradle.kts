@@ -1,5 +1,8 @@
+import net.ltgt.gradle.errorprone.errorprone
+
 plugins {
   id("otel.library-instrumentation")
+  id("otel.jmh-conventions")
 }
 
 dependencies {
@@ -9,6 +12,19 @@ dependencies {
 
   testImplementation(project(":instrumentation:reactor-3.1:testing"))
 
+  jmhImplementation("io.projectreactor:reactor-core:3.1.0.RELEASE")
+
   // Looks like later versions on reactor need this dependency for some reason even though it is marked as optional.
   latestDepTestLibrary("io.micrometer:micrometer-core:1.+")
 }
+
+tasks {
+  // without disabling errorprone, jmh task fails with
+  // Task :jmhCompileGeneratedClasses FAILED
+  // error: plug-in not found: ErrorProne
+  named<JavaCompile>("jmhCompileGeneratedClasses") {
+    options.errorprone {
+      isEnabled.set(false)
+    }
+  }
+}
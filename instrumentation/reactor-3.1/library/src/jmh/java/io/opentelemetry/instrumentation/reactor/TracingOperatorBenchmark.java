@@ -0,0 +1,91 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.reactor;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Flux;
+
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class TracingOperatorBenchmark {
+
+  private static final int OPERATORS = 20;
+
+  private static final Context PARENT_CONTEXT =
+      Context.root()
+          .with(
+              Span.wrap(
+                  SpanContext.create(
+                      "ff01020304050600ff0a0b0c0d0e0f00",
+                      "090a0b0c0d0e0f00",
+                      TraceFlags.getSampled(),
+                      TraceState.getDefault())));
+
+  public enum HookMode {
+    NONE,
+    EACH_OPERATOR,
+    ON_CONTEXT_CHANGE
+  }
+
+  @Param public HookMode hookMode;
+
+  private TracingOperator tracingOperator;
+  private Flux<Integer> flux;
+
+  @Setup
+  public void setup() {
+    if (hookMode != HookMode.NONE) {
+      tracingOperator =
+          TracingOperator.newBuilder()
+              .setWrapOnlyOnContextChange(hookMode == HookMode.ON_CONTEXT_CHANGE)
+              .build();
+      tracingOperator.registerOnEachOperator();
+    }
+
+    // operators are lifted at assembly time, so the chain has to be built after the hook is
+    // registered
+    Flux<Integer> chain = Flux.range(1, 1_000_000);
+    for (int i = 0; i < OPERATORS / 2; i++) {
+      chain = chain.map(value -> value + 1).filter(value -> value > 0);
+    }
+    flux = chain;
+  }
+
+  @TearDown
+  public void tearDown() {
+    if (tracingOperator != null) {
+      tracingOperator.resetOnEachOperator();
+    }
+  }
+
+  @Benchmark
+  public Integer range() {
+    try (Scope ignored = PARENT_CONTEXT.makeCurrent()) {
+      return flux.blockLast();
+    }
+  }
+}
@@ -26,6 +26,7 @@ import io.opentelemetry.context.Context;
 import io.opentelemetry.instrumentation.api.annotation.support.async.AsyncOperationEndStrategies;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.reactivestreams.Publisher;
 import reactor.core.CoreSubscriber;
 import reactor.core.Fuseable;
@@ -36,6 +37,28 @@ import reactor.core.publisher.Operators;
 /** Based on Spring Sleuth's Reactor instrumentation. */
 public final class TracingOperator {
 
+  // Scannable.Attr.RUN_STYLE was added in reactor 3.4, no operator is known to be synchronous on
+  // older versions
+  @Nullable private static final Scannable.Attr<Object> RUN_STYLE;
+  @Nullable private static final Object RUN_STYLE_SYNC;
+
+  static {
+    Scannable.Attr<Object> runStyle = null;
+    Object runStyleSync = null;
+    try {
+      @SuppressWarnings("unchecked")
+      Scannable.Attr<Object> attr =
+          (Scannable.Attr<Object>) Scannable.Attr.class.getField("RUN_STYLE").get(null);
+      runStyleSync =
+          Class.forName("reactor.core.Scannable$Attr$RunStyle").getField("SYNC").get(null);
+      runStyle = attr;
+    } catch (Exception ignored) {
+      // older reactor version
+    }
+    RUN_STYLE = runStyle;
+    RUN_STYLE_SYNC = runStyleSync;
+  }
+
   public static TracingOperator create() {
     return newBuilder().build();
   }
@@ -45,12 +68,14 @@ public final class TracingOperator {
   }
 
   private final ReactorAsyncOperationEndStrategy asyncOperationEndStrategy;
+  private final boolean wrapOnlyOnContextChange;
 
-  TracingOperator(boolean captureExperimentalSpanAttributes) {
+  TracingOperator(boolean captureExperimentalSpanAttributes, boolean wrapOnlyOnContextChange) {
     this.asyncOperationEndStrategy =
         ReactorAsyncOperationEndStrategy.newBuilder()
             .setCaptureExperimentalSpanAttributes(captureExperimentalSpanAttributes)
             .build();
+    this.wrapOnlyOnContextChange = wrapOnlyOnContextChange;
   }
 
   /**
@@ -60,7 +85,9 @@ public final class TracingOperator {
    * application.
    */
   public void registerOnEachOperator() {
-    Hooks.onEachOperator(TracingSubscriber.class.getName(), tracingLift(asyncOperationEndStrategy));
+    Hooks.onEachOperator(
+        TracingSubscriber.class.getName(),
+        tracingLift(asyncOperationEndStrategy, wrapOnlyOnContextChange));
     AsyncOperationEndStrategies.instance().registerStrategy(asyncOperationEndStrategy);
   }
 
@@ -71,8 +98,9 @@ public final class TracingOperator {
   }
 
   private static <T> Function<? super Publisher<T>, ? extends Publisher<T>> tracingLift(
-      ReactorAsyncOperationEndStrategy asyncOperationEndStrategy) {
-    return Operators.lift(new Lifter<>(asyncOperationEndStrategy));
+      ReactorAsyncOperationEndStrategy asyncOperationEndStrategy,
+      boolean wrapOnlyOnContextChange) {
+    return Operators.lift(new Lifter<>(asyncOperationEndStrategy, wrapOnlyOnContextChange));
   }
 
   public static class Lifter<T>
@@ -82,8 +110,17 @@ public final class TracingOperator {
     @SuppressWarnings("FieldCanBeLocal")
     private final ReactorAsyncOperationEndStrategy asyncOperationEndStrategy;
 
+    private final boolean wrapOnlyOnContextChange;
+
     public Lifter(ReactorAsyncOperationEndStrategy asyncOperationEndStrategy) {
+      this(asyncOperationEndStrategy, false);
+    }
+
+    public Lifter(
+        ReactorAsyncOperationEndStrategy asyncOperationEndStrategy,
+        boolean wrapOnlyOnContextChange) {
       this.asyncOperationEndStrategy = asyncOperationEndStrategy;
+      this.wrapOnlyOnContextChange = wrapOnlyOnContextChange;
     }
 
     @Override
@@ -92,7 +129,18 @@ public final class TracingOperator {
       if (publisher instanceof Fuseable.ScalarCallable) {
         return sub;
       }
+      if (wrapOnlyOnContextChange && isSynchronous(publisher)) {
+        return sub;
+      }
       return new TracingSubscriber<>(sub, sub.currentContext());
     }
+
+    // A synchronous operator subscribes to its upstream on the subscribing thread, so the upstream
+    // is wrapped with the same context, and it signals downstream on the thread its upstream
+    // signals on, within the scope of that wrapper. Its own signals can't change the context, so
+    // only the sources and the operators that may switch threads need to be wrapped.
+    private static boolean isSynchronous(Scannable publisher) {
+      return RUN_STYLE != null && publisher.scan(RUN_STYLE) == RUN_STYLE_SYNC;
+    }
   }
 }
@@ -7,6 +7,7 @@ package io.opentelemetry.instrumentation.reactor;
 
 public final class TracingOperatorBuilder {
   private boolean captureExperimentalSpanAttributes;
+  private boolean wrapOnlyOnContextChange;
 
   TracingOperatorBuilder() {}
 
@@ -16,7 +17,23 @@ public final class TracingOperatorBuilder {
     return this;
   }
 
+  /**
+   * Sets whether operators should only be wrapped when their signals may be delivered with a
+   * different {@link io.opentelemetry.context.Context} than the one they were subscribed with. By
+   * default every operator is wrapped.
+   *
+   * <p>Sources and operators that may switch threads (e.g. {@code publishOn()}) are then still
+   * wrapped, while operators that reactor reports as synchronous (e.g. {@code map()} or {@code
+   * filter()}) run within the scope opened by the closest upstream wrapper, which considerably
+   * reduces the per-signal overhead of long operator chains. Operators are only reported as
+   * synchronous since reactor 3.4; with older versions every operator is wrapped.
+   */
+  public TracingOperatorBuilder setWrapOnlyOnContextChange(boolean wrapOnlyOnContextChange) {
+    this.wrapOnlyOnContextChange = wrapOnlyOnContextChange;
+    return this;
+  }
+
   public TracingOperator build() {
-    return new TracingOperator(captureExperimentalSpanAttributes);
+    return new TracingOperator(captureExperimentalSpanAttributes, wrapOnlyOnContextChange);
   }
 }
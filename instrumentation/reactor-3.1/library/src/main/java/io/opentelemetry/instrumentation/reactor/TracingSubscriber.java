@@ -55,17 +55,35 @@ public class TracingSubscriber<T> implements CoreSubscriber<T> {
 
   @Override
   public void onNext(T o) {
-    withActiveSpan(() -> subscriber.onNext(o));
+    if (isCurrent()) {
+      subscriber.onNext(o);
+      return;
+    }
+    try (Scope ignored = traceContext.makeCurrent()) {
+      subscriber.onNext(o);
+    }
   }
 
   @Override
   public void onError(Throwable throwable) {
-    withActiveSpan(() -> subscriber.onError(throwable));
+    if (isCurrent()) {
+      subscriber.onError(throwable);
+      return;
+    }
+    try (Scope ignored = traceContext.makeCurrent()) {
+      subscriber.onError(throwable);
+    }
   }
 
   @Override
   public void onComplete() {
-    withActiveSpan(subscriber::onComplete);
+    if (isCurrent()) {
+      subscriber.onComplete();
+      return;
+    }
+    try (Scope ignored = traceContext.makeCurrent()) {
+      subscriber.onComplete();
+    }
   }
 
   @Override
@@ -73,13 +91,9 @@ public class TracingSubscriber<T> implements CoreSubscriber<T> {
     return context;
   }
 
-  private void withActiveSpan(Runnable runnable) {
-    if (traceContext != null) {
-      try (Scope ignored = traceContext.makeCurrent()) {
-        runnable.run();
-      }
-    } else {
-      runnable.run();
-    }
+  // signals are usually delivered on the thread that already has the propagated context current,
+  // e.g. by an upstream TracingSubscriber; there's no need to open another scope in that case
+  private boolean isCurrent() {
+    return traceContext == null || traceContext == io.opentelemetry.context.Context.current();
   }
 }
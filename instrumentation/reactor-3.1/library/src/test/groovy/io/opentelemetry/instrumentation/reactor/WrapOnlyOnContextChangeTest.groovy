@@ -0,0 +1,79 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.reactor
+
+import io.opentelemetry.api.trace.Span
+import io.opentelemetry.instrumentation.test.LibraryInstrumentationSpecification
+import reactor.core.publisher.Flux
+import reactor.core.publisher.Mono
+import reactor.core.scheduler.Schedulers
+import spock.lang.Shared
+
+import java.time.Duration
+
+class WrapOnlyOnContextChangeTest extends LibraryInstrumentationSpecification {
+  @Shared
+  TracingOperator tracingOperator = TracingOperator.newBuilder()
+    .setWrapOnlyOnContextChange(true)
+    .build()
+
+  def setupSpec() {
+    tracingOperator.registerOnEachOperator()
+  }
+
+  def cleanupSpec() {
+    tracingOperator.resetOnEachOperator()
+  }
+
+  def "operators see the context of the subscription"() {
+    when:
+    def spans = runWithSpan("parent") {
+      def expected = Span.current()
+      Flux.range(1, 3)
+        .map { Span.current() }
+        .filter { true }
+        .map { it == expected }
+        .collectList()
+        .block()
+    }
+
+    then:
+    spans == [true, true, true]
+  }
+
+  def "operators see the context when the source emits on another thread"() {
+    when:
+    def sameSpan = runWithSpan("parent") {
+      def expected = Span.current()
+      Mono.delay(Duration.ofMillis(10))
+        .map { Span.current() == expected }
+        .filter { Span.current() == expected }
+        .map { it && Span.current() == expected }
+        .block()
+    }
+
+    then:
+    sameSpan
+  }
+
+  def "operators see the context after an upstream operator switched threads"() {
+    when:
+    def spans = runWithSpan("parent") {
+      def expected = Span.current()
+      Flux.range(1, 3)
+        .publishOn(Schedulers.single())
+        .map { Span.current() == expected }
+        .filter { Span.current() == expected }
+        .flatMap { Mono.delay(Duration.ofMillis(1)).map { Span.current() == expected } }
+        .map { it && Span.current() == expected }
+        .collectList()
+        .block()
+    }
+
+    then:
+    spans == [true, true, true]
+  }
+}
@@ -5,6 +5,8 @@ plugins {
 dependencies {
   library("org.apache.rocketmq:rocketmq-client:4.8.0")
 
+  implementation("io.opentelemetry:opentelemetry-api-metrics")
+
   compileOnly("com.google.auto.value:auto-value-annotations")
   annotationProcessor("com.google.auto.value:auto-value")
 
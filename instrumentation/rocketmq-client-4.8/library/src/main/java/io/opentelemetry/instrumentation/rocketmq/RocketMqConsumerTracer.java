@@ -9,9 +9,13 @@ import static io.opentelemetry.api.trace.SpanKind.CONSUMER;
 import static io.opentelemetry.instrumentation.rocketmq.TextMapExtractAdapter.GETTER;
 
 import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.common.AttributesBuilder;
 import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.api.trace.SpanBuilder;
 import io.opentelemetry.context.Context;
+import io.opentelemetry.instrumentation.api.instrumenter.RequestListener;
+import io.opentelemetry.instrumentation.api.instrumenter.messaging.MessagingConsumerMetrics;
 import io.opentelemetry.instrumentation.api.tracer.BaseTracer;
 import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
 import java.util.List;
@@ -22,36 +26,65 @@ final class RocketMqConsumerTracer extends BaseTracer {
 
   private final boolean captureExperimentalSpanAttributes;
   private final boolean propagationEnabled;
+  private final RequestListener consumerMetrics;
 
   RocketMqConsumerTracer(
       OpenTelemetry openTelemetry,
+      RequestListener consumerMetrics,
       boolean captureExperimentalSpanAttributes,
       boolean propagationEnabled) {
     super(openTelemetry);
+    this.consumerMetrics = consumerMetrics;
     this.captureExperimentalSpanAttributes = captureExperimentalSpanAttributes;
     this.propagationEnabled = propagationEnabled;
   }
 
   @Override
   protected String getInstrumentationName() {
-    return "io.opentelemetry.rocketmq-client-4.8";
+    return RocketMqTracing.INSTRUMENTATION_NAME;
   }
 
   Context startSpan(Context parentContext, List<MessageExt> msgs) {
+    Context metricsContext = consumerMetrics.start(parentContext, metricsAttributes(msgs));
+    Context context;
     if (msgs.size() == 1) {
       SpanBuilder spanBuilder = startSpanBuilder(extractParent(msgs.get(0)), msgs.get(0));
-      return withConsumerSpan(parentContext, spanBuilder.startSpan());
+      context = withConsumerSpan(metricsContext, spanBuilder.startSpan());
     } else {
       SpanBuilder spanBuilder =
           spanBuilder(parentContext, "multiple_sources receive", CONSUMER)
               .setAttribute(SemanticAttributes.MESSAGING_SYSTEM, "rocketmq")
               .setAttribute(SemanticAttributes.MESSAGING_OPERATION, "receive");
-      Context rootContext = withConsumerSpan(parentContext, spanBuilder.startSpan());
+      context = withConsumerSpan(metricsContext, spanBuilder.startSpan());
       for (MessageExt message : msgs) {
-        createChildSpan(rootContext, message);
+        createChildSpan(context, message);
       }
-      return rootContext;
     }
+    for (MessageExt message : msgs) {
+      MessagingConsumerMetrics.recordMessageTimestamp(context, message.getBornTimestamp());
+    }
+    return context;
+  }
+
+  /** Ends the span started by {@link #startSpan(Context, List)}. */
+  void endConsume(Context context) {
+    consumerMetrics.end(context, Attributes.empty());
+    end(context);
+  }
+
+  private static Attributes metricsAttributes(List<MessageExt> msgs) {
+    AttributesBuilder attributes =
+        Attributes.builder()
+            .put(SemanticAttributes.MESSAGING_SYSTEM, "rocketmq")
+            .put(SemanticAttributes.MESSAGING_DESTINATION_KIND, "topic")
+            .put(SemanticAttributes.MESSAGING_OPERATION, "process");
+    String topic = msgs.get(0).getTopic();
+    for (MessageExt message : msgs) {
+      if (!topic.equals(message.getTopic())) {
+        return attributes.build();
+      }
+    }
+    return attributes.put(SemanticAttributes.MESSAGING_DESTINATION, topic).build();
   }
 
   private void createChildSpan(Context parentContext, MessageExt msg) {
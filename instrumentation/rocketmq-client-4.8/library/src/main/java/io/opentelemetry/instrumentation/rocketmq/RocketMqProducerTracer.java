@@ -8,9 +8,11 @@ package io.opentelemetry.instrumentation.rocketmq;
 import static io.opentelemetry.api.trace.SpanKind.PRODUCER;
 
 import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.api.trace.SpanBuilder;
 import io.opentelemetry.context.Context;
+import io.opentelemetry.instrumentation.api.instrumenter.RequestListener;
 import io.opentelemetry.instrumentation.api.tracer.BaseTracer;
 import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
 import org.apache.rocketmq.client.producer.SendResult;
@@ -19,21 +21,40 @@ import org.apache.rocketmq.common.message.Message;
 final class RocketMqProducerTracer extends BaseTracer {
 
   private final boolean captureExperimentalSpanAttributes;
+  private final RequestListener producerMetrics;
 
-  RocketMqProducerTracer(OpenTelemetry openTelemetry, boolean captureExperimentalSpanAttributes) {
+  RocketMqProducerTracer(
+      OpenTelemetry openTelemetry,
+      RequestListener producerMetrics,
+      boolean captureExperimentalSpanAttributes) {
     super(openTelemetry);
+    this.producerMetrics = producerMetrics;
     this.captureExperimentalSpanAttributes = captureExperimentalSpanAttributes;
   }
 
   @Override
   protected String getInstrumentationName() {
-    return "io.opentelemetry.rocketmq-client-4.8";
+    return RocketMqTracing.INSTRUMENTATION_NAME;
   }
 
   Context startProducerSpan(Context parentContext, String addr, Message msg) {
     SpanBuilder spanBuilder = spanBuilder(parentContext, spanNameOnProduce(msg), PRODUCER);
     onProduce(spanBuilder, msg, addr);
-    return parentContext.with(spanBuilder.startSpan());
+    Attributes metricsAttributes =
+        Attributes.of(
+            SemanticAttributes.MESSAGING_SYSTEM,
+            "rocketmq",
+            SemanticAttributes.MESSAGING_DESTINATION_KIND,
+            "topic",
+            SemanticAttributes.MESSAGING_DESTINATION,
+            msg.getTopic());
+    return producerMetrics.start(parentContext, metricsAttributes).with(spanBuilder.startSpan());
+  }
+
+  /** Ends the span started by {@link #startProducerSpan(Context, String, Message)}. */
+  void endProduce(Context context) {
+    producerMetrics.end(context, Attributes.empty());
+    end(context);
   }
 
   private void onProduce(SpanBuilder spanBuilder, Message msg, String addr) {
@@ -6,12 +6,18 @@
 package io.opentelemetry.instrumentation.rocketmq;
 
 import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.metrics.GlobalMeterProvider;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.instrumentation.api.instrumenter.messaging.MessagingConsumerMetrics;
+import io.opentelemetry.instrumentation.api.instrumenter.messaging.MessagingProducerMetrics;
 import org.apache.rocketmq.client.hook.ConsumeMessageHook;
 import org.apache.rocketmq.client.hook.SendMessageHook;
 
 /** Entrypoint for tracing RocketMq producers or consumers. */
 public final class RocketMqTracing {
 
+  static final String INSTRUMENTATION_NAME = "io.opentelemetry.rocketmq-client-4.8";
+
   /** Returns a new {@link RocketMqTracing} configured with the given {@link OpenTelemetry}. */
   public static RocketMqTracing create(OpenTelemetry openTelemetry) {
     return newBuilder(openTelemetry).build();
@@ -34,11 +40,19 @@ public final class RocketMqTracing {
       boolean captureExperimentalSpanAttributes,
       boolean propagationEnabled) {
     this.propagationEnabled = propagationEnabled;
+    // the tracers share the meter an Instrumenter of this instrumentation would use
+    Meter meter = GlobalMeterProvider.get().get(INSTRUMENTATION_NAME);
     rocketMqConsumerTracer =
         new RocketMqConsumerTracer(
-            openTelemetry, captureExperimentalSpanAttributes, propagationEnabled);
+            openTelemetry,
+            MessagingConsumerMetrics.get().create(meter),
+            captureExperimentalSpanAttributes,
+            propagationEnabled);
     rocketMqProducerTracer =
-        new RocketMqProducerTracer(openTelemetry, captureExperimentalSpanAttributes);
+        new RocketMqProducerTracer(
+            openTelemetry,
+            MessagingProducerMetrics.get().create(meter),
+            captureExperimentalSpanAttributes);
   }
 
   /**
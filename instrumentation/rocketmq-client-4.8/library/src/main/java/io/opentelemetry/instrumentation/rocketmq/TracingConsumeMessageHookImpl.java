@@ -44,7 +44,7 @@ final class TracingConsumeMessageHookImpl implements ConsumeMessageHook {
     if (context.getMqTraceContext() instanceof ContextAndScope) {
       ContextAndScope contextAndScope = (ContextAndScope) context.getMqTraceContext();
       contextAndScope.close();
-      tracer.end(contextAndScope.getContext());
+      tracer.endConsume(contextAndScope.getContext());
     }
   }
 }
@@ -47,7 +47,7 @@ final class TracingSendMessageHookImpl implements SendMessageHook {
     if (context.getMqTraceContext() instanceof Context) {
       Context otelContext = (Context) context.getMqTraceContext();
       tracer.afterProduce(otelContext, context.getSendResult());
-      tracer.end(otelContext);
+      tracer.endProduce(otelContext);
     }
   }
 }
@@ -1,5 +1,8 @@
+import net.ltgt.gradle.errorprone.errorprone
+
 plugins {
   id("otel.library-instrumentation")
+  id("otel.jmh-conventions")
 }
 
 dependencies {
@@ -7,8 +10,21 @@ dependencies {
   implementation(project(":instrumentation-api-annotation-support"))
 
   testImplementation(project(":instrumentation:rxjava:rxjava-2.0:testing"))
+
+  jmhImplementation("io.reactivex.rxjava2:rxjava:2.1.3")
 }
 
-tasks.withType<Test>().configureEach {
-  jvmArgs("-Dio.opentelemetry.context.enableStrictContext=false")
+tasks {
+  withType<Test>().configureEach {
+    jvmArgs("-Dio.opentelemetry.context.enableStrictContext=false")
+  }
+
+  // without disabling errorprone, jmh task fails with
+  // Task :jmhCompileGeneratedClasses FAILED
+  // error: plug-in not found: ErrorProne
+  named<JavaCompile>("jmhCompileGeneratedClasses") {
+    options.errorprone {
+      isEnabled.set(false)
+    }
+  }
 }
@@ -0,0 +1,109 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.rxjava2;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import io.reactivex.Flowable;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.processors.PublishProcessor;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@BenchmarkMode(Mode.Throughput)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class HotFlowableBenchmark {
+
+  private static final int OPERATORS = 20;
+  private static final int EMISSIONS = 1000;
+
+  private static final Context PARENT_CONTEXT =
+      Context.root()
+          .with(
+              Span.wrap(
+                  SpanContext.create(
+                      "ff01020304050600ff0a0b0c0d0e0f00",
+                      "090a0b0c0d0e0f00",
+                      TraceFlags.getSampled(),
+                      TraceState.getDefault())));
+
+  @Param({"false", "true"})
+  public boolean tracing;
+
+  private TracingAssembly tracingAssembly;
+  private PublishProcessor<Integer> processor;
+  private Disposable subscription;
+  private long received;
+
+  @Setup
+  public void setup() {
+    if (tracing) {
+      tracingAssembly = TracingAssembly.create();
+      tracingAssembly.enable();
+    }
+
+    processor = PublishProcessor.create();
+    Flowable<Integer> chain = processor;
+    for (int i = 0; i < OPERATORS / 2; i++) {
+      chain = chain.map(value -> value + 1).filter(value -> value > 0);
+    }
+    // subscribers are wrapped at subscription time and capture the context that is current then
+    try (Scope ignored = PARENT_CONTEXT.makeCurrent()) {
+      subscription = chain.subscribe(value -> received++);
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    subscription.dispose();
+    if (tracingAssembly != null) {
+      tracingAssembly.disable();
+    }
+  }
+
+  /** Items are emitted with the subscription context already current, no wrapper opens a scope. */
+  @Benchmark
+  @OperationsPerInvocation(EMISSIONS)
+  public long emitInSubscriptionContext() {
+    try (Scope ignored = PARENT_CONTEXT.makeCurrent()) {
+      for (int i = 0; i < EMISSIONS; i++) {
+        processor.onNext(i);
+      }
+    }
+    return received;
+  }
+
+  /**
+   * Items are emitted from a different context, only the first wrapper in the chain opens a scope.
+   */
+  @Benchmark
+  @OperationsPerInvocation(EMISSIONS)
+  public long emitInRootContext() {
+    for (int i = 0; i < EMISSIONS; i++) {
+      processor.onNext(i);
+    }
+    return received;
+  }
+}
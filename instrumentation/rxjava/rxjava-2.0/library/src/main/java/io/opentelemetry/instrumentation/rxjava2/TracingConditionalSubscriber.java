@@ -43,6 +43,9 @@ class TracingConditionalSubscriber<T> extends BasicFuseableConditionalSubscriber
 
   @Override
   public boolean tryOnNext(T t) {
+    if (context == Context.current()) {
+      return wrappedSubscriber.tryOnNext(t);
+    }
     try (Scope ignored = context.makeCurrent()) {
       return wrappedSubscriber.tryOnNext(t);
     }
@@ -50,6 +53,10 @@ class TracingConditionalSubscriber<T> extends BasicFuseableConditionalSubscriber
 
   @Override
   public void onNext(T t) {
+    if (context == Context.current()) {
+      wrappedSubscriber.onNext(t);
+      return;
+    }
     try (Scope ignored = context.makeCurrent()) {
       wrappedSubscriber.onNext(t);
     }
@@ -57,6 +64,10 @@ class TracingConditionalSubscriber<T> extends BasicFuseableConditionalSubscriber
 
   @Override
   public void onError(Throwable t) {
+    if (context == Context.current()) {
+      wrappedSubscriber.onError(t);
+      return;
+    }
     try (Scope ignored = context.makeCurrent()) {
       wrappedSubscriber.onError(t);
     }
@@ -64,6 +75,10 @@ class TracingConditionalSubscriber<T> extends BasicFuseableConditionalSubscriber
 
   @Override
   public void onComplete() {
+    if (context == Context.current()) {
+      wrappedSubscriber.onComplete();
+      return;
+    }
     try (Scope ignored = context.makeCurrent()) {
       wrappedSubscriber.onComplete();
     }
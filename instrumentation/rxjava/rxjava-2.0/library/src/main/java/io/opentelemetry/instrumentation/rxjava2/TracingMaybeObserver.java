@@ -50,6 +50,10 @@ class TracingMaybeObserver<T> implements MaybeObserver<T>, Disposable {
 
   @Override
   public void onSuccess(T t) {
+    if (context == Context.current()) {
+      actual.onSuccess(t);
+      return;
+    }
     try (Scope ignored = context.makeCurrent()) {
       actual.onSuccess(t);
     }
@@ -57,6 +61,10 @@ class TracingMaybeObserver<T> implements MaybeObserver<T>, Disposable {
 
   @Override
   public void onError(Throwable e) {
+    if (context == Context.current()) {
+      actual.onError(e);
+      return;
+    }
     try (Scope ignored = context.makeCurrent()) {
       actual.onError(e);
     }
@@ -64,6 +72,10 @@ class TracingMaybeObserver<T> implements MaybeObserver<T>, Disposable {
 
   @Override
   public void onComplete() {
+    if (context == Context.current()) {
+      actual.onComplete();
+      return;
+    }
     try (Scope ignored = context.makeCurrent()) {
       actual.onComplete();
     }
@@ -46,6 +46,10 @@ class TracingObserver<T> extends BasicFuseableObserver<T, T> {
 
   @Override
   public void onNext(T t) {
+    if (context == Context.current()) {
+      wrappedObserver.onNext(t);
+      return;
+    }
     try (Scope ignored = context.makeCurrent()) {
       wrappedObserver.onNext(t);
     }
@@ -53,6 +57,10 @@ class TracingObserver<T> extends BasicFuseableObserver<T, T> {
 
   @Override
   public void onError(Throwable t) {
+    if (context == Context.current()) {
+      wrappedObserver.onError(t);
+      return;
+    }
     try (Scope ignored = context.makeCurrent()) {
       wrappedObserver.onError(t);
     }
@@ -60,6 +68,10 @@ class TracingObserver<T> extends BasicFuseableObserver<T, T> {
 
   @Override
   public void onComplete() {
+    if (context == Context.current()) {
+      wrappedObserver.onComplete();
+      return;
+    }
     try (Scope ignored = context.makeCurrent()) {
       wrappedObserver.onComplete();
     }
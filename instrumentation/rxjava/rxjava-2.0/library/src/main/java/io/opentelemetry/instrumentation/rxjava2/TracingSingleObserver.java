@@ -50,6 +50,10 @@ class TracingSingleObserver<T> implements SingleObserver<T>, Disposable {
 
   @Override
   public void onSuccess(T t) {
+    if (context == Context.current()) {
+      actual.onSuccess(t);
+      return;
+    }
     try (Scope ignored = context.makeCurrent()) {
       actual.onSuccess(t);
     }
@@ -57,6 +61,10 @@ class TracingSingleObserver<T> implements SingleObserver<T>, Disposable {
 
   @Override
   public void onError(Throwable throwable) {
+    if (context == Context.current()) {
+      actual.onError(throwable);
+      return;
+    }
     try (Scope ignored = context.makeCurrent()) {
       actual.onError(throwable);
     }
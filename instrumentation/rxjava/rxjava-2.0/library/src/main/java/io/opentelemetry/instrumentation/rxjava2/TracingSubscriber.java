@@ -43,6 +43,10 @@ class TracingSubscriber<T> extends BasicFuseableSubscriber<T, T> {
 
   @Override
   public void onNext(T t) {
+    if (context == Context.current()) {
+      wrappedSubscriber.onNext(t);
+      return;
+    }
     try (Scope ignored = context.makeCurrent()) {
       wrappedSubscriber.onNext(t);
     }
@@ -50,6 +54,10 @@ class TracingSubscriber<T> extends BasicFuseableSubscriber<T, T> {
 
   @Override
   public void onError(Throwable t) {
+    if (context == Context.current()) {
+      wrappedSubscriber.onError(t);
+      return;
+    }
     try (Scope ignored = context.makeCurrent()) {
       wrappedSubscriber.onError(t);
     }
@@ -57,6 +65,10 @@ class TracingSubscriber<T> extends BasicFuseableSubscriber<T, T> {
 
   @Override
   public void onComplete() {
+    if (context == Context.current()) {
+      wrappedSubscriber.onComplete();
+      return;
+    }
     try (Scope ignored = context.makeCurrent()) {
       wrappedSubscriber.onComplete();
     }
@@ -1,5 +1,8 @@
+import net.ltgt.gradle.errorprone.errorprone
+
 plugins {
   id("otel.library-instrumentation")
+  id("otel.jmh-conventions")
 }
 
 dependencies {
@@ -8,9 +11,22 @@ dependencies {
 
   testImplementation(project(":instrumentation:rxjava:rxjava-3.0:testing"))
 
+  jmhImplementation("io.reactivex.rxjava3:rxjava:3.0.12")
+
   latestDepTestLibrary("io.reactivex.rxjava3:rxjava:3.1.0")
 }
 
-tasks.withType<Test>().configureEach {
-  jvmArgs("-Dio.opentelemetry.context.enableStrictContext=false")
+tasks {
+  withType<Test>().configureEach {
+    jvmArgs("-Dio.opentelemetry.context.enableStrictContext=false")
+  }
+
+  // without disabling errorprone, jmh task fails with
+  // Task :jmhCompileGeneratedClasses FAILED
+  // error: plug-in not found: ErrorProne
+  named<JavaCompile>("jmhCompileGeneratedClasses") {
+    options.errorprone {
+      isEnabled.set(false)
+    }
+  }
 }
@@ -50,6 +50,10 @@ class TracingCompletableObserver implements CompletableObserver, Disposable {
 
   @Override
   public void onComplete() {
+    if (context == Context.current()) {
+      actual.onComplete();
+      return;
+    }
     try (Scope ignored = context.makeCurrent()) {
       actual.onComplete();
     }
@@ -57,6 +61,10 @@ class TracingCompletableObserver implements CompletableObserver, Disposable {
 
   @Override
   public void onError(Throwable e) {
+    if (context == Context.current()) {
+      actual.onError(e);
+      return;
+    }
     try (Scope ignored = context.makeCurrent()) {
       actual.onError(e);
     }
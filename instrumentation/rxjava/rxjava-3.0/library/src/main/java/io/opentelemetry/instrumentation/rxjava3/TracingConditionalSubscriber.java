@@ -39,6 +39,9 @@ class TracingConditionalSubscriber<T> extends BasicFuseableConditionalSubscriber
 
   @Override
   public boolean tryOnNext(T t) {
+    if (context == Context.current()) {
+      return downstream.tryOnNext(t);
+    }
     try (Scope ignored = context.makeCurrent()) {
       return downstream.tryOnNext(t);
     }
@@ -46,6 +49,10 @@ class TracingConditionalSubscriber<T> extends BasicFuseableConditionalSubscriber
 
   @Override
   public void onNext(T t) {
+    if (context == Context.current()) {
+      downstream.onNext(t);
+      return;
+    }
     try (Scope ignored = context.makeCurrent()) {
       downstream.onNext(t);
     }
@@ -53,6 +60,10 @@ class TracingConditionalSubscriber<T> extends BasicFuseableConditionalSubscriber
 
   @Override
   public void onError(Throwable t) {
+    if (context == Context.current()) {
+      downstream.onError(t);
+      return;
+    }
     try (Scope ignored = context.makeCurrent()) {
       downstream.onError(t);
     }
@@ -60,6 +71,10 @@ class TracingConditionalSubscriber<T> extends BasicFuseableConditionalSubscriber
 
   @Override
   public void onComplete() {
+    if (context == Context.current()) {
+      downstream.onComplete();
+      return;
+    }
     try (Scope ignored = context.makeCurrent()) {
       downstream.onComplete();
     }
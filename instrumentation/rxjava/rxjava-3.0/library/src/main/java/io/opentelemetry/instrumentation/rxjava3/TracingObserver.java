@@ -39,6 +39,10 @@ class TracingObserver<T> extends BasicFuseableObserver<T, T> {
 
   @Override
   public void onNext(T t) {
+    if (context == Context.current()) {
+      downstream.onNext(t);
+      return;
+    }
     try (Scope ignored = context.makeCurrent()) {
       downstream.onNext(t);
     }
@@ -46,6 +50,10 @@ class TracingObserver<T> extends BasicFuseableObserver<T, T> {
 
   @Override
   public void onError(Throwable t) {
+    if (context == Context.current()) {
+      downstream.onError(t);
+      return;
+    }
     try (Scope ignored = context.makeCurrent()) {
       downstream.onError(t);
     }
@@ -53,6 +61,10 @@ class TracingObserver<T> extends BasicFuseableObserver<T, T> {
 
   @Override
   public void onComplete() {
+    if (context == Context.current()) {
+      downstream.onComplete();
+      return;
+    }
     try (Scope ignored = context.makeCurrent()) {
       downstream.onComplete();
     }
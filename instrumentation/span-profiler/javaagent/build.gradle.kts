@@ -0,0 +1,8 @@
+plugins {
+  id("otel.javaagent-instrumentation")
+}
+
+tasks.withType<Test>().configureEach {
+  jvmArgs("-Dotel.instrumentation.span-profiler.enabled=true")
+  jvmArgs("-Dotel.instrumentation.span-profiler.experimental-sampling-interval=5ms")
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.spanprofiler;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.ContextStorage;
+import io.opentelemetry.context.Scope;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A {@link ContextStorage} wrapper that publishes the samples of the span of the current context
+ * of each thread to its {@link ThreadState}, where the {@link StackSampler} reads it. When a scope
+ * of a span closes the stacks sampled for the span so far are recorded on it, the last scope to
+ * close before the span ends records all of them.
+ */
+final class ProfilingContextStorage implements ContextStorage, AutoCloseable {
+
+  private final ContextStorage delegate;
+  private final int maxStacks;
+
+  ProfilingContextStorage(ContextStorage delegate, int maxStacks) {
+    this.delegate = delegate;
+    this.maxStacks = maxStacks;
+  }
+
+  @Override
+  public Scope attach(Context toAttach) {
+    ThreadState threadState = ThreadState.current();
+    Span previousSpan = threadState.activeSpan();
+    Span span = sampledSpan(toAttach);
+    Scope scope = delegate.attach(toAttach);
+    if (span == previousSpan) {
+      return scope;
+    }
+
+    SpanSamples previousSamples = threadState.activeSamples();
+    SpanSamples samples = span != null ? SpanSamples.forSpan(span) : null;
+    threadState.setActive(span, samples);
+    return () -> {
+      scope.close();
+      threadState.setActive(previousSpan, previousSamples);
+      if (samples != null && span.isRecording()) {
+        samples.record(span, maxStacks);
+      }
+    };
+  }
+
+  @Override
+  @Nullable
+  public Context current() {
+    return delegate.current();
+  }
+
+  @Override
+  public void close() throws Exception {
+    if (delegate instanceof AutoCloseable) {
+      ((AutoCloseable) delegate).close();
+    }
+  }
+
+  @Nullable
+  private static Span sampledSpan(Context context) {
+    Span span = Span.fromContextOrNull(context);
+    // samples can only be recorded on spans that record attributes
+    return span != null && span.isRecording() ? span : null;
+  }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.spanprofiler;
+
+import com.google.auto.service.AutoService;
+import io.opentelemetry.context.ContextStorage;
+import io.opentelemetry.instrumentation.api.config.Config;
+import io.opentelemetry.javaagent.extension.AgentListener;
+import java.time.Duration;
+import java.util.Collections;
+
+/**
+ * An {@link AgentListener} that enables the span profiler: the stacks of threads that have a span
+ * in their current context are sampled periodically, and the hottest stacks of each span are
+ * recorded as span attributes. Disabled by default.
+ */
+@AutoService(AgentListener.class)
+public class SpanProfilerInstaller implements AgentListener {
+
+  private static final Duration DEFAULT_SAMPLING_INTERVAL = Duration.ofMillis(20);
+  private static final int DEFAULT_MAX_STACKS = 10;
+  private static final int DEFAULT_MAX_STACK_DEPTH = 64;
+
+  @Override
+  public void beforeAgent(Config config) {
+    if (isEnabled(config)) {
+      // the active span of each thread is tracked on context changes, the wrapper has to be added
+      // before the context storage is first used
+      ContextStorage.addWrapper(
+          storage ->
+              new ProfilingContextStorage(
+                  storage,
+                  config.getInt(
+                      "otel.instrumentation.span-profiler.experimental-max-stacks",
+                      DEFAULT_MAX_STACKS)));
+    }
+  }
+
+  @Override
+  public void afterAgent(Config config) {
+    if (isEnabled(config)) {
+      StackSampler.start(
+          config.getDuration(
+              "otel.instrumentation.span-profiler.experimental-sampling-interval",
+              DEFAULT_SAMPLING_INTERVAL),
+          config.getInt(
+              "otel.instrumentation.span-profiler.experimental-max-stack-depth",
+              DEFAULT_MAX_STACK_DEPTH));
+    }
+  }
+
+  private static boolean isEnabled(Config config) {
+    return config.isInstrumentationEnabled(
+        Collections.singleton("span-profiler"), /* defaultEnabled= */ false);
+  }
+}
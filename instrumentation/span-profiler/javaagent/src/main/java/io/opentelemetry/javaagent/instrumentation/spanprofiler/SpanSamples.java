@@ -0,0 +1,126 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.spanprofiler;
+
+import static io.opentelemetry.api.common.AttributeKey.longArrayKey;
+import static io.opentelemetry.api.common.AttributeKey.longKey;
+import static io.opentelemetry.api.common.AttributeKey.stringArrayKey;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.instrumentation.api.caching.Cache;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.checkerframework.checker.lock.qual.GuardedBy;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Counts the stacks sampled while a span was active, on any thread and in any of its scopes. The
+ * counts are recorded on the span as attributes, so recording them again when another scope of the
+ * span closes replaces the previous counts instead of duplicating them.
+ */
+final class SpanSamples {
+
+  static final AttributeKey<Long> SAMPLES = longKey("profile.samples");
+  static final AttributeKey<List<String>> STACKS = stringArrayKey("profile.stacks");
+  static final AttributeKey<List<Long>> STACK_SAMPLES = longArrayKey("profile.stack_samples");
+
+  // bounds the memory a long running span with very diverse stacks can retain, further distinct
+  // stacks are only counted in the total number of samples
+  private static final int MAX_DISTINCT_STACKS = 1000;
+
+  // the samples do not reference their span, so an entry is removed once its span is collected
+  private static final Cache<Span, SpanSamples> spanSamples =
+      Cache.newBuilder().setWeakKeys().build();
+
+  /** Returns the samples of {@code span}, which are shared by all threads the span is active on. */
+  static SpanSamples forSpan(Span span) {
+    return spanSamples.computeIfAbsent(span, unused -> new SpanSamples());
+  }
+
+  @GuardedBy("this")
+  private final Map<List<StackTraceElement>, StackCount> stackCounts = new HashMap<>();
+
+  @GuardedBy("this")
+  private long samples;
+
+  // whether samples were added since they were last recorded on the span
+  @GuardedBy("this")
+  private boolean changed;
+
+  private SpanSamples() {}
+
+  /** Adds a stack sampled while the span was active, innermost frame first. */
+  synchronized void add(StackTraceElement[] stackTrace) {
+    samples++;
+    changed = true;
+    List<StackTraceElement> stack = Arrays.asList(stackTrace);
+    StackCount stackCount = stackCounts.get(stack);
+    if (stackCount == null) {
+      if (stackCounts.size() >= MAX_DISTINCT_STACKS) {
+        return;
+      }
+      stackCount = new StackCount(stackTrace);
+      stackCounts.put(stack, stackCount);
+    }
+    stackCount.count++;
+  }
+
+  /**
+   * Sets the total number of samples and the {@code maxStacks} most sampled stacks as attributes
+   * of {@code span}, unless nothing was sampled since they were last set.
+   */
+  synchronized void record(Span span, int maxStacks) {
+    if (!changed) {
+      return;
+    }
+    changed = false;
+
+    List<StackCount> hottest = new ArrayList<>(stackCounts.values());
+    hottest.sort((a, b) -> Long.compare(b.count, a.count));
+    int size = Math.min(maxStacks, hottest.size());
+    List<String> stacks = new ArrayList<>(size);
+    List<Long> stackSamples = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      StackCount stackCount = hottest.get(i);
+      stacks.add(stackCount.folded());
+      stackSamples.add(stackCount.count);
+    }
+    // set while holding the lock so that concurrently closing scopes can't replace newer counts
+    // with older ones
+    span.setAllAttributes(
+        Attributes.of(SAMPLES, samples, STACKS, stacks, STACK_SAMPLES, stackSamples));
+  }
+
+  private static final class StackCount {
+    private final StackTraceElement[] stackTrace;
+    @Nullable private String folded;
+    private long count;
+
+    private StackCount(StackTraceElement[] stackTrace) {
+      this.stackTrace = stackTrace;
+    }
+
+    /** Returns the frames of the stack outermost first, separated by {@code ;}. */
+    private String folded() {
+      if (folded == null) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = stackTrace.length - 1; i >= 0; i--) {
+          sb.append(stackTrace[i]);
+          if (i > 0) {
+            sb.append(';');
+          }
+        }
+        folded = sb.toString();
+      }
+      return folded;
+    }
+  }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.spanprofiler;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically samples the stacks of all threads that have an active span. The stacks of all those
+ * threads are captured with a single {@link ThreadMXBean#getThreadInfo(long[], int)} call, i.e. a
+ * single safepoint per sampling interval.
+ */
+final class StackSampler implements Runnable {
+
+  private static final String THREAD_NAME = "otel-span-profiler";
+
+  static void start(Duration samplingInterval, int maxStackDepth) {
+    Thread thread =
+        new Thread(new StackSampler(samplingInterval.toNanos(), maxStackDepth), THREAD_NAME);
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  private final long samplingIntervalNanos;
+  private final int maxStackDepth;
+  private final List<ThreadState> sampledThreads = new ArrayList<>();
+  private final List<SpanSamples> sampledSamples = new ArrayList<>();
+
+  private StackSampler(long samplingIntervalNanos, int maxStackDepth) {
+    this.samplingIntervalNanos = samplingIntervalNanos;
+    this.maxStackDepth = maxStackDepth;
+  }
+
+  @Override
+  public void run() {
+    // looked up on the sampler thread to not initialize JMX during agent startup
+    ThreadMXBean threadMxBean = ManagementFactory.getThreadMXBean();
+    try {
+      while (!Thread.currentThread().isInterrupted()) {
+        sample(threadMxBean);
+        TimeUnit.NANOSECONDS.sleep(samplingIntervalNanos);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void sample(ThreadMXBean threadMxBean) {
+    sampledThreads.clear();
+    sampledSamples.clear();
+    for (Iterator<ThreadState> i = ThreadState.all().iterator(); i.hasNext(); ) {
+      ThreadState threadState = i.next();
+      if (!threadState.isAlive()) {
+        i.remove();
+        continue;
+      }
+      SpanSamples samples = threadState.activeSamples();
+      if (samples != null) {
+        sampledThreads.add(threadState);
+        sampledSamples.add(samples);
+      }
+    }
+    if (sampledThreads.isEmpty()) {
+      return;
+    }
+
+    long[] threadIds = new long[sampledThreads.size()];
+    for (int i = 0; i < threadIds.length; i++) {
+      threadIds[i] = sampledThreads.get(i).threadId();
+    }
+    ThreadInfo[] threadInfos = threadMxBean.getThreadInfo(threadIds, maxStackDepth);
+    for (int i = 0; i < threadInfos.length; i++) {
+      ThreadInfo threadInfo = threadInfos[i];
+      SpanSamples samples = sampledSamples.get(i);
+      // skip threads that moved on to another span while their stack was sampled
+      if (threadInfo == null || sampledThreads.get(i).activeSamples() != samples) {
+        continue;
+      }
+      StackTraceElement[] stackTrace = threadInfo.getStackTrace();
+      if (stackTrace.length > 0) {
+        samples.add(stackTrace);
+      }
+    }
+  }
+}
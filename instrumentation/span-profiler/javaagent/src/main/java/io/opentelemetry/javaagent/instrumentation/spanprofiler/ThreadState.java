@@ -0,0 +1,70 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.spanprofiler;
+
+import io.opentelemetry.api.trace.Span;
+import java.util.Collection;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * The span that is active on a thread and the {@link SpanSamples} it is sampled into. Both are
+ * written by the thread itself; the samples are read by the {@link StackSampler}.
+ */
+final class ThreadState {
+
+  private static final Queue<ThreadState> threadStates = new ConcurrentLinkedQueue<>();
+
+  private static final ThreadLocal<ThreadState> currentThreadState =
+      ThreadLocal.withInitial(
+          () -> {
+            ThreadState threadState = new ThreadState(Thread.currentThread());
+            threadStates.add(threadState);
+            return threadState;
+          });
+
+  static ThreadState current() {
+    return currentThreadState.get();
+  }
+
+  /** Returns the states of all threads that ever had a context attached. */
+  static Collection<ThreadState> all() {
+    return threadStates;
+  }
+
+  private final Thread thread;
+  // only read by the thread itself, the sampler never references the span
+  @Nullable private Span activeSpan;
+  @Nullable private volatile SpanSamples activeSamples;
+
+  private ThreadState(Thread thread) {
+    this.thread = thread;
+  }
+
+  long threadId() {
+    return thread.getId();
+  }
+
+  boolean isAlive() {
+    return thread.isAlive();
+  }
+
+  @Nullable
+  Span activeSpan() {
+    return activeSpan;
+  }
+
+  @Nullable
+  SpanSamples activeSamples() {
+    return activeSamples;
+  }
+
+  void setActive(@Nullable Span span, @Nullable SpanSamples samples) {
+    this.activeSpan = span;
+    this.activeSamples = samples;
+  }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.spanprofiler
+
+import io.opentelemetry.api.common.AttributeKey
+import io.opentelemetry.context.Context
+import io.opentelemetry.instrumentation.test.AgentInstrumentationSpecification
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.locks.LockSupport
+
+class SpanProfilerTest extends AgentInstrumentationSpecification {
+
+  static final SAMPLES = AttributeKey.longKey("profile.samples")
+  static final STACKS = AttributeKey.stringArrayKey("profile.stacks")
+  static final STACK_SAMPLES = AttributeKey.longArrayKey("profile.stack_samples")
+
+  def "records hot stacks of the active span"() {
+    when:
+    runWithSpan("parent") {
+      Thread.sleep(500)
+    }
+
+    then:
+    def span = waitForTraces(1)[0][0]
+    span.attributes.get(SAMPLES) > 0
+    def stacks = span.attributes.get(STACKS)
+    // the stacks are recorded outermost frame first, so callers of the hot frame are included
+    stacks.any { it.contains("java.lang.Thread.sleep") && it.contains(";") }
+    span.attributes.get(STACK_SAMPLES).size() == stacks.size()
+  }
+
+  def "records the samples of all threads a span was active on"() {
+    when:
+    runWithSpan("parent") {
+      Thread thread = new Thread(Context.current().wrap({
+        LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(300))
+      } as Runnable))
+      thread.start()
+      Thread.sleep(300)
+      thread.join()
+    }
+
+    then:
+    def span = waitForTraces(1)[0][0]
+    def stacks = span.attributes.get(STACKS)
+    stacks.any { it.contains("java.lang.Thread.sleep") }
+    stacks.any { it.contains("java.util.concurrent.locks.LockSupport.parkNanos") }
+    span.attributes.get(STACK_SAMPLES).sum() <= span.attributes.get(SAMPLES)
+  }
+}
@@ -6,12 +6,14 @@
 package io.opentelemetry.javaagent.instrumentation.tomcat.v10_0;
 
 import static io.opentelemetry.javaagent.extension.matcher.AgentElementMatchers.hasClassesNamed;
-import static java.util.Collections.singletonList;
+import static java.util.Arrays.asList;
 
 import com.google.auto.service.AutoService;
 import io.opentelemetry.javaagent.extension.instrumentation.InstrumentationModule;
 import io.opentelemetry.javaagent.extension.instrumentation.TypeInstrumentation;
 import io.opentelemetry.javaagent.instrumentation.tomcat.common.TomcatServerHandlerInstrumentation;
+import io.opentelemetry.javaagent.instrumentation.tomcat.common.TomcatThreadFactoryInstrumentation;
+import io.opentelemetry.javaagent.instrumentation.tomcat.common.TomcatThreadPoolInstrumentation;
 import java.util.List;
 import net.bytebuddy.matcher.ElementMatcher;
 
@@ -31,9 +33,11 @@ public class Tomcat10InstrumentationModule extends InstrumentationModule {
   @Override
   public List<TypeInstrumentation> typeInstrumentations() {
     String packageName = Tomcat10InstrumentationModule.class.getPackage().getName();
-    return singletonList(
+    return asList(
         new TomcatServerHandlerInstrumentation(
             packageName + ".Tomcat10ServerHandlerAdvice",
-            packageName + ".Tomcat10AttachResponseAdvice"));
+            packageName + ".Tomcat10AttachResponseAdvice"),
+        new TomcatThreadPoolInstrumentation(),
+        new TomcatThreadFactoryInstrumentation());
   }
 }
@@ -6,13 +6,15 @@
 package io.opentelemetry.javaagent.instrumentation.tomcat.v7_0;
 
 import static io.opentelemetry.javaagent.extension.matcher.AgentElementMatchers.hasClassesNamed;
-import static java.util.Collections.singletonList;
+import static java.util.Arrays.asList;
 import static net.bytebuddy.matcher.ElementMatchers.not;
 
 import com.google.auto.service.AutoService;
 import io.opentelemetry.javaagent.extension.instrumentation.InstrumentationModule;
 import io.opentelemetry.javaagent.extension.instrumentation.TypeInstrumentation;
 import io.opentelemetry.javaagent.instrumentation.tomcat.common.TomcatServerHandlerInstrumentation;
+import io.opentelemetry.javaagent.instrumentation.tomcat.common.TomcatThreadFactoryInstrumentation;
+import io.opentelemetry.javaagent.instrumentation.tomcat.common.TomcatThreadPoolInstrumentation;
 import java.util.List;
 import net.bytebuddy.matcher.ElementMatcher;
 
@@ -34,9 +36,11 @@ public class Tomcat7InstrumentationModule extends InstrumentationModule {
     // Tomcat 10+ is excluded by making sure Request does not have any methods returning
     // jakarta.servlet.ReadListener which is returned by getReadListener method on Tomcat 10+
     String packageName = Tomcat7InstrumentationModule.class.getPackage().getName();
-    return singletonList(
+    return asList(
         new TomcatServerHandlerInstrumentation(
             packageName + ".Tomcat7ServerHandlerAdvice",
-            packageName + ".Tomcat7AttachResponseAdvice"));
+            packageName + ".Tomcat7AttachResponseAdvice"),
+        new TomcatThreadPoolInstrumentation(),
+        new TomcatThreadFactoryInstrumentation());
   }
 }
@@ -0,0 +1,92 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.tomcat.v7_0
+
+import io.opentelemetry.api.common.AttributeKey
+import io.opentelemetry.instrumentation.test.AgentInstrumentationSpecification
+import org.apache.tomcat.util.threads.TaskQueue
+import org.apache.tomcat.util.threads.TaskThreadFactory
+import org.apache.tomcat.util.threads.ThreadPoolExecutor
+import spock.util.concurrent.PollingConditions
+
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+class TomcatThreadPoolMetricsTest extends AgentInstrumentationSpecification {
+
+  static final AttributeKey<String> THREAD_POOL_NAME = AttributeKey.stringKey("thread_pool.name")
+
+  def "ThreadPoolExecutor records queue time and queue size named after its threads"() {
+    setup:
+    def taskQueue = new TaskQueue()
+    def executor = new ThreadPoolExecutor(1, 1, 60, TimeUnit.SECONDS, taskQueue,
+      new TaskThreadFactory("test-pool-exec-", true, Thread.NORM_PRIORITY))
+    taskQueue.setParent(executor)
+    def blockerStarted = new CountDownLatch(1)
+    def releaseBlocker = new CountDownLatch(1)
+    def queuedTaskDone = new CountDownLatch(1)
+    def conditions = new PollingConditions(timeout: 10, initialDelay: 1.5, factor: 1.25)
+
+    when:
+    // occupies the only thread of the pool, so that the next task stays queued
+    executor.execute(new Runnable() {
+      @Override
+      void run() {
+        blockerStarted.countDown()
+        releaseBlocker.await(10, TimeUnit.SECONDS)
+      }
+    })
+    blockerStarted.await(10, TimeUnit.SECONDS)
+    executor.execute(new Runnable() {
+      @Override
+      void run() {
+        queuedTaskDone.countDown()
+      }
+    })
+
+    then:
+    conditions.eventually {
+      assert gaugeValue("thread_pool.queue.size") == 1
+      assert gaugeValue("thread_pool.threads.active") == 1
+    }
+
+    when:
+    Thread.sleep(100)
+    releaseBlocker.countDown()
+    queuedTaskDone.await(10, TimeUnit.SECONDS)
+
+    then:
+    conditions.eventually {
+      def point = queueDurationPoint()
+      assert point != null
+      assert point.count == 2
+      // the second task waited for the first one for at least 100ms
+      assert point.sum >= 100
+      assert gaugeValue("thread_pool.queue.size") == 0
+    }
+
+    cleanup:
+    releaseBlocker.countDown()
+    executor.shutdown()
+  }
+
+  def gaugeValue(String name) {
+    def points = getMetrics()
+      .findAll { it.name == name }
+      .collectMany { it.longGaugeData.points }
+      .findAll { it.attributes.get(THREAD_POOL_NAME) == "test-pool-exec" }
+    // metrics are exported periodically, the last point is the most recent one
+    return points.empty ? null : points.last().value
+  }
+
+  def queueDurationPoint() {
+    def points = getMetrics()
+      .findAll { it.name == "thread_pool.queue.duration" }
+      .collectMany { it.doubleHistogramData.points }
+      .findAll { it.attributes.get(THREAD_POOL_NAME) == "test-pool-exec" }
+    return points.empty ? null : points.last()
+  }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.tomcat.common;
+
+import static net.bytebuddy.matcher.ElementMatchers.isConstructor;
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static net.bytebuddy.matcher.ElementMatchers.takesArgument;
+
+import io.opentelemetry.javaagent.extension.instrumentation.TypeInstrumentation;
+import io.opentelemetry.javaagent.extension.instrumentation.TypeTransformer;
+import io.opentelemetry.javaagent.instrumentation.api.InstrumentationContext;
+import net.bytebuddy.asm.Advice;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.matcher.ElementMatcher;
+import org.apache.tomcat.util.threads.TaskThreadFactory;
+
+/**
+ * Captures the thread name prefix of the thread factories of connector executors, which is the only
+ * configured name a {@link org.apache.tomcat.util.threads.ThreadPoolExecutor} can be reported with.
+ */
+public class TomcatThreadFactoryInstrumentation implements TypeInstrumentation {
+
+  @Override
+  public ElementMatcher<TypeDescription> typeMatcher() {
+    return named("org.apache.tomcat.util.threads.TaskThreadFactory");
+  }
+
+  @Override
+  public void transform(TypeTransformer transformer) {
+    transformer.applyAdviceToMethod(
+        isConstructor().and(takesArgument(0, String.class)),
+        this.getClass().getName() + "$ConstructorAdvice");
+  }
+
+  @SuppressWarnings("unused")
+  public static class ConstructorAdvice {
+
+    @Advice.OnMethodExit(suppress = Throwable.class)
+    public static void onExit(
+        @Advice.This TaskThreadFactory threadFactory, @Advice.Argument(0) String namePrefix) {
+      if (TomcatThreadPoolMetrics.enabled() && namePrefix != null) {
+        InstrumentationContext.get(TaskThreadFactory.class, String.class)
+            .put(threadFactory, namePrefix);
+      }
+    }
+  }
+}
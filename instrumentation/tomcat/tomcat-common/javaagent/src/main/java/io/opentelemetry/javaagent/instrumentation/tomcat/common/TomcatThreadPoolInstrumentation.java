@@ -0,0 +1,74 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.tomcat.common;
+
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static net.bytebuddy.matcher.ElementMatchers.takesArgument;
+
+import io.opentelemetry.javaagent.extension.instrumentation.TypeInstrumentation;
+import io.opentelemetry.javaagent.extension.instrumentation.TypeTransformer;
+import io.opentelemetry.javaagent.instrumentation.api.ContextStore;
+import io.opentelemetry.javaagent.instrumentation.api.InstrumentationContext;
+import io.opentelemetry.javaagent.instrumentation.api.concurrent.ExecutorAdviceHelper;
+import io.opentelemetry.javaagent.instrumentation.api.concurrent.PropagatedContext;
+import io.opentelemetry.javaagent.instrumentation.api.concurrent.QueueTimeRecorder;
+import io.opentelemetry.javaagent.instrumentation.api.concurrent.RunnableWrapper;
+import net.bytebuddy.asm.Advice;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.matcher.ElementMatcher;
+import org.apache.tomcat.util.threads.TaskThreadFactory;
+import org.apache.tomcat.util.threads.ThreadPoolExecutor;
+
+/**
+ * Records thread pool metrics of the connector executor. Context propagation into this executor is
+ * handled by the executors instrumentation.
+ */
+public class TomcatThreadPoolInstrumentation implements TypeInstrumentation {
+
+  @Override
+  public ElementMatcher<TypeDescription> typeMatcher() {
+    return named("org.apache.tomcat.util.threads.ThreadPoolExecutor");
+  }
+
+  @Override
+  public void transform(TypeTransformer transformer) {
+    // matches both execute(Runnable) and execute(Runnable, long, TimeUnit), the nested call is
+    // ignored because the task has already been stamped by the outer one
+    transformer.applyAdviceToMethod(
+        named("execute").and(takesArgument(0, Runnable.class)),
+        this.getClass().getName() + "$ExecuteAdvice");
+  }
+
+  @SuppressWarnings("unused")
+  public static class ExecuteAdvice {
+
+    @Advice.OnMethodEnter(suppress = Throwable.class)
+    public static PropagatedContext enterJobSubmit(
+        @Advice.This ThreadPoolExecutor executor,
+        @Advice.Argument(value = 0, readOnly = false) Runnable task) {
+      if (!TomcatThreadPoolMetrics.enabled()
+          || !ExecutorAdviceHelper.shouldRecordQueueTime(task)) {
+        return null;
+      }
+
+      task = RunnableWrapper.wrapIfNeeded(task);
+      ContextStore<Runnable, PropagatedContext> contextStore =
+          InstrumentationContext.get(Runnable.class, PropagatedContext.class);
+      QueueTimeRecorder recorder =
+          TomcatThreadPoolMetrics.queueTimeRecorder(
+              InstrumentationContext.get(ThreadPoolExecutor.class, QueueTimeRecorder.class),
+              InstrumentationContext.get(TaskThreadFactory.class, String.class),
+              executor);
+      return ExecutorAdviceHelper.attachSubmitTimeToTask(contextStore, task, recorder);
+    }
+
+    @Advice.OnMethodExit(onThrowable = Throwable.class, suppress = Throwable.class)
+    public static void exitJobSubmit(
+        @Advice.Enter PropagatedContext propagatedContext, @Advice.Thrown Throwable throwable) {
+      ExecutorAdviceHelper.cleanUpAfterSubmit(propagatedContext, throwable);
+    }
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.tomcat.common;
+
+import io.opentelemetry.instrumentation.api.config.Config;
+import io.opentelemetry.javaagent.instrumentation.api.ContextStore;
+import io.opentelemetry.javaagent.instrumentation.api.concurrent.QueueTimeRecorder;
+import io.opentelemetry.javaagent.instrumentation.api.concurrent.ThreadPoolMetrics;
+import java.util.concurrent.ThreadFactory;
+import org.apache.tomcat.util.threads.TaskThreadFactory;
+import org.apache.tomcat.util.threads.ThreadPoolExecutor;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+public final class TomcatThreadPoolMetrics {
+  private static final String INSTRUMENTATION_NAME = "io.opentelemetry.tomcat-common";
+
+  private static final boolean ENABLED =
+      Config.get().getBoolean("otel.instrumentation.tomcat.experimental-thread-pool-metrics", false);
+
+  // only used when the feature is enabled
+  @Nullable private static final ThreadPoolMetrics METRICS =
+      ENABLED ? ThreadPoolMetrics.create(INSTRUMENTATION_NAME) : null;
+
+  private static final String DEFAULT_POOL_NAME = "tomcat";
+
+  public static boolean enabled() {
+    return ENABLED;
+  }
+
+  public static QueueTimeRecorder queueTimeRecorder(
+      ContextStore<ThreadPoolExecutor, QueueTimeRecorder> contextStore,
+      ContextStore<TaskThreadFactory, String> namePrefixes,
+      ThreadPoolExecutor executor) {
+    QueueTimeRecorder recorder = contextStore.get(executor);
+    if (recorder == null) {
+      recorder = contextStore.putIfAbsent(executor, () -> registerPool(namePrefixes, executor));
+    }
+    return recorder;
+  }
+
+  private static QueueTimeRecorder registerPool(
+      ContextStore<TaskThreadFactory, String> namePrefixes, ThreadPoolExecutor executor) {
+    String poolName = poolName(namePrefixes, executor);
+    METRICS.registerPool(
+        executor,
+        poolName,
+        ThreadPoolExecutor::getActiveCount,
+        e -> e.getPoolSize() - e.getActiveCount(),
+        e -> e.getQueue().size());
+    return METRICS.queueTimeRecorder(poolName);
+  }
+
+  // tomcat executors have no name of their own, they're named after the thread name prefix
+  // configured for the executor or derived from the connector name (e.g. "http-nio-8080-exec-")
+  private static String poolName(
+      ContextStore<TaskThreadFactory, String> namePrefixes, ThreadPoolExecutor executor) {
+    ThreadFactory threadFactory = executor.getThreadFactory();
+    String namePrefix =
+        threadFactory instanceof TaskThreadFactory
+            ? namePrefixes.get((TaskThreadFactory) threadFactory)
+            : null;
+    if (namePrefix == null) {
+      return DEFAULT_POOL_NAME;
+    }
+    int end = namePrefix.length();
+    while (end > 0 && namePrefix.charAt(end - 1) == '-') {
+      end--;
+    }
+    return end > 0 ? namePrefix.substring(0, end) : DEFAULT_POOL_NAME;
+  }
+
+  private TomcatThreadPoolMetrics() {}
+}
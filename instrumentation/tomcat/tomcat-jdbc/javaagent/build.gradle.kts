@@ -0,0 +1,25 @@
+plugins {
+  id("otel.javaagent-instrumentation")
+}
+
+muzzle {
+  pass {
+    group.set("org.apache.tomcat")
+    module.set("tomcat-jdbc")
+    versions.set("[7.0.19,)")
+  }
+}
+
+dependencies {
+  library("org.apache.tomcat:tomcat-jdbc:7.0.19")
+
+  implementation(project(":instrumentation:jdbc:library"))
+
+  // tomcat needs this to run
+  testLibrary("org.apache.tomcat:tomcat-juli:7.0.19")
+  testImplementation("com.h2database:h2:1.3.169")
+}
+
+tasks.withType<Test>().configureEach {
+  jvmArgs("-Dotel.instrumentation.jdbc.experimental-connection-pool-metrics=true")
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.tomcat.jdbc;
+
+import static net.bytebuddy.matcher.ElementMatchers.isPublic;
+import static net.bytebuddy.matcher.ElementMatchers.named;
+
+import io.opentelemetry.javaagent.extension.instrumentation.TypeInstrumentation;
+import io.opentelemetry.javaagent.extension.instrumentation.TypeTransformer;
+import io.opentelemetry.javaagent.instrumentation.api.CallDepth;
+import io.opentelemetry.javaagent.instrumentation.api.InstrumentationContext;
+import io.opentelemetry.javaagent.instrumentation.api.db.ConnectionAcquireRecorder;
+import io.opentelemetry.javaagent.instrumentation.api.db.DbConnectionPoolMetrics;
+import net.bytebuddy.asm.Advice;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.matcher.ElementMatcher;
+import org.apache.tomcat.jdbc.pool.DataSourceProxy;
+
+public class DataSourceProxyInstrumentation implements TypeInstrumentation {
+
+  @Override
+  public ElementMatcher<TypeDescription> typeMatcher() {
+    return named("org.apache.tomcat.jdbc.pool.DataSourceProxy");
+  }
+
+  @Override
+  public void transform(TypeTransformer transformer) {
+    // getConnection(String, String) delegates to getConnection() unless alternate usernames are
+    // allowed, the nested call is ignored
+    transformer.applyAdviceToMethod(
+        named("getConnection").and(isPublic()), this.getClass().getName() + "$GetConnectionAdvice");
+  }
+
+  @SuppressWarnings("unused")
+  public static class GetConnectionAdvice {
+
+    @Advice.OnMethodEnter(suppress = Throwable.class)
+    public static long onEnter(
+        @Advice.This DataSourceProxy dataSource,
+        @Advice.Local("otelCallDepth") CallDepth callDepth,
+        @Advice.Local("otelRecorder") ConnectionAcquireRecorder recorder) {
+      DbConnectionPoolMetrics<DataSourceProxy> metrics = TomcatJdbcPoolMetrics.get();
+      if (metrics == null) {
+        return 0;
+      }
+      callDepth = CallDepth.forClass(DataSourceProxy.class);
+      if (callDepth.getAndIncrement() > 0) {
+        return 0;
+      }
+
+      recorder =
+          metrics.recorder(
+              InstrumentationContext.get(DataSourceProxy.class, ConnectionAcquireRecorder.class),
+              dataSource);
+      return recorder.start();
+    }
+
+    @Advice.OnMethodExit(onThrowable = Throwable.class, suppress = Throwable.class)
+    public static void onExit(
+        @Advice.Enter long startNanos,
+        @Advice.Thrown Throwable throwable,
+        @Advice.Local("otelCallDepth") CallDepth callDepth,
+        @Advice.Local("otelRecorder") ConnectionAcquireRecorder recorder) {
+      if (callDepth == null || callDepth.decrementAndGet() > 0) {
+        return;
+      }
+
+      if (recorder != null) {
+        recorder.end(startNanos, throwable);
+      }
+    }
+  }
+}
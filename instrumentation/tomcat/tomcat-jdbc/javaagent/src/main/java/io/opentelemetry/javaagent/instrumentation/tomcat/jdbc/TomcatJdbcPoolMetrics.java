@@ -0,0 +1,80 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.tomcat.jdbc;
+
+import io.opentelemetry.instrumentation.jdbc.internal.JdbcConnectionUrlParser;
+import io.opentelemetry.javaagent.instrumentation.api.db.DbConnectionPoolAccessor;
+import io.opentelemetry.javaagent.instrumentation.api.db.DbConnectionPoolMetrics;
+import java.util.Properties;
+import org.apache.tomcat.jdbc.pool.ConnectionPool;
+import org.apache.tomcat.jdbc.pool.DataSourceProxy;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+public final class TomcatJdbcPoolMetrics implements DbConnectionPoolAccessor<DataSourceProxy> {
+  private static final String INSTRUMENTATION_NAME = "io.opentelemetry.tomcat-jdbc";
+
+  // the prefix of the name tomcat gives pools that are not named, which contains a counter and an
+  // identity hash code
+  private static final String GENERATED_POOL_NAME_PREFIX = "Tomcat Connection Pool[";
+
+  // only thrown by newer versions, older versions throw a plain SQLException that can only be told
+  // apart by its message, their timeouts are not counted
+  private static final String POOL_EXHAUSTED_EXCEPTION =
+      "org.apache.tomcat.jdbc.pool.PoolExhaustedException";
+
+  @Nullable
+  private static final DbConnectionPoolMetrics<DataSourceProxy> METRICS =
+      DbConnectionPoolMetrics.create(INSTRUMENTATION_NAME, new TomcatJdbcPoolMetrics());
+
+  /** Returns the pool metrics, or {@code null} if they are not enabled. */
+  @Nullable
+  public static DbConnectionPoolMetrics<DataSourceProxy> get() {
+    return METRICS;
+  }
+
+  @Override
+  @Nullable
+  public String configuredName(DataSourceProxy dataSource) {
+    String poolName = dataSource.getPoolProperties().getName();
+    return poolName == null || poolName.startsWith(GENERATED_POOL_NAME_PREFIX) ? null : poolName;
+  }
+
+  @Override
+  @Nullable
+  public String jdbcUrl(DataSourceProxy dataSource) {
+    return dataSource.getUrl();
+  }
+
+  @Override
+  @Nullable
+  public String dbSystem(DataSourceProxy dataSource) {
+    return JdbcConnectionUrlParser.parse(dataSource.getUrl(), new Properties()).getSystem();
+  }
+
+  @Override
+  public long activeConnections(DataSourceProxy dataSource) {
+    return dataSource.getActive();
+  }
+
+  @Override
+  public long idleConnections(DataSourceProxy dataSource) {
+    return dataSource.getIdle();
+  }
+
+  // closing the data source drops its pool, acquiring a connection afterwards creates a new one
+  @Override
+  public boolean isClosed(DataSourceProxy dataSource) {
+    ConnectionPool pool = dataSource.getPool();
+    return pool == null || pool.isClosed();
+  }
+
+  @Override
+  public boolean isTimeout(Throwable error) {
+    return error.getClass().getName().equals(POOL_EXHAUSTED_EXCEPTION);
+  }
+
+  private TomcatJdbcPoolMetrics() {}
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+import io.opentelemetry.instrumentation.test.base.AbstractDbConnectionPoolMetricsTest
+
+import javax.sql.DataSource
+
+class TomcatJdbcPoolMetricsTest extends AbstractDbConnectionPoolMetricsTest {
+
+  @Override
+  DataSource createDataSource(String poolName, String url, long acquireTimeoutMillis) {
+    def dataSource = new org.apache.tomcat.jdbc.pool.DataSource()
+    if (poolName != null) {
+      dataSource.setName(poolName)
+    }
+    dataSource.setDriverClassName("org.h2.Driver")
+    dataSource.setUrl(url)
+    dataSource.setInitialSize(0)
+    dataSource.setMaxActive(1)
+    dataSource.setMaxIdle(1)
+    dataSource.setMinIdle(0)
+    dataSource.setMaxWait((int) acquireTimeoutMillis)
+    return dataSource
+  }
+
+  @Override
+  void closeDataSource(DataSource dataSource) {
+    ((org.apache.tomcat.jdbc.pool.DataSource) dataSource).close()
+  }
+
+  // older versions report an exhausted pool with a plain SQLException
+  @Override
+  boolean countsTimeouts() {
+    try {
+      Class.forName("org.apache.tomcat.jdbc.pool.PoolExhaustedException")
+      return true
+    } catch (ClassNotFoundException ignored) {
+      return false
+    }
+  }
+}
@@ -9,6 +9,7 @@ group = "io.opentelemetry.javaagent"
 dependencies {
   api(project(":instrumentation-api"))
 
+  implementation("io.opentelemetry:opentelemetry-api-metrics")
   implementation("org.slf4j:slf4j-api")
 
   compileOnly("com.google.auto.value:auto-value-annotations")
@@ -52,6 +52,30 @@ public final class ExecutorAdviceHelper {
     return propagatedContext;
   }
 
+  /**
+   * Check if the submission time of the passed {@code task} can be recorded. This method must be
+   * called before each {@link #attachSubmitTimeToTask(ContextStore, Object, QueueTimeRecorder)}
+   * call. Unlike {@link #shouldPropagateContext(Context, Object)} it does not depend on the current
+   * context: queue time is recorded for every task, including the ones submitted without an active
+   * span.
+   */
+  public static boolean shouldRecordQueueTime(@Nullable Object task) {
+    return task != null && InstrumentedTaskClasses.canInstrumentTaskClass(task.getClass());
+  }
+
+  /**
+   * Stamp the submission time of the passed {@code task} into its {@link PropagatedContext}. When
+   * the task starts running {@link TaskAdviceHelper} records the time it spent queued using {@code
+   * recorder}. The returned {@link PropagatedContext} should be passed to {@link
+   * #cleanUpAfterSubmit(PropagatedContext, Throwable)} once the submission method exits.
+   */
+  public static <T> PropagatedContext attachSubmitTimeToTask(
+      ContextStore<T, PropagatedContext> contextStore, T task, QueueTimeRecorder recorder) {
+    PropagatedContext propagatedContext = contextStore.putIfAbsent(task, PropagatedContext.FACTORY);
+    propagatedContext.setSubmitTime(recorder);
+    return propagatedContext;
+  }
+
   /**
    * Clean up {@code propagatedContext} in case of any submission errors. Call this method after the
    * submission method has exited.
@@ -8,6 +8,7 @@ package io.opentelemetry.javaagent.instrumentation.api.concurrent;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.javaagent.instrumentation.api.ContextStore;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -19,12 +20,27 @@ public final class PropagatedContext {
   private static final AtomicReferenceFieldUpdater<PropagatedContext, Context> contextUpdater =
       AtomicReferenceFieldUpdater.newUpdater(PropagatedContext.class, Context.class, "context");
 
+  private static final AtomicReferenceFieldUpdater<PropagatedContext, QueueTimeRecorder>
+      queueTimeRecorderUpdater =
+          AtomicReferenceFieldUpdater.newUpdater(
+              PropagatedContext.class, QueueTimeRecorder.class, "queueTimeRecorder");
+
   static final ContextStore.Factory<PropagatedContext> FACTORY = PropagatedContext::new;
 
   // Used by AtomicReferenceFieldUpdater
   @SuppressWarnings("UnusedVariable")
   private volatile Context context;
 
+  // Queue time tracking state. The submit time is written on the submitting thread and the stamp is
+  // claimed on the thread that runs the task, by atomically taking the recorder; the submit time is
+  // written before the recorder is published so that whoever claims the recorder sees it.
+  private volatile long submitTimeNanos;
+
+  // Used by AtomicReferenceFieldUpdater
+  @SuppressWarnings("UnusedVariable")
+  @Nullable
+  private volatile QueueTimeRecorder queueTimeRecorder;
+
   private PropagatedContext() {}
 
   void setContext(Context context) {
@@ -46,6 +62,24 @@ public final class PropagatedContext {
 
   public void clear() {
     contextUpdater.set(this, null);
+    queueTimeRecorderUpdater.set(this, null);
+  }
+
+  void setSubmitTime(QueueTimeRecorder recorder) {
+    // a stamp is replaced rather than kept: a task that is still stamped was dropped by a pool
+    // without running (e.g. by shutdownNow() or remove()) and is submitted again, or it's stamped
+    // again by a nested submission method (e.g. execute() delegating to dispatch()) a few
+    // nanoseconds later. Submitting the same task instance concurrently to several pools records
+    // the queue time of one of them only.
+    submitTimeNanos = System.nanoTime();
+    queueTimeRecorderUpdater.set(this, recorder);
+  }
+
+  void recordQueueTime() {
+    QueueTimeRecorder recorder = queueTimeRecorderUpdater.getAndSet(this, null);
+    if (recorder != null) {
+      recorder.taskStarted(System.nanoTime() - submitTimeNanos);
+    }
   }
 
   Context getAndClear() {
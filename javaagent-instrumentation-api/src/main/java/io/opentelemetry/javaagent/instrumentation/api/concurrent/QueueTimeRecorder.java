@@ -0,0 +1,34 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.api.concurrent;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the time concurrent tasks spend waiting in a thread pool queue, i.e. the time between
+ * the task submission and the moment a pool thread starts running it. Instances are obtained from
+ * {@link ThreadPoolMetrics#queueTimeRecorder(String)} and attached to tasks using {@link
+ * ExecutorAdviceHelper#attachSubmitTimeToTask(io.opentelemetry.javaagent.instrumentation.api.ContextStore,
+ * Object, QueueTimeRecorder)}.
+ */
+public final class QueueTimeRecorder {
+
+  private static final double NANOS_PER_MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+  private final DoubleHistogram queueDuration;
+  private final Attributes attributes;
+
+  QueueTimeRecorder(DoubleHistogram queueDuration, Attributes attributes) {
+    this.queueDuration = queueDuration;
+    this.attributes = attributes;
+  }
+
+  void taskStarted(long queueTimeNanos) {
+    queueDuration.record(queueTimeNanos / NANOS_PER_MS, attributes);
+  }
+}
@@ -16,12 +16,15 @@ public final class TaskAdviceHelper {
   /**
    * Make the {@link PropagatedContext} associated with this {@code task} current and return the
    * resulting scope. Will return {@code null} if there's no context attached to this {@code task}.
+   * If the submission time of the {@code task} was recorded the time it spent queued is recorded
+   * too.
    */
   @Nullable
   public static <T> Scope makePropagatedContextCurrent(
       ContextStore<T, PropagatedContext> contextStore, T task) {
     PropagatedContext propagatedContext = contextStore.get(task);
     if (propagatedContext != null) {
+      propagatedContext.recordQueueTime();
       Context context = propagatedContext.getAndClear();
       if (context != null) {
         return context.makeCurrent();
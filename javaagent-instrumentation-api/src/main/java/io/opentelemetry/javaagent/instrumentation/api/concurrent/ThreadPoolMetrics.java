@@ -0,0 +1,152 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.api.concurrent;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.GlobalMeterProvider;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.ObservableLongMeasurement;
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.ToLongFunction;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Thread pool saturation metrics: the time tasks spend queued before they start running, and the
+ * number of active threads, idle threads and queued tasks of registered pools.
+ *
+ * <p>Queue time is measured with a single submit timestamp stored in the {@link PropagatedContext}
+ * of a task, see {@link ExecutorAdviceHelper#attachSubmitTimeToTask}. Thread and queue gauges are
+ * read by observable callbacks at collection time, registering a pool costs nothing on the task
+ * submission path.
+ */
+public final class ThreadPoolMetrics {
+
+  private static final AttributeKey<String> THREAD_POOL_NAME =
+      AttributeKey.stringKey("thread_pool.name");
+
+  /** Returns a new {@link ThreadPoolMetrics} reporting under the passed instrumentation name. */
+  public static ThreadPoolMetrics create(String instrumentationName) {
+    return new ThreadPoolMetrics(GlobalMeterProvider.get().get(instrumentationName));
+  }
+
+  private final Queue<RegisteredPool<?>> pools = new ConcurrentLinkedQueue<>();
+  private final DoubleHistogram queueDuration;
+
+  private ThreadPoolMetrics(Meter meter) {
+    queueDuration =
+        meter
+            .histogramBuilder("thread_pool.queue.duration")
+            .setUnit("milliseconds")
+            .setDescription("The time tasks spend waiting in the thread pool queue")
+            .build();
+    meter
+        .gaugeBuilder("thread_pool.threads.active")
+        .ofLongs()
+        .setUnit("threads")
+        .setDescription("The number of thread pool threads that are currently running tasks")
+        .buildWithCallback(measurement -> observe(measurement, Metric.ACTIVE_THREADS));
+    meter
+        .gaugeBuilder("thread_pool.threads.idle")
+        .ofLongs()
+        .setUnit("threads")
+        .setDescription("The number of thread pool threads that are currently waiting for tasks")
+        .buildWithCallback(measurement -> observe(measurement, Metric.IDLE_THREADS));
+    meter
+        .gaugeBuilder("thread_pool.queue.size")
+        .ofLongs()
+        .setUnit("tasks")
+        .setDescription("The number of tasks waiting in the thread pool queue")
+        .buildWithCallback(measurement -> observe(measurement, Metric.QUEUED_TASKS));
+  }
+
+  /** Returns a new {@link QueueTimeRecorder} for the pool with the passed name. */
+  public QueueTimeRecorder queueTimeRecorder(String poolName) {
+    return new QueueTimeRecorder(queueDuration, Attributes.of(THREAD_POOL_NAME, poolName));
+  }
+
+  /**
+   * Registers {@code pool} for the thread and queue gauges. The pool is only weakly referenced and
+   * stops being reported once it is garbage collected. The queue size gauge is not reported for
+   * the pool if {@code queuedTasks} is {@code null}.
+   */
+  public <T> void registerPool(
+      T pool,
+      String poolName,
+      ToLongFunction<T> activeThreads,
+      ToLongFunction<T> idleThreads,
+      @Nullable ToLongFunction<T> queuedTasks) {
+    pools.add(
+        new RegisteredPool<>(
+            pool,
+            Attributes.of(THREAD_POOL_NAME, poolName),
+            activeThreads,
+            idleThreads,
+            queuedTasks));
+  }
+
+  private void observe(ObservableLongMeasurement measurement, Metric metric) {
+    for (Iterator<RegisteredPool<?>> i = pools.iterator(); i.hasNext(); ) {
+      RegisteredPool<?> pool = i.next();
+      if (!pool.observe(measurement, metric)) {
+        i.remove();
+      }
+    }
+  }
+
+  private enum Metric {
+    ACTIVE_THREADS,
+    IDLE_THREADS,
+    QUEUED_TASKS
+  }
+
+  private static final class RegisteredPool<T> {
+    private final WeakReference<T> poolRef;
+    private final Attributes attributes;
+    private final ToLongFunction<T> activeThreads;
+    private final ToLongFunction<T> idleThreads;
+    @Nullable private final ToLongFunction<T> queuedTasks;
+
+    private RegisteredPool(
+        T pool,
+        Attributes attributes,
+        ToLongFunction<T> activeThreads,
+        ToLongFunction<T> idleThreads,
+        @Nullable ToLongFunction<T> queuedTasks) {
+      this.poolRef = new WeakReference<>(pool);
+      this.attributes = attributes;
+      this.activeThreads = activeThreads;
+      this.idleThreads = idleThreads;
+      this.queuedTasks = queuedTasks;
+    }
+
+    /** Returns {@code false} if the pool was garbage collected and should be unregistered. */
+    private boolean observe(ObservableLongMeasurement measurement, Metric metric) {
+      T pool = poolRef.get();
+      if (pool == null) {
+        return false;
+      }
+      switch (metric) {
+        case ACTIVE_THREADS:
+          measurement.observe(activeThreads.applyAsLong(pool), attributes);
+          break;
+        case IDLE_THREADS:
+          measurement.observe(idleThreads.applyAsLong(pool), attributes);
+          break;
+        case QUEUED_TASKS:
+          if (queuedTasks != null) {
+            measurement.observe(queuedTasks.applyAsLong(pool), attributes);
+          }
+          break;
+      }
+      return true;
+    }
+  }
+}
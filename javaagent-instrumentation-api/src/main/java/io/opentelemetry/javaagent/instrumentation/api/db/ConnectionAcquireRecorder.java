@@ -0,0 +1,81 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.api.db;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.LongCounter;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Records the connection acquisitions of a single pool. Instances are obtained from {@link
+ * DbConnectionPoolMetrics#recorder}; every {@link #start()} must be followed by an {@link
+ * #end(long, Throwable)}.
+ */
+public final class ConnectionAcquireRecorder {
+
+  private static final double NANOS_PER_MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+  private final DoubleHistogram acquireTime;
+  private final LongCounter timeouts;
+  private final Predicate<Throwable> isTimeout;
+  private final Attributes attributes;
+  private final LongAdder pendingRequests = new LongAdder();
+  private volatile boolean closed;
+
+  ConnectionAcquireRecorder(
+      DoubleHistogram acquireTime,
+      LongCounter timeouts,
+      Predicate<Throwable> isTimeout,
+      Attributes attributes) {
+    this.acquireTime = acquireTime;
+    this.timeouts = timeouts;
+    this.isTimeout = isTimeout;
+    this.attributes = attributes;
+  }
+
+  /** Marks the start of a connection acquisition, returns the start timestamp. */
+  public long start() {
+    pendingRequests.increment();
+    return System.nanoTime();
+  }
+
+  /**
+   * Marks the end of the connection acquisition started at {@code startNanos}, {@code error} is the
+   * exception it failed with.
+   */
+  public void end(long startNanos, @Nullable Throwable error) {
+    pendingRequests.decrement();
+    acquireTime.record((System.nanoTime() - startNanos) / NANOS_PER_MS, attributes);
+    if (error == null) {
+      // a closed pool that hands out connections again was restarted
+      if (closed) {
+        closed = false;
+      }
+    } else if (isTimeout.test(error)) {
+      timeouts.add(1, attributes);
+    }
+  }
+
+  long pendingRequests() {
+    return pendingRequests.sum();
+  }
+
+  Attributes attributes() {
+    return attributes;
+  }
+
+  boolean isClosed() {
+    return closed;
+  }
+
+  void close() {
+    closed = true;
+  }
+}
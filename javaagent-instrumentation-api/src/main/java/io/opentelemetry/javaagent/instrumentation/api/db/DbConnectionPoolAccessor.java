@@ -0,0 +1,45 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.api.db;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Reads the state of a connection pool of type {@code T} for {@link DbConnectionPoolMetrics}. The
+ * connection counts and {@link #isClosed(Object)} are called at metric collection time.
+ */
+public interface DbConnectionPoolAccessor<T> {
+
+  /**
+   * Returns the name the pool was configured with, or {@code null} if it was not given one. Names
+   * generated by the pool library are not stable across restarts and must not be returned.
+   */
+  @Nullable
+  String configuredName(T pool);
+
+  /** Returns the JDBC URL the pool connects to, if it is known. */
+  @Nullable
+  String jdbcUrl(T pool);
+
+  /** Returns the {@code db.system} of the database the pool connects to, if it is known. */
+  @Nullable
+  String dbSystem(T pool);
+
+  long activeConnections(T pool);
+
+  long idleConnections(T pool);
+
+  /**
+   * Returns whether the pool was closed. Pools that can't be queried for that are marked as closed
+   * with {@link DbConnectionPoolMetrics#poolClosed} instead.
+   */
+  default boolean isClosed(T pool) {
+    return false;
+  }
+
+  /** Returns whether {@code error} means that the acquisition timed out on an exhausted pool. */
+  boolean isTimeout(Throwable error);
+}
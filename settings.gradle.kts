@@ -84,6 +84,7 @@ include(":instrumentation:akka-actor-fork-join-2.5:javaagent")
 include(":instrumentation:akka-http-10.0:javaagent")
 include(":instrumentation:apache-camel-2.20:javaagent")
 include(":instrumentation:apache-camel-2.20:javaagent-unit-tests")
+include(":instrumentation:apache-dbcp-2.0:javaagent")
 include(":instrumentation:apache-dubbo-2.7:javaagent")
 include(":instrumentation:apache-dubbo-2.7:library")
 include(":instrumentation:apache-dubbo-2.7:testing")
@@ -108,6 +109,7 @@ include(":instrumentation:aws-sdk:aws-sdk-1.11:testing")
 include(":instrumentation:aws-sdk:aws-sdk-2.2:javaagent")
 include(":instrumentation:aws-sdk:aws-sdk-2.2:library")
 include(":instrumentation:aws-sdk:aws-sdk-2.2:testing")
+include(":instrumentation:c3p0-0.9:javaagent")
 include(":instrumentation:cassandra:cassandra-3.0:javaagent")
 include(":instrumentation:cassandra:cassandra-4.0:javaagent")
 include(":instrumentation:cdi-testing")
@@ -159,6 +161,7 @@ include(":instrumentation:hibernate:hibernate-3.3:javaagent")
 include(":instrumentation:hibernate:hibernate-4.0:javaagent")
 include(":instrumentation:hibernate:hibernate-common:javaagent")
 include(":instrumentation:hibernate:hibernate-procedure-call-4.3:javaagent")
+include(":instrumentation:hikaricp-2.4:javaagent")
 include(":instrumentation:http-url-connection:javaagent")
 include(":instrumentation:hystrix-1.4:javaagent")
 include(":instrumentation:java-http-client:javaagent")
@@ -305,6 +308,7 @@ include(":instrumentation:servlet:servlet-2.2:javaagent")
 include(":instrumentation:servlet:servlet-3.0:library")
 include(":instrumentation:servlet:servlet-3.0:javaagent")
 include(":instrumentation:servlet:servlet-5.0:javaagent")
+include(":instrumentation:span-profiler:javaagent")
 include(":instrumentation:spark-2.3:javaagent")
 include(":instrumentation:spring:spring-batch-3.0:javaagent")
 include(":instrumentation:spring:spring-core-2.0:javaagent")
@@ -335,6 +339,7 @@ include(":instrumentation:tapestry-5.4:javaagent")
 include(":instrumentation:tomcat:tomcat-7.0:javaagent")
 include(":instrumentation:tomcat:tomcat-10.0:javaagent")
 include(":instrumentation:tomcat:tomcat-common:javaagent")
+include(":instrumentation:tomcat:tomcat-jdbc:javaagent")
 include(":instrumentation:twilio-6.6:javaagent")
 include(":instrumentation:undertow-1.4:bootstrap")
 include(":instrumentation:undertow-1.4:javaagent")
@@ -0,0 +1,136 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.test.base
+
+import io.opentelemetry.api.common.AttributeKey
+import io.opentelemetry.instrumentation.test.AgentInstrumentationSpecification
+import io.opentelemetry.semconv.trace.attributes.SemanticAttributes
+import spock.util.concurrent.PollingConditions
+
+import javax.sql.DataSource
+import java.sql.SQLException
+
+/**
+ * Tests the connection pool metrics of a pool library against an in-memory H2 database. The pools
+ * are created with a single connection, so that a second acquisition times out.
+ */
+abstract class AbstractDbConnectionPoolMetricsTest extends AgentInstrumentationSpecification {
+
+  static final AttributeKey<String> POOL_NAME = AttributeKey.stringKey("pool.name")
+
+  static final long ACQUIRE_TIMEOUT_MILLIS = 300
+
+  /**
+   * Returns a pool of at most one connection that times out acquisitions after {@code
+   * acquireTimeoutMillis}, {@code poolName} is {@code null} for a pool that is not named.
+   */
+  abstract DataSource createDataSource(String poolName, String url, long acquireTimeoutMillis)
+
+  abstract void closeDataSource(DataSource dataSource)
+
+  /** Returns whether the pool library reports timeouts in a way they can be counted. */
+  boolean countsTimeouts() {
+    true
+  }
+
+  def conditions = new PollingConditions(timeout: 10, initialDelay: 1.5, factor: 1.25)
+
+  def "reports connections, acquisitions and timeouts of a named pool"() {
+    setup:
+    def dataSource = createDataSource("test-pool", "jdbc:h2:mem:named", ACQUIRE_TIMEOUT_MILLIS)
+
+    when:
+    def connection = dataSource.getConnection()
+
+    then:
+    conditions.eventually {
+      assert gaugeValue("db.client.connections.active", "test-pool") == 1
+      assert gaugeValue("db.client.connections.idle", "test-pool") == 0
+      assert gaugeValue("db.client.connections.pending_requests", "test-pool") == 0
+      assert lastPoint("db.client.connections.active", "test-pool")
+        .attributes.get(SemanticAttributes.DB_SYSTEM) == "h2"
+    }
+
+    when:
+    dataSource.getConnection()
+
+    then:
+    thrown(SQLException)
+    conditions.eventually {
+      def acquireTime = lastPoint("db.client.connections.acquire_time", "test-pool")
+      assert acquireTime != null
+      assert acquireTime.count == 2
+      // the second acquisition waited for the timeout
+      assert acquireTime.sum >= ACQUIRE_TIMEOUT_MILLIS * 0.9
+      if (countsTimeouts()) {
+        assert lastPoint("db.client.connections.timeouts", "test-pool")?.value == 1
+      }
+    }
+
+    when:
+    connection.close()
+
+    then:
+    conditions.eventually {
+      assert gaugeValue("db.client.connections.active", "test-pool") == 0
+      assert gaugeValue("db.client.connections.idle", "test-pool") == 1
+    }
+
+    cleanup:
+    closeDataSource(dataSource)
+  }
+
+  def "reports a pool that is not named under its url without connection properties"() {
+    setup:
+    def dataSource = createDataSource(null, "jdbc:h2:mem:unnamed;LOCK_TIMEOUT=1000",
+      ACQUIRE_TIMEOUT_MILLIS)
+
+    when:
+    dataSource.getConnection().close()
+
+    then:
+    conditions.eventually {
+      assert gaugeValue("db.client.connections.idle", "h2:mem:unnamed") == 1
+    }
+
+    cleanup:
+    closeDataSource(dataSource)
+  }
+
+  def "stops reporting a closed pool"() {
+    setup:
+    def dataSource = createDataSource("closed-pool", "jdbc:h2:mem:closed", ACQUIRE_TIMEOUT_MILLIS)
+    dataSource.getConnection().close()
+    conditions.eventually {
+      assert gaugeValue("db.client.connections.idle", "closed-pool") == 1
+    }
+
+    when:
+    closeDataSource(dataSource)
+    clearExportedData()
+
+    then:
+    // the acquisition histogram is still exported, the gauges of the closed pool are not
+    conditions.eventually {
+      assert lastPoint("db.client.connections.acquire_time", "closed-pool") != null
+    }
+    lastPoint("db.client.connections.active", "closed-pool") == null
+    lastPoint("db.client.connections.idle", "closed-pool") == null
+  }
+
+  def gaugeValue(String name, String poolName) {
+    return lastPoint(name, poolName)?.value
+  }
+
+  def lastPoint(String name, String poolName) {
+    def points = getMetrics()
+      .findAll { it.name == name }
+      .collectMany { it.data.points }
+      .findAll { it.attributes.get(POOL_NAME) == poolName }
+    // metrics are exported periodically, the last point is the most recent one
+    return points.empty ? null : points.last()
+  }
+}